@@ -1,5 +1,6 @@
 plugins {
     id("platform.application-conventions")
+    id("platform.jmh-conventions")
 }
 
 dependencies {
@@ -0,0 +1,106 @@
+package org.example.cart.domain;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.example.model.discount.AppliedDiscount;
+import org.example.model.discount.DiscountType;
+import org.example.model.fulfillment.Fulfillment;
+import org.example.model.fulfillment.FulfillmentType;
+import org.example.model.product.CartProduct;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares recalculating totals from scratch against applying a ledger delta when one product line
+ * of a cart is replaced.
+ *
+ * <p>Run with {@code ./gradlew :apps:cart-service:jmh}. The gc profiler reports allocation per
+ * operation ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CartTotalsBenchmark {
+
+  @Param({"10", "100", "500"})
+  int lines;
+
+  private List<CartProduct> products;
+  private List<AppliedDiscount> discounts;
+  private List<Fulfillment> fulfillments;
+  private CartTotalsLedger ledger;
+  private CartProduct replaced;
+  private CartProduct replacement;
+  private Cart cart;
+
+  @Setup
+  public void setUp() {
+    products = new ArrayList<>(lines);
+    for (int i = 0; i < lines; i++) {
+      BigDecimal price = new BigDecimal("9.99").add(BigDecimal.valueOf(i));
+      products.add(product(100_000L + i, price, 1 + i % 5));
+    }
+    discounts =
+        List.of(
+            new AppliedDiscount(
+                "d1",
+                "SAVE10",
+                DiscountType.FIXED_AMOUNT,
+                BigDecimal.TEN,
+                BigDecimal.TEN,
+                List.of()));
+    fulfillments =
+        List.of(new Fulfillment("f1", FulfillmentType.DELIVERY, List.of(), new BigDecimal("5.99")));
+    ledger = CartTotalsLedger.of(products, discounts, fulfillments);
+    replaced = products.get(lines / 2);
+    replacement = replaced.withQuantity(replaced.quantity() + 1);
+    cart =
+        Cart.create("bench", 100, null)
+            .withProducts(products)
+            .withDiscounts(discounts)
+            .withFulfillments(fulfillments);
+  }
+
+  /** Baseline: the stream-and-reduce recalculation over every line. */
+  @Benchmark
+  public CartTotals recalculate() {
+    return CartTotals.calculate(products, discounts, fulfillments);
+  }
+
+  /** Ledger delta for one replaced line, converted to BigDecimal totals at the boundary. */
+  @Benchmark
+  public CartTotals ledgerDelta() {
+    return ledger.minusProduct(replaced).plusProduct(replacement).toCartTotals();
+  }
+
+  /** Ledger delta without boundary conversion. */
+  @Benchmark
+  public CartTotalsLedger ledgerDeltaOnly() {
+    return ledger.minusProduct(replaced).plusProduct(replacement);
+  }
+
+  /** Full aggregate update as performed by CartService.updateProduct. */
+  @Benchmark
+  public Cart cartWithProduct() {
+    return cart.withProduct(replacement);
+  }
+
+  /** Item count read as performed by every GraphQL itemCount resolution. */
+  @Benchmark
+  public int itemCount() {
+    return cart.itemCount();
+  }
+
+  private static CartProduct product(long sku, BigDecimal price, int quantity) {
+    return new CartProduct(
+        sku, "Product " + sku, "Benchmark product", price, null, quantity, 100, null, "General");
+  }
+}
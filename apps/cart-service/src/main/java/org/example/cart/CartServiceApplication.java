@@ -1,7 +1,11 @@
 package org.example.cart;
 
+import org.example.cart.config.CartPartitionProperties;
+import org.example.cart.config.CartRetentionProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(
     scanBasePackages = {
@@ -11,6 +15,8 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
       "org.example.platform.error",
       "org.example.platform.security"
     })
+@EnableConfigurationProperties({CartRetentionProperties.class, CartPartitionProperties.class})
+@EnableScheduling
 public class CartServiceApplication {
 
   public static void main(String[] args) {
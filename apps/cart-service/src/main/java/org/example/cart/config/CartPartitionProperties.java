@@ -0,0 +1,49 @@
+package org.example.cart.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/** Configuration for creating carts partitions ahead of time. */
+@ConfigurationProperties(prefix = "cart.partitions")
+public class CartPartitionProperties {
+
+  private boolean enabled = true;
+
+  /** Future months to keep partitions for, beyond the current month. */
+  private int monthsAhead = 3;
+
+  private Duration interval = Duration.ofHours(1);
+  private Duration initialDelay = Duration.ZERO;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public int getMonthsAhead() {
+    return monthsAhead;
+  }
+
+  public void setMonthsAhead(int monthsAhead) {
+    this.monthsAhead = monthsAhead;
+  }
+
+  public Duration getInterval() {
+    return interval;
+  }
+
+  public void setInterval(Duration interval) {
+    this.interval = interval;
+  }
+
+  public Duration getInitialDelay() {
+    return initialDelay;
+  }
+
+  public void setInitialDelay(Duration initialDelay) {
+    this.initialDelay = initialDelay;
+  }
+}
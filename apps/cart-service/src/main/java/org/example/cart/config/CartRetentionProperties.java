@@ -0,0 +1,81 @@
+package org.example.cart.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/** Configuration for the abandoned-cart reaper. */
+@ConfigurationProperties(prefix = "cart.retention")
+public class CartRetentionProperties {
+
+  /** What the reaper does with carts that have been idle longer than the TTL. */
+  public enum Mode {
+    /** Delete idle carts and drop expired partitions. */
+    DELETE,
+    /** Move idle carts to carts_archive and keep expired partitions as standalone tables. */
+    ARCHIVE
+  }
+
+  private boolean enabled = true;
+  private Duration ttl = Duration.ofDays(30);
+  private Mode mode = Mode.DELETE;
+  private int batchSize = 500;
+  private int maxBatchesPerRun = 20;
+  private Duration interval = Duration.ofMinutes(15);
+  private Duration initialDelay = Duration.ofMinutes(1);
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public Duration getTtl() {
+    return ttl;
+  }
+
+  public void setTtl(Duration ttl) {
+    this.ttl = ttl;
+  }
+
+  public Mode getMode() {
+    return mode;
+  }
+
+  public void setMode(Mode mode) {
+    this.mode = mode;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  public void setBatchSize(int batchSize) {
+    this.batchSize = batchSize;
+  }
+
+  public int getMaxBatchesPerRun() {
+    return maxBatchesPerRun;
+  }
+
+  public void setMaxBatchesPerRun(int maxBatchesPerRun) {
+    this.maxBatchesPerRun = maxBatchesPerRun;
+  }
+
+  public Duration getInterval() {
+    return interval;
+  }
+
+  public void setInterval(Duration interval) {
+    this.interval = interval;
+  }
+
+  public Duration getInitialDelay() {
+    return initialDelay;
+  }
+
+  public void setInitialDelay(Duration initialDelay) {
+    this.initialDelay = initialDelay;
+  }
+}
@@ -7,10 +7,7 @@ import org.example.cart.validation.CartRequestValidator;
 import org.example.platform.logging.RequestLogData;
 import org.example.platform.logging.ResponseLogData;
 import org.example.platform.logging.StructuredLogger;
-import org.example.platform.webflux.context.ContextKeys;
 import org.example.platform.webflux.context.RequestMetadata;
-import org.example.platform.webflux.context.RequestMetadataExtractor;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -19,7 +16,6 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -51,73 +47,60 @@ public class CartController {
   @PreAuthorize("hasAuthority('SCOPE_cart:write')")
   public Mono<Cart> createCart(
       @RequestBody CreateCartRequest request,
-      @RequestHeader HttpHeaders headers,
+      RequestMetadata metadata,
       ServerHttpRequest httpRequest) {
-    RequestMetadata metadata = RequestMetadataExtractor.fromHeaders(headers);
-
     return Mono.deferContextual(
-            ctx -> {
-              logRequest(ctx, httpRequest);
-              return validator
-                  .validateCreateCart(
-                      request,
-                      metadata.storeNumber(),
-                      metadata.orderNumber(),
-                      metadata.userId(),
-                      metadata.sessionId())
-                  .then(cartService.createCart(request.storeNumber(), request.customerId()))
-                  .doOnSuccess(cart -> logResponse(ctx, httpRequest, 201, cart));
-            })
-        .contextWrite(ContextKeys.fromHeaders(headers));
+        ctx -> {
+          logRequest(ctx, httpRequest);
+          return validator
+              .validateCreateCart(
+                  request,
+                  metadata.storeNumber(),
+                  metadata.orderNumber(),
+                  metadata.userId(),
+                  metadata.sessionId())
+              .then(cartService.createCart(request.storeNumber(), request.customerId()))
+              .doOnSuccess(cart -> logResponse(ctx, httpRequest, 201, cart));
+        });
   }
 
   /** Get a cart by ID. */
   @GetMapping("/{cartId}")
   @PreAuthorize("hasAuthority('SCOPE_cart:read')")
   public Mono<Cart> getCart(
-      @PathVariable String cartId,
-      @RequestHeader HttpHeaders headers,
-      ServerHttpRequest httpRequest) {
-    RequestMetadata metadata = RequestMetadataExtractor.fromHeaders(headers);
-
+      @PathVariable String cartId, RequestMetadata metadata, ServerHttpRequest httpRequest) {
     return Mono.deferContextual(
-            ctx -> {
-              logRequest(ctx, httpRequest);
-              return validator
-                  .validateGetCart(
-                      cartId,
-                      metadata.storeNumber(),
-                      metadata.orderNumber(),
-                      metadata.userId(),
-                      metadata.sessionId())
-                  .then(cartService.getCart(cartId))
-                  .doOnSuccess(cart -> logResponse(ctx, httpRequest, 200, cart));
-            })
-        .contextWrite(ContextKeys.fromHeaders(headers));
+        ctx -> {
+          logRequest(ctx, httpRequest);
+          return validator
+              .validateGetCart(
+                  cartId,
+                  metadata.storeNumber(),
+                  metadata.orderNumber(),
+                  metadata.userId(),
+                  metadata.sessionId())
+              .then(cartService.getCart(cartId))
+              .doOnSuccess(cart -> logResponse(ctx, httpRequest, 200, cart));
+        });
   }
 
   /** Find carts by store number. */
   @GetMapping
   @PreAuthorize("hasAuthority('SCOPE_cart:read')")
   public Flux<Cart> findCarts(
-      @RequestParam int storeNumber,
-      @RequestHeader HttpHeaders headers,
-      ServerHttpRequest httpRequest) {
-    RequestMetadata metadata = RequestMetadataExtractor.fromHeaders(headers);
-
+      @RequestParam int storeNumber, RequestMetadata metadata, ServerHttpRequest httpRequest) {
     return Flux.deferContextual(
-            ctx -> {
-              logRequest(ctx, httpRequest);
-              return validator
-                  .validateFindCarts(
-                      storeNumber,
-                      metadata.storeNumber(),
-                      metadata.orderNumber(),
-                      metadata.userId(),
-                      metadata.sessionId())
-                  .thenMany(cartService.findByStoreNumber(storeNumber));
-            })
-        .contextWrite(ContextKeys.fromHeaders(headers));
+        ctx -> {
+          logRequest(ctx, httpRequest);
+          return validator
+              .validateFindCarts(
+                  storeNumber,
+                  metadata.storeNumber(),
+                  metadata.orderNumber(),
+                  metadata.userId(),
+                  metadata.sessionId())
+              .thenMany(cartService.findByStoreNumber(storeNumber));
+        });
   }
 
   /** Delete a cart. */
@@ -125,25 +108,20 @@ public class CartController {
   @ResponseStatus(HttpStatus.NO_CONTENT)
   @PreAuthorize("hasAuthority('SCOPE_cart:write')")
   public Mono<Void> deleteCart(
-      @PathVariable String cartId,
-      @RequestHeader HttpHeaders headers,
-      ServerHttpRequest httpRequest) {
-    RequestMetadata metadata = RequestMetadataExtractor.fromHeaders(headers);
-
+      @PathVariable String cartId, RequestMetadata metadata, ServerHttpRequest httpRequest) {
     return Mono.deferContextual(
-            ctx -> {
-              logRequest(ctx, httpRequest);
-              return validator
-                  .validateGetCart(
-                      cartId,
-                      metadata.storeNumber(),
-                      metadata.orderNumber(),
-                      metadata.userId(),
-                      metadata.sessionId())
-                  .then(cartService.deleteCart(cartId))
-                  .doOnSuccess(v -> logResponse(ctx, httpRequest, 204, null));
-            })
-        .contextWrite(ContextKeys.fromHeaders(headers));
+        ctx -> {
+          logRequest(ctx, httpRequest);
+          return validator
+              .validateGetCart(
+                  cartId,
+                  metadata.storeNumber(),
+                  metadata.orderNumber(),
+                  metadata.userId(),
+                  metadata.sessionId())
+              .then(cartService.deleteCart(cartId))
+              .doOnSuccess(v -> logResponse(ctx, httpRequest, 204, null));
+        });
   }
 
   private void logRequest(reactor.util.context.ContextView ctx, ServerHttpRequest request) {
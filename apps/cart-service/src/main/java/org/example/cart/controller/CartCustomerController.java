@@ -6,15 +6,11 @@ import org.example.cart.validation.CartRequestValidator;
 import org.example.platform.logging.RequestLogData;
 import org.example.platform.logging.ResponseLogData;
 import org.example.platform.logging.StructuredLogger;
-import org.example.platform.webflux.context.ContextKeys;
 import org.example.platform.webflux.context.RequestMetadata;
-import org.example.platform.webflux.context.RequestMetadataExtractor;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import reactor.core.publisher.Flux;
@@ -45,24 +41,19 @@ public class CartCustomerController {
   @GetMapping
   @PreAuthorize("hasAuthority('SCOPE_cart:read')")
   public Flux<Cart> findCartsByCustomerId(
-      @PathVariable String customerId,
-      @RequestHeader HttpHeaders headers,
-      ServerHttpRequest httpRequest) {
-    RequestMetadata metadata = RequestMetadataExtractor.fromHeaders(headers);
-
+      @PathVariable String customerId, RequestMetadata metadata, ServerHttpRequest httpRequest) {
     return Flux.deferContextual(
-            ctx -> {
-              logRequest(ctx, httpRequest);
-              return validator
-                  .validateFindCartsByCustomerId(
-                      customerId,
-                      metadata.storeNumber(),
-                      metadata.orderNumber(),
-                      metadata.userId(),
-                      metadata.sessionId())
-                  .thenMany(cartService.findByCustomerId(customerId));
-            })
-        .contextWrite(ContextKeys.fromHeaders(headers));
+        ctx -> {
+          logRequest(ctx, httpRequest);
+          return validator
+              .validateFindCartsByCustomerId(
+                  customerId,
+                  metadata.storeNumber(),
+                  metadata.orderNumber(),
+                  metadata.userId(),
+                  metadata.sessionId())
+              .thenMany(cartService.findByCustomerId(customerId));
+        });
   }
 
   private void logRequest(reactor.util.context.ContextView ctx, ServerHttpRequest request) {
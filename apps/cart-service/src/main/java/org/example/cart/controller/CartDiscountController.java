@@ -6,10 +6,7 @@ import org.example.cart.dto.ApplyDiscountRequest;
 import org.example.cart.service.CartService;
 import org.example.cart.validation.CartRequestValidator;
 import org.example.model.discount.AppliedDiscount;
-import org.example.platform.webflux.context.ContextKeys;
 import org.example.platform.webflux.context.RequestMetadata;
-import org.example.platform.webflux.context.RequestMetadataExtractor;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -17,7 +14,6 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
@@ -40,9 +36,7 @@ public class CartDiscountController {
   @GetMapping
   @PreAuthorize("hasAuthority('SCOPE_cart:read')")
   public Mono<List<AppliedDiscount>> getDiscounts(
-      @PathVariable String cartId, @RequestHeader HttpHeaders headers) {
-    RequestMetadata metadata = RequestMetadataExtractor.fromHeaders(headers);
-
+      @PathVariable String cartId, RequestMetadata metadata) {
     return validator
         .validateGetCart(
             cartId,
@@ -50,8 +44,7 @@ public class CartDiscountController {
             metadata.orderNumber(),
             metadata.userId(),
             metadata.sessionId())
-        .then(cartService.getDiscounts(cartId))
-        .contextWrite(ContextKeys.fromHeaders(headers));
+        .then(cartService.getDiscounts(cartId));
   }
 
   /** Apply a discount to the cart. */
@@ -61,9 +54,7 @@ public class CartDiscountController {
   public Mono<Cart> applyDiscount(
       @PathVariable String cartId,
       @RequestBody ApplyDiscountRequest request,
-      @RequestHeader HttpHeaders headers) {
-    RequestMetadata metadata = RequestMetadataExtractor.fromHeaders(headers);
-
+      RequestMetadata metadata) {
     return validator
         .validateApplyDiscount(
             cartId,
@@ -72,19 +63,14 @@ public class CartDiscountController {
             metadata.orderNumber(),
             metadata.userId(),
             metadata.sessionId())
-        .then(cartService.applyDiscount(cartId, request.code()))
-        .contextWrite(ContextKeys.fromHeaders(headers));
+        .then(cartService.applyDiscount(cartId, request.code()));
   }
 
   /** Get a specific discount from the cart. */
   @GetMapping("/{discountId}")
   @PreAuthorize("hasAuthority('SCOPE_cart:read')")
   public Mono<AppliedDiscount> getDiscount(
-      @PathVariable String cartId,
-      @PathVariable String discountId,
-      @RequestHeader HttpHeaders headers) {
-    RequestMetadata metadata = RequestMetadataExtractor.fromHeaders(headers);
-
+      @PathVariable String cartId, @PathVariable String discountId, RequestMetadata metadata) {
     return validator
         .validateDiscountAccess(
             cartId,
@@ -93,19 +79,14 @@ public class CartDiscountController {
             metadata.orderNumber(),
             metadata.userId(),
             metadata.sessionId())
-        .then(cartService.getDiscount(cartId, discountId))
-        .contextWrite(ContextKeys.fromHeaders(headers));
+        .then(cartService.getDiscount(cartId, discountId));
   }
 
   /** Remove a discount from the cart. */
   @DeleteMapping("/{discountId}")
   @PreAuthorize("hasAuthority('SCOPE_cart:write')")
   public Mono<Cart> removeDiscount(
-      @PathVariable String cartId,
-      @PathVariable String discountId,
-      @RequestHeader HttpHeaders headers) {
-    RequestMetadata metadata = RequestMetadataExtractor.fromHeaders(headers);
-
+      @PathVariable String cartId, @PathVariable String discountId, RequestMetadata metadata) {
     return validator
         .validateDiscountAccess(
             cartId,
@@ -114,7 +95,6 @@ public class CartDiscountController {
             metadata.orderNumber(),
             metadata.userId(),
             metadata.sessionId())
-        .then(cartService.removeDiscount(cartId, discountId))
-        .contextWrite(ContextKeys.fromHeaders(headers));
+        .then(cartService.removeDiscount(cartId, discountId));
   }
 }
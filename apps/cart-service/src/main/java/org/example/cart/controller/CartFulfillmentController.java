@@ -7,10 +7,7 @@ import org.example.cart.dto.UpdateFulfillmentRequest;
 import org.example.cart.service.CartService;
 import org.example.cart.validation.CartRequestValidator;
 import org.example.model.fulfillment.Fulfillment;
-import org.example.platform.webflux.context.ContextKeys;
 import org.example.platform.webflux.context.RequestMetadata;
-import org.example.platform.webflux.context.RequestMetadataExtractor;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -19,7 +16,6 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
@@ -42,9 +38,7 @@ public class CartFulfillmentController {
   @GetMapping
   @PreAuthorize("hasAuthority('SCOPE_cart:read')")
   public Mono<List<Fulfillment>> getFulfillments(
-      @PathVariable String cartId, @RequestHeader HttpHeaders headers) {
-    RequestMetadata metadata = RequestMetadataExtractor.fromHeaders(headers);
-
+      @PathVariable String cartId, RequestMetadata metadata) {
     return validator
         .validateGetCart(
             cartId,
@@ -52,8 +46,7 @@ public class CartFulfillmentController {
             metadata.orderNumber(),
             metadata.userId(),
             metadata.sessionId())
-        .then(cartService.getFulfillments(cartId))
-        .contextWrite(ContextKeys.fromHeaders(headers));
+        .then(cartService.getFulfillments(cartId));
   }
 
   /** Add a fulfillment to the cart. */
@@ -63,9 +56,7 @@ public class CartFulfillmentController {
   public Mono<Cart> addFulfillment(
       @PathVariable String cartId,
       @RequestBody AddFulfillmentRequest request,
-      @RequestHeader HttpHeaders headers) {
-    RequestMetadata metadata = RequestMetadataExtractor.fromHeaders(headers);
-
+      RequestMetadata metadata) {
     return validator
         .validateAddFulfillment(
             cartId,
@@ -74,19 +65,14 @@ public class CartFulfillmentController {
             metadata.orderNumber(),
             metadata.userId(),
             metadata.sessionId())
-        .then(cartService.addFulfillment(cartId, request.type(), request.skus()))
-        .contextWrite(ContextKeys.fromHeaders(headers));
+        .then(cartService.addFulfillment(cartId, request.type(), request.skus()));
   }
 
   /** Get a specific fulfillment from the cart. */
   @GetMapping("/{fulfillmentId}")
   @PreAuthorize("hasAuthority('SCOPE_cart:read')")
   public Mono<Fulfillment> getFulfillment(
-      @PathVariable String cartId,
-      @PathVariable String fulfillmentId,
-      @RequestHeader HttpHeaders headers) {
-    RequestMetadata metadata = RequestMetadataExtractor.fromHeaders(headers);
-
+      @PathVariable String cartId, @PathVariable String fulfillmentId, RequestMetadata metadata) {
     return validator
         .validateFulfillmentAccess(
             cartId,
@@ -95,8 +81,7 @@ public class CartFulfillmentController {
             metadata.orderNumber(),
             metadata.userId(),
             metadata.sessionId())
-        .then(cartService.getFulfillment(cartId, fulfillmentId))
-        .contextWrite(ContextKeys.fromHeaders(headers));
+        .then(cartService.getFulfillment(cartId, fulfillmentId));
   }
 
   /** Update a fulfillment in the cart. */
@@ -106,9 +91,7 @@ public class CartFulfillmentController {
       @PathVariable String cartId,
       @PathVariable String fulfillmentId,
       @RequestBody UpdateFulfillmentRequest request,
-      @RequestHeader HttpHeaders headers) {
-    RequestMetadata metadata = RequestMetadataExtractor.fromHeaders(headers);
-
+      RequestMetadata metadata) {
     return validator
         .validateUpdateFulfillment(
             cartId,
@@ -118,19 +101,14 @@ public class CartFulfillmentController {
             metadata.orderNumber(),
             metadata.userId(),
             metadata.sessionId())
-        .then(cartService.updateFulfillment(cartId, fulfillmentId, request.type(), request.skus()))
-        .contextWrite(ContextKeys.fromHeaders(headers));
+        .then(cartService.updateFulfillment(cartId, fulfillmentId, request.type(), request.skus()));
   }
 
   /** Remove a fulfillment from the cart. */
   @DeleteMapping("/{fulfillmentId}")
   @PreAuthorize("hasAuthority('SCOPE_cart:write')")
   public Mono<Cart> removeFulfillment(
-      @PathVariable String cartId,
-      @PathVariable String fulfillmentId,
-      @RequestHeader HttpHeaders headers) {
-    RequestMetadata metadata = RequestMetadataExtractor.fromHeaders(headers);
-
+      @PathVariable String cartId, @PathVariable String fulfillmentId, RequestMetadata metadata) {
     return validator
         .validateFulfillmentAccess(
             cartId,
@@ -139,7 +117,6 @@ public class CartFulfillmentController {
             metadata.orderNumber(),
             metadata.userId(),
             metadata.sessionId())
-        .then(cartService.removeFulfillment(cartId, fulfillmentId))
-        .contextWrite(ContextKeys.fromHeaders(headers));
+        .then(cartService.removeFulfillment(cartId, fulfillmentId));
   }
 }
@@ -2,15 +2,14 @@ package org.example.cart.controller;
 
 import java.util.List;
 import org.example.cart.domain.Cart;
+import org.example.cart.domain.ProductQuantity;
 import org.example.cart.dto.AddProductRequest;
+import org.example.cart.dto.AddProductsRequest;
 import org.example.cart.dto.UpdateProductRequest;
 import org.example.cart.service.CartService;
 import org.example.cart.validation.CartRequestValidator;
 import org.example.model.product.CartProduct;
-import org.example.platform.webflux.context.ContextKeys;
 import org.example.platform.webflux.context.RequestMetadata;
-import org.example.platform.webflux.context.RequestMetadataExtractor;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -19,7 +18,6 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
@@ -42,9 +40,7 @@ public class CartProductController {
   @GetMapping
   @PreAuthorize("hasAuthority('SCOPE_cart:read')")
   public Mono<List<CartProduct>> getProducts(
-      @PathVariable String cartId, @RequestHeader HttpHeaders headers) {
-    RequestMetadata metadata = RequestMetadataExtractor.fromHeaders(headers);
-
+      @PathVariable String cartId, RequestMetadata metadata) {
     return validator
         .validateGetCart(
             cartId,
@@ -52,8 +48,7 @@ public class CartProductController {
             metadata.orderNumber(),
             metadata.userId(),
             metadata.sessionId())
-        .then(cartService.getProducts(cartId))
-        .contextWrite(ContextKeys.fromHeaders(headers));
+        .then(cartService.getProducts(cartId));
   }
 
   /** Add a product to the cart. */
@@ -63,9 +58,7 @@ public class CartProductController {
   public Mono<Cart> addProduct(
       @PathVariable String cartId,
       @RequestBody AddProductRequest request,
-      @RequestHeader HttpHeaders headers) {
-    RequestMetadata metadata = RequestMetadataExtractor.fromHeaders(headers);
-
+      RequestMetadata metadata) {
     return validator
         .validateAddProduct(
             cartId,
@@ -74,17 +67,40 @@ public class CartProductController {
             metadata.orderNumber(),
             metadata.userId(),
             metadata.sessionId())
-        .then(cartService.addProduct(cartId, request.sku(), request.quantity()))
-        .contextWrite(ContextKeys.fromHeaders(headers));
+        .then(cartService.addProduct(cartId, request.sku(), request.quantity()));
+  }
+
+  /** Add several products to the cart in one operation. */
+  @PostMapping("/batch")
+  @ResponseStatus(HttpStatus.CREATED)
+  @PreAuthorize("hasAuthority('SCOPE_cart:write')")
+  public Mono<Cart> addProducts(
+      @PathVariable String cartId,
+      @RequestBody AddProductsRequest request,
+      RequestMetadata metadata) {
+    return validator
+        .validateAddProducts(
+            cartId,
+            request,
+            metadata.storeNumber(),
+            metadata.orderNumber(),
+            metadata.userId(),
+            metadata.sessionId())
+        .then(
+            Mono.defer(
+                () ->
+                    cartService.addProducts(
+                        cartId,
+                        request.items().stream()
+                            .map(item -> new ProductQuantity(item.sku(), item.quantity()))
+                            .toList())));
   }
 
   /** Get a specific product from the cart. */
   @GetMapping("/{sku}")
   @PreAuthorize("hasAuthority('SCOPE_cart:read')")
   public Mono<CartProduct> getProduct(
-      @PathVariable String cartId, @PathVariable long sku, @RequestHeader HttpHeaders headers) {
-    RequestMetadata metadata = RequestMetadataExtractor.fromHeaders(headers);
-
+      @PathVariable String cartId, @PathVariable long sku, RequestMetadata metadata) {
     return validator
         .validateProductAccess(
             cartId,
@@ -93,8 +109,7 @@ public class CartProductController {
             metadata.orderNumber(),
             metadata.userId(),
             metadata.sessionId())
-        .then(cartService.getProduct(cartId, sku))
-        .contextWrite(ContextKeys.fromHeaders(headers));
+        .then(cartService.getProduct(cartId, sku));
   }
 
   /** Update a product quantity in the cart. */
@@ -104,9 +119,7 @@ public class CartProductController {
       @PathVariable String cartId,
       @PathVariable long sku,
       @RequestBody UpdateProductRequest request,
-      @RequestHeader HttpHeaders headers) {
-    RequestMetadata metadata = RequestMetadataExtractor.fromHeaders(headers);
-
+      RequestMetadata metadata) {
     return validator
         .validateUpdateProduct(
             cartId,
@@ -116,17 +129,14 @@ public class CartProductController {
             metadata.orderNumber(),
             metadata.userId(),
             metadata.sessionId())
-        .then(cartService.updateProduct(cartId, sku, request.quantity()))
-        .contextWrite(ContextKeys.fromHeaders(headers));
+        .then(cartService.updateProduct(cartId, sku, request.quantity()));
   }
 
   /** Remove a product from the cart. */
   @DeleteMapping("/{sku}")
   @PreAuthorize("hasAuthority('SCOPE_cart:write')")
   public Mono<Cart> removeProduct(
-      @PathVariable String cartId, @PathVariable long sku, @RequestHeader HttpHeaders headers) {
-    RequestMetadata metadata = RequestMetadataExtractor.fromHeaders(headers);
-
+      @PathVariable String cartId, @PathVariable long sku, RequestMetadata metadata) {
     return validator
         .validateProductAccess(
             cartId,
@@ -135,7 +145,6 @@ public class CartProductController {
             metadata.orderNumber(),
             metadata.userId(),
             metadata.sessionId())
-        .then(cartService.removeProduct(cartId, sku))
-        .contextWrite(ContextKeys.fromHeaders(headers));
+        .then(cartService.removeProduct(cartId, sku));
   }
 }
@@ -1,8 +1,13 @@
 package org.example.cart.domain;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
 import org.example.model.customer.CartCustomer;
 import org.example.model.discount.AppliedDiscount;
 import org.example.model.fulfillment.Fulfillment;
@@ -11,6 +16,11 @@ import org.example.model.product.CartProduct;
 /**
  * The complete cart aggregate.
  *
+ * <p>Totals are maintained incrementally by a {@link CartTotalsLedger}: the single-line mutators
+ * ({@link #withProduct}, {@link #withoutProduct}, {@link #withDiscount}, ...) apply O(1) deltas
+ * instead of re-reducing every line. The ledger is derived state and is never serialized; it is
+ * rebuilt from the lines whenever a cart is constructed without one.
+ *
  * @param id the cart UUID
  * @param storeNumber the store context
  * @param customerId customer identifier (nullable for anonymous carts)
@@ -21,6 +31,7 @@ import org.example.model.product.CartProduct;
  * @param totals calculated totals
  * @param createdAt creation timestamp
  * @param updatedAt last update timestamp
+ * @param ledger fixed-point running totals backing {@code totals} and {@link #itemCount()}
  */
 public record Cart(
     String id,
@@ -32,7 +43,42 @@ public record Cart(
     List<Fulfillment> fulfillments,
     CartTotals totals,
     Instant createdAt,
-    Instant updatedAt) {
+    Instant updatedAt,
+    @JsonIgnore CartTotalsLedger ledger) {
+
+  public Cart {
+    if (ledger == null) {
+      ledger = CartTotalsLedger.of(products, discounts, fulfillments);
+    }
+  }
+
+  /** Create a cart whose ledger is rebuilt from its lines (used when loading and deserializing). */
+  @JsonCreator
+  public Cart(
+      String id,
+      int storeNumber,
+      String customerId,
+      CartCustomer customer,
+      List<CartProduct> products,
+      List<AppliedDiscount> discounts,
+      List<Fulfillment> fulfillments,
+      CartTotals totals,
+      Instant createdAt,
+      Instant updatedAt) {
+    this(
+        id,
+        storeNumber,
+        customerId,
+        customer,
+        products,
+        discounts,
+        fulfillments,
+        totals,
+        createdAt,
+        updatedAt,
+        null);
+  }
+
   /**
    * Create a new empty cart.
    *
@@ -53,27 +99,56 @@ public record Cart(
         new ArrayList<>(),
         CartTotals.empty(),
         now,
-        now);
+        now,
+        CartTotalsLedger.empty());
   }
 
   /**
-   * Create a new cart with updated products and recalculated totals.
+   * Create a new cart with updated products and recalculated totals. Prefer {@link #withProduct}
+   * and {@link #withoutProduct} for single-line changes.
    *
    * @param products the new product list
    * @return a new cart with updated products and totals
    */
   public Cart withProducts(List<CartProduct> products) {
-    return new Cart(
-        id,
-        storeNumber,
-        customerId,
-        customer,
+    return withLines(
         new ArrayList<>(products),
         discounts,
         fulfillments,
-        CartTotals.calculate(products, discounts, fulfillments),
-        createdAt,
-        Instant.now());
+        CartTotalsLedger.of(products, discounts, fulfillments));
+  }
+
+  /**
+   * Add a product line, replacing any existing line with the same SKU. Totals are adjusted by
+   * delta.
+   *
+   * @param product the product line
+   * @return a new cart with the line added and totals updated
+   */
+  public Cart withProduct(CartProduct product) {
+    List<CartProduct> updated = new ArrayList<>(products.size() + 1);
+    CartTotalsLedger next = ledger;
+    for (CartProduct existing : products) {
+      if (existing.sku() == product.sku()) {
+        next = next.minusProduct(existing);
+      } else {
+        updated.add(existing);
+      }
+    }
+    updated.add(product);
+    return withLines(updated, discounts, fulfillments, next.plusProduct(product));
+  }
+
+  /**
+   * Remove the product line with the given SKU. Totals are adjusted by delta.
+   *
+   * @param sku the product SKU
+   * @return a new cart without the line, or this cart if the SKU is not present
+   */
+  public Cart withoutProduct(long sku) {
+    return removeLine(products, p -> p.sku() == sku, CartTotalsLedger::minusProduct)
+        .map(rest -> withLines(rest.lines(), discounts, fulfillments, rest.ledger()))
+        .orElse(this);
   }
 
   /**
@@ -93,55 +168,155 @@ public record Cart(
         fulfillments,
         totals,
         createdAt,
-        Instant.now());
+        Instant.now(),
+        ledger);
   }
 
   /**
-   * Create a new cart with updated discounts and recalculated totals.
+   * Create a new cart with updated discounts and recalculated totals. Prefer {@link #withDiscount}
+   * and {@link #withoutDiscount} for single-discount changes.
    *
    * @param discounts the new discount list
    * @return a new cart with updated discounts and totals
    */
   public Cart withDiscounts(List<AppliedDiscount> discounts) {
-    return new Cart(
-        id,
-        storeNumber,
-        customerId,
-        customer,
+    return withLines(
         products,
         new ArrayList<>(discounts),
         fulfillments,
-        CartTotals.calculate(products, discounts, fulfillments),
-        createdAt,
-        Instant.now());
+        CartTotalsLedger.of(products, discounts, fulfillments));
+  }
+
+  /**
+   * Apply a discount, replacing any existing discount with the same ID. Totals are adjusted by
+   * delta.
+   *
+   * @param discount the applied discount
+   * @return a new cart with the discount applied and totals updated
+   */
+  public Cart withDiscount(AppliedDiscount discount) {
+    List<AppliedDiscount> updated = new ArrayList<>(discounts.size() + 1);
+    CartTotalsLedger next = ledger;
+    for (AppliedDiscount existing : discounts) {
+      if (existing.discountId().equals(discount.discountId())) {
+        next = next.minusDiscount(existing);
+      } else {
+        updated.add(existing);
+      }
+    }
+    updated.add(discount);
+    return withLines(products, updated, fulfillments, next.plusDiscount(discount));
+  }
+
+  /**
+   * Remove the discount with the given ID. Totals are adjusted by delta.
+   *
+   * @param discountId the discount ID
+   * @return a new cart without the discount, or this cart if the ID is not present
+   */
+  public Cart withoutDiscount(String discountId) {
+    return removeLine(
+            discounts, d -> d.discountId().equals(discountId), CartTotalsLedger::minusDiscount)
+        .map(rest -> withLines(products, rest.lines(), fulfillments, rest.ledger()))
+        .orElse(this);
   }
 
   /**
-   * Create a new cart with updated fulfillments and recalculated totals.
+   * Create a new cart with updated fulfillments and recalculated totals. Prefer {@link
+   * #withFulfillment} and {@link #withoutFulfillment} for single-option changes.
    *
    * @param fulfillments the new fulfillment list
    * @return a new cart with updated fulfillments and totals
    */
   public Cart withFulfillments(List<Fulfillment> fulfillments) {
-    return new Cart(
-        id,
-        storeNumber,
-        customerId,
-        customer,
+    return withLines(
         products,
         discounts,
         new ArrayList<>(fulfillments),
-        CartTotals.calculate(products, discounts, fulfillments),
-        createdAt,
-        Instant.now());
+        CartTotalsLedger.of(products, discounts, fulfillments));
+  }
+
+  /**
+   * Add a fulfillment option, replacing any existing option with the same ID. Totals are adjusted
+   * by delta.
+   *
+   * @param fulfillment the fulfillment option
+   * @return a new cart with the option added and totals updated
+   */
+  public Cart withFulfillment(Fulfillment fulfillment) {
+    List<Fulfillment> updated = new ArrayList<>(fulfillments.size() + 1);
+    CartTotalsLedger next = ledger;
+    for (Fulfillment existing : fulfillments) {
+      if (existing.fulfillmentId().equals(fulfillment.fulfillmentId())) {
+        next = next.minusFulfillment(existing);
+      } else {
+        updated.add(existing);
+      }
+    }
+    updated.add(fulfillment);
+    return withLines(products, discounts, updated, next.plusFulfillment(fulfillment));
   }
 
   /**
-   * Get the total number of items in the cart.
+   * Remove the fulfillment option with the given ID. Totals are adjusted by delta.
+   *
+   * @param fulfillmentId the fulfillment ID
+   * @return a new cart without the option, or this cart if the ID is not present
+   */
+  public Cart withoutFulfillment(String fulfillmentId) {
+    return removeLine(
+            fulfillments,
+            f -> f.fulfillmentId().equals(fulfillmentId),
+            CartTotalsLedger::minusFulfillment)
+        .map(rest -> withLines(products, discounts, rest.lines(), rest.ledger()))
+        .orElse(this);
+  }
+
+  /**
+   * Get the total number of items in the cart. Maintained by the ledger, so this is O(1).
    *
    * @return the item count
    */
   public int itemCount() {
-    return products.stream().mapToInt(CartProduct::quantity).sum();
+    return ledger.itemCount();
   }
+
+  private Cart withLines(
+      List<CartProduct> products,
+      List<AppliedDiscount> discounts,
+      List<Fulfillment> fulfillments,
+      CartTotalsLedger ledger) {
+    return new Cart(
+        id,
+        storeNumber,
+        customerId,
+        customer,
+        products,
+        discounts,
+        fulfillments,
+        ledger.toCartTotals(),
+        createdAt,
+        Instant.now(),
+        ledger);
+  }
+
+  private <T> Optional<Remaining<T>> removeLine(
+      List<T> lines,
+      Predicate<T> match,
+      BiFunction<CartTotalsLedger, T, CartTotalsLedger> minus) {
+    List<T> rest = new ArrayList<>(lines.size());
+    CartTotalsLedger next = ledger;
+    boolean removed = false;
+    for (T line : lines) {
+      if (match.test(line)) {
+        next = minus.apply(next, line);
+        removed = true;
+      } else {
+        rest.add(line);
+      }
+    }
+    return removed ? Optional.of(new Remaining<>(rest, next)) : Optional.empty();
+  }
+
+  private record Remaining<T>(List<T> lines, CartTotalsLedger ledger) {}
 }
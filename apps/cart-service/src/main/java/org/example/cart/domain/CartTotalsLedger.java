@@ -0,0 +1,172 @@
+package org.example.cart.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import org.example.model.discount.AppliedDiscount;
+import org.example.model.fulfillment.Fulfillment;
+import org.example.model.product.CartProduct;
+
+/**
+ * Incrementally maintained cart totals in fixed-point arithmetic.
+ *
+ * <p>Amounts are held as scaled longs in units of 1/10,000 of the currency (four decimal places),
+ * so adding, removing or replacing a product, discount or fulfillment is an O(1) long update with
+ * no {@link BigDecimal} allocation. Values are converted to {@link CartTotals} only at the API
+ * boundary via {@link #toCartTotals()}.
+ *
+ * @param subtotalUnits sum of product line totals
+ * @param discountUnits sum of discount savings
+ * @param fulfillmentUnits sum of fulfillment costs
+ * @param itemCount sum of product quantities
+ */
+public record CartTotalsLedger(
+    long subtotalUnits, long discountUnits, long fulfillmentUnits, int itemCount) {
+
+  /** Number of decimal places held in each unit. */
+  public static final int SCALE = 4;
+
+  /** Minimum scale used when converting back, so whole amounts render as e.g. "20.00". */
+  private static final int DISPLAY_SCALE = 2;
+
+  private static final CartTotalsLedger EMPTY = new CartTotalsLedger(0, 0, 0, 0);
+
+  /**
+   * Ledger with all totals at zero.
+   *
+   * @return the empty ledger
+   */
+  public static CartTotalsLedger empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Build a ledger from full cart contents. This is the only O(n) operation; use it when a cart is
+   * loaded or its lines are replaced wholesale.
+   *
+   * @param products the products in the cart
+   * @param discounts the applied discounts
+   * @param fulfillments the fulfillment options
+   * @return the ledger
+   */
+  public static CartTotalsLedger of(
+      List<CartProduct> products, List<AppliedDiscount> discounts, List<Fulfillment> fulfillments) {
+    long subtotal = 0;
+    int items = 0;
+    for (CartProduct product : products) {
+      subtotal = Math.addExact(subtotal, lineUnits(product));
+      items = Math.addExact(items, product.quantity());
+    }
+    long discount = 0;
+    for (AppliedDiscount applied : discounts) {
+      discount = Math.addExact(discount, toUnits(applied.appliedSavings()));
+    }
+    long fulfillment = 0;
+    for (Fulfillment option : fulfillments) {
+      fulfillment = Math.addExact(fulfillment, toUnits(option.cost()));
+    }
+    return new CartTotalsLedger(subtotal, discount, fulfillment, items);
+  }
+
+  // ==================== Deltas ====================
+
+  /** Add a product line. */
+  public CartTotalsLedger plusProduct(CartProduct product) {
+    return new CartTotalsLedger(
+        Math.addExact(subtotalUnits, lineUnits(product)),
+        discountUnits,
+        fulfillmentUnits,
+        Math.addExact(itemCount, product.quantity()));
+  }
+
+  /** Remove a product line. */
+  public CartTotalsLedger minusProduct(CartProduct product) {
+    return new CartTotalsLedger(
+        Math.subtractExact(subtotalUnits, lineUnits(product)),
+        discountUnits,
+        fulfillmentUnits,
+        Math.subtractExact(itemCount, product.quantity()));
+  }
+
+  /** Add an applied discount. */
+  public CartTotalsLedger plusDiscount(AppliedDiscount discount) {
+    return new CartTotalsLedger(
+        subtotalUnits,
+        Math.addExact(discountUnits, toUnits(discount.appliedSavings())),
+        fulfillmentUnits,
+        itemCount);
+  }
+
+  /** Remove an applied discount. */
+  public CartTotalsLedger minusDiscount(AppliedDiscount discount) {
+    return new CartTotalsLedger(
+        subtotalUnits,
+        Math.subtractExact(discountUnits, toUnits(discount.appliedSavings())),
+        fulfillmentUnits,
+        itemCount);
+  }
+
+  /** Add a fulfillment option. */
+  public CartTotalsLedger plusFulfillment(Fulfillment fulfillment) {
+    return new CartTotalsLedger(
+        subtotalUnits,
+        discountUnits,
+        Math.addExact(fulfillmentUnits, toUnits(fulfillment.cost())),
+        itemCount);
+  }
+
+  /** Remove a fulfillment option. */
+  public CartTotalsLedger minusFulfillment(Fulfillment fulfillment) {
+    return new CartTotalsLedger(
+        subtotalUnits,
+        discountUnits,
+        Math.subtractExact(fulfillmentUnits, toUnits(fulfillment.cost())),
+        itemCount);
+  }
+
+  // ==================== Boundary Conversion ====================
+
+  /**
+   * Grand total in units: subtotal - discounts + fulfillment (tax is a placeholder zero), floored
+   * at zero.
+   */
+  public long grandTotalUnits() {
+    return Math.max(0, subtotalUnits - discountUnits + fulfillmentUnits);
+  }
+
+  /**
+   * Convert to API totals. Mirrors {@link CartTotals#calculate} including the zero floor on the
+   * grand total.
+   *
+   * @return the totals as BigDecimal amounts
+   */
+  public CartTotals toCartTotals() {
+    return new CartTotals(
+        toMoney(subtotalUnits),
+        toMoney(discountUnits),
+        toMoney(fulfillmentUnits),
+        toMoney(0),
+        toMoney(grandTotalUnits()));
+  }
+
+  /**
+   * Convert a money amount to units, rounding half-even beyond {@link #SCALE} decimal places.
+   * Null amounts count as zero.
+   */
+  static long toUnits(BigDecimal amount) {
+    if (amount == null) {
+      return 0;
+    }
+    return amount.setScale(SCALE, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+  }
+
+  /** Convert units to a money amount with at least two decimal places. */
+  static BigDecimal toMoney(long units) {
+    BigDecimal amount = BigDecimal.valueOf(units, SCALE).stripTrailingZeros();
+    return amount.scale() < DISPLAY_SCALE ? amount.setScale(DISPLAY_SCALE) : amount;
+  }
+
+  private static long lineUnits(CartProduct product) {
+    return Math.multiplyExact(toUnits(product.unitPrice()), (long) product.quantity());
+  }
+}
@@ -0,0 +1,9 @@
+package org.example.cart.domain;
+
+/**
+ * A requested SKU and quantity for bulk product operations.
+ *
+ * @param sku the product SKU
+ * @param quantity the requested quantity
+ */
+public record ProductQuantity(long sku, int quantity) {}
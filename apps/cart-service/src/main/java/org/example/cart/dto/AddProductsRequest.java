@@ -0,0 +1,10 @@
+package org.example.cart.dto;
+
+import java.util.List;
+
+/**
+ * Request to add several products to the cart in one operation.
+ *
+ * @param items the SKUs and quantities to add
+ */
+public record AddProductsRequest(List<AddProductRequest> items) {}
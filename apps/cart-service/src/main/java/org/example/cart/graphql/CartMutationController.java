@@ -3,8 +3,10 @@ package org.example.cart.graphql;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.example.cart.domain.Cart;
+import org.example.cart.domain.ProductQuantity;
 import org.example.cart.graphql.input.AddFulfillmentInput;
 import org.example.cart.graphql.input.AddProductInput;
+import org.example.cart.graphql.input.AddProductsInput;
 import org.example.cart.graphql.input.ApplyDiscountInput;
 import org.example.cart.graphql.input.CreateCartInput;
 import org.example.cart.graphql.input.SetCustomerInput;
@@ -81,6 +83,24 @@ public class CartMutationController {
         .then(cartService.addProduct(cartId, Long.parseLong(input.sku()), input.quantity()));
   }
 
+  @MutationMapping
+  @PreAuthorize("hasAuthority('SCOPE_cart:write')")
+  public Mono<Cart> addProducts(@Argument String cartId, @Argument AddProductsInput input) {
+    return validateMetadataFromContext()
+        .then(validator.validateAddProducts(cartId, input))
+        .then(
+            Mono.defer(
+                () ->
+                    cartService.addProducts(
+                        cartId,
+                        input.items().stream()
+                            .map(
+                                item ->
+                                    new ProductQuantity(
+                                        Long.parseLong(item.sku()), item.quantity()))
+                            .toList())));
+  }
+
   @MutationMapping
   @PreAuthorize("hasAuthority('SCOPE_cart:write')")
   public Mono<Cart> updateProduct(
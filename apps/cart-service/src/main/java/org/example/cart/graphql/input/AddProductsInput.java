@@ -0,0 +1,5 @@
+package org.example.cart.graphql.input;
+
+import java.util.List;
+
+public record AddProductsInput(List<AddProductInput> items) {}
@@ -1,10 +1,13 @@
 package org.example.cart.graphql.validation;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
 import org.example.cart.graphql.input.AddFulfillmentInput;
 import org.example.cart.graphql.input.AddProductInput;
+import org.example.cart.graphql.input.AddProductsInput;
 import org.example.cart.graphql.input.ApplyDiscountInput;
 import org.example.cart.graphql.input.CreateCartInput;
 import org.example.cart.graphql.input.SetCustomerInput;
@@ -29,6 +32,7 @@ public class GraphQLInputValidator {
   private static final int QUANTITY_MAX = 999;
   private static final long SKU_MIN = 100_000L;
   private static final long SKU_MAX = 999_999_999_999L;
+  private static final int BULK_ITEMS_MAX = 100;
   private static final Pattern UUID_PATTERN =
       Pattern.compile(
           "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
@@ -136,6 +140,38 @@ public class GraphQLInputValidator {
     return toMono(errors);
   }
 
+  public Mono<Void> validateAddProducts(String cartId, AddProductsInput input) {
+    List<ValidationError> errors = new ArrayList<>();
+    validateUuid(cartId, "cartId", errors);
+    if (input.items() == null || input.items().isEmpty()) {
+      errors.add(new ValidationError("input.items", "At least one item required"));
+    } else if (input.items().size() > BULK_ITEMS_MAX) {
+      errors.add(
+          new ValidationError("input.items", "At most " + BULK_ITEMS_MAX + " items allowed"));
+    } else {
+      // Repeated SKUs are summed into one line, so the sum must stay within the limit too. Keyed on
+      // the parsed SKU, as the cart is, so "7" and "007" count as the same product.
+      Map<Long, Integer> combined = new HashMap<>();
+      for (int i = 0; i < input.items().size(); i++) {
+        AddProductInput item = input.items().get(i);
+        String field = "input.items[" + i + "].quantity";
+        int errorsBefore = errors.size();
+        validateSku(item.sku(), "input.items[" + i + "].sku", errors);
+        validateQuantity(item.quantity(), field, errors);
+        if (errors.size() > errorsBefore) {
+          continue;
+        }
+        long sku = Long.parseLong(item.sku());
+        if (combined.merge(sku, item.quantity(), Integer::sum) > QUANTITY_MAX) {
+          errors.add(
+              new ValidationError(
+                  field, "Combined quantity for SKU " + sku + " must not exceed " + QUANTITY_MAX));
+        }
+      }
+    }
+    return toMono(errors);
+  }
+
   public Mono<Void> validateUpdateProduct(String cartId, String sku, UpdateProductInput input) {
     List<ValidationError> errors = new ArrayList<>();
     validateUuid(cartId, "cartId", errors);
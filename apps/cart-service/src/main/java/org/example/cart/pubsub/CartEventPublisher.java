@@ -55,9 +55,10 @@ public class CartEventPublisher {
                         log.logMessage(
                             ctx,
                             LOGGER_NAME,
-                            String.format(
-                                "Published cart event: %s," + " cartId=%s, subscribers=%d",
-                                event.eventType().name(), event.cartId(), count)))
+                            "Published cart event: {}, cartId={}, subscribers={}",
+                            event.eventType().name(),
+                            event.cartId(),
+                            count))
                 .doOnError(e -> log.logError(ctx, LOGGER_NAME, "redis", e))
                 .onErrorResume(e -> Mono.empty())
                 .then());
@@ -0,0 +1,273 @@
+package org.example.cart.repository;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.example.cart.config.CartRetentionProperties.Mode;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Maintenance queries for the partitioned carts table.
+ *
+ * <p>Row-level reaping runs as single auto-committed statements that lock at most one batch of
+ * rows with {@code FOR UPDATE SKIP LOCKED}, so carts being modified concurrently are skipped rather
+ * than waited on, and several service instances can reap in parallel without contention.
+ */
+@Repository
+public class CartRetentionRepository {
+
+  private static final Pattern PARTITION_NAME = Pattern.compile("^carts_p(\\d{6})$");
+  private static final DateTimeFormatter PARTITION_MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+
+  private final DatabaseClient databaseClient;
+  private final TransactionalOperator transactionalOperator;
+
+  public CartRetentionRepository(
+      DatabaseClient databaseClient, ReactiveTransactionManager transactionManager) {
+    this.databaseClient = databaseClient;
+    this.transactionalOperator = TransactionalOperator.create(transactionManager);
+  }
+
+  /**
+   * Monthly partition of the carts table.
+   *
+   * @param name the partition table name (carts_pYYYYMM)
+   * @param month the UTC month the partition covers
+   */
+  public record CartPartition(String name, YearMonth month) {
+
+    /** Name of the standalone table the partition becomes when archived. */
+    public String archiveName() {
+      return name.replace("carts_", "carts_archive_");
+    }
+
+    /** Exclusive upper bound of the partition's updated_at range. */
+    public Instant upperBound() {
+      return month.plusMonths(1).atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+  }
+
+  /**
+   * Outcome of pre-creating partitions.
+   *
+   * @param created number of partitions created
+   * @param failed one "carts_pYYYYMM: error" entry per month that could not be created because
+   *     of a lock timeout or rows written to carts_default concurrently
+   */
+  public record PartitionsEnsured(int created, List<String> failed) {}
+
+  /**
+   * Create monthly partitions from the current month through {@code monthsAhead} months ahead. A
+   * month skipped on a lock timeout or a concurrent write is reported in {@link
+   * PartitionsEnsured#failed()}; any other error fails the returned Mono.
+   *
+   * @param monthsAhead number of future months to pre-create
+   * @return partitions created and months skipped
+   */
+  public Mono<PartitionsEnsured> ensurePartitions(int monthsAhead) {
+    return databaseClient
+        .sql(ENSURE_PARTITIONS_SQL)
+        .bind("monthsAhead", monthsAhead)
+        .map(
+            row -> {
+              String[] failed = row.get("failed", String[].class);
+              return new PartitionsEnsured(
+                  row.get("created", Integer.class),
+                  failed == null ? List.of() : List.of(failed));
+            })
+        .one();
+  }
+
+  /** List the monthly partitions currently attached to the carts table. */
+  public Flux<CartPartition> findMonthlyPartitions() {
+    return databaseClient
+        .sql(LIST_PARTITIONS_SQL)
+        .map(row -> row.get("name", String.class))
+        .all()
+        .flatMap(
+            name -> {
+              Matcher matcher = PARTITION_NAME.matcher(name);
+              if (!matcher.matches()) {
+                return Mono.empty();
+              }
+              return Mono.just(
+                  new CartPartition(name, YearMonth.parse(matcher.group(1), PARTITION_MONTH)));
+            });
+  }
+
+  /**
+   * Estimate the rows in a partition from the table statistics before it is detached. An exact
+   * count would scan the whole partition, and expired partitions are the largest cold ones.
+   *
+   * @param partition the partition
+   * @return estimated row count; 0 if the partition has not been analyzed
+   */
+  public Mono<Long> estimateRows(CartPartition partition) {
+    return databaseClient
+        .sql(ESTIMATE_ROWS_SQL)
+        .bind("name", partition.name())
+        .map(row -> row.get(0, Long.class))
+        .one()
+        .defaultIfEmpty(0L);
+  }
+
+  /**
+   * Detach an expired partition. In DELETE mode the detached table is dropped; in ARCHIVE mode it
+   * is kept and renamed to carts_archive_pYYYYMM.
+   *
+   * <p>Both statements run in one transaction, so a failed rename or drop leaves the partition
+   * attached. Archiving fails up front if the archive table already exists.
+   *
+   * @param partition the partition to detach
+   * @param mode the retention mode
+   * @return completion signal
+   */
+  public Mono<Void> detachPartition(CartPartition partition, Mode mode) {
+    String name = partition.name();
+    boolean archive = mode == Mode.ARCHIVE;
+    String disposeSql =
+        archive
+            ? "ALTER TABLE " + name + " RENAME TO " + partition.archiveName()
+            : "DROP TABLE " + name;
+    Mono<Void> detach =
+        databaseClient
+            .sql("ALTER TABLE carts DETACH PARTITION " + name)
+            .then()
+            .then(databaseClient.sql(disposeSql).then());
+    Mono<Void> checked = archive ? ensureArchiveNameFree(partition).then(detach) : detach;
+    return transactionalOperator.transactional(checked);
+  }
+
+  private Mono<Void> ensureArchiveNameFree(CartPartition partition) {
+    return databaseClient
+        .sql(TABLE_EXISTS_SQL)
+        .bind("name", partition.archiveName())
+        .map(row -> row.get(0, Boolean.class))
+        .one()
+        .filter(exists -> exists)
+        .flatMap(
+            exists ->
+                Mono.error(
+                    new IllegalStateException(
+                        "Archive table already exists: " + partition.archiveName())))
+        .then();
+  }
+
+  /**
+   * Delete (or archive) one batch of carts last updated before the cutoff.
+   *
+   * @param cutoff carts with updated_at before this instant are reaped
+   * @param batchSize maximum number of rows to reap
+   * @param mode the retention mode
+   * @return number of rows reaped
+   */
+  public Mono<Long> reapBatch(Instant cutoff, int batchSize, Mode mode) {
+    return databaseClient
+        .sql(mode == Mode.ARCHIVE ? ARCHIVE_BATCH_SQL : DELETE_BATCH_SQL)
+        .bind("cutoff", cutoff)
+        .bind("batchSize", batchSize)
+        .fetch()
+        .rowsUpdated();
+  }
+
+  /**
+   * Release one batch of cart ids whose cart no longer exists, so cart_ids does not grow with every
+   * reaped cart. Only ids claimed before the cutoff are considered; a cart being created right now
+   * has a recent claim and is never touched.
+   *
+   * @param cutoff ids claimed before this instant are candidates
+   * @param batchSize maximum number of ids to release
+   * @return number of ids released
+   */
+  public Mono<Long> releaseOrphanedIds(Instant cutoff, int batchSize) {
+    return databaseClient
+        .sql(RELEASE_ORPHANED_IDS_SQL)
+        .bind("cutoff", cutoff)
+        .bind("batchSize", batchSize)
+        .fetch()
+        .rowsUpdated();
+  }
+
+  private static final String ENSURE_PARTITIONS_SQL =
+      """
+      SELECT created, failed FROM ensure_carts_partitions(
+        date_trunc('month', NOW() AT TIME ZONE 'UTC')::date,
+        (date_trunc('month', NOW() AT TIME ZONE 'UTC') + make_interval(months => :monthsAhead))::date)
+      """;
+
+  private static final String LIST_PARTITIONS_SQL =
+      """
+      SELECT c.relname AS name
+      FROM pg_inherits i
+      JOIN pg_class c ON c.oid = i.inhrelid
+      WHERE i.inhparent = 'carts'::regclass
+      """;
+
+  private static final String TABLE_EXISTS_SQL = "SELECT to_regclass(:name) IS NOT NULL";
+
+  private static final String ESTIMATE_ROWS_SQL =
+      """
+      SELECT GREATEST(reltuples, 0)::bigint
+      FROM pg_class
+      WHERE oid = to_regclass(:name)
+      """;
+
+  private static final String RELEASE_ORPHANED_IDS_SQL =
+      """
+      DELETE FROM cart_ids
+      WHERE id IN (
+        SELECT ci.id FROM cart_ids ci
+        WHERE ci.created_at < :cutoff
+          AND NOT EXISTS (SELECT 1 FROM carts c WHERE c.id = ci.id)
+        ORDER BY ci.created_at
+        LIMIT :batchSize
+        FOR UPDATE SKIP LOCKED
+      )
+      """;
+
+  private static final String EXPIRED_BATCH_CTE =
+      """
+      WITH expired AS (
+        SELECT id, updated_at FROM carts
+        WHERE updated_at < :cutoff
+        ORDER BY updated_at
+        LIMIT :batchSize
+        FOR UPDATE SKIP LOCKED
+      )
+      """;
+
+  private static final String DELETE_BATCH_SQL =
+      EXPIRED_BATCH_CTE
+          + """
+          DELETE FROM carts c
+          USING expired e
+          WHERE c.id = e.id AND c.updated_at = e.updated_at
+          """;
+
+  private static final String ARCHIVE_BATCH_SQL =
+      EXPIRED_BATCH_CTE
+          + """
+          , reaped AS (
+            DELETE FROM carts c
+            USING expired e
+            WHERE c.id = e.id AND c.updated_at = e.updated_at
+            RETURNING c.*
+          )
+          INSERT INTO carts_archive (
+            id, store_number, customer_id, customer_json, products_json, discounts_json,
+            fulfillments_json, totals_json, created_at, updated_at
+          )
+          SELECT id, store_number, customer_id, customer_json, products_json, discounts_json,
+                 fulfillments_json, totals_json, created_at, updated_at
+          FROM reaped
+          """;
+}
@@ -3,6 +3,8 @@ package org.example.cart.repository;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.postgresql.codec.Json;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -12,6 +14,7 @@ import org.example.model.customer.CartCustomer;
 import org.example.model.discount.AppliedDiscount;
 import org.example.model.fulfillment.Fulfillment;
 import org.example.model.product.CartProduct;
+import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -21,15 +24,25 @@ import reactor.core.publisher.Mono;
  *
  * <p>Converts between domain Cart objects and CartEntity database records, handling JSON
  * serialization for nested collections.
+ *
+ * <p>The carts table is partitioned on updated_at, so its primary key cannot keep ids unique. Ids
+ * are claimed in the unpartitioned cart_ids table instead, in the same statement that inserts the
+ * cart row: a concurrent create of the same id waits on the claim and then updates the row the
+ * first create inserted, rather than inserting a second one.
  */
 @Repository
 public class PostgresCartRepository implements CartRepository {
 
   private final CartEntityRepository entityRepository;
+  private final DatabaseClient databaseClient;
   private final ObjectMapper objectMapper;
 
-  public PostgresCartRepository(CartEntityRepository entityRepository, ObjectMapper objectMapper) {
+  public PostgresCartRepository(
+      CartEntityRepository entityRepository,
+      DatabaseClient databaseClient,
+      ObjectMapper objectMapper) {
     this.entityRepository = entityRepository;
+    this.databaseClient = databaseClient;
     this.objectMapper = objectMapper;
   }
 
@@ -52,24 +65,23 @@ public class PostgresCartRepository implements CartRepository {
 
   @Override
   public Mono<Cart> save(Cart cart) {
-    // Check if cart exists to determine INSERT vs UPDATE
-    return entityRepository
-        .existsById(UUID.fromString(cart.id()))
+    // INSERT when this call claims the id, otherwise UPDATE the existing row
+    return toEntity(cart, true)
         .flatMap(
-            exists -> {
-              if (exists) {
-                return toEntity(cart, false); // Existing entity - UPDATE
-              } else {
-                return toEntity(cart, true); // New entity - INSERT
-              }
-            })
-        .flatMap(entityRepository::save)
+            entity ->
+                insertIfUnclaimed(entity)
+                    .flatMap(
+                        inserted ->
+                            inserted
+                                ? Mono.just(entity)
+                                : toEntity(cart, false).flatMap(entityRepository::save)))
         .flatMap(this::toDomain);
   }
 
   @Override
   public Mono<Void> deleteById(String cartId) {
-    return Mono.fromCallable(() -> UUID.fromString(cartId)).flatMap(entityRepository::deleteById);
+    return Mono.fromCallable(() -> UUID.fromString(cartId))
+        .flatMap(id -> databaseClient.sql(DELETE_SQL).bind("id", id).then());
   }
 
   @Override
@@ -77,6 +89,63 @@ public class PostgresCartRepository implements CartRepository {
     return Mono.fromCallable(() -> UUID.fromString(cartId)).flatMap(entityRepository::existsById);
   }
 
+  private Mono<Boolean> insertIfUnclaimed(CartEntity entity) {
+    var spec =
+        databaseClient
+            .sql(INSERT_IF_UNCLAIMED_SQL)
+            .bind("id", entity.id())
+            .bind("storeNumber", entity.storeNumber());
+    spec =
+        entity.customerId() != null
+            ? spec.bind("customerId", entity.customerId())
+            : spec.bindNull("customerId", String.class);
+    String customerJson = JsonValue.unwrap(entity.customerJson());
+    spec =
+        customerJson != null
+            ? spec.bind("customerJson", Json.of(customerJson))
+            : spec.bindNull("customerJson", Json.class);
+    return spec.bind("productsJson", json(entity.productsJson(), "[]"))
+        .bind("discountsJson", json(entity.discountsJson(), "[]"))
+        .bind("fulfillmentsJson", json(entity.fulfillmentsJson(), "[]"))
+        .bind("totalsJson", json(entity.totalsJson(), "{}"))
+        .bind("createdAt", entity.createdAt() != null ? entity.createdAt() : Instant.now())
+        .bind("updatedAt", entity.updatedAt() != null ? entity.updatedAt() : Instant.now())
+        .fetch()
+        .rowsUpdated()
+        .map(rows -> rows > 0);
+  }
+
+  private static Json json(JsonValue value, String empty) {
+    String json = JsonValue.unwrap(value);
+    return Json.of(json != null ? json : empty);
+  }
+
+  // The cart row is only inserted if this statement claimed the id; ON CONFLICT waits for an
+  // uncommitted claim of the same id, so the loser sees the winner's row and takes the UPDATE path
+  private static final String INSERT_IF_UNCLAIMED_SQL =
+      """
+      WITH claimed AS (
+        INSERT INTO cart_ids (id, created_at) VALUES (:id, :createdAt)
+        ON CONFLICT (id) DO NOTHING
+        RETURNING id
+      )
+      INSERT INTO carts (
+        id, store_number, customer_id, customer_json, products_json, discounts_json,
+        fulfillments_json, totals_json, created_at, updated_at
+      )
+      SELECT id, :storeNumber, :customerId, :customerJson, :productsJson, :discountsJson,
+             :fulfillmentsJson, :totalsJson, :createdAt, :updatedAt
+      FROM claimed
+      """;
+
+  private static final String DELETE_SQL =
+      """
+      WITH released AS (
+        DELETE FROM cart_ids WHERE id = :id
+      )
+      DELETE FROM carts WHERE id = :id
+      """;
+
   // ==================== Mapping Methods ====================
 
   private Mono<Cart> toDomain(CartEntity entity) {
@@ -2,6 +2,7 @@ package org.example.cart.repository.customer;
 
 import org.example.model.customer.CartCustomer;
 import org.example.platform.resilience.ReactiveResilience;
+import org.example.platform.webflux.client.ServiceWebClientFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Repository;
@@ -19,10 +20,10 @@ public class CustomerRepository {
   private final ReactiveResilience reactiveResilience;
 
   public CustomerRepository(
-      WebClient.Builder webClientBuilder,
+      ServiceWebClientFactory webClientFactory,
       @Value("${services.customer.base-url:http://localhost:8083}") String baseUrl,
       ReactiveResilience reactiveResilience) {
-    this.webClient = webClientBuilder.baseUrl(baseUrl).build();
+    this.webClient = webClientFactory.builder(RESILIENCE_NAME, baseUrl).build();
     this.reactiveResilience = reactiveResilience;
   }
 
@@ -5,6 +5,7 @@ import java.util.List;
 import org.example.model.discount.AppliedDiscount;
 import org.example.model.discount.Discount;
 import org.example.platform.resilience.ReactiveResilience;
+import org.example.platform.webflux.client.ServiceWebClientFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -20,10 +21,10 @@ public class DiscountRepository {
   private final ReactiveResilience reactiveResilience;
 
   public DiscountRepository(
-      WebClient.Builder webClientBuilder,
+      ServiceWebClientFactory webClientFactory,
       @Value("${services.discount.base-url:http://localhost:8084}") String baseUrl,
       ReactiveResilience reactiveResilience) {
-    this.webClient = webClientBuilder.baseUrl(baseUrl).build();
+    this.webClient = webClientFactory.builder(RESILIENCE_NAME, baseUrl).build();
     this.reactiveResilience = reactiveResilience;
   }
 
@@ -4,6 +4,7 @@ import java.math.BigDecimal;
 import java.util.List;
 import org.example.model.fulfillment.FulfillmentType;
 import org.example.platform.resilience.ReactiveResilience;
+import org.example.platform.webflux.client.ServiceWebClientFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -19,10 +20,10 @@ public class FulfillmentRepository {
   private final ReactiveResilience reactiveResilience;
 
   public FulfillmentRepository(
-      WebClient.Builder webClientBuilder,
+      ServiceWebClientFactory webClientFactory,
       @Value("${services.fulfillment.base-url:http://localhost:8085}") String baseUrl,
       ReactiveResilience reactiveResilience) {
-    this.webClient = webClientBuilder.baseUrl(baseUrl).build();
+    this.webClient = webClientFactory.builder(RESILIENCE_NAME, baseUrl).build();
     this.reactiveResilience = reactiveResilience;
   }
 
@@ -1,10 +1,13 @@
 package org.example.cart.repository.product;
 
+import java.util.Collection;
 import org.example.model.product.Product;
 import org.example.platform.resilience.ReactiveResilience;
+import org.example.platform.webflux.client.ServiceWebClientFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /** Repository for communicating with product-service. */
@@ -12,41 +15,45 @@ import reactor.core.publisher.Mono;
 public class ProductRepository {
 
   private static final String RESILIENCE_NAME = "product";
+  // Stays below the product concurrency limit so one large basket cannot starve other requests
+  private static final int BULK_CONCURRENCY = 10;
 
   private final WebClient webClient;
   private final ReactiveResilience reactiveResilience;
 
   public ProductRepository(
-      WebClient.Builder webClientBuilder,
+      ServiceWebClientFactory webClientFactory,
       @Value("${services.product.base-url:http://localhost:8080}") String baseUrl,
       ReactiveResilience reactiveResilience) {
-    this.webClient = webClientBuilder.baseUrl(baseUrl).build();
+    this.webClient = webClientFactory.builder(RESILIENCE_NAME, baseUrl).build();
     this.reactiveResilience = reactiveResilience;
   }
 
   /**
-   * Get a product by SKU.
+   * Get a product by SKU. The request metadata headers are propagated from the Reactor Context by
+   * the client's metadata filter.
    *
    * @param sku the product SKU
-   * @param storeNumber the store number for context
-   * @param orderNumber the order number for context
-   * @param userId the user ID for context
-   * @param sessionId the session ID for context
    * @return the product
    */
-  public Mono<Product> getProduct(
-      long sku, int storeNumber, String orderNumber, String userId, String sessionId) {
+  public Mono<Product> getProduct(long sku) {
     Mono<Product> request =
-        webClient
-            .get()
-            .uri("/products/{sku}", sku)
-            .header("x-store-number", String.valueOf(storeNumber))
-            .header("x-order-number", orderNumber)
-            .header("x-userid", userId)
-            .header("x-sessionid", sessionId)
-            .retrieve()
-            .bodyToMono(Product.class);
-
-    return reactiveResilience.decorate(RESILIENCE_NAME, request);
+        webClient.get().uri("/products/{sku}", sku).retrieve().bodyToMono(Product.class);
+
+    // A product lookup is a read, so a slow one may be hedged
+    return reactiveResilience.decorateIdempotent(RESILIENCE_NAME, request);
+  }
+
+  /**
+   * Get several products by SKU, fetching them in parallel.
+   *
+   * <p>product-service has no batch lookup, so each SKU is a separate resilient call; calls run
+   * concurrently up to a fixed limit. Products are emitted in completion order.
+   *
+   * @param skus the product SKUs
+   * @return the products
+   */
+  public Flux<Product> getProducts(Collection<Long> skus) {
+    return Flux.fromIterable(skus).flatMap(this::getProduct, BULK_CONCURRENCY);
   }
 }
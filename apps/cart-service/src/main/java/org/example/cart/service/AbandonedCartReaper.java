@@ -0,0 +1,206 @@
+package org.example.cart.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.example.cart.config.CartRetentionProperties;
+import org.example.cart.repository.CartRetentionRepository;
+import org.example.cart.repository.CartRetentionRepository.CartPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Background job that expires carts idle longer than the configured TTL.
+ *
+ * <p>Each run detaches partitions whose whole range is older than the cutoff, reaps the remaining
+ * idle rows in bounded {@code SKIP LOCKED} batches, then releases the cart ids of reaped carts.
+ * Reclaimed rows, detached partitions and run duration are published as metrics. Upcoming
+ * partitions are created by {@link CartPartitionMaintainer}, which runs even when retention is off.
+ */
+@Service
+@ConditionalOnProperty(name = "cart.retention.enabled", havingValue = "true", matchIfMissing = true)
+public class AbandonedCartReaper {
+
+  private static final Logger log = LoggerFactory.getLogger(AbandonedCartReaper.class);
+
+  private final CartRetentionRepository retentionRepository;
+  private final CartRetentionProperties properties;
+  private final Counter partitionRowsReclaimed;
+  private final Counter batchRowsReclaimed;
+  private final Counter partitionsDetached;
+  private final Timer runTimer;
+  private final AtomicBoolean running = new AtomicBoolean(false);
+
+  public AbandonedCartReaper(
+      CartRetentionRepository retentionRepository,
+      CartRetentionProperties properties,
+      MeterRegistry meterRegistry) {
+    this.retentionRepository = retentionRepository;
+    this.properties = properties;
+    String mode = properties.getMode().name();
+    this.partitionRowsReclaimed =
+        Counter.builder("cart.reaper.rows.reclaimed")
+            .description("Idle cart rows removed by the reaper")
+            .tag("source", "partition")
+            .tag("mode", mode)
+            .register(meterRegistry);
+    this.batchRowsReclaimed =
+        Counter.builder("cart.reaper.rows.reclaimed")
+            .description("Idle cart rows removed by the reaper")
+            .tag("source", "batch")
+            .tag("mode", mode)
+            .register(meterRegistry);
+    this.partitionsDetached =
+        Counter.builder("cart.reaper.partitions.detached")
+            .description("Expired carts partitions detached by the reaper")
+            .tag("mode", mode)
+            .register(meterRegistry);
+    this.runTimer =
+        Timer.builder("cart.reaper.run.duration")
+            .description("Duration of an abandoned-cart reaper run")
+            .register(meterRegistry);
+  }
+
+  /**
+   * Result of a single reaper run.
+   *
+   * @param partitionsDetached number of partitions detached
+   * @param partitionRows rows reclaimed by detaching partitions
+   * @param batchRows rows reclaimed by batched deletes
+   * @param idsReleased cart ids released because their cart was reaped
+   * @param duration wall-clock duration of the run
+   */
+  public record ReapResult(
+      long partitionsDetached,
+      long partitionRows,
+      long batchRows,
+      long idsReleased,
+      Duration duration) {
+
+    public long totalRows() {
+      return partitionRows + batchRows;
+    }
+  }
+
+  @Scheduled(
+      initialDelayString = "${cart.retention.initial-delay:PT1M}",
+      fixedDelayString = "${cart.retention.interval:PT15M}")
+  public void scheduledRun() {
+    // Skip if the previous (asynchronous) run is still in flight
+    if (!running.compareAndSet(false, true)) {
+      return;
+    }
+    run()
+        .doFinally(signal -> running.set(false))
+        .subscribe(
+            result ->
+                log.info(
+                    "Cart reaper run complete: partitionsDetached={}, rowsReclaimed={},"
+                        + " idsReleased={}, durationMs={}",
+                    result.partitionsDetached(),
+                    result.totalRows(),
+                    result.idsReleased(),
+                    result.duration().toMillis()),
+            error -> log.error("Cart reaper run failed: {}", error.getMessage()));
+  }
+
+  /**
+   * Execute one reaper run.
+   *
+   * @return the run result
+   */
+  public Mono<ReapResult> run() {
+    return Mono.defer(
+        () -> {
+          Instant cutoff = Instant.now().minus(properties.getTtl());
+          long startNanos = System.nanoTime();
+
+          return detachExpiredPartitions(cutoff)
+              .flatMap(
+                  detached ->
+                      reapExpiredRows(cutoff)
+                          .flatMap(
+                              batchRows ->
+                                  releaseOrphanedIds(cutoff)
+                                      .map(
+                                          idsReleased ->
+                                              new ReapResult(
+                                                  detached.partitions(),
+                                                  detached.rows(),
+                                                  batchRows,
+                                                  idsReleased,
+                                                  Duration.ofNanos(
+                                                      System.nanoTime() - startNanos)))))
+              .doOnNext(
+                  result -> {
+                    partitionsDetached.increment(result.partitionsDetached());
+                    partitionRowsReclaimed.increment(result.partitionRows());
+                    batchRowsReclaimed.increment(result.batchRows());
+                    runTimer.record(result.duration());
+                  });
+        });
+  }
+
+  private record DetachTotals(long partitions, long rows) {}
+
+  /** Detach partitions whose whole range is older than the cutoff. */
+  private Mono<DetachTotals> detachExpiredPartitions(Instant cutoff) {
+    return retentionRepository
+        .findMonthlyPartitions()
+        .filter(partition -> !partition.upperBound().isAfter(cutoff))
+        .concatMap(this::detach)
+        .reduce(
+            new DetachTotals(0, 0),
+            (totals, rows) -> new DetachTotals(totals.partitions() + 1, totals.rows() + rows));
+  }
+
+  private Mono<Long> detach(CartPartition partition) {
+    return retentionRepository
+        .estimateRows(partition)
+        .flatMap(
+            rows ->
+                retentionRepository
+                    .detachPartition(partition, properties.getMode())
+                    .doOnSuccess(
+                        v ->
+                            log.info(
+                                "Detached carts partition: name={}, estimatedRows={}, mode={}",
+                                partition.name(),
+                                rows,
+                                properties.getMode()))
+                    .thenReturn(rows));
+  }
+
+  /** Reap idle rows batch by batch until a short batch or the per-run batch limit. */
+  private Mono<Long> reapExpiredRows(Instant cutoff) {
+    int batchSize = properties.getBatchSize();
+    return reapBatch(cutoff)
+        .expand(reaped -> reaped < batchSize ? Mono.empty() : reapBatch(cutoff))
+        .take(properties.getMaxBatchesPerRun())
+        .reduce(0L, Long::sum);
+  }
+
+  private Mono<Long> reapBatch(Instant cutoff) {
+    return retentionRepository.reapBatch(cutoff, properties.getBatchSize(), properties.getMode());
+  }
+
+  /** Release ids of reaped carts with the same batch bounds as row reaping. */
+  private Mono<Long> releaseOrphanedIds(Instant cutoff) {
+    int batchSize = properties.getBatchSize();
+    return releaseIdBatch(cutoff)
+        .expand(released -> released < batchSize ? Mono.empty() : releaseIdBatch(cutoff))
+        .take(properties.getMaxBatchesPerRun())
+        .reduce(0L, Long::sum);
+  }
+
+  private Mono<Long> releaseIdBatch(Instant cutoff) {
+    return retentionRepository.releaseOrphanedIds(cutoff, properties.getBatchSize());
+  }
+}
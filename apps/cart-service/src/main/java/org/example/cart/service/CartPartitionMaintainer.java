@@ -0,0 +1,94 @@
+package org.example.cart.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.example.cart.config.CartPartitionProperties;
+import org.example.cart.repository.CartRetentionRepository;
+import org.example.cart.repository.CartRetentionRepository.PartitionsEnsured;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Background job that creates monthly carts partitions ahead of time.
+ *
+ * <p>Runs independently of {@link AbandonedCartReaper}: with retention disabled or behind, carts
+ * must still land in their month's partition rather than carts_default. Rows already in
+ * carts_default for a month are moved into the partition when it is created. A month that cannot
+ * be created fails the run, so it is logged and retried on the next one.
+ */
+@Service
+@ConditionalOnProperty(
+    name = "cart.partitions.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class CartPartitionMaintainer {
+
+  private static final Logger log = LoggerFactory.getLogger(CartPartitionMaintainer.class);
+
+  private final CartRetentionRepository retentionRepository;
+  private final CartPartitionProperties properties;
+  private final Counter partitionsCreated;
+  private final Counter partitionsFailed;
+  private final AtomicBoolean running = new AtomicBoolean(false);
+
+  public CartPartitionMaintainer(
+      CartRetentionRepository retentionRepository,
+      CartPartitionProperties properties,
+      MeterRegistry meterRegistry) {
+    this.retentionRepository = retentionRepository;
+    this.properties = properties;
+    this.partitionsCreated =
+        Counter.builder("cart.partitions.created")
+            .description("Carts partitions created ahead of time")
+            .register(meterRegistry);
+    this.partitionsFailed =
+        Counter.builder("cart.partitions.failed")
+            .description("Carts partitions that could not be created ahead of time")
+            .register(meterRegistry);
+  }
+
+  @Scheduled(
+      initialDelayString = "${cart.partitions.initial-delay:PT0S}",
+      fixedDelayString = "${cart.partitions.interval:PT1H}")
+  public void scheduledRun() {
+    // Skip if the previous (asynchronous) run is still in flight
+    if (!running.compareAndSet(false, true)) {
+      return;
+    }
+    run()
+        .doFinally(signal -> running.set(false))
+        .subscribe(
+            created -> {
+              if (created > 0) {
+                log.info("Created {} carts partitions", created);
+              }
+            },
+            error -> log.error("Carts partition maintenance failed: {}", error.getMessage()));
+  }
+
+  /**
+   * Create any missing partitions from the current month through the configured months ahead.
+   *
+   * @return number of partitions created, or an error if any month was skipped
+   */
+  public Mono<Integer> run() {
+    return Mono.defer(() -> retentionRepository.ensurePartitions(properties.getMonthsAhead()))
+        .flatMap(this::checkPartitionsCreated);
+  }
+
+  private Mono<Integer> checkPartitionsCreated(PartitionsEnsured ensured) {
+    partitionsCreated.increment(ensured.created());
+    if (ensured.failed().isEmpty()) {
+      return Mono.just(ensured.created());
+    }
+    partitionsFailed.increment(ensured.failed().size());
+    return Mono.error(
+        new IllegalStateException(
+            "Could not create carts partitions: " + String.join("; ", ensured.failed())));
+  }
+}
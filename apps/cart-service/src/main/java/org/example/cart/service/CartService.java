@@ -1,12 +1,15 @@
 package org.example.cart.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.example.cart.domain.Cart;
+import org.example.cart.domain.ProductQuantity;
 import org.example.cart.event.CartEvent;
 import org.example.cart.event.CartEventType;
 import org.example.cart.pubsub.CartEventPublisher;
@@ -20,11 +23,13 @@ import org.example.model.discount.AppliedDiscount;
 import org.example.model.fulfillment.Fulfillment;
 import org.example.model.fulfillment.FulfillmentType;
 import org.example.model.product.CartProduct;
+import org.example.model.product.Product;
 import org.example.platform.audit.AuditEventData;
 import org.example.platform.audit.AuditEventPublisher;
 import org.example.platform.logging.StructuredLogger;
 import org.example.platform.webflux.context.ContextKeys;
 import org.example.platform.webflux.context.RequestMetadata;
+import org.example.platform.webflux.metrics.StageTimer;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
@@ -45,6 +50,7 @@ public class CartService {
   private final AuditEventPublisher auditEventPublisher;
   private final CartEventPublisher cartEventPublisher;
   private final StructuredLogger structuredLogger;
+  private final StageTimer addProductTimer;
 
   public CartService(
       CartRepository cartRepository,
@@ -54,7 +60,8 @@ public class CartService {
       FulfillmentRepository fulfillmentRepository,
       AuditEventPublisher auditEventPublisher,
       CartEventPublisher cartEventPublisher,
-      StructuredLogger structuredLogger) {
+      StructuredLogger structuredLogger,
+      MeterRegistry meterRegistry) {
     this.cartRepository = cartRepository;
     this.productRepository = productRepository;
     this.customerRepository = customerRepository;
@@ -63,6 +70,7 @@ public class CartService {
     this.auditEventPublisher = auditEventPublisher;
     this.cartEventPublisher = cartEventPublisher;
     this.structuredLogger = structuredLogger;
+    this.addProductTimer = new StageTimer(meterRegistry, "cart.addProduct");
   }
 
   // ==================== Cart Lifecycle ====================
@@ -75,9 +83,7 @@ public class CartService {
           Cart cart = Cart.create(cartId, storeNumber, customerId);
 
           structuredLogger.logMessage(
-              ctx,
-              LOGGER_NAME,
-              String.format("Creating cart: %s for store: %d", cartId, storeNumber));
+              ctx, LOGGER_NAME, "Creating cart: {} for store: {}", cartId, storeNumber);
 
           return cartRepository
               .save(cart)
@@ -107,7 +113,7 @@ public class CartService {
                     Mono.defer(
                         () -> {
                           structuredLogger.logMessage(
-                              ctx, LOGGER_NAME, "Cart not found: " + cartId);
+                              ctx, LOGGER_NAME, "Cart not found: {}", cartId);
                           return Mono.error(
                               new ResponseStatusException(HttpStatus.NOT_FOUND, "Cart not found"));
                         }))
@@ -134,7 +140,7 @@ public class CartService {
                 .findById(cartId)
                 .flatMap(
                     cart -> {
-                      structuredLogger.logMessage(ctx, LOGGER_NAME, "Deleting cart: " + cartId);
+                      structuredLogger.logMessage(ctx, LOGGER_NAME, "Deleting cart: {}", cartId);
                       return publishAuditEvent(ctx, "CART_DELETED", cart, Map.of())
                           .then(publishCartEvent(CartEventType.CART_DELETED, cart))
                           .then(cartRepository.deleteById(cartId));
@@ -145,58 +151,145 @@ public class CartService {
 
   /** Add a product to the cart. Auto-creates cart if it doesn't exist. */
   public Mono<Cart> addProduct(String cartId, long sku, int quantity) {
+    return addProductTimer.time(
+        StageTimer.TOTAL,
+        Mono.deferContextual(
+            ctx -> {
+              RequestMetadata metadata = ctx.getOrDefault(ContextKeys.METADATA, null);
+              int storeNumber = metadata != null ? metadata.storeNumber() : 0;
+
+              return addProductTimer
+                  .time("cart.load", getCartOrCreate(cartId, storeNumber, ctx))
+                  .flatMap(
+                      cart ->
+                          addProductTimer
+                              .time("product.fetch", productRepository.getProduct(sku))
+                              .flatMap(
+                                  product -> {
+                                    CartProduct cartProduct =
+                                        CartProduct.fromProduct(product, quantity);
+
+                                    // Replaces an existing product with same SKU if present
+                                    Cart updatedCart = cart.withProduct(cartProduct);
+                                    structuredLogger.logMessage(
+                                        ctx,
+                                        LOGGER_NAME,
+                                        "Adding product {} qty {} to cart {}",
+                                        sku,
+                                        quantity,
+                                        cartId);
+
+                                    return addProductTimer
+                                        .time("persist", cartRepository.save(updatedCart))
+                                        .flatMap(
+                                            savedCart ->
+                                                addProductTimer
+                                                    .time(
+                                                        "publish",
+                                                        publishAuditEvent(
+                                                                ctx,
+                                                                "PRODUCT_ADDED",
+                                                                savedCart,
+                                                                Map.of(
+                                                                    "sku",
+                                                                    sku,
+                                                                    "quantity",
+                                                                    quantity,
+                                                                    "unitPrice",
+                                                                    product.price()))
+                                                            .then(
+                                                                publishCartEvent(
+                                                                    CartEventType.PRODUCT_ADDED,
+                                                                    savedCart)))
+                                                    .thenReturn(savedCart));
+                                  }));
+            }));
+  }
+
+  /**
+   * Add several products to the cart in one read-modify-write cycle. Auto-creates cart if it
+   * doesn't exist.
+   *
+   * <p>Product data for all SKUs is fetched in parallel with the cart load, lines are merged in a
+   * single pass, totals are recalculated once and the cart is saved once. Repeated SKUs in the
+   * request are summed; SKUs already in the cart are replaced, matching {@link #addProduct}. One
+   * PRODUCTS_ADDED audit event and one PRODUCT_ADDED cart event are published. If any SKU has no
+   * product, the request fails with 404 naming the missing SKUs and nothing is saved.
+   */
+  public Mono<Cart> addProducts(String cartId, List<ProductQuantity> items) {
     return Mono.deferContextual(
         ctx -> {
           RequestMetadata metadata = ctx.getOrDefault(ContextKeys.METADATA, null);
           int storeNumber = metadata != null ? metadata.storeNumber() : 0;
-          String orderNumber = metadata != null ? metadata.orderNumber() : "";
-          String userId = metadata != null ? metadata.userId() : "";
-          String sessionId = metadata != null ? metadata.sessionId() : "";
 
-          return getCartOrCreate(cartId, storeNumber, ctx)
-              .flatMap(
-                  cart ->
-                      productRepository
-                          .getProduct(sku, storeNumber, orderNumber, userId, sessionId)
-                          .flatMap(
-                              product -> {
-                                CartProduct cartProduct =
-                                    CartProduct.fromProduct(product, quantity);
-                                List<CartProduct> products = new ArrayList<>(cart.products());
+          Map<Long, Integer> quantities = new LinkedHashMap<>();
+          for (ProductQuantity item : items) {
+            quantities.merge(item.sku(), item.quantity(), Integer::sum);
+          }
 
-                                // Remove existing product with same
-                                // SKU if present
-                                products.removeIf(p -> p.sku() == sku);
-                                products.add(cartProduct);
-
-                                Cart updatedCart = cart.withProducts(products);
-                                structuredLogger.logMessage(
-                                    ctx,
-                                    LOGGER_NAME,
-                                    String.format(
-                                        "Adding product %d" + " qty %d to" + " cart %s",
-                                        sku, quantity, cartId));
+          Mono<Map<Long, Product>> productsBySku =
+              productRepository.getProducts(quantities.keySet()).collectMap(Product::sku);
 
-                                return cartRepository
-                                    .save(updatedCart)
-                                    .flatMap(
-                                        savedCart ->
-                                            publishAuditEvent(
-                                                    ctx,
-                                                    "PRODUCT_ADDED",
-                                                    savedCart,
-                                                    Map.of(
-                                                        "sku",
-                                                        sku,
-                                                        "quantity",
-                                                        quantity,
-                                                        "unitPrice",
-                                                        product.price()))
-                                                .then(
-                                                    publishCartEvent(
-                                                        CartEventType.PRODUCT_ADDED, savedCart))
-                                                .thenReturn(savedCart));
-                              }));
+          return Mono.zip(getCartOrCreate(cartId, storeNumber, ctx), productsBySku)
+              .flatMap(
+                  tuple -> {
+                    Cart cart = tuple.getT1();
+                    Map<Long, Product> fetched = tuple.getT2();
+                    if (fetched.size() < quantities.size()) {
+                      // A lookup that completed empty (e.g. a cached not-found) yields no product
+                      List<Long> missing =
+                          quantities.keySet().stream()
+                              .filter(sku -> !fetched.containsKey(sku))
+                              .toList();
+                      return Mono.error(
+                          new ResponseStatusException(
+                              HttpStatus.NOT_FOUND, "Products not found: " + missing));
+                    }
+
+                    List<CartProduct> products =
+                        new ArrayList<>(cart.products().size() + quantities.size());
+                    for (CartProduct existing : cart.products()) {
+                      if (!quantities.containsKey(existing.sku())) {
+                        products.add(existing);
+                      }
+                    }
+                    List<Map<String, Object>> addedLines = new ArrayList<>(quantities.size());
+                    quantities.forEach(
+                        (sku, quantity) -> {
+                          Product product = fetched.get(sku);
+                          products.add(CartProduct.fromProduct(product, quantity));
+                          addedLines.add(
+                              Map.of(
+                                  "sku",
+                                  sku,
+                                  "quantity",
+                                  quantity,
+                                  "unitPrice",
+                                  product.price()));
+                        });
+
+                    Cart updatedCart = cart.withProducts(products);
+                    structuredLogger.logMessage(
+                        ctx,
+                        LOGGER_NAME,
+                        "Adding {} products ({} lines) to cart {}",
+                        items.size(),
+                        quantities.size(),
+                        cartId);
+
+                    return cartRepository
+                        .save(updatedCart)
+                        .flatMap(
+                            savedCart ->
+                                publishAuditEvent(
+                                        ctx,
+                                        "PRODUCTS_ADDED",
+                                        savedCart,
+                                        Map.of("lineCount", addedLines.size(), "lines", addedLines))
+                                    .then(
+                                        publishCartEvent(CartEventType.PRODUCT_ADDED, savedCart))
+                                    .thenReturn(savedCart));
+                  });
         });
   }
 
@@ -217,17 +310,16 @@ public class CartService {
                       }
 
                       int oldQuantity = existingProduct.get().quantity();
-                      List<CartProduct> products = new ArrayList<>(cart.products());
-                      products.removeIf(p -> p.sku() == sku);
-                      products.add(existingProduct.get().withQuantity(quantity));
-
-                      Cart updatedCart = cart.withProducts(products);
+                      Cart updatedCart =
+                          cart.withProduct(existingProduct.get().withQuantity(quantity));
                       structuredLogger.logMessage(
                           ctx,
                           LOGGER_NAME,
-                          String.format(
-                              "Updating product %d from qty %d to %d" + " in cart %s",
-                              sku, oldQuantity, quantity, cartId));
+                          "Updating product {} from qty {} to {} in cart {}",
+                          sku,
+                          oldQuantity,
+                          quantity,
+                          cartId);
 
                       return cartRepository
                           .save(updatedCart)
@@ -258,20 +350,16 @@ public class CartService {
             getCartOrError(cartId)
                 .flatMap(
                     cart -> {
-                      List<CartProduct> products = new ArrayList<>(cart.products());
-                      boolean removed = products.removeIf(p -> p.sku() == sku);
+                      Cart updatedCart = cart.withoutProduct(sku);
 
-                      if (!removed) {
+                      if (updatedCart == cart) {
                         return Mono.error(
                             new ResponseStatusException(
                                 HttpStatus.NOT_FOUND, "Product not found in cart"));
                       }
 
-                      Cart updatedCart = cart.withProducts(products);
                       structuredLogger.logMessage(
-                          ctx,
-                          LOGGER_NAME,
-                          String.format("Removing product %d from cart %s", sku, cartId));
+                          ctx, LOGGER_NAME, "Removing product {} from cart {}", sku, cartId);
 
                       return cartRepository
                           .save(updatedCart)
@@ -333,9 +421,9 @@ public class CartService {
                                 structuredLogger.logMessage(
                                     ctx,
                                     LOGGER_NAME,
-                                    String.format(
-                                        "Setting customer" + " %s on cart" + " %s",
-                                        customerId, cartId));
+                                    "Setting customer {} on cart {}",
+                                    customerId,
+                                    cartId);
 
                                 return cartRepository
                                     .save(updatedCart)
@@ -377,9 +465,7 @@ public class CartService {
                       String oldCustomerId = cart.customerId();
                       Cart updatedCart = cart.withCustomer(null);
                       structuredLogger.logMessage(
-                          ctx,
-                          LOGGER_NAME,
-                          String.format("Removing customer from cart %s", cartId));
+                          ctx, LOGGER_NAME, "Removing customer from cart {}", cartId);
 
                       return cartRepository
                           .save(updatedCart)
@@ -415,19 +501,14 @@ public class CartService {
                           .calculateDiscount(code, subtotal, skus)
                           .flatMap(
                               appliedDiscount -> {
-                                List<AppliedDiscount> discounts = new ArrayList<>(cart.discounts());
-                                // Remove existing discount with
-                                // same ID if present
-                                discounts.removeIf(
-                                    d -> d.discountId().equals(appliedDiscount.discountId()));
-                                discounts.add(appliedDiscount);
-
-                                Cart updatedCart = cart.withDiscounts(discounts);
+                                // Replaces an existing discount with same ID if present
+                                Cart updatedCart = cart.withDiscount(appliedDiscount);
                                 structuredLogger.logMessage(
                                     ctx,
                                     LOGGER_NAME,
-                                    String.format(
-                                        "Applying discount" + " %s to cart" + " %s", code, cartId));
+                                    "Applying discount {} to cart {}",
+                                    code,
+                                    cartId);
 
                                 return cartRepository
                                     .save(updatedCart)
@@ -477,20 +558,20 @@ public class CartService {
             getCartOrError(cartId)
                 .flatMap(
                     cart -> {
-                      List<AppliedDiscount> discounts = new ArrayList<>(cart.discounts());
-                      boolean removed = discounts.removeIf(d -> d.discountId().equals(discountId));
+                      Cart updatedCart = cart.withoutDiscount(discountId);
 
-                      if (!removed) {
+                      if (updatedCart == cart) {
                         return Mono.error(
                             new ResponseStatusException(
                                 HttpStatus.NOT_FOUND, "Discount not found in cart"));
                       }
 
-                      Cart updatedCart = cart.withDiscounts(discounts);
                       structuredLogger.logMessage(
                           ctx,
                           LOGGER_NAME,
-                          String.format("Removing discount %s from cart %s", discountId, cartId));
+                          "Removing discount {} from cart {}",
+                          discountId,
+                          cartId);
 
                       return cartRepository
                           .save(updatedCart)
@@ -525,17 +606,13 @@ public class CartService {
                                   Fulfillment fulfillment =
                                       new Fulfillment(fulfillmentId, type, skus, cost);
 
-                                  List<Fulfillment> fulfillments =
-                                      new ArrayList<>(cart.fulfillments());
-                                  fulfillments.add(fulfillment);
-
-                                  Cart updatedCart = cart.withFulfillments(fulfillments);
+                                  Cart updatedCart = cart.withFulfillment(fulfillment);
                                   structuredLogger.logMessage(
                                       ctx,
                                       LOGGER_NAME,
-                                      String.format(
-                                          "Adding %s" + " fulfillment" + " to cart" + " %s",
-                                          type, cartId));
+                                      "Adding {} fulfillment to cart {}",
+                                      type,
+                                      cartId);
 
                                   return cartRepository
                                       .save(updatedCart)
@@ -603,18 +680,13 @@ public class CartService {
                                 Fulfillment updatedFulfillment =
                                     new Fulfillment(fulfillmentId, type, skus, cost);
 
-                                List<Fulfillment> fulfillments =
-                                    new ArrayList<>(cart.fulfillments());
-                                fulfillments.removeIf(f -> f.fulfillmentId().equals(fulfillmentId));
-                                fulfillments.add(updatedFulfillment);
-
-                                Cart updatedCart = cart.withFulfillments(fulfillments);
+                                Cart updatedCart = cart.withFulfillment(updatedFulfillment);
                                 structuredLogger.logMessage(
                                     ctx,
                                     LOGGER_NAME,
-                                    String.format(
-                                        "Updating" + " fulfillment" + " %s in cart" + " %s",
-                                        fulfillmentId, cartId));
+                                    "Updating fulfillment {} in cart {}",
+                                    fulfillmentId,
+                                    cartId);
 
                                 return cartRepository
                                     .save(updatedCart)
@@ -641,22 +713,20 @@ public class CartService {
             getCartOrError(cartId)
                 .flatMap(
                     cart -> {
-                      List<Fulfillment> fulfillments = new ArrayList<>(cart.fulfillments());
-                      boolean removed =
-                          fulfillments.removeIf(f -> f.fulfillmentId().equals(fulfillmentId));
+                      Cart updatedCart = cart.withoutFulfillment(fulfillmentId);
 
-                      if (!removed) {
+                      if (updatedCart == cart) {
                         return Mono.error(
                             new ResponseStatusException(
                                 HttpStatus.NOT_FOUND, "Fulfillment not found in cart"));
                       }
 
-                      Cart updatedCart = cart.withFulfillments(fulfillments);
                       structuredLogger.logMessage(
                           ctx,
                           LOGGER_NAME,
-                          String.format(
-                              "Removing fulfillment %s from cart %s", fulfillmentId, cartId));
+                          "Removing fulfillment {} from cart {}",
+                          fulfillmentId,
+                          cartId);
 
                       return cartRepository
                           .save(updatedCart)
@@ -697,8 +767,9 @@ public class CartService {
                   structuredLogger.logMessage(
                       ctx,
                       LOGGER_NAME,
-                      String.format(
-                          "Cart %s not found, auto-creating for store %d", cartId, storeNumber));
+                      "Cart {} not found, auto-creating for store {}",
+                      cartId,
+                      storeNumber);
                   Cart newCart = Cart.create(cartId, storeNumber, null);
                   return cartRepository
                       .save(newCart)
@@ -751,7 +822,8 @@ public class CartService {
               structuredLogger.logMessage(
                   reactor.util.context.Context.empty(),
                   LOGGER_NAME,
-                  "Failed to publish cart event: " + e.getMessage());
+                  "Failed to publish cart event: {}",
+                  e.getMessage());
               return Mono.empty();
             });
   }
@@ -1,10 +1,13 @@
 package org.example.cart.validation;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
 import org.example.cart.dto.AddFulfillmentRequest;
 import org.example.cart.dto.AddProductRequest;
+import org.example.cart.dto.AddProductsRequest;
 import org.example.cart.dto.ApplyDiscountRequest;
 import org.example.cart.dto.CreateCartRequest;
 import org.example.cart.dto.UpdateFulfillmentRequest;
@@ -29,6 +32,7 @@ public class CartRequestValidator {
   private static final int QUANTITY_MAX = 999;
   private static final long SKU_MIN = 100_000L;
   private static final long SKU_MAX = 999_999_999_999L;
+  private static final int BULK_ITEMS_MAX = 100;
 
   private static final Pattern UUID_PATTERN =
       Pattern.compile(
@@ -136,6 +140,54 @@ public class CartRequestValidator {
     return errors.isEmpty() ? Mono.empty() : Mono.error(new ValidationException(errors));
   }
 
+  /** Validate bulk add products request. */
+  public Mono<Void> validateAddProducts(
+      String cartId,
+      AddProductsRequest request,
+      int storeNumber,
+      String orderNumber,
+      String userId,
+      String sessionId) {
+    List<ValidationError> errors = new ArrayList<>();
+
+    validateCartId(cartId, errors);
+
+    if (request == null) {
+      errors.add(new ValidationError("body", "Request body is required"));
+    } else if (request.items() == null || request.items().isEmpty()) {
+      errors.add(new ValidationError("items", "At least one item is required"));
+    } else if (request.items().size() > BULK_ITEMS_MAX) {
+      errors.add(
+          new ValidationError("items", "At most " + BULK_ITEMS_MAX + " items are allowed"));
+    } else {
+      // Repeated SKUs are summed into one line, so the sum must stay within the limit too
+      Map<Long, Integer> combined = new HashMap<>();
+      for (int i = 0; i < request.items().size(); i++) {
+        AddProductRequest item = request.items().get(i);
+        if (item.sku() < SKU_MIN || item.sku() > SKU_MAX) {
+          errors.add(
+              new ValidationError(
+                  "items[" + i + "].sku", "SKU must be between " + SKU_MIN + " and " + SKU_MAX));
+        }
+        if (item.quantity() < QUANTITY_MIN || item.quantity() > QUANTITY_MAX) {
+          errors.add(
+              new ValidationError(
+                  "items[" + i + "].quantity",
+                  "Quantity must be between " + QUANTITY_MIN + " and " + QUANTITY_MAX));
+        } else if (combined.merge(item.sku(), item.quantity(), Integer::sum) > QUANTITY_MAX) {
+          errors.add(
+              new ValidationError(
+                  "items[" + i + "].quantity",
+                  "Combined quantity for SKU " + item.sku() + " must not exceed " + QUANTITY_MAX));
+        }
+      }
+    }
+
+    validateCommonHeaders(storeNumber, orderNumber, userId, sessionId, errors);
+
+    return errors.isEmpty() ? Mono.empty() : Mono.error(new ValidationException(errors));
+  }
+
   /** Validate update product request. */
   public Mono<Void> validateUpdateProduct(
       String cartId,
@@ -0,0 +1,144 @@
+-- Range-partition carts by month on updated_at.
+-- Updating a cart moves its row into the current month's partition, so older partitions only
+-- hold idle carts and can be detached by the reaper instead of deleted row by row.
+
+ALTER TABLE carts RENAME TO carts_unpartitioned;
+
+DROP INDEX IF EXISTS idx_carts_store_number;
+DROP INDEX IF EXISTS idx_carts_customer_id;
+DROP INDEX IF EXISTS idx_carts_updated_at;
+DROP INDEX IF EXISTS idx_carts_store_customer;
+
+-- Partition key must be part of the primary key on a partitioned table
+CREATE TABLE carts (
+    id UUID NOT NULL,
+    store_number INTEGER NOT NULL,
+    customer_id VARCHAR(255),
+    customer_json JSONB,
+    products_json JSONB NOT NULL DEFAULT '[]',
+    discounts_json JSONB NOT NULL DEFAULT '[]',
+    fulfillments_json JSONB NOT NULL DEFAULT '[]',
+    totals_json JSONB NOT NULL DEFAULT '{}',
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (id, updated_at)
+) PARTITION BY RANGE (updated_at);
+
+-- Catches rows outside the pre-created monthly range (e.g. clock skew)
+CREATE TABLE carts_default PARTITION OF carts DEFAULT;
+
+-- Index for finding carts by customer
+CREATE INDEX idx_carts_customer_id ON carts(customer_id);
+
+-- Index for the reaper's idle-cart scans
+CREATE INDEX idx_carts_updated_at ON carts(updated_at);
+
+-- Composite index for store + customer queries (also serves store-only lookups,
+-- which previously had their own idx_carts_store_number)
+CREATE INDEX idx_carts_store_customer ON carts(store_number, customer_id);
+
+-- Archive target for row-level reaping in ARCHIVE mode
+CREATE TABLE carts_archive (
+    id UUID NOT NULL,
+    store_number INTEGER NOT NULL,
+    customer_id VARCHAR(255),
+    customer_json JSONB,
+    products_json JSONB NOT NULL,
+    discounts_json JSONB NOT NULL,
+    fulfillments_json JSONB NOT NULL,
+    totals_json JSONB NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    archived_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW()
+);
+
+-- The primary key is (id, updated_at), so it does not stop two rows with the same id. cart_ids is
+-- a small unpartitioned table that owns id uniqueness: a cart row is only inserted in the same
+-- statement that claims its id here (see PostgresCartRepository).
+CREATE TABLE cart_ids (
+    id UUID PRIMARY KEY,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW()
+);
+
+-- Index for the reaper's sweep of ids whose cart has been reaped
+CREATE INDEX idx_cart_ids_created_at ON cart_ids(created_at);
+
+-- Creates monthly partitions (UTC month boundaries) named carts_pYYYYMM for every month in
+-- [from_month, to_month]. Returns the number of partitions created and, for each month skipped,
+-- "carts_pYYYYMM: <error>".
+--
+-- CREATE TABLE ... PARTITION OF fails while carts_default holds rows for the new month, so each
+-- partition is built as a standalone table, the month's rows are moved out of carts_default, and
+-- the table is then attached. Only a lock timeout or a partition-constraint violation (rows
+-- written to carts_default concurrently) skips a month; callers must treat a non-empty failed
+-- list as an error. Any other error aborts the call.
+CREATE OR REPLACE FUNCTION ensure_carts_partitions(
+    from_month DATE, to_month DATE, OUT created INTEGER, OUT failed TEXT[])
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    month_start DATE := date_trunc('month', from_month)::date;
+    range_start TIMESTAMP WITH TIME ZONE;
+    range_end TIMESTAMP WITH TIME ZONE;
+    partition_name TEXT;
+BEGIN
+    created := 0;
+    failed := ARRAY[]::TEXT[];
+    WHILE month_start <= to_month LOOP
+        partition_name := 'carts_p' || to_char(month_start, 'YYYYMM');
+        range_start := month_start::timestamp AT TIME ZONE 'UTC';
+        range_end := (month_start + INTERVAL '1 month')::timestamp AT TIME ZONE 'UTC';
+        IF to_regclass(partition_name) IS NULL THEN
+            BEGIN
+                EXECUTE format('CREATE TABLE %I (LIKE carts INCLUDING DEFAULTS)', partition_name);
+                EXECUTE format(
+                    'WITH moved AS ('
+                        || 'DELETE FROM carts_default WHERE updated_at >= %L AND updated_at < %L '
+                        || 'RETURNING *) '
+                        || 'INSERT INTO %I SELECT * FROM moved',
+                    range_start,
+                    range_end,
+                    partition_name);
+                EXECUTE format(
+                    'ALTER TABLE carts ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                    partition_name,
+                    range_start,
+                    range_end);
+                created := created + 1;
+            EXCEPTION WHEN lock_not_available OR check_violation THEN
+                failed := failed || format('%s: %s', partition_name, SQLERRM);
+            END;
+        END IF;
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+END;
+$$;
+
+-- Cover existing data plus three months ahead, then move the rows across. A skipped month would
+-- leave its rows in carts_default, so fail the migration instead.
+DO $$
+DECLARE
+    result RECORD;
+BEGIN
+    SELECT * INTO result FROM ensure_carts_partitions(
+        COALESCE(
+            (SELECT date_trunc('month', MIN(updated_at) AT TIME ZONE 'UTC')::date
+             FROM carts_unpartitioned),
+            date_trunc('month', NOW() AT TIME ZONE 'UTC')::date),
+        (date_trunc('month', NOW() AT TIME ZONE 'UTC') + INTERVAL '3 months')::date);
+    IF cardinality(result.failed) > 0 THEN
+        RAISE EXCEPTION 'Could not create carts partitions: %',
+            array_to_string(result.failed, '; ');
+    END IF;
+END;
+$$;
+
+INSERT INTO carts
+SELECT id, store_number, customer_id, customer_json, products_json, discounts_json,
+       fulfillments_json, totals_json, created_at, updated_at
+FROM carts_unpartitioned;
+
+INSERT INTO cart_ids (id, created_at)
+SELECT id, created_at FROM carts_unpartitioned;
+
+DROP TABLE carts_unpartitioned;
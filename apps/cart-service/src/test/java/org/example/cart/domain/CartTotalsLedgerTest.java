@@ -0,0 +1,190 @@
+package org.example.cart.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+import org.example.model.discount.AppliedDiscount;
+import org.example.model.discount.DiscountType;
+import org.example.model.fulfillment.Fulfillment;
+import org.example.model.fulfillment.FulfillmentType;
+import org.example.model.product.CartProduct;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Unit and property tests for CartTotalsLedger. The property tests apply random sequences of cart
+ * mutations through the delta methods and check every intermediate state against the reference
+ * {@link CartTotals#calculate} implementation. Seeds are fixed so failures are reproducible.
+ */
+class CartTotalsLedgerTest {
+
+  private static final int OPERATIONS_PER_SEED = 200;
+
+  static LongStream seeds() {
+    return LongStream.range(0, 50);
+  }
+
+  @Nested
+  class Conversion {
+
+    @Test
+    void empty_convertsToZeroTotals() {
+      CartTotals totals = CartTotalsLedger.empty().toCartTotals();
+
+      assertThat(totals.subtotal()).isEqualByComparingTo(BigDecimal.ZERO);
+      assertThat(totals.grandTotal()).isEqualByComparingTo(BigDecimal.ZERO);
+      assertThat(totals.subtotal().scale()).isEqualTo(2);
+    }
+
+    @Test
+    void toUnits_roundsHalfEvenBeyondFourDecimals() {
+      assertThat(CartTotalsLedger.toUnits(new BigDecimal("1.23455"))).isEqualTo(12346);
+      assertThat(CartTotalsLedger.toUnits(new BigDecimal("1.23465"))).isEqualTo(12346);
+      assertThat(CartTotalsLedger.toUnits(null)).isZero();
+    }
+
+    @Test
+    void toMoney_keepsAtLeastTwoDecimals() {
+      assertThat(CartTotalsLedger.toMoney(200_000)).hasToString("20.00");
+      assertThat(CartTotalsLedger.toMoney(9_990)).hasToString("0.999");
+    }
+
+    @Test
+    void grandTotal_isFlooredAtZero() {
+      CartTotalsLedger ledger =
+          CartTotalsLedger.empty()
+              .plusProduct(product(1L, "5.00", 1))
+              .plusDiscount(discount("d1", "20.00"));
+
+      assertThat(ledger.toCartTotals().grandTotal()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+  }
+
+  @Nested
+  class CartDeltas {
+
+    @Test
+    void withProduct_replacesExistingSkuAndAdjustsTotals() {
+      Cart cart =
+          Cart.create("c1", 100, null)
+              .withProduct(product(1L, "10.00", 2))
+              .withProduct(product(2L, "5.00", 1))
+              .withProduct(product(1L, "10.00", 5));
+
+      assertThat(cart.products()).hasSize(2);
+      assertThat(cart.itemCount()).isEqualTo(6);
+      assertThat(cart.totals().subtotal()).isEqualByComparingTo("55.00");
+    }
+
+    @Test
+    void withoutProduct_missingSku_returnsSameCart() {
+      Cart cart = Cart.create("c1", 100, null).withProduct(product(1L, "10.00", 2));
+
+      assertThat(cart.withoutProduct(99L)).isSameAs(cart);
+    }
+
+    @Test
+    void loadedCart_rebuildsLedgerFromLines() {
+      Cart loaded =
+          new Cart(
+              "c1",
+              100,
+              null,
+              null,
+              List.of(product(1L, "3.50", 4)),
+              List.of(discount("d1", "1.00")),
+              List.of(),
+              CartTotals.empty(),
+              null,
+              null);
+
+      assertThat(loaded.itemCount()).isEqualTo(4);
+      assertThat(loaded.ledger().toCartTotals().grandTotal()).isEqualByComparingTo("13.00");
+    }
+  }
+
+  @ParameterizedTest(name = "seed {0}")
+  @MethodSource("org.example.cart.domain.CartTotalsLedgerTest#seeds")
+  void randomMutations_matchReferenceCalculation(long seed) {
+    Random random = new Random(seed);
+    Cart cart = Cart.create("cart-" + seed, 100, null);
+
+    for (int i = 0; i < OPERATIONS_PER_SEED; i++) {
+      cart = mutate(cart, random);
+
+      CartTotals expected =
+          CartTotals.calculate(cart.products(), cart.discounts(), cart.fulfillments());
+      assertTotalsEqual(cart.totals(), expected);
+      assertThat(cart.itemCount())
+          .isEqualTo(cart.products().stream().mapToInt(CartProduct::quantity).sum());
+    }
+  }
+
+  @ParameterizedTest(name = "seed {0}")
+  @MethodSource("org.example.cart.domain.CartTotalsLedgerTest#seeds")
+  void incrementalLedger_equalsLedgerBuiltFromScratch(long seed) {
+    Random random = new Random(seed);
+    Cart cart = Cart.create("cart-" + seed, 100, null);
+
+    for (int i = 0; i < OPERATIONS_PER_SEED; i++) {
+      cart = mutate(cart, random);
+    }
+
+    assertThat(cart.ledger())
+        .isEqualTo(CartTotalsLedger.of(cart.products(), cart.discounts(), cart.fulfillments()));
+  }
+
+  // ==================== Generators ====================
+
+  private static Cart mutate(Cart cart, Random random) {
+    return switch (random.nextInt(8)) {
+      case 0, 1, 2 -> cart.withProduct(product(sku(random), price(random), 1 + random.nextInt(20)));
+      case 3 -> cart.withoutProduct(sku(random));
+      case 4 -> cart.withDiscount(discount("d" + random.nextInt(4), price(random)));
+      case 5 -> cart.withoutDiscount("d" + random.nextInt(4));
+      case 6 -> cart.withFulfillment(fulfillment("f" + random.nextInt(3), price(random)));
+      case 7 -> cart.withoutFulfillment("f" + random.nextInt(3));
+      default -> throw new IllegalStateException();
+    };
+  }
+
+  /** SKUs drawn from a small pool so replacements and removals hit existing lines. */
+  private static long sku(Random random) {
+    return 100_000L + random.nextInt(30);
+  }
+
+  /** Prices with 0-4 decimal places, the precision the ledger represents exactly. */
+  private static String price(Random random) {
+    int scale = random.nextInt(5);
+    long unscaled = random.nextLong(1, 10_000_000L);
+    return BigDecimal.valueOf(unscaled, scale).toPlainString();
+  }
+
+  private static void assertTotalsEqual(CartTotals actual, CartTotals expected) {
+    assertThat(actual.subtotal()).isEqualByComparingTo(expected.subtotal());
+    assertThat(actual.discountTotal()).isEqualByComparingTo(expected.discountTotal());
+    assertThat(actual.fulfillmentTotal()).isEqualByComparingTo(expected.fulfillmentTotal());
+    assertThat(actual.taxTotal()).isEqualByComparingTo(expected.taxTotal());
+    assertThat(actual.grandTotal()).isEqualByComparingTo(expected.grandTotal());
+  }
+
+  private static CartProduct product(long sku, String price, int quantity) {
+    return new CartProduct(
+        sku, "Product " + sku, null, new BigDecimal(price), null, quantity, 100, null, "General");
+  }
+
+  private static AppliedDiscount discount(String id, String savings) {
+    return new AppliedDiscount(
+        id, id.toUpperCase(), DiscountType.FIXED_AMOUNT, null, new BigDecimal(savings), List.of());
+  }
+
+  private static Fulfillment fulfillment(String id, String cost) {
+    return new Fulfillment(id, FulfillmentType.DELIVERY, new ArrayList<>(), new BigDecimal(cost));
+  }
+}
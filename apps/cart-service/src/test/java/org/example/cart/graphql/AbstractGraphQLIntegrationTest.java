@@ -1,11 +1,12 @@
 package org.example.cart.graphql;
 
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import org.example.cart.repository.customer.CustomerRepository;
 import org.example.cart.repository.discount.DiscountRepository;
@@ -36,6 +37,7 @@ import org.springframework.test.web.reactive.server.WebTestClient;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.utility.DockerImageName;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -95,7 +97,7 @@ public abstract class AbstractGraphQLIntegrationTest {
               String customerId = invocation.getArgument(0);
               return Mono.just(new CartCustomer(customerId, "Test Customer", "test@example.com"));
             });
-    when(productRepository.getProduct(anyLong(), anyInt(), any(), any(), any()))
+    when(productRepository.getProduct(anyLong()))
         .thenAnswer(
             invocation -> {
               long sku = invocation.getArgument(0);
@@ -110,6 +112,23 @@ public abstract class AbstractGraphQLIntegrationTest {
                       "https://cdn.example.com/test.jpg",
                       "General"));
             });
+    when(productRepository.getProducts(anyCollection()))
+        .thenAnswer(
+            invocation -> {
+              Collection<Long> skus = invocation.getArgument(0);
+              return Flux.fromIterable(skus)
+                  .map(
+                      sku ->
+                          Product.create(
+                              sku,
+                              "Test Product",
+                              "Test Description",
+                              new BigDecimal("9.99"),
+                              null,
+                              100,
+                              "https://cdn.example.com/test.jpg",
+                              "General"));
+            });
     when(discountRepository.validateDiscount(any()))
         .thenAnswer(
             invocation -> {
@@ -2,6 +2,8 @@ package org.example.cart.graphql;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.springframework.security.test.context.support.WithMockUser;
@@ -195,6 +197,86 @@ class CartMutationControllerTest extends AbstractGraphQLIntegrationTest {
         .valueIsNull();
   }
 
+  @Test
+  @WithMockUser(authorities = "SCOPE_cart:write")
+  void shouldAddMultipleProductsInOneMutation() {
+    String cartId =
+        graphQlTester
+            .document(
+                """
+                mutation {
+                    createCart(input: { storeNumber: 100 }) {
+                        id
+                    }
+                }
+                """)
+            .execute()
+            .path("createCart.id")
+            .entity(String.class)
+            .get();
+
+    graphQlTester
+        .document(
+            """
+            mutation AddProducts($cartId: ID!, $input: AddProductsInput!) {
+                addProducts(cartId: $cartId, input: $input) {
+                    id
+                    itemCount
+                    products {
+                        sku
+                        quantity
+                    }
+                    totals {
+                        subtotal
+                    }
+                }
+            }
+            """)
+        .variable("cartId", cartId)
+        .variable(
+            "input",
+            Map.of(
+                "items",
+                List.of(
+                    Map.of("sku", "100001", "quantity", 2),
+                    Map.of("sku", "100002", "quantity", 1),
+                    Map.of("sku", "100001", "quantity", 1))))
+        .execute()
+        .path("addProducts.products")
+        .entityList(Object.class)
+        .hasSize(2)
+        .path("addProducts.itemCount")
+        .entity(Integer.class)
+        .isEqualTo(4)
+        .path("addProducts.totals.subtotal")
+        .entity(String.class)
+        .satisfies(subtotal -> assertThat(new BigDecimal(subtotal)).isEqualByComparingTo("39.96"));
+  }
+
+  @Test
+  @WithMockUser(authorities = "SCOPE_cart:write")
+  void shouldValidateAddProductsInput() {
+    graphQlTester
+        .document(
+            """
+            mutation {
+                addProducts(
+                    cartId: "550e8400-e29b-41d4-a716-446655440000",
+                    input: { items: [] }
+                ) {
+                    id
+                }
+            }
+            """)
+        .execute()
+        .errors()
+        .satisfy(
+            errors -> {
+              assertThat(errors).hasSize(1);
+              assertThat(errors.get(0).getMessage()).contains("Validation failed");
+            });
+  }
+
   // Note: Authentication tests are in CartControllerSecurityTest
   // This test class has security disabled (app.security.enabled=false) to focus on GraphQL
   // functionality
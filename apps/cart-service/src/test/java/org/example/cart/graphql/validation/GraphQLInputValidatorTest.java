@@ -3,6 +3,7 @@ package org.example.cart.graphql.validation;
 import java.util.List;
 import org.example.cart.graphql.input.AddFulfillmentInput;
 import org.example.cart.graphql.input.AddProductInput;
+import org.example.cart.graphql.input.AddProductsInput;
 import org.example.cart.graphql.input.CreateCartInput;
 import org.example.cart.graphql.input.SetCustomerInput;
 import org.example.model.fulfillment.FulfillmentType;
@@ -155,6 +156,35 @@ class GraphQLInputValidatorTest {
                                       && err.message().contains("number")))
           .verify();
     }
+
+    @Test
+    void shouldRejectRepeatedSkuOverQuantityLimit() {
+      var input =
+          new AddProductsInput(
+              List.of(new AddProductInput("123456", 999), new AddProductInput("123456", 1)));
+      StepVerifier.create(validator.validateAddProducts(VALID_CART_ID, input))
+          .expectErrorMatches(
+              e ->
+                  e instanceof ValidationException ve
+                      && ve.getErrors().size() == 1
+                      && ve.getErrors().get(0).field().equals("input.items[1].quantity"))
+          .verify();
+    }
+
+    @Test
+    void shouldCombineSkusWrittenWithLeadingZeros() {
+      // Both parse to the same SKU, which the cart stores as one line
+      var input =
+          new AddProductsInput(
+              List.of(new AddProductInput("123456", 999), new AddProductInput("0123456", 1)));
+      StepVerifier.create(validator.validateAddProducts(VALID_CART_ID, input))
+          .expectErrorMatches(
+              e ->
+                  e instanceof ValidationException ve
+                      && ve.getErrors().size() == 1
+                      && ve.getErrors().get(0).message().contains("SKU 123456"))
+          .verify();
+    }
   }
 
   @Nested
@@ -20,6 +20,7 @@ import org.testcontainers.utility.DockerImageName;
       // Disable database-related features
       "spring.r2dbc.url=r2dbc:h2:mem:///testdb;DB_CLOSE_DELAY=-1",
       "spring.flyway.enabled=false",
+      "cart.retention.enabled=false",
       // Disable security for tests
       "app.security.enabled=false",
       // Disable audit for tests
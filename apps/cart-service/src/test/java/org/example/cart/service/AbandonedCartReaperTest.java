@@ -0,0 +1,129 @@
+package org.example.cart.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.YearMonth;
+import org.example.cart.config.CartRetentionProperties;
+import org.example.cart.config.CartRetentionProperties.Mode;
+import org.example.cart.repository.CartRetentionRepository;
+import org.example.cart.repository.CartRetentionRepository.CartPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class AbandonedCartReaperTest {
+
+  @Mock private CartRetentionRepository retentionRepository;
+
+  private CartRetentionProperties properties;
+  private SimpleMeterRegistry meterRegistry;
+  private AbandonedCartReaper reaper;
+
+  @BeforeEach
+  void setUp() {
+    properties = new CartRetentionProperties();
+    properties.setTtl(Duration.ofDays(30));
+    properties.setBatchSize(100);
+    properties.setMaxBatchesPerRun(3);
+    meterRegistry = new SimpleMeterRegistry();
+    reaper = new AbandonedCartReaper(retentionRepository, properties, meterRegistry);
+
+    when(retentionRepository.releaseOrphanedIds(any(), anyInt())).thenReturn(Mono.just(0L));
+  }
+
+  @Test
+  void run_detachesOnlyPartitionsEntirelyOlderThanTtl() {
+    CartPartition expired = new CartPartition("carts_p200001", YearMonth.of(2000, 1));
+    CartPartition current = new CartPartition("carts_p999912", YearMonth.of(9999, 12));
+    when(retentionRepository.findMonthlyPartitions()).thenReturn(Flux.just(expired, current));
+    when(retentionRepository.estimateRows(expired)).thenReturn(Mono.just(42L));
+    when(retentionRepository.detachPartition(expired, Mode.DELETE)).thenReturn(Mono.empty());
+    when(retentionRepository.reapBatch(any(), eq(100), eq(Mode.DELETE)))
+        .thenReturn(Mono.just(0L));
+
+    StepVerifier.create(reaper.run())
+        .assertNext(
+            result -> {
+              assertThat(result.partitionsDetached()).isEqualTo(1);
+              assertThat(result.partitionRows()).isEqualTo(42);
+              assertThat(result.batchRows()).isZero();
+            })
+        .verifyComplete();
+
+    verify(retentionRepository, never()).detachPartition(eq(current), any());
+  }
+
+  @Test
+  void run_reapsBatchesUntilShortBatch() {
+    when(retentionRepository.findMonthlyPartitions()).thenReturn(Flux.empty());
+    when(retentionRepository.reapBatch(any(), eq(100), eq(Mode.DELETE)))
+        .thenReturn(Mono.just(100L), Mono.just(30L));
+
+    StepVerifier.create(reaper.run())
+        .assertNext(result -> assertThat(result.batchRows()).isEqualTo(130))
+        .verifyComplete();
+
+    verify(retentionRepository, times(2)).reapBatch(any(), eq(100), eq(Mode.DELETE));
+  }
+
+  @Test
+  void run_stopsAtMaxBatchesPerRun() {
+    when(retentionRepository.findMonthlyPartitions()).thenReturn(Flux.empty());
+    when(retentionRepository.reapBatch(any(), eq(100), eq(Mode.DELETE)))
+        .thenReturn(Mono.just(100L));
+
+    StepVerifier.create(reaper.run())
+        .assertNext(result -> assertThat(result.batchRows()).isEqualTo(300))
+        .verifyComplete();
+
+    verify(retentionRepository, times(3)).reapBatch(any(), eq(100), eq(Mode.DELETE));
+  }
+
+  @Test
+  void run_releasesIdsOfReapedCartsInBatches() {
+    when(retentionRepository.findMonthlyPartitions()).thenReturn(Flux.empty());
+    when(retentionRepository.reapBatch(any(), eq(100), eq(Mode.DELETE)))
+        .thenReturn(Mono.just(0L));
+    when(retentionRepository.releaseOrphanedIds(any(), anyInt()))
+        .thenReturn(Mono.just(100L), Mono.just(5L));
+
+    StepVerifier.create(reaper.run())
+        .assertNext(result -> assertThat(result.idsReleased()).isEqualTo(105))
+        .verifyComplete();
+
+    verify(retentionRepository, times(2)).releaseOrphanedIds(any(), eq(100));
+  }
+
+  @Test
+  void run_recordsReclaimedRowsAndDuration() {
+    when(retentionRepository.findMonthlyPartitions()).thenReturn(Flux.empty());
+    when(retentionRepository.reapBatch(any(), eq(100), eq(Mode.DELETE)))
+        .thenReturn(Mono.just(7L));
+
+    StepVerifier.create(reaper.run()).expectNextCount(1).verifyComplete();
+
+    assertThat(
+            meterRegistry
+                .get("cart.reaper.rows.reclaimed")
+                .tag("source", "batch")
+                .counter()
+                .count())
+        .isEqualTo(7.0);
+    assertThat(meterRegistry.get("cart.reaper.run.duration").timer().count()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,75 @@
+package org.example.cart.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.example.cart.config.CartPartitionProperties;
+import org.example.cart.repository.CartRetentionRepository;
+import org.example.cart.repository.CartRetentionRepository.PartitionsEnsured;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class CartPartitionMaintainerTest {
+
+  @Mock private CartRetentionRepository retentionRepository;
+
+  private CartPartitionProperties properties;
+  private SimpleMeterRegistry meterRegistry;
+  private CartPartitionMaintainer maintainer;
+
+  @BeforeEach
+  void setUp() {
+    properties = new CartPartitionProperties();
+    properties.setMonthsAhead(4);
+    meterRegistry = new SimpleMeterRegistry();
+    maintainer = new CartPartitionMaintainer(retentionRepository, properties, meterRegistry);
+  }
+
+  @Test
+  void run_createsPartitionsForConfiguredMonthsAhead() {
+    when(retentionRepository.ensurePartitions(4))
+        .thenReturn(Mono.just(new PartitionsEnsured(2, List.of())));
+
+    StepVerifier.create(maintainer.run()).expectNext(2).verifyComplete();
+
+    verify(retentionRepository).ensurePartitions(4);
+    assertThat(meterRegistry.get("cart.partitions.created").counter().count()).isEqualTo(2.0);
+  }
+
+  @Test
+  void run_failsWhenPartitionsAreSkipped() {
+    when(retentionRepository.ensurePartitions(4))
+        .thenReturn(
+            Mono.just(
+                new PartitionsEnsured(
+                    1, List.of("carts_p203001: canceling statement due to lock timeout"))));
+
+    StepVerifier.create(maintainer.run())
+        .expectErrorSatisfies(
+            error ->
+                assertThat(error)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("carts_p203001"))
+        .verify();
+
+    assertThat(meterRegistry.get("cart.partitions.created").counter().count()).isEqualTo(1.0);
+    assertThat(meterRegistry.get("cart.partitions.failed").counter().count()).isEqualTo(1.0);
+  }
+
+  @Test
+  void run_propagatesFailure() {
+    when(retentionRepository.ensurePartitions(4))
+        .thenReturn(Mono.error(new IllegalStateException("connection refused")));
+
+    StepVerifier.create(maintainer.run()).verifyError(IllegalStateException.class);
+  }
+}
@@ -2,7 +2,9 @@ package org.example.cart.validation;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.List;
 import org.example.cart.dto.AddProductRequest;
+import org.example.cart.dto.AddProductsRequest;
 import org.example.cart.dto.ApplyDiscountRequest;
 import org.example.cart.dto.CreateCartRequest;
 import org.example.cart.dto.UpdateProductRequest;
@@ -179,6 +181,96 @@ class CartRequestValidatorTest {
     }
   }
 
+  @Nested
+  class AddProductsValidation {
+
+    @Test
+    void validRequest_succeeds() {
+      AddProductsRequest request =
+          new AddProductsRequest(
+              List.of(
+                  new AddProductRequest(VALID_SKU, VALID_QUANTITY),
+                  new AddProductRequest(234567L, 2)));
+
+      StepVerifier.create(
+              validator.validateAddProducts(
+                  VALID_UUID, request, VALID_STORE, VALID_UUID, VALID_USER_ID, VALID_UUID))
+          .verifyComplete();
+    }
+
+    @Test
+    void emptyItems_fails() {
+      AddProductsRequest request = new AddProductsRequest(List.of());
+
+      StepVerifier.create(
+              validator.validateAddProducts(
+                  VALID_UUID, request, VALID_STORE, VALID_UUID, VALID_USER_ID, VALID_UUID))
+          .expectErrorSatisfies(
+              error -> {
+                assertThat(error).isInstanceOf(ValidationException.class);
+                ValidationException ve = (ValidationException) error;
+                assertThat(ve.getErrors()).anyMatch(e -> e.field().equals("items"));
+              })
+          .verify();
+    }
+
+    @Test
+    void invalidItem_reportsIndexedField() {
+      AddProductsRequest request =
+          new AddProductsRequest(
+              List.of(
+                  new AddProductRequest(VALID_SKU, VALID_QUANTITY),
+                  new AddProductRequest(1L, 0)));
+
+      StepVerifier.create(
+              validator.validateAddProducts(
+                  VALID_UUID, request, VALID_STORE, VALID_UUID, VALID_USER_ID, VALID_UUID))
+          .expectErrorSatisfies(
+              error -> {
+                ValidationException ve = (ValidationException) error;
+                assertThat(ve.getErrors())
+                    .anyMatch(e -> e.field().equals("items[1].sku"))
+                    .anyMatch(e -> e.field().equals("items[1].quantity"));
+              })
+          .verify();
+    }
+
+    @Test
+    void repeatedSkuOverQuantityLimit_fails() {
+      AddProductsRequest request =
+          new AddProductsRequest(
+              List.of(
+                  new AddProductRequest(VALID_SKU, 999),
+                  new AddProductRequest(VALID_SKU, 999)));
+
+      StepVerifier.create(
+              validator.validateAddProducts(
+                  VALID_UUID, request, VALID_STORE, VALID_UUID, VALID_USER_ID, VALID_UUID))
+          .expectErrorSatisfies(
+              error -> {
+                ValidationException ve = (ValidationException) error;
+                assertThat(ve.getErrors())
+                    .singleElement()
+                    .satisfies(e -> assertThat(e.field()).isEqualTo("items[1].quantity"));
+              })
+          .verify();
+    }
+
+    @Test
+    void repeatedSkuWithinQuantityLimit_succeeds() {
+      AddProductsRequest request =
+          new AddProductsRequest(
+              List.of(
+                  new AddProductRequest(VALID_SKU, 500),
+                  new AddProductRequest(VALID_SKU, 499)));
+
+      StepVerifier.create(
+              validator.validateAddProducts(
+                  VALID_UUID, request, VALID_STORE, VALID_UUID, VALID_USER_ID, VALID_UUID))
+          .verifyComplete();
+    }
+  }
+
   @Nested
   class UpdateProductValidation {
 
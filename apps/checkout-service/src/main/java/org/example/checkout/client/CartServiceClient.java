@@ -5,8 +5,8 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
 import org.example.platform.resilience.ReactiveResilience;
-import org.example.platform.webflux.context.ContextKeys;
-import org.example.platform.webflux.context.RequestMetadata;
+import org.example.platform.webflux.client.ServiceWebClientFactory;
+import org.example.platform.webflux.context.RequestMetadataExtractor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -22,40 +22,31 @@ public class CartServiceClient {
   private final ReactiveResilience reactiveResilience;
 
   public CartServiceClient(
-      WebClient.Builder webClientBuilder,
+      ServiceWebClientFactory webClientFactory,
       @Value("${services.cart.base-url:http://localhost:8082}") String baseUrl,
       ReactiveResilience reactiveResilience) {
-    this.webClient = webClientBuilder.baseUrl(baseUrl).build();
+    this.webClient = webClientFactory.builder(RESILIENCE_NAME, baseUrl).build();
     this.reactiveResilience = reactiveResilience;
   }
 
   /**
-   * Fetch cart by ID with full details. Propagates request headers from Reactor Context.
+   * Fetch cart by ID with full details. The other request headers are propagated from the Reactor
+   * Context by the client's metadata filter.
    *
    * @param cartId the cart ID
    * @param storeNumber the store number for validation
    * @return the cart details
    */
   public Mono<CartDetails> getCart(String cartId, int storeNumber) {
-    return Mono.deferContextual(
-        ctx -> {
-          RequestMetadata metadata = ctx.getOrDefault(ContextKeys.METADATA, null);
-
-          WebClient.RequestHeadersSpec<?> spec = webClient.get().uri("/carts/{cartId}", cartId);
-
-          // Add required headers - propagate from context if available
-          spec = spec.header("x-store-number", String.valueOf(storeNumber));
-
-          if (metadata != null) {
-            spec = spec.header("x-order-number", metadata.orderNumber());
-            spec = spec.header("x-userid", metadata.userId());
-            spec = spec.header("x-sessionid", metadata.sessionId());
-          }
-
-          Mono<CartDetails> request = spec.retrieve().bodyToMono(CartDetails.class);
+    Mono<CartDetails> request =
+        webClient
+            .get()
+            .uri("/carts/{cartId}", cartId)
+            .header(RequestMetadataExtractor.HEADER_STORE_NUMBER, Integer.toString(storeNumber))
+            .retrieve()
+            .bodyToMono(CartDetails.class);
 
-          return reactiveResilience.decorate(RESILIENCE_NAME, request);
-        });
+    return reactiveResilience.decorate(RESILIENCE_NAME, request);
   }
 
   /**
@@ -3,6 +3,7 @@ package org.example.checkout.client;
 import java.math.BigDecimal;
 import java.util.List;
 import org.example.platform.resilience.ReactiveResilience;
+import org.example.platform.webflux.client.ServiceWebClientFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -18,10 +19,10 @@ public class DiscountServiceClient {
   private final ReactiveResilience reactiveResilience;
 
   public DiscountServiceClient(
-      WebClient.Builder webClientBuilder,
+      ServiceWebClientFactory webClientFactory,
       @Value("${services.discount.base-url:http://localhost:8084}") String baseUrl,
       ReactiveResilience reactiveResilience) {
-    this.webClient = webClientBuilder.baseUrl(baseUrl).build();
+    this.webClient = webClientFactory.builder(RESILIENCE_NAME, baseUrl).build();
     this.reactiveResilience = reactiveResilience;
   }
 
@@ -7,6 +7,7 @@ import java.util.UUID;
 import org.example.model.order.DeliveryAddress;
 import org.example.model.order.FulfillmentType;
 import org.example.platform.resilience.ReactiveResilience;
+import org.example.platform.webflux.client.ServiceWebClientFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -22,10 +23,10 @@ public class FulfillmentServiceClient {
   private final ReactiveResilience reactiveResilience;
 
   public FulfillmentServiceClient(
-      WebClient.Builder webClientBuilder,
+      ServiceWebClientFactory webClientFactory,
       @Value("${services.fulfillment.base-url:http://localhost:8085}") String baseUrl,
       ReactiveResilience reactiveResilience) {
-    this.webClient = webClientBuilder.baseUrl(baseUrl).build();
+    this.webClient = webClientFactory.builder(RESILIENCE_NAME, baseUrl).build();
     this.reactiveResilience = reactiveResilience;
   }
 
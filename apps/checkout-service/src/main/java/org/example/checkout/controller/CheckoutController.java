@@ -9,16 +9,12 @@ import org.example.checkout.validation.CheckoutRequestValidator;
 import org.example.platform.logging.RequestLogData;
 import org.example.platform.logging.ResponseLogData;
 import org.example.platform.logging.StructuredLogger;
-import org.example.platform.webflux.context.ContextKeys;
 import org.example.platform.webflux.context.RequestMetadata;
-import org.example.platform.webflux.context.RequestMetadataExtractor;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import reactor.core.publisher.Mono;
@@ -53,24 +49,21 @@ public class CheckoutController {
   @PreAuthorize("hasAuthority('SCOPE_checkout:write')")
   public Mono<CheckoutSummaryResponse> initiateCheckout(
       @RequestBody InitiateCheckoutRequest request,
-      @RequestHeader HttpHeaders headers,
+      RequestMetadata metadata,
       ServerHttpRequest httpRequest) {
-    RequestMetadata metadata = RequestMetadataExtractor.fromHeaders(headers);
-
     return Mono.deferContextual(
-            ctx -> {
-              logRequest(ctx, httpRequest);
-              return validator
-                  .validateInitiateCheckout(
-                      request,
-                      metadata.storeNumber(),
-                      metadata.orderNumber(),
-                      metadata.userId(),
-                      metadata.sessionId())
-                  .then(checkoutService.initiateCheckout(request, metadata.storeNumber()))
-                  .doOnSuccess(response -> logResponse(ctx, httpRequest, 200, response));
-            })
-        .contextWrite(ContextKeys.fromHeaders(headers));
+        ctx -> {
+          logRequest(ctx, httpRequest);
+          return validator
+              .validateInitiateCheckout(
+                  request,
+                  metadata.storeNumber(),
+                  metadata.orderNumber(),
+                  metadata.userId(),
+                  metadata.sessionId())
+              .then(checkoutService.initiateCheckout(request, metadata.storeNumber()))
+              .doOnSuccess(response -> logResponse(ctx, httpRequest, 200, response));
+        });
   }
 
   /**
@@ -83,24 +76,21 @@ public class CheckoutController {
   @PreAuthorize("hasAuthority('SCOPE_checkout:write')")
   public Mono<OrderResponse> completeCheckout(
       @RequestBody CompleteCheckoutRequest request,
-      @RequestHeader HttpHeaders headers,
+      RequestMetadata metadata,
       ServerHttpRequest httpRequest) {
-    RequestMetadata metadata = RequestMetadataExtractor.fromHeaders(headers);
-
     return Mono.deferContextual(
-            ctx -> {
-              logRequest(ctx, httpRequest);
-              return validator
-                  .validateCompleteCheckout(
-                      request,
-                      metadata.storeNumber(),
-                      metadata.orderNumber(),
-                      metadata.userId(),
-                      metadata.sessionId())
-                  .then(checkoutService.completeCheckout(request, metadata.storeNumber()))
-                  .doOnSuccess(response -> logResponse(ctx, httpRequest, 201, response));
-            })
-        .contextWrite(ContextKeys.fromHeaders(headers));
+        ctx -> {
+          logRequest(ctx, httpRequest);
+          return validator
+              .validateCompleteCheckout(
+                  request,
+                  metadata.storeNumber(),
+                  metadata.orderNumber(),
+                  metadata.userId(),
+                  metadata.sessionId())
+              .then(checkoutService.completeCheckout(request, metadata.storeNumber()))
+              .doOnSuccess(response -> logResponse(ctx, httpRequest, 201, response));
+        });
   }
 
   // NOTE: Order query APIs (/orders, /orders/{orderId}) have been removed.
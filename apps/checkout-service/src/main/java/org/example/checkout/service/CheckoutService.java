@@ -1,5 +1,6 @@
 package org.example.checkout.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -38,6 +39,7 @@ import org.example.model.order.PaymentStatus;
 import org.example.platform.logging.StructuredLogger;
 import org.example.platform.webflux.context.ContextKeys;
 import org.example.platform.webflux.context.RequestMetadata;
+import org.example.platform.webflux.metrics.StageTimer;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
@@ -59,6 +61,8 @@ public class CheckoutService {
   private final PaymentGatewayClient paymentGatewayClient;
   private final CartValidator cartValidator;
   private final StructuredLogger structuredLogger;
+  private final StageTimer initiateTimer;
+  private final StageTimer completeTimer;
 
   public CheckoutService(
       CheckoutTransactionRepository transactionRepository,
@@ -69,7 +73,8 @@ public class CheckoutService {
       FulfillmentServiceClient fulfillmentServiceClient,
       PaymentGatewayClient paymentGatewayClient,
       CartValidator cartValidator,
-      StructuredLogger structuredLogger) {
+      StructuredLogger structuredLogger,
+      MeterRegistry meterRegistry) {
     this.transactionRepository = transactionRepository;
     this.sessionRepository = sessionRepository;
     this.eventPublisher = eventPublisher;
@@ -79,6 +84,8 @@ public class CheckoutService {
     this.paymentGatewayClient = paymentGatewayClient;
     this.cartValidator = cartValidator;
     this.structuredLogger = structuredLogger;
+    this.initiateTimer = new StageTimer(meterRegistry, "checkout.initiateCheckout");
+    this.completeTimer = new StageTimer(meterRegistry, "checkout.completeCheckout");
   }
 
   /**
@@ -91,40 +98,58 @@ public class CheckoutService {
    */
   public Mono<CheckoutSummaryResponse> initiateCheckout(
       InitiateCheckoutRequest request, int storeNumber) {
-    return Mono.deferContextual(
-        ctx -> {
-          RequestMetadata metadata = ctx.getOrDefault(ContextKeys.METADATA, null);
-          String orderNumber =
-              metadata != null ? metadata.orderNumber() : UUID.randomUUID().toString();
-
-          structuredLogger.logMessage(
-              ctx,
-              LOGGER_NAME,
-              String.format(
-                  "Initiating checkout for cart %s, store %d", request.cartId(), storeNumber));
-
-          // Step 1: Fetch and validate cart
-          return cartServiceClient
-              .getCart(request.cartId(), storeNumber)
-              .flatMap(
-                  cart -> cartValidator.validateForCheckout(cart, storeNumber).thenReturn(cart))
-              // Step 2: Validate and calculate discounts
-              .flatMap(cart -> validateDiscounts(cart).thenReturn(cart))
-              // Step 3: Create fulfillment reservation
-              .flatMap(
-                  cart ->
-                      createReservation(cart, request, storeNumber)
-                          .map(reservationId -> new CartWithReservation(cart, reservationId)))
-              // Step 4: Build checkout summary
-              .flatMap(
-                  cartWithRes ->
-                      buildCheckoutSummary(
-                          cartWithRes.cart(),
-                          cartWithRes.reservationId(),
-                          request,
-                          storeNumber,
-                          orderNumber));
-        });
+    return initiateTimer.time(
+        StageTimer.TOTAL,
+        Mono.deferContextual(
+            ctx -> {
+              RequestMetadata metadata = ctx.getOrDefault(ContextKeys.METADATA, null);
+              String orderNumber =
+                  metadata != null ? metadata.orderNumber() : UUID.randomUUID().toString();
+
+              structuredLogger.logMessage(
+                  ctx,
+                  LOGGER_NAME,
+                  "Initiating checkout for cart {}, store {}",
+                  request.cartId(),
+                  storeNumber);
+
+              // Step 1: Fetch and validate cart
+              return initiateTimer
+                  .time(
+                      "cart.load",
+                      cartServiceClient
+                          .getCart(request.cartId(), storeNumber)
+                          .flatMap(
+                              cart ->
+                                  cartValidator
+                                      .validateForCheckout(cart, storeNumber)
+                                      .thenReturn(cart)))
+                  // Step 2: Validate and calculate discounts
+                  .flatMap(
+                      cart ->
+                          initiateTimer
+                              .time("discount.validate", validateDiscounts(cart))
+                              .thenReturn(cart))
+                  // Step 3: Create fulfillment reservation
+                  .flatMap(
+                      cart ->
+                          initiateTimer
+                              .time(
+                                  "fulfillment.reserve",
+                                  createReservation(cart, request, storeNumber))
+                              .map(reservationId -> new CartWithReservation(cart, reservationId)))
+                  // Step 4: Build checkout summary and store the session
+                  .flatMap(
+                      cartWithRes ->
+                          initiateTimer.time(
+                              "persist",
+                              buildCheckoutSummary(
+                                  cartWithRes.cart(),
+                                  cartWithRes.reservationId(),
+                                  request,
+                                  storeNumber,
+                                  orderNumber)));
+            }));
   }
 
   /**
@@ -135,53 +160,60 @@ public class CheckoutService {
    * @return the completed order
    */
   public Mono<OrderResponse> completeCheckout(CompleteCheckoutRequest request, int storeNumber) {
-    return Mono.deferContextual(
-        ctx -> {
-          RequestMetadata metadata = ctx.getOrDefault(ContextKeys.METADATA, null);
-          String userId = metadata != null ? metadata.userId() : "";
-          String sessionId = metadata != null ? metadata.sessionId() : "";
-
-          structuredLogger.logMessage(
-              ctx,
-              LOGGER_NAME,
-              String.format(
-                  "Completing checkout for session %s, store %d",
-                  request.checkoutSessionId(), storeNumber));
-
-          // Step 1: Retrieve and validate checkout session
-          return getCheckoutSession(request.checkoutSessionId())
-              .flatMap(session -> validateSession(session, storeNumber))
-              // Step 2: Process payment
-              .flatMap(
-                  session ->
-                      processPayment(request, session, storeNumber)
-                          .map(paymentRef -> new SessionWithPayment(session, paymentRef)))
-              // Step 3: Create and persist order
-              .flatMap(
-                  sessionWithPayment ->
-                      createOrder(
-                          sessionWithPayment.session(),
-                          sessionWithPayment.paymentReference(),
-                          request.paymentMethod(),
-                          userId,
-                          sessionId != null ? UUID.fromString(sessionId) : null))
-              // Step 4: Mark cart as completed
-              .flatMap(
-                  order ->
-                      markCartCompleted(order)
-                          .thenReturn(order)
-                          .onErrorResume(
-                              e -> {
-                                // Log error but don't fail - cart completion is best effort
-                                structuredLogger.logMessage(
-                                    ctx,
-                                    LOGGER_NAME,
-                                    "Failed to mark cart completed: " + e.getMessage());
-                                return Mono.just(order);
-                              }))
-              // Step 5: Return order response
-              .map(OrderResponse::fromOrder);
-        });
+    return completeTimer.time(
+        StageTimer.TOTAL,
+        Mono.deferContextual(
+            ctx -> {
+              RequestMetadata metadata = ctx.getOrDefault(ContextKeys.METADATA, null);
+              String userId = metadata != null ? metadata.userId() : "";
+              String sessionId = metadata != null ? metadata.sessionId() : "";
+
+              structuredLogger.logMessage(
+                  ctx,
+                  LOGGER_NAME,
+                  "Completing checkout for session {}, store {}",
+                  request.checkoutSessionId(),
+                  storeNumber);
+
+              // Step 1: Retrieve and validate checkout session
+              return completeTimer
+                  .time(
+                      "session.load",
+                      getCheckoutSession(request.checkoutSessionId())
+                          .flatMap(session -> validateSession(session, storeNumber)))
+                  // Step 2: Process payment
+                  .flatMap(
+                      session ->
+                          completeTimer
+                              .time("payment", processPayment(request, session, storeNumber))
+                              .map(paymentRef -> new SessionWithPayment(session, paymentRef)))
+                  // Step 3: Create and persist order
+                  .flatMap(
+                      sessionWithPayment ->
+                          createOrder(
+                              sessionWithPayment.session(),
+                              sessionWithPayment.paymentReference(),
+                              request.paymentMethod(),
+                              userId,
+                              sessionId != null ? UUID.fromString(sessionId) : null))
+                  // Step 4: Mark cart as completed
+                  .flatMap(
+                      order ->
+                          markCartCompleted(order)
+                              .thenReturn(order)
+                              .onErrorResume(
+                                  e -> {
+                                    // Log error but don't fail - cart completion is best effort
+                                    structuredLogger.logMessage(
+                                        ctx,
+                                        LOGGER_NAME,
+                                        "Failed to mark cart completed: {}",
+                                        e.getMessage());
+                                    return Mono.just(order);
+                                  }))
+                  // Step 5: Return order response
+                  .map(OrderResponse::fromOrder);
+            }));
   }
 
   // ==================== Helper Methods ====================
@@ -473,32 +505,34 @@ public class CheckoutService {
     transaction.setUpdatedAt(now);
 
     // Save transaction, publish event, delete session, then update transaction with publish status
-    return transactionRepository
-        .save(transaction)
+    return completeTimer
+        .time("persist", transactionRepository.save(transaction))
         .flatMap(
             savedTransaction ->
-                eventPublisher
-                    .publishOrderCompleted(order, session.sessionId())
-                    .flatMap(
-                        messageId -> {
-                          // Mark event as published
-                          savedTransaction.setEventPublished(true);
-                          savedTransaction.setLastPublishAttempt(Instant.now());
-                          savedTransaction.setUpdatedAt(Instant.now());
-                          return transactionRepository.save(savedTransaction);
-                        })
-                    .onErrorResume(
-                        e -> {
-                          // Log publish failure but don't fail the checkout
-                          // A retry mechanism will pick this up later
-                          savedTransaction.setEventPublishAttempts(
-                              savedTransaction.getEventPublishAttempts() + 1);
-                          savedTransaction.setLastPublishAttempt(Instant.now());
-                          savedTransaction.setFailureReason(
-                              "Event publish failed: " + e.getMessage());
-                          savedTransaction.setUpdatedAt(Instant.now());
-                          return transactionRepository.save(savedTransaction);
-                        }))
+                completeTimer.time(
+                    "publish",
+                    eventPublisher
+                        .publishOrderCompleted(order, session.sessionId())
+                        .flatMap(
+                            messageId -> {
+                              // Mark event as published
+                              savedTransaction.setEventPublished(true);
+                              savedTransaction.setLastPublishAttempt(Instant.now());
+                              savedTransaction.setUpdatedAt(Instant.now());
+                              return transactionRepository.save(savedTransaction);
+                            })
+                        .onErrorResume(
+                            e -> {
+                              // Log publish failure but don't fail the checkout
+                              // A retry mechanism will pick this up later
+                              savedTransaction.setEventPublishAttempts(
+                                  savedTransaction.getEventPublishAttempts() + 1);
+                              savedTransaction.setLastPublishAttempt(Instant.now());
+                              savedTransaction.setFailureReason(
+                                  "Event publish failed: " + e.getMessage());
+                              savedTransaction.setUpdatedAt(Instant.now());
+                              return transactionRepository.save(savedTransaction);
+                            })))
         // Delete session from Redis after successful completion
         .then(sessionRepository.deleteById(session.sessionId()))
         .thenReturn(order);
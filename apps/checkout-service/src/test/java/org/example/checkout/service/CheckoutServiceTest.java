@@ -7,6 +7,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
@@ -93,7 +94,8 @@ class CheckoutServiceTest {
             fulfillmentServiceClient,
             paymentGatewayClient,
             cartValidator,
-            structuredLogger);
+            structuredLogger,
+            new SimpleMeterRegistry());
 
     // Mock session repository to use in-memory store for testing
     when(sessionRepository.save(any(CheckoutSession.class)))
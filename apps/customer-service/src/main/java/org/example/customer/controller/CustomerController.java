@@ -9,10 +9,7 @@ import org.example.model.customer.Customer;
 import org.example.platform.logging.RequestLogData;
 import org.example.platform.logging.ResponseLogData;
 import org.example.platform.logging.StructuredLogger;
-import org.example.platform.webflux.context.ContextKeys;
 import org.example.platform.webflux.context.RequestMetadata;
-import org.example.platform.webflux.context.RequestMetadataExtractor;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -22,7 +19,6 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -57,26 +53,20 @@ public class CustomerController {
   @GetMapping("/{customerId}")
   @PreAuthorize("hasAuthority('SCOPE_customer:read')")
   public Mono<Customer> getCustomer(
-      @PathVariable String customerId,
-      @RequestHeader HttpHeaders headers,
-      ServerHttpRequest httpRequest) {
-
-    RequestMetadata metadata = RequestMetadataExtractor.fromHeaders(headers);
-
+      @PathVariable String customerId, RequestMetadata metadata, ServerHttpRequest httpRequest) {
     return Mono.deferContextual(
-            ctx -> {
-              logRequest(ctx, httpRequest);
-              return validator
-                  .validateGetRequest(
-                      customerId,
-                      metadata.storeNumber(),
-                      metadata.orderNumber(),
-                      metadata.userId(),
-                      metadata.sessionId())
-                  .then(customerService.getCustomer(customerId))
-                  .doOnSuccess(result -> logResponse(ctx, httpRequest, 200, result));
-            })
-        .contextWrite(ContextKeys.fromHeaders(headers));
+        ctx -> {
+          logRequest(ctx, httpRequest);
+          return validator
+              .validateGetRequest(
+                  customerId,
+                  metadata.storeNumber(),
+                  metadata.orderNumber(),
+                  metadata.userId(),
+                  metadata.sessionId())
+              .then(customerService.getCustomer(customerId))
+              .doOnSuccess(result -> logResponse(ctx, httpRequest, 200, result));
+        });
   }
 
   /** Create a new customer. */
@@ -85,25 +75,21 @@ public class CustomerController {
   @PreAuthorize("hasAuthority('SCOPE_customer:write')")
   public Mono<Customer> createCustomer(
       @RequestBody CreateCustomerRequest request,
-      @RequestHeader HttpHeaders headers,
+      RequestMetadata metadata,
       ServerHttpRequest httpRequest) {
-
-    RequestMetadata metadata = RequestMetadataExtractor.fromHeaders(headers);
-
     return Mono.deferContextual(
-            ctx -> {
-              logRequest(ctx, httpRequest);
-              return validator
-                  .validateCreateRequest(
-                      request,
-                      metadata.storeNumber(),
-                      metadata.orderNumber(),
-                      metadata.userId(),
-                      metadata.sessionId())
-                  .then(customerService.createCustomer(ctx, request))
-                  .doOnSuccess(result -> logResponse(ctx, httpRequest, 201, result));
-            })
-        .contextWrite(ContextKeys.fromHeaders(headers));
+        ctx -> {
+          logRequest(ctx, httpRequest);
+          return validator
+              .validateCreateRequest(
+                  request,
+                  metadata.storeNumber(),
+                  metadata.orderNumber(),
+                  metadata.userId(),
+                  metadata.sessionId())
+              .then(customerService.createCustomer(ctx, request))
+              .doOnSuccess(result -> logResponse(ctx, httpRequest, 201, result));
+        });
   }
 
   /** Update an existing customer. */
@@ -112,26 +98,22 @@ public class CustomerController {
   public Mono<Customer> updateCustomer(
       @PathVariable String customerId,
       @RequestBody UpdateCustomerRequest request,
-      @RequestHeader HttpHeaders headers,
+      RequestMetadata metadata,
       ServerHttpRequest httpRequest) {
-
-    RequestMetadata metadata = RequestMetadataExtractor.fromHeaders(headers);
-
     return Mono.deferContextual(
-            ctx -> {
-              logRequest(ctx, httpRequest);
-              return validator
-                  .validateUpdateRequest(
-                      request,
-                      customerId,
-                      metadata.storeNumber(),
-                      metadata.orderNumber(),
-                      metadata.userId(),
-                      metadata.sessionId())
-                  .then(customerService.updateCustomer(ctx, customerId, request))
-                  .doOnSuccess(result -> logResponse(ctx, httpRequest, 200, result));
-            })
-        .contextWrite(ContextKeys.fromHeaders(headers));
+        ctx -> {
+          logRequest(ctx, httpRequest);
+          return validator
+              .validateUpdateRequest(
+                  request,
+                  customerId,
+                  metadata.storeNumber(),
+                  metadata.orderNumber(),
+                  metadata.userId(),
+                  metadata.sessionId())
+              .then(customerService.updateCustomer(ctx, customerId, request))
+              .doOnSuccess(result -> logResponse(ctx, httpRequest, 200, result));
+        });
   }
 
   /** Delete a customer. */
@@ -139,26 +121,20 @@ public class CustomerController {
   @ResponseStatus(HttpStatus.NO_CONTENT)
   @PreAuthorize("hasAuthority('SCOPE_customer:delete')")
   public Mono<Void> deleteCustomer(
-      @PathVariable String customerId,
-      @RequestHeader HttpHeaders headers,
-      ServerHttpRequest httpRequest) {
-
-    RequestMetadata metadata = RequestMetadataExtractor.fromHeaders(headers);
-
+      @PathVariable String customerId, RequestMetadata metadata, ServerHttpRequest httpRequest) {
     return Mono.deferContextual(
-            ctx -> {
-              logRequest(ctx, httpRequest);
-              return validator
-                  .validateGetRequest(
-                      customerId,
-                      metadata.storeNumber(),
-                      metadata.orderNumber(),
-                      metadata.userId(),
-                      metadata.sessionId())
-                  .then(customerService.deleteCustomer(ctx, customerId))
-                  .doOnSuccess(v -> logResponse(ctx, httpRequest, 204, null));
-            })
-        .contextWrite(ContextKeys.fromHeaders(headers));
+        ctx -> {
+          logRequest(ctx, httpRequest);
+          return validator
+              .validateGetRequest(
+                  customerId,
+                  metadata.storeNumber(),
+                  metadata.orderNumber(),
+                  metadata.userId(),
+                  metadata.sessionId())
+              .then(customerService.deleteCustomer(ctx, customerId))
+              .doOnSuccess(v -> logResponse(ctx, httpRequest, 204, null));
+        });
   }
 
   /** Search customers by ID, email, or phone. */
@@ -168,52 +144,43 @@ public class CustomerController {
       @RequestParam(required = false) String customerId,
       @RequestParam(required = false) String email,
       @RequestParam(required = false) String phone,
-      @RequestHeader HttpHeaders headers,
+      RequestMetadata metadata,
       ServerHttpRequest httpRequest) {
-
-    RequestMetadata metadata = RequestMetadataExtractor.fromHeaders(headers);
     CustomerSearchRequest searchRequest = new CustomerSearchRequest(customerId, email, phone);
 
     return Flux.deferContextual(
-            ctx -> {
-              logRequest(ctx, httpRequest);
-              return validator
-                  .validateSearchRequest(
-                      searchRequest,
-                      metadata.storeNumber(),
-                      metadata.orderNumber(),
-                      metadata.userId(),
-                      metadata.sessionId())
-                  .thenMany(
-                      customerService.search(
-                          metadata.storeNumber(), searchRequest.getSearchTerm()));
-            })
-        .contextWrite(ContextKeys.fromHeaders(headers));
+        ctx -> {
+          logRequest(ctx, httpRequest);
+          return validator
+              .validateSearchRequest(
+                  searchRequest,
+                  metadata.storeNumber(),
+                  metadata.orderNumber(),
+                  metadata.userId(),
+                  metadata.sessionId())
+              .thenMany(
+                  customerService.search(
+                      metadata.storeNumber(), searchRequest.getSearchTerm()));
+        });
   }
 
   /** Get B2B sub-accounts for a parent customer. */
   @GetMapping("/{customerId}/sub-accounts")
   @PreAuthorize("hasAuthority('SCOPE_customer:read')")
   public Flux<Customer> getSubAccounts(
-      @PathVariable String customerId,
-      @RequestHeader HttpHeaders headers,
-      ServerHttpRequest httpRequest) {
-
-    RequestMetadata metadata = RequestMetadataExtractor.fromHeaders(headers);
-
+      @PathVariable String customerId, RequestMetadata metadata, ServerHttpRequest httpRequest) {
     return Flux.deferContextual(
-            ctx -> {
-              logRequest(ctx, httpRequest);
-              return validator
-                  .validateGetRequest(
-                      customerId,
-                      metadata.storeNumber(),
-                      metadata.orderNumber(),
-                      metadata.userId(),
-                      metadata.sessionId())
-                  .thenMany(customerService.getSubAccounts(customerId));
-            })
-        .contextWrite(ContextKeys.fromHeaders(headers));
+        ctx -> {
+          logRequest(ctx, httpRequest);
+          return validator
+              .validateGetRequest(
+                  customerId,
+                  metadata.storeNumber(),
+                  metadata.orderNumber(),
+                  metadata.userId(),
+                  metadata.sessionId())
+              .thenMany(customerService.getSubAccounts(customerId));
+        });
   }
 
   /** Create a B2B sub-account under a parent customer. */
@@ -223,25 +190,21 @@ public class CustomerController {
   public Mono<Customer> createSubAccount(
       @PathVariable String customerId,
       @RequestBody CreateCustomerRequest request,
-      @RequestHeader HttpHeaders headers,
+      RequestMetadata metadata,
       ServerHttpRequest httpRequest) {
-
-    RequestMetadata metadata = RequestMetadataExtractor.fromHeaders(headers);
-
     return Mono.deferContextual(
-            ctx -> {
-              logRequest(ctx, httpRequest);
-              return validator
-                  .validateCreateRequest(
-                      request,
-                      metadata.storeNumber(),
-                      metadata.orderNumber(),
-                      metadata.userId(),
-                      metadata.sessionId())
-                  .then(customerService.createSubAccount(ctx, customerId, request))
-                  .doOnSuccess(result -> logResponse(ctx, httpRequest, 201, result));
-            })
-        .contextWrite(ContextKeys.fromHeaders(headers));
+        ctx -> {
+          logRequest(ctx, httpRequest);
+          return validator
+              .validateCreateRequest(
+                  request,
+                  metadata.storeNumber(),
+                  metadata.orderNumber(),
+                  metadata.userId(),
+                  metadata.sessionId())
+              .then(customerService.createSubAccount(ctx, customerId, request))
+              .doOnSuccess(result -> logResponse(ctx, httpRequest, 201, result));
+        });
   }
 
   private void logRequest(ContextView ctx, ServerHttpRequest request) {
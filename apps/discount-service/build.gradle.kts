@@ -1,5 +1,6 @@
 plugins {
     id("platform.application-conventions")
+    id("platform.jmh-conventions")
 }
 
 dependencies {
@@ -18,10 +19,21 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-webflux")
     implementation("org.springframework.boot:spring-boot-starter-webclient")
     implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("org.springframework.boot:spring-boot-starter-data-r2dbc")
+
+    // R2DBC PostgreSQL driver (also used directly for LISTEN/NOTIFY)
+    implementation("org.postgresql:r2dbc-postgresql")
+
+    // Flyway for database migrations (Spring Boot 4.0 starter includes flyway-core + autoconfiguration)
+    implementation("org.springframework.boot:spring-boot-starter-flyway")
+    implementation("org.flywaydb:flyway-database-postgresql")
+    implementation("org.springframework.boot:spring-boot-starter-jdbc")
+    runtimeOnly("org.postgresql:postgresql")
 
     // Prometheus metrics
     runtimeOnly("io.micrometer:micrometer-registry-prometheus")
 
     // Test dependencies
     testImplementation(project(":libs:backend:platform:platform-test"))
+    testImplementation("org.testcontainers:postgresql")
 }
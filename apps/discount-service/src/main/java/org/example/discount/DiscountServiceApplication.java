@@ -1,7 +1,10 @@
 package org.example.discount;
 
+import org.example.discount.config.DiscountCatalogProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(
     scanBasePackages = {
@@ -9,6 +12,8 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
       "org.example.platform.logging",
       "org.example.platform.error"
     })
+@EnableConfigurationProperties(DiscountCatalogProperties.class)
+@EnableScheduling
 public class DiscountServiceApplication {
 
   public static void main(String[] args) {
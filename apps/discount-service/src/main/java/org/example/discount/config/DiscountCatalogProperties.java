@@ -0,0 +1,55 @@
+package org.example.discount.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/** Configuration for the in-memory discount catalog and its reload triggers. */
+@ConfigurationProperties(prefix = "discount.catalog")
+public class DiscountCatalogProperties {
+
+  private boolean listenEnabled = true;
+  private String channel = "discount_catalog_changed";
+  private Duration refreshInterval = Duration.ofMinutes(5);
+  private Duration initialLoadTimeout = Duration.ofSeconds(30);
+  private Duration reconnectMaxBackoff = Duration.ofSeconds(30);
+
+  public boolean isListenEnabled() {
+    return listenEnabled;
+  }
+
+  public void setListenEnabled(boolean listenEnabled) {
+    this.listenEnabled = listenEnabled;
+  }
+
+  public String getChannel() {
+    return channel;
+  }
+
+  public void setChannel(String channel) {
+    this.channel = channel;
+  }
+
+  public Duration getRefreshInterval() {
+    return refreshInterval;
+  }
+
+  public void setRefreshInterval(Duration refreshInterval) {
+    this.refreshInterval = refreshInterval;
+  }
+
+  public Duration getInitialLoadTimeout() {
+    return initialLoadTimeout;
+  }
+
+  public void setInitialLoadTimeout(Duration initialLoadTimeout) {
+    this.initialLoadTimeout = initialLoadTimeout;
+  }
+
+  public Duration getReconnectMaxBackoff() {
+    return reconnectMaxBackoff;
+  }
+
+  public void setReconnectMaxBackoff(Duration reconnectMaxBackoff) {
+    this.reconnectMaxBackoff = reconnectMaxBackoff;
+  }
+}
@@ -51,16 +51,21 @@ public class DiscountController {
   }
 
   /**
-   * Get all active discounts for a store.
+   * Get all active discounts for a store, optionally only those applying to a SKU.
    *
    * @param storeNumber the store number (default 1)
+   * @param sku optional SKU filter
    * @return stream of active discounts
    */
   @GetMapping("/active")
-  public Flux<Discount> getActiveDiscounts(@RequestParam(defaultValue = "1") int storeNumber) {
+  public Flux<Discount> getActiveDiscounts(
+      @RequestParam(defaultValue = "1") int storeNumber, @RequestParam(required = false) Long sku) {
     return validator
         .validateStoreNumber(storeNumber)
-        .thenMany(discountService.getActiveDiscounts(storeNumber));
+        .thenMany(
+            sku != null
+                ? discountService.getActiveDiscountsForSku(storeNumber, sku)
+                : discountService.getActiveDiscounts(storeNumber));
   }
 
   /**
@@ -9,9 +9,7 @@ import org.example.discount.validation.DiscountRequestValidator;
 import org.example.model.discount.Markdown;
 import org.example.model.discount.MarkdownLimit;
 import org.example.model.discount.MarkdownPermissionTier;
-import org.example.platform.webflux.context.ContextKeys;
-import org.example.platform.webflux.context.RequestMetadataExtractor;
-import org.springframework.http.HttpHeaders;
+import org.example.platform.webflux.context.RequestMetadata;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -19,7 +17,6 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import reactor.core.publisher.Flux;
@@ -42,20 +39,19 @@ public class MarkdownController {
    * Apply a markdown to a cart (employee only).
    *
    * @param request the markdown request
-   * @param headers the HTTP request headers
+   * @param metadata the request metadata
    * @return the applied markdown
    */
   @PostMapping
   public Mono<ResponseEntity<Markdown>> applyMarkdown(
-      @RequestBody ApplyMarkdownRequest request, @RequestHeader HttpHeaders headers) {
+      @RequestBody ApplyMarkdownRequest request, RequestMetadata metadata) {
 
-    String userId = RequestMetadataExtractor.fromHeaders(headers).userId();
+    String userId = metadata.userId();
 
     return validator
         .validateApplyMarkdown(request, userId)
         .then(markdownService.applyMarkdown(request, userId))
         .map(ResponseEntity::ok)
-        .contextWrite(ContextKeys.fromHeaders(headers))
         .onErrorResume(
             UnauthorizedMarkdownException.class,
             e -> Mono.just(ResponseEntity.status(HttpStatus.FORBIDDEN).build()));
@@ -91,20 +87,19 @@ public class MarkdownController {
    * Void/cancel a markdown (employee only).
    *
    * @param id the markdown ID
-   * @param headers the HTTP request headers
+   * @param metadata the request metadata
    * @return no content on success
    */
   @DeleteMapping("/{id}")
   public Mono<ResponseEntity<Void>> voidMarkdown(
-      @PathVariable String id, @RequestHeader HttpHeaders headers) {
+      @PathVariable String id, RequestMetadata metadata) {
 
-    String userId = RequestMetadataExtractor.fromHeaders(headers).userId();
+    String userId = metadata.userId();
 
     return validator
         .validateVoidMarkdown(id, userId)
         .then(markdownService.voidMarkdown(id, userId))
         .then(Mono.just(ResponseEntity.noContent().<Void>build()))
-        .contextWrite(ContextKeys.fromHeaders(headers))
         .onErrorResume(
             UnauthorizedMarkdownException.class,
             e -> Mono.just(ResponseEntity.status(HttpStatus.FORBIDDEN).build()));
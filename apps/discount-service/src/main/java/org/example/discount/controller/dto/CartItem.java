@@ -8,5 +8,6 @@ import java.math.BigDecimal;
  * @param sku the product SKU
  * @param quantity the quantity
  * @param unitPrice the unit price
+ * @param category the product category (optional, used by category-scope promotions)
  */
-public record CartItem(long sku, int quantity, BigDecimal unitPrice) {}
+public record CartItem(long sku, int quantity, BigDecimal unitPrice, String category) {}
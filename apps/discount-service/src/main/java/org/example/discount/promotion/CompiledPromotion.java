@@ -0,0 +1,107 @@
+package org.example.discount.promotion;
+
+import java.time.Instant;
+import java.util.Set;
+import org.example.model.discount.Discount;
+import org.example.model.discount.DiscountScope;
+import org.example.model.discount.DiscountType;
+
+/**
+ * A discount pre-converted to fixed-point parameters. Instances use identity equality so the engine
+ * can aggregate savings per promotion without hashing every field.
+ */
+final class CompiledPromotion {
+
+  final Discount discount;
+  final String source;
+  final DiscountScope scope;
+  final DiscountType type;
+  final boolean stackable;
+  final Instant expiresAt;
+  final long minimumUnits;
+  final long amountUnits;
+  final long basisPoints;
+  final int buyQuantity;
+  final int getQuantity;
+
+  /** Explicit SKUs, kept only when the promotion is also category-indexed (for de-duplication). */
+  final Set<Long> skus;
+
+  CompiledPromotion(Discount discount) {
+    this.discount = discount;
+    this.source = discount.autoApply() ? "AUTO_APPLY" : "PROMO_CODE";
+    this.scope = discount.scope();
+    this.type = discount.type();
+    this.stackable = discount.stackable();
+    this.expiresAt = discount.expiresAt();
+    this.minimumUnits = Money.toUnits(discount.minimumPurchase());
+    this.amountUnits = Money.toUnits(discount.value());
+    long percent = Money.toBasisPoints(discount.value());
+    // BUY_X_GET_Y value is the percent off the "get" units; unset means free
+    this.basisPoints =
+        type == DiscountType.BUY_X_GET_Y && percent <= 0 ? Money.BASIS_POINTS : percent;
+    this.buyQuantity = Math.max(0, discount.buyQuantity());
+    this.getQuantity = Math.max(0, discount.getQuantity());
+    boolean bySku = discount.eligibleSkus() != null && !discount.eligibleSkus().isEmpty();
+    this.skus =
+        bySku && !discount.eligibleCategories().isEmpty()
+            ? Set.copyOf(discount.eligibleSkus())
+            : null;
+  }
+
+  String id() {
+    return discount.discountId();
+  }
+
+  boolean isActive(Instant now, long subtotalUnits) {
+    return (expiresAt == null || expiresAt.isAfter(now)) && subtotalUnits >= minimumUnits;
+  }
+
+  /**
+   * Savings this promotion gives one cart line on its own, capped at the line total.
+   *
+   * @param unitUnits unit price in units
+   * @param quantity line quantity
+   * @param lineUnits line total in units
+   * @return savings in units
+   */
+  long lineSavings(long unitUnits, int quantity, long lineUnits) {
+    long savings =
+        switch (type) {
+          case PERCENTAGE -> Money.percentOf(lineUnits, basisPoints);
+          case FIXED_AMOUNT ->
+              Math.multiplyExact(Math.min(amountUnits, unitUnits), (long) quantity);
+          case BUY_X_GET_Y -> buyXGetYSavings(unitUnits, quantity);
+          case FREE_SHIPPING -> 0;
+        };
+    return Math.min(savings, lineUnits);
+  }
+
+  /**
+   * Savings this promotion gives against a cart-level amount, capped at that amount.
+   *
+   * @param baseUnits the amount the promotion applies to
+   * @return savings in units
+   */
+  long cartSavings(long baseUnits) {
+    long savings =
+        switch (type) {
+          case PERCENTAGE -> Money.percentOf(baseUnits, basisPoints);
+          case FIXED_AMOUNT -> amountUnits;
+          case BUY_X_GET_Y, FREE_SHIPPING -> 0;
+        };
+    return Math.max(0, Math.min(savings, baseUnits));
+  }
+
+  private long buyXGetYSavings(long unitUnits, int quantity) {
+    int groupSize = buyQuantity + getQuantity;
+    if (getQuantity == 0 || groupSize == 0) {
+      return 0;
+    }
+    long discountedUnits = (long) (quantity / groupSize) * getQuantity;
+    // Partial group: units beyond the "buy" part of the last group are also discounted
+    int remainder = quantity % groupSize;
+    discountedUnits += Math.max(0, remainder - buyQuantity);
+    return Money.percentOf(Math.multiplyExact(unitUnits, discountedUnits), basisPoints);
+  }
+}
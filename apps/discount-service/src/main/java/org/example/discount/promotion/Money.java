@@ -0,0 +1,46 @@
+package org.example.discount.promotion;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Fixed-point money helpers for the promotion engine. Amounts are scaled longs in units of 1/10,000
+ * of the currency; percentage savings are rounded half-up to whole cents, matching the BigDecimal
+ * {@code divide(100, 2, HALF_UP)} used elsewhere in the service.
+ */
+final class Money {
+
+  static final int SCALE = 4;
+  static final long UNITS_PER_CENT = 100;
+  static final long BASIS_POINTS = 10_000;
+
+  private Money() {}
+
+  /** Convert an amount to units, rounding half-even beyond four decimals. Null counts as zero. */
+  static long toUnits(BigDecimal amount) {
+    if (amount == null) {
+      return 0;
+    }
+    return amount.setScale(SCALE, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+  }
+
+  /** Convert a percentage (e.g. 12.5) to basis points (1250). */
+  static long toBasisPoints(BigDecimal percent) {
+    if (percent == null) {
+      return 0;
+    }
+    return percent.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+  }
+
+  /** Percentage of an amount in units, rounded half-up to whole cents. */
+  static long percentOf(long units, long basisPoints) {
+    long raw = Math.multiplyExact(units, basisPoints) / BASIS_POINTS;
+    return (raw + UNITS_PER_CENT / 2) / UNITS_PER_CENT * UNITS_PER_CENT;
+  }
+
+  /** Convert units to an amount with at least two decimal places. */
+  static BigDecimal toMoney(long units) {
+    BigDecimal amount = BigDecimal.valueOf(units, SCALE).stripTrailingZeros();
+    return amount.scale() < 2 ? amount.setScale(2) : amount;
+  }
+}
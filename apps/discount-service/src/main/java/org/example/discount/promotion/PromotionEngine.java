@@ -0,0 +1,249 @@
+package org.example.discount.promotion;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.example.discount.controller.dto.CartItem;
+import org.example.discount.promotion.PromotionOutcome.LineSavings;
+import org.example.model.discount.AppliedPromotion;
+import org.example.model.discount.Discount;
+import org.example.model.discount.DiscountScope;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evaluates item-, category- and cart-scope promotions and picks the best combination.
+ *
+ * <p>Stacking rules:
+ *
+ * <ul>
+ *   <li>A line receives either the sum of its stackable promotions (capped at the line total) or
+ *       its single best exclusive promotion, whichever saves more.
+ *   <li>Stackable cart promotions apply to the subtotal left after line savings.
+ *   <li>An exclusive cart promotion replaces all other promotions and is chosen only if it saves
+ *       strictly more than the best line-plus-stackable-cart combination.
+ * </ul>
+ *
+ * <p>Under these rules line choices are independent and cart savings are monotone in the remaining
+ * subtotal, so maximising each line and then enumerating the exclusive cart alternatives yields the
+ * optimal combination in O(lines x candidates per line + cart promotions). All arithmetic is
+ * fixed-point; BigDecimal is produced only for the outcome.
+ */
+@Component
+public class PromotionEngine {
+
+  private final Map<Integer, CachedIndex> autoApplyIndexes = new ConcurrentHashMap<>();
+
+  /**
+   * Compiled index of a store's auto-apply discounts, recompiled only when the catalog changes.
+   *
+   * @param storeNumber the store number
+   * @param catalogVersion version of the catalog {@code discounts} was read from
+   * @param discounts the store's current auto-apply discounts
+   * @return the compiled index
+   */
+  public PromotionIndex autoApplyIndex(
+      int storeNumber, long catalogVersion, List<Discount> discounts) {
+    CachedIndex cached = autoApplyIndexes.get(storeNumber);
+    if (cached != null && cached.catalogVersion() == catalogVersion) {
+      return cached.index();
+    }
+    PromotionIndex index = PromotionIndex.compile(discounts);
+    autoApplyIndexes.put(storeNumber, new CachedIndex(catalogVersion, index));
+    return index;
+  }
+
+  /**
+   * Evaluate promotions against cart items.
+   *
+   * @param index the promotions to consider
+   * @param items the cart items
+   * @param now evaluation time, for expiry checks
+   * @return per-line and per-promotion savings of the best combination
+   */
+  public PromotionOutcome evaluate(PromotionIndex index, List<CartItem> items, Instant now) {
+    int lineCount = items.size();
+    long[] unitUnits = new long[lineCount];
+    long[] lineUnits = new long[lineCount];
+    long subtotal = 0;
+    for (int i = 0; i < lineCount; i++) {
+      CartItem item = items.get(i);
+      unitUnits[i] = Money.toUnits(item.unitPrice());
+      lineUnits[i] = Math.multiplyExact(unitUnits[i], (long) item.quantity());
+      subtotal = Math.addExact(subtotal, lineUnits[i]);
+    }
+
+    // 1. Best promotion set per line
+    long[] lineSavings = new long[lineCount];
+    List<List<String>> lineIds = new ArrayList<>(lineCount);
+    Map<CompiledPromotion, long[]> applied = new LinkedHashMap<>();
+    LineCandidates candidates = new LineCandidates();
+    long itemSavings = 0;
+    for (int i = 0; i < lineCount; i++) {
+      CartItem item = items.get(i);
+      candidates.reset(unitUnits[i], lineUnits[i]);
+      for (PromotionIndex layer = index; layer != null; layer = layer.parent()) {
+        candidates.collect(layer, layer.skuCandidates(item.sku()), item, now, subtotal, false);
+        candidates.collect(
+            layer, layer.categoryCandidates(item.category()), item, now, subtotal, true);
+        candidates.collect(layer, layer.allItems(), item, now, subtotal, false);
+      }
+      lineSavings[i] = candidates.choose(applied, lineIds);
+      itemSavings += lineSavings[i];
+    }
+
+    // 2. Stackable cart promotions on the remainder vs the best exclusive cart promotion
+    long remainder = subtotal - itemSavings;
+    long cartStackable = 0;
+    CompiledPromotion bestExclusive = null;
+    long bestExclusiveSavings = 0;
+    Map<CompiledPromotion, long[]> cartApplied = new LinkedHashMap<>();
+    for (PromotionIndex layer = index; layer != null; layer = layer.parent()) {
+      for (int ordinal : layer.cartLevel()) {
+        CompiledPromotion promotion = layer.promotion(ordinal);
+        if (!promotion.isActive(now, subtotal)) {
+          continue;
+        }
+        if (promotion.stackable) {
+          long savings = Math.min(promotion.cartSavings(remainder), remainder - cartStackable);
+          if (savings > 0) {
+            cartStackable += savings;
+            cartApplied.put(promotion, new long[] {savings});
+          }
+        } else {
+          long savings = promotion.cartSavings(subtotal);
+          if (savings > bestExclusiveSavings) {
+            bestExclusive = promotion;
+            bestExclusiveSavings = savings;
+          }
+        }
+      }
+    }
+
+    if (bestExclusive != null && bestExclusiveSavings > itemSavings + cartStackable) {
+      return new PromotionOutcome(
+          Collections.nCopies(lineCount, LineSavings.NONE),
+          List.of(toApplied(bestExclusive, bestExclusiveSavings, DiscountScope.CART)),
+          Money.toMoney(bestExclusiveSavings));
+    }
+
+    List<LineSavings> lines = new ArrayList<>(lineCount);
+    for (int i = 0; i < lineCount; i++) {
+      lines.add(
+          lineSavings[i] == 0
+              ? LineSavings.NONE
+              : new LineSavings(Money.toMoney(lineSavings[i]), lineIds.get(i)));
+    }
+    List<AppliedPromotion> promotions = new ArrayList<>(applied.size() + cartApplied.size());
+    applied.forEach(
+        (promotion, savings) ->
+            promotions.add(
+                toApplied(
+                    promotion,
+                    savings[0],
+                    promotion.scope == DiscountScope.CART ? DiscountScope.ITEM : promotion.scope)));
+    cartApplied.forEach(
+        (promotion, savings) ->
+            promotions.add(toApplied(promotion, savings[0], DiscountScope.CART)));
+    return new PromotionOutcome(lines, promotions, Money.toMoney(itemSavings + cartStackable));
+  }
+
+  private static AppliedPromotion toApplied(
+      CompiledPromotion promotion, long savings, DiscountScope scope) {
+    return new AppliedPromotion(
+        promotion.id(),
+        promotion.source,
+        promotion.discount.description(),
+        Money.toMoney(savings),
+        scope);
+  }
+
+  private record CachedIndex(long catalogVersion, PromotionIndex index) {}
+
+  /** Reusable per-line scratch state, so visiting candidates does not allocate. */
+  private static final class LineCandidates {
+
+    private CompiledPromotion[] stackable = new CompiledPromotion[8];
+    private long[] stackableSavings = new long[8];
+    private int stackableCount;
+    private long stackableTotal;
+    private CompiledPromotion exclusive;
+    private long exclusiveSavings;
+    private long unitUnits;
+    private long lineUnits;
+
+    void reset(long unitUnits, long lineUnits) {
+      this.unitUnits = unitUnits;
+      this.lineUnits = lineUnits;
+      stackableCount = 0;
+      stackableTotal = 0;
+      exclusive = null;
+      exclusiveSavings = 0;
+    }
+
+    void collect(
+        PromotionIndex layer,
+        int[] ordinals,
+        CartItem item,
+        Instant now,
+        long subtotal,
+        boolean byCategory) {
+      if (ordinals.length == 0) {
+        return;
+      }
+      for (int ordinal : ordinals) {
+        CompiledPromotion promotion = layer.promotion(ordinal);
+        if (byCategory && promotion.skus != null && promotion.skus.contains(item.sku())) {
+          continue; // already visited through the SKU table
+        }
+        if (!promotion.isActive(now, subtotal)) {
+          continue;
+        }
+        long savings = promotion.lineSavings(unitUnits, item.quantity(), lineUnits);
+        if (savings <= 0) {
+          continue;
+        }
+        if (promotion.stackable) {
+          if (stackableCount == stackable.length) {
+            stackable = Arrays.copyOf(stackable, stackableCount * 2);
+            stackableSavings = Arrays.copyOf(stackableSavings, stackableCount * 2);
+          }
+          stackable[stackableCount] = promotion;
+          stackableSavings[stackableCount++] = savings;
+          stackableTotal += savings;
+        } else if (savings > exclusiveSavings) {
+          exclusive = promotion;
+          exclusiveSavings = savings;
+        }
+      }
+    }
+
+    /** Pick the better of stacked vs exclusive savings and record it; returns the line savings. */
+    long choose(Map<CompiledPromotion, long[]> applied, List<List<String>> lineIds) {
+      long stacked = Math.min(stackableTotal, lineUnits);
+      if (exclusive != null && exclusiveSavings > stacked) {
+        applied.computeIfAbsent(exclusive, p -> new long[1])[0] += exclusiveSavings;
+        lineIds.add(List.of(exclusive.id()));
+        return exclusiveSavings;
+      }
+      if (stacked == 0) {
+        lineIds.add(List.of());
+        return 0;
+      }
+      List<String> ids = new ArrayList<>(stackableCount);
+      long left = stacked;
+      for (int i = 0; i < stackableCount && left > 0; i++) {
+        long savings = Math.min(stackableSavings[i], left);
+        left -= savings;
+        applied.computeIfAbsent(stackable[i], p -> new long[1])[0] += savings;
+        ids.add(stackable[i].id());
+      }
+      lineIds.add(ids);
+      return stacked;
+    }
+  }
+}
@@ -0,0 +1,170 @@
+package org.example.discount.promotion;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.example.model.discount.Discount;
+import org.example.model.discount.DiscountScope;
+import org.example.model.discount.DiscountType;
+
+/**
+ * Immutable lookup tables of compiled promotions.
+ *
+ * <p>Item- and category-scope promotions are indexed by eligible SKU and category, so pricing a
+ * line only visits the promotions that can apply to it instead of scanning every active discount.
+ * Promotions with no eligibility list apply to all items; cart-scope promotions are kept in a
+ * separate table. Shipping promotions are not indexed (shipping is priced separately).
+ *
+ * <p>An index may be layered over a parent with {@link #overlay}, so a small per-request set (e.g.
+ * entered promo codes) can be combined with a large cached set without copying its tables.
+ */
+public final class PromotionIndex {
+
+  private static final int[] NONE = new int[0];
+  private static final PromotionIndex EMPTY = compile(List.of());
+
+  private final PromotionIndex parent;
+  private final CompiledPromotion[] promotions;
+  private final Map<Long, int[]> bySku;
+  private final Map<String, int[]> byCategory;
+  private final int[] allItems;
+  private final int[] cartLevel;
+
+  private PromotionIndex(
+      PromotionIndex parent,
+      CompiledPromotion[] promotions,
+      Map<Long, int[]> bySku,
+      Map<String, int[]> byCategory,
+      int[] allItems,
+      int[] cartLevel) {
+    this.parent = parent;
+    this.promotions = promotions;
+    this.bySku = bySku;
+    this.byCategory = byCategory;
+    this.allItems = allItems;
+    this.cartLevel = cartLevel;
+  }
+
+  /**
+   * Index with no promotions.
+   *
+   * @return the empty index
+   */
+  public static PromotionIndex empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Compile discounts into lookup tables.
+   *
+   * @param discounts the discounts to index
+   * @return the index
+   */
+  public static PromotionIndex compile(Collection<Discount> discounts) {
+    return build(null, discounts);
+  }
+
+  /**
+   * Layer additional discounts over this index. Lookups visit both.
+   *
+   * @param discounts the discounts to add
+   * @return a new index, or this index if there is nothing to add
+   */
+  public PromotionIndex overlay(Collection<Discount> discounts) {
+    return discounts.isEmpty() ? this : build(this, discounts);
+  }
+
+  /**
+   * Number of indexed promotions, including parents.
+   *
+   * @return the promotion count
+   */
+  public int size() {
+    return promotions.length + (parent != null ? parent.size() : 0);
+  }
+
+  // ==================== Engine Access ====================
+
+  PromotionIndex parent() {
+    return parent;
+  }
+
+  CompiledPromotion promotion(int ordinal) {
+    return promotions[ordinal];
+  }
+
+  int[] skuCandidates(long sku) {
+    return bySku.getOrDefault(sku, NONE);
+  }
+
+  int[] categoryCandidates(String category) {
+    return category != null ? byCategory.getOrDefault(category, NONE) : NONE;
+  }
+
+  int[] allItems() {
+    return allItems;
+  }
+
+  int[] cartLevel() {
+    return cartLevel;
+  }
+
+  // ==================== Compilation ====================
+
+  private static PromotionIndex build(PromotionIndex parent, Collection<Discount> discounts) {
+    List<CompiledPromotion> compiled = new ArrayList<>(discounts.size());
+    Map<Long, List<Integer>> bySku = new HashMap<>();
+    Map<String, List<Integer>> byCategory = new HashMap<>();
+    List<Integer> allItems = new ArrayList<>();
+    List<Integer> cartLevel = new ArrayList<>();
+
+    for (Discount discount : discounts) {
+      if (discount.scope() == DiscountScope.SHIPPING
+          || discount.type() == DiscountType.FREE_SHIPPING) {
+        continue;
+      }
+      int ordinal = compiled.size();
+      compiled.add(new CompiledPromotion(discount));
+
+      boolean hasSkus = discount.eligibleSkus() != null && !discount.eligibleSkus().isEmpty();
+      boolean hasCategories = !discount.eligibleCategories().isEmpty();
+      boolean itemLevel =
+          discount.scope() != DiscountScope.CART || discount.type() == DiscountType.BUY_X_GET_Y;
+
+      if (!itemLevel) {
+        cartLevel.add(ordinal);
+      } else if (hasSkus || hasCategories) {
+        if (hasSkus) {
+          for (Long sku : discount.eligibleSkus()) {
+            bySku.computeIfAbsent(sku, k -> new ArrayList<>()).add(ordinal);
+          }
+        }
+        for (String category : discount.eligibleCategories()) {
+          byCategory.computeIfAbsent(category, k -> new ArrayList<>()).add(ordinal);
+        }
+      } else if (discount.scope() != DiscountScope.CATEGORY) {
+        allItems.add(ordinal);
+      }
+    }
+
+    return new PromotionIndex(
+        parent,
+        compiled.toArray(CompiledPromotion[]::new),
+        freeze(bySku),
+        freeze(byCategory),
+        toArray(allItems),
+        toArray(cartLevel));
+  }
+
+  private static <K> Map<K, int[]> freeze(Map<K, List<Integer>> table) {
+    Map<K, int[]> frozen = HashMap.newHashMap(table.size());
+    table.forEach((key, ordinals) -> frozen.put(key, toArray(ordinals)));
+    return Map.copyOf(frozen);
+  }
+
+  private static int[] toArray(List<Integer> ordinals) {
+    return ordinals.isEmpty() ? NONE : ordinals.stream().mapToInt(Integer::intValue).toArray();
+  }
+}
@@ -0,0 +1,27 @@
+package org.example.discount.promotion;
+
+import java.math.BigDecimal;
+import java.util.List;
+import org.example.model.discount.AppliedPromotion;
+
+/**
+ * Result of evaluating promotions against a cart.
+ *
+ * @param lines per-line savings, in the same order as the evaluated items
+ * @param promotions promotions that contributed savings, with their total across all lines
+ * @param totalSavings sum of all promotion savings
+ */
+public record PromotionOutcome(
+    List<LineSavings> lines, List<AppliedPromotion> promotions, BigDecimal totalSavings) {
+
+  /**
+   * Savings on one cart line.
+   *
+   * @param savings amount saved on the line
+   * @param discountIds promotions applied to the line
+   */
+  public record LineSavings(BigDecimal savings, List<String> discountIds) {
+
+    static final LineSavings NONE = new LineSavings(BigDecimal.ZERO, List.of());
+  }
+}
@@ -0,0 +1,210 @@
+package org.example.discount.repository;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.example.model.discount.Discount;
+
+/**
+ * Immutable snapshot of every discount, indexed by id, promo code, store and SKU.
+ *
+ * <p>Store views are precomputed: discounts without a store restriction are merged into every
+ * store-specific view, and stores with no store-specific discounts share a single view. Lookups
+ * are therefore one or two hash probes regardless of catalog size.
+ *
+ * <p>Expired discounts stay reachable by id and code (callers validate expiry, as before) but are
+ * left out of the store and SKU views. Discounts that expire after the snapshot was built are
+ * filtered at lookup time once {@link #nextExpiry()} has passed, until the next rebuild.
+ */
+final class DiscountCatalog {
+
+  private static final DiscountCatalog EMPTY = build(0, List.of(), Instant.EPOCH);
+
+  private final long version;
+  private final List<Discount> discounts;
+  private final Instant nextExpiry;
+  private final Map<String, Discount> byId;
+  private final Map<String, Discount> byCode;
+  private final Map<Integer, StoreView> byStore;
+  private final StoreView allStores;
+  private final Map<Long, List<Discount>> bySku;
+
+  private DiscountCatalog(
+      long version,
+      List<Discount> discounts,
+      Instant nextExpiry,
+      Map<String, Discount> byId,
+      Map<String, Discount> byCode,
+      Map<Integer, StoreView> byStore,
+      StoreView allStores,
+      Map<Long, List<Discount>> bySku) {
+    this.version = version;
+    this.discounts = discounts;
+    this.nextExpiry = nextExpiry;
+    this.byId = byId;
+    this.byCode = byCode;
+    this.byStore = byStore;
+    this.allStores = allStores;
+    this.bySku = bySku;
+  }
+
+  /**
+   * Discounts visible to one store.
+   *
+   * @param active unexpired discounts for the store
+   * @param autoApply the auto-apply subset of {@code active}
+   * @param unrestricted the subset of {@code active} with no SKU restriction
+   */
+  record StoreView(List<Discount> active, List<Discount> autoApply, List<Discount> unrestricted) {}
+
+  /**
+   * Catalog with no discounts, served until the first load completes.
+   *
+   * @return the empty catalog
+   */
+  static DiscountCatalog empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Index discounts into a new snapshot.
+   *
+   * @param version the snapshot version
+   * @param discounts every discount in the store
+   * @param now build time; discounts expired by then are left out of the store and SKU views
+   * @return the catalog
+   */
+  static DiscountCatalog build(long version, Collection<Discount> discounts, Instant now) {
+    Map<String, Discount> byId = HashMap.newHashMap(discounts.size());
+    Map<String, Discount> byCode = HashMap.newHashMap(discounts.size());
+    List<Discount> unscoped = new ArrayList<>();
+    Map<Integer, List<Discount>> scoped = new HashMap<>();
+    Map<Long, List<Discount>> bySku = new HashMap<>();
+    Instant nextExpiry = Instant.MAX;
+
+    for (Discount discount : discounts) {
+      byId.put(discount.discountId(), discount);
+      byCode.put(discount.code().toUpperCase(Locale.ROOT), discount);
+      if (!isActive(discount, now)) {
+        continue;
+      }
+      if (discount.expiresAt() != null && discount.expiresAt().isBefore(nextExpiry)) {
+        nextExpiry = discount.expiresAt();
+      }
+      if (hasAny(discount.eligibleStores())) {
+        for (Integer store : discount.eligibleStores()) {
+          scoped.computeIfAbsent(store, k -> new ArrayList<>()).add(discount);
+        }
+      } else {
+        unscoped.add(discount);
+      }
+      if (hasAny(discount.eligibleSkus())) {
+        for (Long sku : discount.eligibleSkus()) {
+          bySku.computeIfAbsent(sku, k -> new ArrayList<>()).add(discount);
+        }
+      }
+    }
+
+    StoreView allStores = view(unscoped);
+    Map<Integer, StoreView> byStore = HashMap.newHashMap(scoped.size());
+    scoped.forEach(
+        (store, storeDiscounts) -> {
+          List<Discount> merged = new ArrayList<>(unscoped.size() + storeDiscounts.size());
+          merged.addAll(unscoped);
+          merged.addAll(storeDiscounts);
+          byStore.put(store, view(merged));
+        });
+    Map<Long, List<Discount>> frozenSkus = HashMap.newHashMap(bySku.size());
+    bySku.forEach((sku, skuDiscounts) -> frozenSkus.put(sku, List.copyOf(skuDiscounts)));
+
+    return new DiscountCatalog(
+        version,
+        List.copyOf(discounts),
+        nextExpiry,
+        Map.copyOf(byId),
+        Map.copyOf(byCode),
+        Map.copyOf(byStore),
+        allStores,
+        Map.copyOf(frozenSkus));
+  }
+
+  long version() {
+    return version;
+  }
+
+  List<Discount> discounts() {
+    return discounts;
+  }
+
+  int size() {
+    return discounts.size();
+  }
+
+  /** Earliest expiry among the discounts in the store views, or {@link Instant#MAX}. */
+  Instant nextExpiry() {
+    return nextExpiry;
+  }
+
+  Discount findById(String discountId) {
+    return byId.get(discountId);
+  }
+
+  Discount findByCode(String code) {
+    return byCode.get(code.toUpperCase(Locale.ROOT));
+  }
+
+  List<Discount> findActiveByStore(int storeNumber, Instant now) {
+    return unexpired(store(storeNumber).active(), now);
+  }
+
+  List<Discount> findAutoApplyByStore(int storeNumber, Instant now) {
+    return unexpired(store(storeNumber).autoApply(), now);
+  }
+
+  List<Discount> findActiveBySku(int storeNumber, long sku, Instant now) {
+    List<Discount> unrestricted = store(storeNumber).unrestricted();
+    List<Discount> restricted = bySku.get(sku);
+    if (restricted == null) {
+      return unexpired(unrestricted, now);
+    }
+    List<Discount> matches = new ArrayList<>(unrestricted.size() + restricted.size());
+    matches.addAll(unrestricted);
+    for (Discount discount : restricted) {
+      if (discount.appliesTo(storeNumber)) {
+        matches.add(discount);
+      }
+    }
+    return unexpired(matches, now);
+  }
+
+  private StoreView store(int storeNumber) {
+    return byStore.getOrDefault(storeNumber, allStores);
+  }
+
+  /** Views are built unexpired; only filter once a discount in them may have expired since. */
+  private List<Discount> unexpired(List<Discount> discounts, Instant now) {
+    if (now.isBefore(nextExpiry)) {
+      return discounts;
+    }
+    return discounts.stream().filter(discount -> isActive(discount, now)).toList();
+  }
+
+  private static boolean isActive(Discount discount, Instant now) {
+    return discount.expiresAt() == null || discount.expiresAt().isAfter(now);
+  }
+
+  private static boolean hasAny(List<?> values) {
+    return values != null && !values.isEmpty();
+  }
+
+  private static StoreView view(List<Discount> active) {
+    return new StoreView(
+        List.copyOf(active),
+        active.stream().filter(Discount::autoApply).toList(),
+        active.stream().filter(discount -> !hasAny(discount.eligibleSkus())).toList());
+  }
+}
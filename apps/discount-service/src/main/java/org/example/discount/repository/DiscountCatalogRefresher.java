@@ -0,0 +1,169 @@
+package org.example.discount.repository;
+
+import io.r2dbc.postgresql.api.Notification;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.postgresql.api.PostgresqlResult;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Wrapped;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import org.example.discount.config.DiscountCatalogProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Keeps the discount catalog in step with the discounts table.
+ *
+ * <p>On start the catalog is loaded before the web server accepts requests. Afterwards a dedicated
+ * (non-pooled) connection LISTENs on the channel the table trigger NOTIFYs, and every notification
+ * requests a reload. The connection is re-established with backoff, followed by a reload to cover
+ * notifications missed while disconnected. A periodic reload is the fallback if LISTEN is disabled
+ * or a notification is lost.
+ *
+ * <p>Implements SmartLifecycle so the LISTEN connection is opened and closed with the context.
+ */
+@Component
+public class DiscountCatalogRefresher implements SmartLifecycle {
+
+  private static final Logger log = LoggerFactory.getLogger(DiscountCatalogRefresher.class);
+
+  private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+
+  private final PostgresDiscountRepository repository;
+  private final ConnectionFactory connectionFactory;
+  private final DiscountCatalogProperties properties;
+  private final AtomicBoolean running = new AtomicBoolean(false);
+  private final AtomicLong connects = new AtomicLong();
+  private Disposable subscription;
+
+  public DiscountCatalogRefresher(
+      PostgresDiscountRepository repository,
+      ConnectionFactory connectionFactory,
+      DiscountCatalogProperties properties) {
+    if (!CHANNEL_NAME.matcher(properties.getChannel()).matches()) {
+      throw new IllegalArgumentException(
+          "discount.catalog.channel must be a lower-case identifier: " + properties.getChannel());
+    }
+    this.repository = repository;
+    this.connectionFactory = connectionFactory;
+    this.properties = properties;
+  }
+
+  @Override
+  public void start() {
+    if (!running.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      DiscountCatalog catalog =
+          repository.reload("startup").block(properties.getInitialLoadTimeout());
+      log.info("Discount catalog loaded: discounts={}", catalog != null ? catalog.size() : 0);
+    } catch (RuntimeException e) {
+      // Serve an empty catalog rather than failing startup; the listener and periodic refresh retry
+      log.error("Initial discount catalog load failed: {}", e.getMessage());
+    }
+
+    if (properties.isListenEnabled()) {
+      subscription =
+          listen()
+              .subscribe(
+                  notification ->
+                      repository.requestRefresh("notify:" + notification.getParameter()),
+                  error -> log.error("Discount catalog listener stopped: {}", error.getMessage()));
+      log.info("Listening for discount changes: channel={}", properties.getChannel());
+    }
+  }
+
+  @Override
+  public void stop() {
+    if (running.compareAndSet(true, false)) {
+      if (subscription != null && !subscription.isDisposed()) {
+        subscription.dispose();
+      }
+      log.info("Discount catalog listener stopped");
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running.get();
+  }
+
+  @Override
+  public int getPhase() {
+    // Start before the web server so the first requests see a loaded catalog
+    return SmartLifecycle.DEFAULT_PHASE - 4096;
+  }
+
+  /** Fallback reload in case a notification was missed. */
+  @Scheduled(
+      initialDelayString = "${discount.catalog.refresh-interval:PT5M}",
+      fixedDelayString = "${discount.catalog.refresh-interval:PT5M}")
+  public void scheduledRefresh() {
+    if (running.get()) {
+      repository.requestRefresh("scheduled");
+    }
+  }
+
+  private Flux<Notification> listen() {
+    return Flux.usingWhen(
+            Mono.defer(this::connect), this::notifications, PostgresqlConnection::close)
+        .concatWith(
+            Mono.error(
+                () -> new IllegalStateException("Discount catalog LISTEN connection closed")))
+        .retryWhen(
+            Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                .maxBackoff(properties.getReconnectMaxBackoff())
+                .transientErrors(true)
+                .doBeforeRetry(
+                    signal ->
+                        log.warn(
+                            "Discount catalog listener reconnecting: attempt={}, error={}",
+                            signal.totalRetriesInARow() + 1,
+                            signal.failure().getMessage())));
+  }
+
+  private Flux<Notification> notifications(PostgresqlConnection connection) {
+    return connection
+        .createStatement("LISTEN " + properties.getChannel())
+        .execute()
+        .flatMap(PostgresqlResult::getRowsUpdated)
+        .then(
+            Mono.fromRunnable(
+                () -> {
+                  if (connects.getAndIncrement() > 0) {
+                    repository.requestRefresh("reconnect");
+                  }
+                }))
+        .thenMany(connection.getNotifications());
+  }
+
+  /** Open a connection outside the pool; it is held for as long as the listener runs. */
+  private Mono<PostgresqlConnection> connect() {
+    ConnectionFactory target = connectionFactory;
+    while (target instanceof Wrapped<?> wrapped
+        && wrapped.unwrap() instanceof ConnectionFactory unwrapped) {
+      target = unwrapped;
+    }
+    return Mono.from(target.create())
+        .flatMap(
+            connection ->
+                connection instanceof PostgresqlConnection postgres
+                    ? Mono.just(postgres)
+                    : Mono.from(connection.close())
+                        .then(
+                            Mono.<PostgresqlConnection>error(
+                                new IllegalStateException(
+                                    "LISTEN requires a PostgreSQL connection, got "
+                                        + connection.getClass().getName()))));
+  }
+}
@@ -38,4 +38,22 @@ public interface DiscountRepository {
    * @return stream of auto-apply discounts
    */
   Flux<Discount> findAutoApplyByStore(int storeNumber);
+
+  /**
+   * Find all active discounts for a store that apply to a SKU, including discounts with no SKU
+   * restriction.
+   *
+   * @param storeNumber the store number
+   * @param sku the SKU
+   * @return stream of active discounts
+   */
+  Flux<Discount> findActiveBySku(int storeNumber, long sku);
+
+  /**
+   * Version of the discount data currently served. Changes whenever any discount changes, so
+   * callers may cache values derived from it.
+   *
+   * @return the catalog version
+   */
+  long catalogVersion();
 }
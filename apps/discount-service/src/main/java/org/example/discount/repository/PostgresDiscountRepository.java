@@ -0,0 +1,230 @@
+package org.example.discount.repository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.spi.Readable;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.example.model.discount.Discount;
+import org.example.model.discount.DiscountScope;
+import org.example.model.discount.DiscountType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Postgres-backed DiscountRepository served from an in-memory {@link DiscountCatalog}.
+ *
+ * <p>Reads never touch the database: they resolve against the current catalog snapshot, which is
+ * replaced atomically after a full reload. Reloads are requested by {@link
+ * DiscountCatalogRefresher} (change notifications, periodic refresh, expiries), run one at a time,
+ * and coalesce: any number of requests made while a reload is running trigger a single follow-up
+ * reload. The index is built on a bounded-elastic thread, off the event loop.
+ */
+@Repository
+public class PostgresDiscountRepository implements DiscountRepository {
+
+  private static final Logger log = LoggerFactory.getLogger(PostgresDiscountRepository.class);
+
+  private static final String EXPIRY = "expiry";
+
+  private static final String SELECT_ALL_SQL =
+      """
+      SELECT discount_id, code, type, value, description, expires_at, scope, stackable,
+             minimum_purchase, eligible_skus, eligible_stores, eligible_categories,
+             buy_quantity, get_quantity, auto_apply
+      FROM discounts
+      WHERE enabled
+      ORDER BY discount_id
+      """;
+
+  private final DatabaseClient databaseClient;
+  private final AtomicReference<DiscountCatalog> catalog =
+      new AtomicReference<>(DiscountCatalog.empty());
+  private final AtomicReference<String> pendingReason = new AtomicReference<>();
+  private final Sinks.Many<Boolean> refreshRequests =
+      Sinks.many().unicast().onBackpressureBuffer();
+  private final Timer reloadTimer;
+  private final Counter reloadFailures;
+
+  public PostgresDiscountRepository(DatabaseClient databaseClient, MeterRegistry meterRegistry) {
+    this.databaseClient = databaseClient;
+    this.reloadTimer =
+        Timer.builder("discount.catalog.reload.duration")
+            .description("Duration of a full discount catalog reload")
+            .register(meterRegistry);
+    this.reloadFailures =
+        Counter.builder("discount.catalog.reload.failures")
+            .description("Discount catalog reloads that failed and kept the previous snapshot")
+            .register(meterRegistry);
+    Gauge.builder("discount.catalog.size", catalog, ref -> ref.get().size())
+        .description("Discounts in the current catalog snapshot")
+        .register(meterRegistry);
+    Gauge.builder("discount.catalog.version", catalog, ref -> ref.get().version())
+        .description("Version of the current catalog snapshot")
+        .register(meterRegistry);
+
+    refreshRequests
+        .asFlux()
+        .concatMap(
+            signal -> {
+              String reason = pendingReason.getAndSet(null);
+              return reload(reason)
+                  .onErrorResume(
+                      e -> {
+                        reloadFailures.increment();
+                        log.error(
+                            "Discount catalog reload failed, keeping version {}: reason={},"
+                                + " error={}",
+                            catalog.get().version(),
+                            reason,
+                            e.getMessage());
+                        return Mono.empty();
+                      });
+            })
+        .subscribe();
+  }
+
+  @Override
+  public Mono<Discount> findById(String discountId) {
+    return Mono.justOrEmpty(current().findById(discountId));
+  }
+
+  @Override
+  public Mono<Discount> findByCode(String code) {
+    return Mono.justOrEmpty(current().findByCode(code));
+  }
+
+  @Override
+  public Flux<Discount> findActiveByStore(int storeNumber) {
+    return Flux.fromIterable(current().findActiveByStore(storeNumber, Instant.now()));
+  }
+
+  @Override
+  public Flux<Discount> findAutoApplyByStore(int storeNumber) {
+    return Flux.fromIterable(current().findAutoApplyByStore(storeNumber, Instant.now()));
+  }
+
+  @Override
+  public Flux<Discount> findActiveBySku(int storeNumber, long sku) {
+    return Flux.fromIterable(current().findActiveBySku(storeNumber, sku, Instant.now()));
+  }
+
+  @Override
+  public long catalogVersion() {
+    return catalog.get().version();
+  }
+
+  /**
+   * Request an asynchronous reload. Requests made while a reload is queued are coalesced into it;
+   * a queued expiry re-index is upgraded to a full reload if one is requested.
+   *
+   * @param reason why the reload was requested, for logging
+   */
+  void requestRefresh(String reason) {
+    String previous =
+        pendingReason.getAndAccumulate(
+            reason, (queued, next) -> queued == null || EXPIRY.equals(queued) ? next : queued);
+    if (previous == null) {
+      refreshRequests.emitNext(
+          Boolean.TRUE, Sinks.EmitFailureHandler.busyLooping(Duration.ofSeconds(1)));
+    }
+  }
+
+  /**
+   * Load every enabled discount, build a new catalog and swap it in. The current snapshot is kept
+   * (same version) if the loaded discounts are unchanged. An expiry only re-indexes the discounts
+   * already in memory; the database is not queried.
+   *
+   * @param reason why the reload was requested, for logging
+   * @return the catalog in effect after the reload
+   */
+  Mono<DiscountCatalog> reload(String reason) {
+    if (EXPIRY.equals(reason)) {
+      return Mono.fromCallable(() -> swap(catalog.get().discounts(), reason))
+          .subscribeOn(Schedulers.boundedElastic());
+    }
+    return Mono.defer(
+        () -> {
+          long startNanos = System.nanoTime();
+          return databaseClient
+              .sql(SELECT_ALL_SQL)
+              .map(PostgresDiscountRepository::toDiscount)
+              .all()
+              .collectList()
+              .publishOn(Schedulers.boundedElastic())
+              .map(discounts -> swap(discounts, reason))
+              .doOnSuccess(
+                  swapped -> reloadTimer.record(Duration.ofNanos(System.nanoTime() - startNanos)));
+        });
+  }
+
+  /**
+   * The snapshot reads are served from. Re-indexed in the background once a discount in it has
+   * expired, so expiry filtering at lookup time stays short-lived.
+   */
+  private DiscountCatalog current() {
+    DiscountCatalog snapshot = catalog.get();
+    if (!Instant.now().isBefore(snapshot.nextExpiry())) {
+      requestRefresh(EXPIRY);
+    }
+    return snapshot;
+  }
+
+  private DiscountCatalog swap(List<Discount> discounts, String reason) {
+    DiscountCatalog previous = catalog.get();
+    Instant now = Instant.now();
+    if (previous.version() > 0
+        && previous.discounts().equals(discounts)
+        && now.isBefore(previous.nextExpiry())) {
+      log.debug("Discount catalog unchanged: version={}, reason={}", previous.version(), reason);
+      return previous;
+    }
+    DiscountCatalog next = DiscountCatalog.build(previous.version() + 1, discounts, now);
+    catalog.set(next);
+    log.info(
+        "Discount catalog reloaded: version={}, discounts={}, reason={}",
+        next.version(),
+        next.size(),
+        reason);
+    return next;
+  }
+
+  private static Discount toDiscount(Readable row) {
+    return new Discount(
+        row.get("discount_id", String.class),
+        row.get("code", String.class),
+        DiscountType.valueOf(row.get("type", String.class)),
+        row.get("value", BigDecimal.class),
+        row.get("description", String.class),
+        row.get("expires_at", Instant.class),
+        DiscountScope.valueOf(row.get("scope", String.class)),
+        Boolean.TRUE.equals(row.get("stackable", Boolean.class)),
+        row.get("minimum_purchase", BigDecimal.class),
+        toList(row.get("eligible_skus", Long[].class)),
+        toList(row.get("eligible_stores", Integer[].class)),
+        Boolean.TRUE.equals(row.get("auto_apply", Boolean.class)),
+        toList(row.get("eligible_categories", String[].class)),
+        intOrZero(row.get("buy_quantity", Integer.class)),
+        intOrZero(row.get("get_quantity", Integer.class)));
+  }
+
+  private static <T> List<T> toList(T[] values) {
+    return values != null ? List.copyOf(Arrays.asList(values)) : List.of();
+  }
+
+  private static int intOrZero(Integer value) {
+    return value != null ? value : 0;
+  }
+}
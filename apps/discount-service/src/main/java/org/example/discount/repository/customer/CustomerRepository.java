@@ -5,6 +5,7 @@ import java.util.List;
 import org.example.discount.domain.LoyaltyInfo;
 import org.example.discount.domain.LoyaltyInfo.BenefitType;
 import org.example.discount.domain.LoyaltyInfo.LoyaltyBenefit;
+import org.example.platform.webflux.client.ServiceWebClientFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -17,9 +18,9 @@ public class CustomerRepository {
   private final WebClient webClient;
 
   public CustomerRepository(
-      WebClient.Builder webClientBuilder,
+      ServiceWebClientFactory webClientFactory,
       @Value("${services.customer-service.url:http://localhost:8083}") String baseUrl) {
-    this.webClient = webClientBuilder.baseUrl(baseUrl).build();
+    this.webClient = webClientFactory.builder("customer", baseUrl).build();
   }
 
   /**
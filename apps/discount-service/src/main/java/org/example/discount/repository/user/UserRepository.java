@@ -4,6 +4,7 @@ import java.util.Set;
 import org.example.discount.domain.UserContext;
 import org.example.discount.domain.UserContext.Permission;
 import org.example.discount.domain.UserContext.UserType;
+import org.example.platform.webflux.client.ServiceWebClientFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -16,9 +17,9 @@ public class UserRepository {
   private final WebClient webClient;
 
   public UserRepository(
-      WebClient.Builder webClientBuilder,
+      ServiceWebClientFactory webClientFactory,
       @Value("${services.user-service.url:http://localhost:8084}") String baseUrl) {
-    this.webClient = webClientBuilder.baseUrl(baseUrl).build();
+    this.webClient = webClientFactory.builder("user", baseUrl).build();
   }
 
   /**
@@ -53,6 +53,17 @@ public class DiscountService {
     return repository.findActiveByStore(storeNumber);
   }
 
+  /**
+   * Get all active discounts for a store that apply to a SKU.
+   *
+   * @param storeNumber the store number
+   * @param sku the SKU
+   * @return stream of active discounts
+   */
+  public Flux<Discount> getActiveDiscountsForSku(int storeNumber, long sku) {
+    return repository.findActiveBySku(storeNumber, sku);
+  }
+
   /**
    * Find a discount by ID.
    *
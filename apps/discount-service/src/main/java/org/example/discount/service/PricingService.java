@@ -1,5 +1,6 @@
 package org.example.discount.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Instant;
@@ -11,6 +12,10 @@ import org.example.discount.controller.dto.ShippingOption;
 import org.example.discount.domain.LoyaltyInfo;
 import org.example.discount.domain.LoyaltyInfo.BenefitType;
 import org.example.discount.domain.UserContext;
+import org.example.discount.promotion.PromotionEngine;
+import org.example.discount.promotion.PromotionIndex;
+import org.example.discount.promotion.PromotionOutcome;
+import org.example.discount.promotion.PromotionOutcome.LineSavings;
 import org.example.discount.repository.DiscountRepository;
 import org.example.discount.repository.MarkdownRepository;
 import org.example.discount.repository.customer.CustomerRepository;
@@ -23,6 +28,7 @@ import org.example.model.discount.ItemPricing;
 import org.example.model.discount.LoyaltySummary;
 import org.example.model.discount.Markdown;
 import org.example.model.discount.PricingResult;
+import org.example.platform.webflux.metrics.StageTimer;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -38,16 +44,22 @@ public class PricingService {
   private final MarkdownRepository markdownRepository;
   private final CustomerRepository customerRepository;
   private final UserRepository userRepository;
+  private final PromotionEngine promotionEngine;
+  private final StageTimer stageTimer;
 
   public PricingService(
       DiscountRepository discountRepository,
       MarkdownRepository markdownRepository,
       CustomerRepository customerRepository,
-      UserRepository userRepository) {
+      UserRepository userRepository,
+      PromotionEngine promotionEngine,
+      MeterRegistry meterRegistry) {
     this.discountRepository = discountRepository;
     this.markdownRepository = markdownRepository;
     this.customerRepository = customerRepository;
     this.userRepository = userRepository;
+    this.promotionEngine = promotionEngine;
+    this.stageTimer = new StageTimer(meterRegistry, "discount.calculateBestPrice");
   }
 
   /**
@@ -57,20 +69,28 @@ public class PricingService {
    * @return the pricing result with all discounts applied
    */
   public Mono<PricingResult> calculateBestPrice(PricingRequest request) {
-    return Mono.zip(
-            getCustomerLoyalty(request.customerId()),
-            getUserContext(request.userId()),
-            getApplicableDiscounts(request),
-            getActiveMarkdowns(request.cartId()))
-        .flatMap(
-            tuple -> {
-              LoyaltyInfo loyalty = tuple.getT1();
-              UserContext user = tuple.getT2();
-              List<Discount> discounts = tuple.getT3();
-              List<Markdown> markdowns = tuple.getT4();
-
-              return computeOptimalPricing(request, loyalty, user, discounts, markdowns);
-            });
+    return stageTimer.time(
+        StageTimer.TOTAL,
+        Mono.zip(
+                stageTimer.time("loyalty.load", getCustomerLoyalty(request.customerId())),
+                stageTimer.time("user.load", getUserContext(request.userId())),
+                stageTimer.time("discounts.load", getApplicableDiscounts(request)),
+                stageTimer.time("markdowns.load", getActiveMarkdowns(request.cartId())))
+            .flatMap(
+                tuple -> {
+                  LoyaltyInfo loyalty = tuple.getT1();
+                  UserContext user = tuple.getT2();
+                  ApplicableDiscounts discounts = tuple.getT3();
+                  List<Markdown> markdowns = tuple.getT4();
+
+                  // Deferred so the timer covers the evaluation, not just the returned value
+                  return stageTimer.time(
+                      "compute",
+                      Mono.defer(
+                          () ->
+                              computeOptimalPricing(
+                                  request, loyalty, user, discounts, markdowns)));
+                }));
   }
 
   private Mono<LoyaltyInfo> getCustomerLoyalty(String customerId) {
@@ -89,21 +109,43 @@ public class PricingService {
     return userRepository.getUser(userId).defaultIfEmpty(UserContext.anonymous());
   }
 
-  private Mono<List<Discount>> getApplicableDiscounts(PricingRequest request) {
-    // Get auto-apply discounts + validate promo codes
-    Flux<Discount> autoApply = discountRepository.findAutoApplyByStore(request.storeNumber());
+  private Mono<ApplicableDiscounts> getApplicableDiscounts(PricingRequest request) {
+    // Get auto-apply discounts + validate promo codes (in-memory catalog lookups)
+    long catalogVersion = discountRepository.catalogVersion();
+    Mono<List<Discount>> autoApply =
+        discountRepository.findAutoApplyByStore(request.storeNumber()).collectList();
 
     List<String> promoCodes = request.promoCodes() != null ? request.promoCodes() : List.of();
-    Flux<Discount> promoDiscounts =
+    Mono<List<Discount>> promoDiscounts =
         Flux.fromIterable(promoCodes)
             .flatMap(
                 code ->
                     discountRepository
                         .findByCode(code)
                         .filter(Discount::isValid)
-                        .filter(d -> d.appliesTo(request.storeNumber())));
+                        .filter(d -> d.appliesTo(request.storeNumber())))
+            .distinct(Discount::discountId)
+            .collectList();
 
-    return Flux.merge(autoApply, promoDiscounts).distinct(Discount::discountId).collectList();
+    return Mono.zip(autoApply, promoDiscounts)
+        .map(
+            tuple -> {
+              List<Discount> autoApplied = tuple.getT1();
+              List<Discount> entered =
+                  tuple.getT2().stream()
+                      .filter(
+                          d ->
+                              autoApplied.stream()
+                                  .noneMatch(a -> a.discountId().equals(d.discountId())))
+                      .toList();
+              PromotionIndex index =
+                  promotionEngine
+                      .autoApplyIndex(request.storeNumber(), catalogVersion, autoApplied)
+                      .overlay(entered);
+              List<Discount> all = new ArrayList<>(autoApplied);
+              all.addAll(entered);
+              return new ApplicableDiscounts(all, index);
+            });
   }
 
   private Mono<List<Markdown>> getActiveMarkdowns(String cartId) {
@@ -117,11 +159,14 @@ public class PricingService {
       PricingRequest request,
       LoyaltyInfo loyalty,
       UserContext user,
-      List<Discount> discounts,
+      ApplicableDiscounts discounts,
       List<Markdown> markdowns) {
 
-    BigDecimal subtotal = calculateSubtotal(request.items());
-    List<ItemPricing> itemPricings = buildItemPricings(request.items());
+    List<CartItem> items = request.items() != null ? request.items() : List.of();
+    BigDecimal subtotal = calculateSubtotal(items);
+    PromotionOutcome promotions =
+        promotionEngine.evaluate(discounts.index(), items, Instant.now());
+    List<ItemPricing> itemPricings = buildItemPricings(items, promotions.lines());
     List<AppliedPromotion> appliedPromotions = new ArrayList<>();
     BigDecimal totalSavings = BigDecimal.ZERO;
 
@@ -138,9 +183,9 @@ public class PricingService {
               DiscountScope.CART));
     }
 
-    // 2. Apply best discount combination
-    BigDecimal promoSavings = applyBestDiscounts(discounts, subtotal, appliedPromotions);
-    totalSavings = totalSavings.add(promoSavings);
+    // 2. Apply best item-, category- and cart-scope promotion combination
+    appliedPromotions.addAll(promotions.promotions());
+    totalSavings = totalSavings.add(promotions.totalSavings());
 
     // 3. Apply employee markdowns (if user is employee)
     if (user.isEmployee() && !markdowns.isEmpty()) {
@@ -150,7 +195,8 @@ public class PricingService {
 
     // 4. Calculate shipping
     BigDecimal shippingCost = calculateShipping(request.shipping(), subtotal);
-    BigDecimal shippingDiscount = calculateShippingDiscount(discounts, loyalty, shippingCost);
+    BigDecimal shippingDiscount =
+        calculateShippingDiscount(discounts.all(), loyalty, shippingCost);
 
     if (shippingDiscount.compareTo(BigDecimal.ZERO) > 0) {
       appliedPromotions.add(
@@ -189,24 +235,23 @@ public class PricingService {
         .reduce(BigDecimal.ZERO, BigDecimal::add);
   }
 
-  private List<ItemPricing> buildItemPricings(List<CartItem> items) {
-    if (items == null || items.isEmpty()) {
-      return List.of();
+  private List<ItemPricing> buildItemPricings(List<CartItem> items, List<LineSavings> savings) {
+    List<ItemPricing> pricings = new ArrayList<>(items.size());
+    for (int i = 0; i < items.size(); i++) {
+      CartItem item = items.get(i);
+      LineSavings line = savings.get(i);
+      BigDecimal total = item.unitPrice().multiply(BigDecimal.valueOf(item.quantity()));
+      pricings.add(
+          new ItemPricing(
+              item.sku(),
+              item.quantity(),
+              item.unitPrice(),
+              total,
+              total.subtract(line.savings()),
+              line.savings(),
+              line.discountIds()));
     }
-    return items.stream()
-        .map(
-            item -> {
-              BigDecimal total = item.unitPrice().multiply(BigDecimal.valueOf(item.quantity()));
-              return new ItemPricing(
-                  item.sku(),
-                  item.quantity(),
-                  item.unitPrice(),
-                  total,
-                  total,
-                  BigDecimal.ZERO,
-                  List.of());
-            })
-        .toList();
+    return pricings;
   }
 
   private BigDecimal applyLoyaltyDiscount(LoyaltyInfo loyalty, BigDecimal subtotal) {
@@ -224,79 +269,6 @@ public class PricingService {
         .orElse(BigDecimal.ZERO);
   }
 
-  private BigDecimal applyBestDiscounts(
-      List<Discount> discounts, BigDecimal subtotal, List<AppliedPromotion> applied) {
-
-    // Separate stackable and non-stackable
-    List<Discount> stackable =
-        discounts.stream()
-            .filter(Discount::stackable)
-            .filter(d -> d.scope() == DiscountScope.CART)
-            .toList();
-    List<Discount> nonStackable =
-        discounts.stream()
-            .filter(d -> !d.stackable())
-            .filter(d -> d.scope() == DiscountScope.CART)
-            .toList();
-
-    // Calculate stackable total
-    BigDecimal stackableSavings =
-        stackable.stream()
-            .map(d -> calculateDiscountValue(d, subtotal))
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-    // Find best non-stackable
-    BigDecimal bestNonStackable =
-        nonStackable.stream()
-            .map(d -> calculateDiscountValue(d, subtotal))
-            .max(BigDecimal::compareTo)
-            .orElse(BigDecimal.ZERO);
-
-    // Use whichever is better
-    if (stackableSavings.compareTo(bestNonStackable) >= 0 && !stackable.isEmpty()) {
-      stackable.forEach(
-          d ->
-              applied.add(
-                  new AppliedPromotion(
-                      d.discountId(),
-                      d.autoApply() ? "AUTO_APPLY" : "PROMO_CODE",
-                      d.description(),
-                      calculateDiscountValue(d, subtotal),
-                      d.scope())));
-      return stackableSavings;
-    } else if (bestNonStackable.compareTo(BigDecimal.ZERO) > 0) {
-      nonStackable.stream()
-          .filter(d -> calculateDiscountValue(d, subtotal).equals(bestNonStackable))
-          .findFirst()
-          .ifPresent(
-              d ->
-                  applied.add(
-                      new AppliedPromotion(
-                          d.discountId(),
-                          d.autoApply() ? "AUTO_APPLY" : "PROMO_CODE",
-                          d.description(),
-                          bestNonStackable,
-                          d.scope())));
-      return bestNonStackable;
-    }
-
-    return BigDecimal.ZERO;
-  }
-
-  private BigDecimal calculateDiscountValue(Discount discount, BigDecimal subtotal) {
-    if (subtotal.compareTo(discount.minimumPurchase()) < 0) {
-      return BigDecimal.ZERO;
-    }
-    return switch (discount.type()) {
-      case PERCENTAGE ->
-          subtotal
-              .multiply(discount.value())
-              .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
-      case FIXED_AMOUNT -> discount.value().min(subtotal);
-      case FREE_SHIPPING, BUY_X_GET_Y -> BigDecimal.ZERO;
-    };
-  }
-
   private BigDecimal applyMarkdowns(
       List<Markdown> markdowns, BigDecimal subtotal, List<AppliedPromotion> applied) {
     BigDecimal totalSavings = BigDecimal.ZERO;
@@ -391,4 +363,7 @@ public class PricingService {
         Math.max(0, pointsToNextTier),
         appliedBenefits);
   }
+
+  /** Discounts for one pricing request: the full list (for shipping) and the compiled index. */
+  private record ApplicableDiscounts(List<Discount> all, PromotionIndex index) {}
 }
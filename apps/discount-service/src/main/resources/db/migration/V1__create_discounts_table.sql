@@ -0,0 +1,64 @@
+-- Discount catalog. Eligibility lists are arrays; an empty array means "no restriction".
+CREATE TABLE IF NOT EXISTS discounts (
+    discount_id VARCHAR(64) PRIMARY KEY,
+    code VARCHAR(64) NOT NULL,
+    type VARCHAR(32) NOT NULL,
+    value NUMERIC(12, 4) NOT NULL DEFAULT 0,
+    description TEXT,
+    expires_at TIMESTAMP WITH TIME ZONE,
+    scope VARCHAR(32) NOT NULL,
+    stackable BOOLEAN NOT NULL DEFAULT FALSE,
+    minimum_purchase NUMERIC(12, 4) NOT NULL DEFAULT 0,
+    eligible_skus BIGINT[] NOT NULL DEFAULT '{}',
+    eligible_stores INTEGER[] NOT NULL DEFAULT '{}',
+    eligible_categories TEXT[] NOT NULL DEFAULT '{}',
+    buy_quantity INTEGER NOT NULL DEFAULT 0,
+    get_quantity INTEGER NOT NULL DEFAULT 0,
+    auto_apply BOOLEAN NOT NULL DEFAULT FALSE,
+    enabled BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    CONSTRAINT chk_discounts_code_upper CHECK (code = UPPER(code))
+);
+
+-- Promo codes are looked up case-insensitively (stored upper-case)
+CREATE UNIQUE INDEX idx_discounts_code ON discounts(code);
+
+-- Notify the service's in-memory catalog of any change so it reloads without a redeploy.
+-- The payload is the affected discount id (informational; the service reloads the whole catalog).
+CREATE OR REPLACE FUNCTION notify_discount_catalog_changed() RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM pg_notify(
+        'discount_catalog_changed',
+        COALESCE(NEW.discount_id, OLD.discount_id, ''));
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_discounts_changed
+    AFTER INSERT OR UPDATE OR DELETE ON discounts
+    FOR EACH ROW EXECUTE FUNCTION notify_discount_catalog_changed();
+
+-- Truncation does not fire row triggers
+CREATE TRIGGER trg_discounts_truncated
+    AFTER TRUNCATE ON discounts
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_discount_catalog_changed();
+
+-- Development seed data (previously hard-coded in InMemoryDiscountRepository)
+INSERT INTO discounts
+    (discount_id, code, type, value, description, expires_at, scope, stackable,
+     minimum_purchase, auto_apply)
+VALUES
+    ('disc-001', 'SAVE10', 'PERCENTAGE', 10, '10% off your order',
+     NOW() + INTERVAL '365 days', 'CART', TRUE, 0, FALSE),
+    ('disc-002', 'SAVE20', 'PERCENTAGE', 20, '20% off your order',
+     NOW() + INTERVAL '365 days', 'CART', FALSE, 50, FALSE),
+    ('disc-003', 'FLAT5', 'FIXED_AMOUNT', 5, '$5 off your order',
+     NOW() + INTERVAL '365 days', 'CART', TRUE, 0, FALSE),
+    ('disc-004', 'FREESHIP', 'FREE_SHIPPING', 0, 'Free shipping',
+     NOW() + INTERVAL '365 days', 'SHIPPING', TRUE, 25, FALSE),
+    ('disc-005', 'SUMMER15', 'PERCENTAGE', 15, 'Summer sale 15% off',
+     NOW() + INTERVAL '90 days', 'CART', FALSE, 0, TRUE),
+    ('disc-006', 'LOYALTY5', 'PERCENTAGE', 5, 'Loyalty member 5% off',
+     NOW() + INTERVAL '365 days', 'CART', TRUE, 0, TRUE)
+ON CONFLICT (discount_id) DO NOTHING;
@@ -0,0 +1,69 @@
+package org.example.discount;
+
+import io.r2dbc.postgresql.PostgresqlConnectionConfiguration;
+import io.r2dbc.postgresql.PostgresqlConnectionFactory;
+import java.time.Duration;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Base class for integration tests that require PostgreSQL. Starts a PostgreSQL container, applies
+ * the Flyway migrations (including the discounts trigger that NOTIFYs catalog changes) and hands
+ * out unpooled R2DBC connections to it.
+ */
+@Testcontainers
+public abstract class AbstractIntegrationTest {
+
+  protected static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+  @Container
+  protected static PostgreSQLContainer<?> postgres =
+      new PostgreSQLContainer<>("postgres:15-alpine")
+          .withDatabaseName("discountdb")
+          .withUsername("discount_user")
+          .withPassword("discount_pass");
+
+  @BeforeAll
+  static void migrate() {
+    Flyway.configure()
+        .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+        .locations("classpath:db/migration")
+        .load()
+        .migrate();
+  }
+
+  protected static PostgresqlConnectionFactory connectionFactory() {
+    return new PostgresqlConnectionFactory(
+        PostgresqlConnectionConfiguration.builder()
+            .host(postgres.getHost())
+            .port(postgres.getFirstMappedPort())
+            .database(postgres.getDatabaseName())
+            .username(postgres.getUsername())
+            .password(postgres.getPassword())
+            .build());
+  }
+
+  protected static DatabaseClient databaseClient() {
+    return DatabaseClient.create(connectionFactory());
+  }
+
+  protected static void execute(String sql) {
+    databaseClient().sql(sql).then().block(TIMEOUT);
+  }
+
+  /** Insert an enabled 10% cart discount; the table trigger NOTIFYs the change on commit. */
+  protected static void insertDiscount(String discountId) {
+    databaseClient()
+        .sql(
+            "INSERT INTO discounts (discount_id, code, type, value, scope)"
+                + " VALUES (:id, :code, 'PERCENTAGE', 10, 'CART')")
+        .bind("id", discountId)
+        .bind("code", discountId.toUpperCase())
+        .then()
+        .block(TIMEOUT);
+  }
+}
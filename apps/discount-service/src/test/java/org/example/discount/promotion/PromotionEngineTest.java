@@ -0,0 +1,305 @@
+package org.example.discount.promotion;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import org.example.discount.controller.dto.CartItem;
+import org.example.model.discount.AppliedPromotion;
+import org.example.model.discount.Discount;
+import org.example.model.discount.DiscountScope;
+import org.example.model.discount.DiscountType;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for PromotionEngine and PromotionIndex. */
+class PromotionEngineTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-15T12:00:00Z");
+
+  private final PromotionEngine engine = new PromotionEngine();
+
+  @Nested
+  class ItemScope {
+
+    @Test
+    void percentageOnEligibleSku_discountsOnlyThatLine() {
+      PromotionIndex index =
+          PromotionIndex.compile(
+              List.of(item("p1", DiscountType.PERCENTAGE, "25", true, List.of(1L), List.of())));
+
+      PromotionOutcome outcome =
+          engine.evaluate(index, List.of(line(1L, "10.00", 2), line(2L, "7.00", 1)), NOW);
+
+      assertThat(outcome.lines().get(0).savings()).isEqualByComparingTo("5.00");
+      assertThat(outcome.lines().get(0).discountIds()).containsExactly("p1");
+      assertThat(outcome.lines().get(1).savings()).isEqualByComparingTo("0");
+      assertThat(outcome.totalSavings()).isEqualByComparingTo("5.00");
+      assertThat(outcome.promotions())
+          .extracting(AppliedPromotion::scope)
+          .containsExactly(DiscountScope.ITEM);
+    }
+
+    @Test
+    void buyTwoGetOneFree_discountsEveryThirdUnit() {
+      PromotionIndex index =
+          PromotionIndex.compile(List.of(buyXGetY("bxgy", 2, 1, List.of(2L))));
+
+      PromotionOutcome five = engine.evaluate(index, List.of(line(2L, "4.00", 5)), NOW);
+      PromotionOutcome six = engine.evaluate(index, List.of(line(2L, "4.00", 6)), NOW);
+
+      assertThat(five.totalSavings()).isEqualByComparingTo("4.00");
+      assertThat(six.totalSavings()).isEqualByComparingTo("8.00");
+    }
+
+    @Test
+    void bestExclusiveBeatsSmallerStack() {
+      PromotionIndex index =
+          PromotionIndex.compile(
+              List.of(
+                  item("s1", DiscountType.PERCENTAGE, "5", true, List.of(1L), List.of()),
+                  item("s2", DiscountType.PERCENTAGE, "5", true, List.of(1L), List.of()),
+                  item("x1", DiscountType.PERCENTAGE, "15", false, List.of(1L), List.of())));
+
+      PromotionOutcome outcome = engine.evaluate(index, List.of(line(1L, "100.00", 1)), NOW);
+
+      assertThat(outcome.lines().get(0).discountIds()).containsExactly("x1");
+      assertThat(outcome.totalSavings()).isEqualByComparingTo("15.00");
+    }
+
+    @Test
+    void stackedSavings_areCappedAtLineTotal() {
+      PromotionIndex index =
+          PromotionIndex.compile(
+              List.of(
+                  item("f1", DiscountType.FIXED_AMOUNT, "6", true, List.of(1L), List.of()),
+                  item("f2", DiscountType.FIXED_AMOUNT, "6", true, List.of(1L), List.of())));
+
+      PromotionOutcome outcome = engine.evaluate(index, List.of(line(1L, "10.00", 1)), NOW);
+
+      assertThat(outcome.totalSavings()).isEqualByComparingTo("10.00");
+    }
+  }
+
+  @Nested
+  class CategoryScope {
+
+    @Test
+    void categoryPromotion_appliesToLinesInCategory() {
+      PromotionIndex index =
+          PromotionIndex.compile(
+              List.of(category("c1", DiscountType.PERCENTAGE, "10", List.of("Tools"))));
+
+      PromotionOutcome outcome =
+          engine.evaluate(
+              index,
+              List.of(
+                  new CartItem(1L, 1, new BigDecimal("50.00"), "Tools"),
+                  new CartItem(2L, 1, new BigDecimal("50.00"), "Garden")),
+              NOW);
+
+      assertThat(outcome.lines().get(0).savings()).isEqualByComparingTo("5.00");
+      assertThat(outcome.lines().get(1).savings()).isEqualByComparingTo("0");
+      assertThat(outcome.promotions())
+          .extracting(AppliedPromotion::scope)
+          .containsExactly(DiscountScope.CATEGORY);
+    }
+
+    @Test
+    void promotionListedBySkuAndCategory_isCountedOnce() {
+      PromotionIndex index =
+          PromotionIndex.compile(
+              List.of(
+                  item(
+                      "both",
+                      DiscountType.FIXED_AMOUNT,
+                      "1",
+                      true,
+                      List.of(1L),
+                      List.of("Tools"))));
+
+      PromotionOutcome outcome =
+          engine.evaluate(index, List.of(new CartItem(1L, 1, BigDecimal.TEN, "Tools")), NOW);
+
+      assertThat(outcome.totalSavings()).isEqualByComparingTo("1.00");
+    }
+  }
+
+  @Nested
+  class CartScope {
+
+    @Test
+    void stackableCartPromotion_appliesToRemainderAfterItemSavings() {
+      PromotionIndex index =
+          PromotionIndex.compile(
+              List.of(
+                  item("i1", DiscountType.FIXED_AMOUNT, "10", true, List.of(1L), List.of()),
+                  cart("c10", DiscountType.PERCENTAGE, "10", true, "0")));
+
+      PromotionOutcome outcome = engine.evaluate(index, List.of(line(1L, "100.00", 1)), NOW);
+
+      // 10.00 item + 10% of the remaining 90.00
+      assertThat(outcome.totalSavings()).isEqualByComparingTo("19.00");
+    }
+
+    @Test
+    void exclusiveCartPromotion_replacesEverythingWhenBetter() {
+      PromotionIndex index =
+          PromotionIndex.compile(
+              List.of(
+                  item("i1", DiscountType.FIXED_AMOUNT, "10", true, List.of(1L), List.of()),
+                  cart("half", DiscountType.PERCENTAGE, "50", false, "0")));
+
+      PromotionOutcome outcome = engine.evaluate(index, List.of(line(1L, "100.00", 1)), NOW);
+
+      assertThat(outcome.totalSavings()).isEqualByComparingTo("50.00");
+      assertThat(outcome.lines().get(0).savings()).isEqualByComparingTo("0");
+      assertThat(outcome.promotions())
+          .extracting(AppliedPromotion::promotionId)
+          .containsExactly("half");
+    }
+
+    @Test
+    void minimumPurchaseNotMet_promotionIgnored() {
+      PromotionIndex index =
+          PromotionIndex.compile(List.of(cart("big", DiscountType.PERCENTAGE, "20", false, "50")));
+
+      PromotionOutcome outcome = engine.evaluate(index, List.of(line(1L, "30.00", 1)), NOW);
+
+      assertThat(outcome.totalSavings()).isEqualByComparingTo("0");
+      assertThat(outcome.promotions()).isEmpty();
+    }
+  }
+
+  @Nested
+  class Indexing {
+
+    @Test
+    void overlay_combinesWithParentIndex() {
+      PromotionIndex base =
+          PromotionIndex.compile(
+              List.of(item("auto", DiscountType.FIXED_AMOUNT, "1", true, List.of(1L), List.of())));
+      PromotionIndex withCode =
+          base.overlay(
+              List.of(item("code", DiscountType.FIXED_AMOUNT, "2", true, List.of(1L), List.of())));
+
+      PromotionOutcome outcome = engine.evaluate(withCode, List.of(line(1L, "10.00", 1)), NOW);
+
+      assertThat(withCode.size()).isEqualTo(2);
+      assertThat(outcome.lines().get(0).discountIds()).containsExactlyInAnyOrder("auto", "code");
+      assertThat(outcome.totalSavings()).isEqualByComparingTo("3.00");
+    }
+
+    @Test
+    void expiredPromotion_isIgnored() {
+      Discount expired =
+          new Discount(
+              "old",
+              "OLD",
+              DiscountType.PERCENTAGE,
+              BigDecimal.TEN,
+              "Expired",
+              NOW.minusSeconds(1),
+              DiscountScope.CART,
+              true,
+              BigDecimal.ZERO,
+              List.of(),
+              List.of(),
+              true);
+
+      PromotionOutcome outcome =
+          engine.evaluate(
+              PromotionIndex.compile(List.of(expired)), List.of(line(1L, "10.00", 1)), NOW);
+
+      assertThat(outcome.totalSavings()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    void autoApplyIndex_isReusedUntilCatalogVersionChanges() {
+      List<Discount> discounts = List.of(cart("c1", DiscountType.PERCENTAGE, "10", true, "0"));
+
+      PromotionIndex first = engine.autoApplyIndex(100, 1, discounts);
+      PromotionIndex second = engine.autoApplyIndex(100, 1, List.copyOf(discounts));
+      PromotionIndex otherStore = engine.autoApplyIndex(200, 1, discounts);
+      PromotionIndex changed =
+          engine.autoApplyIndex(
+              100, 2, List.of(cart("c2", DiscountType.PERCENTAGE, "5", true, "0")));
+
+      assertThat(second).isSameAs(first);
+      assertThat(otherStore).isNotSameAs(first);
+      assertThat(changed).isNotSameAs(first);
+    }
+  }
+
+  // ==================== Fixtures ====================
+
+  private static CartItem line(long sku, String price, int quantity) {
+    return new CartItem(sku, quantity, new BigDecimal(price), null);
+  }
+
+  private static Discount item(
+      String id,
+      DiscountType type,
+      String value,
+      boolean stackable,
+      List<Long> skus,
+      List<String> categories) {
+    return discount(id, type, value, DiscountScope.ITEM, stackable, "0", skus, categories, 0, 0);
+  }
+
+  private static Discount category(
+      String id, DiscountType type, String value, List<String> categories) {
+    return discount(
+        id, type, value, DiscountScope.CATEGORY, false, "0", List.of(), categories, 0, 0);
+  }
+
+  private static Discount cart(
+      String id, DiscountType type, String value, boolean stackable, String minimum) {
+    return discount(
+        id, type, value, DiscountScope.CART, stackable, minimum, List.of(), List.of(), 0, 0);
+  }
+
+  private static Discount buyXGetY(String id, int buy, int get, List<Long> skus) {
+    return discount(
+        id,
+        DiscountType.BUY_X_GET_Y,
+        "100",
+        DiscountScope.ITEM,
+        true,
+        "0",
+        skus,
+        List.of(),
+        buy,
+        get);
+  }
+
+  private static Discount discount(
+      String id,
+      DiscountType type,
+      String value,
+      DiscountScope scope,
+      boolean stackable,
+      String minimum,
+      List<Long> skus,
+      List<String> categories,
+      int buy,
+      int get) {
+    return new Discount(
+        id,
+        id.toUpperCase(),
+        type,
+        new BigDecimal(value),
+        id,
+        null,
+        scope,
+        stackable,
+        new BigDecimal(minimum),
+        skus,
+        List.of(),
+        true,
+        categories,
+        buy,
+        get);
+  }
+}
@@ -0,0 +1,127 @@
+package org.example.discount.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.example.discount.AbstractIntegrationTest;
+import org.example.discount.config.DiscountCatalogProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Integration tests for DiscountCatalogRefresher: initial load, reloads on NOTIFY from the
+ * discounts trigger, recovery after the LISTEN connection drops, and the periodic full reload.
+ */
+class DiscountCatalogRefresherTest extends AbstractIntegrationTest {
+
+  private static final String LISTENERS_SQL =
+      "SELECT COUNT(*) FROM pg_stat_activity WHERE query = 'LISTEN discount_catalog_changed'";
+
+  private DiscountCatalogProperties properties;
+  private PostgresDiscountRepository repository;
+  private DiscountCatalogRefresher refresher;
+
+  @BeforeEach
+  void setUp() {
+    properties = new DiscountCatalogProperties();
+    properties.setReconnectMaxBackoff(Duration.ofSeconds(1));
+    repository = new PostgresDiscountRepository(databaseClient(), new SimpleMeterRegistry());
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (refresher != null) {
+      refresher.stop();
+    }
+    execute("DELETE FROM discounts WHERE discount_id LIKE 'test-%'");
+  }
+
+  @Test
+  void start_loadsCatalogBeforeReturning() {
+    refresher().start();
+
+    assertThat(repository.catalogVersion()).isEqualTo(1);
+    assertThat(repository.findByCode("SAVE10").blockOptional()).isPresent();
+  }
+
+  @Test
+  void notification_reloadsCatalog() {
+    refresher().start();
+    awaitListeners(1);
+
+    insertDiscount("test-notified");
+
+    await().atMost(TIMEOUT).until(() -> isLoaded("test-notified"));
+    assertThat(repository.catalogVersion()).isEqualTo(2);
+  }
+
+  @Test
+  void reconnect_reloadsChangesMissedWhileDisconnected() {
+    refresher().start();
+    awaitListeners(1);
+
+    // Nobody is listening when this change commits, so only the reload after reconnecting sees it
+    execute(
+        "SELECT pg_terminate_backend(pid) FROM pg_stat_activity"
+            + " WHERE query = 'LISTEN discount_catalog_changed'");
+    insertDiscount("test-missed");
+
+    await().atMost(TIMEOUT).until(() -> isLoaded("test-missed"));
+
+    // Notifications flow again on the new connection
+    insertDiscount("test-after-reconnect");
+    await().atMost(TIMEOUT).until(() -> isLoaded("test-after-reconnect"));
+  }
+
+  @Test
+  void listenDisabled_picksUpChangesOnScheduledRefresh() {
+    properties.setListenEnabled(false);
+    refresher().start();
+
+    insertDiscount("test-scheduled");
+    assertThat(isLoaded("test-scheduled")).isFalse();
+
+    refresher.scheduledRefresh();
+
+    await().atMost(TIMEOUT).until(() -> isLoaded("test-scheduled"));
+  }
+
+  @Test
+  void stop_closesListenConnection() {
+    refresher().start();
+    awaitListeners(1);
+
+    refresher.stop();
+
+    awaitListeners(0);
+    assertThat(refresher.isRunning()).isFalse();
+  }
+
+  @Test
+  void constructor_rejectsChannelThatIsNotAnIdentifier() {
+    properties.setChannel("discounts; DROP TABLE discounts");
+
+    assertThatThrownBy(this::refresher).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private DiscountCatalogRefresher refresher() {
+    refresher = new DiscountCatalogRefresher(repository, connectionFactory(), properties);
+    return refresher;
+  }
+
+  private boolean isLoaded(String discountId) {
+    return repository.findById(discountId).blockOptional().isPresent();
+  }
+
+  private long listeners() {
+    return databaseClient().sql(LISTENERS_SQL).map(row -> row.get(0, Long.class)).one().block();
+  }
+
+  private void awaitListeners(long expected) {
+    await().atMost(TIMEOUT).until(() -> listeners() == expected);
+  }
+}
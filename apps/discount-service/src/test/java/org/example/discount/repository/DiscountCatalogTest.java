@@ -0,0 +1,119 @@
+package org.example.discount.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import org.example.model.discount.Discount;
+import org.example.model.discount.DiscountScope;
+import org.example.model.discount.DiscountType;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for DiscountCatalog indexing and lookups. */
+class DiscountCatalogTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-15T12:00:00Z");
+
+  private final Discount everywhere = discount("all", List.of(), List.of(), false, null);
+  private final Discount store100Auto = discount("s100", List.of(), List.of(100), true, null);
+  private final Discount skuOnly = discount("sku", List.of(42L), List.of(), false, null);
+  private final Discount skuAt200 = discount("sku200", List.of(42L), List.of(200), false, null);
+  private final Discount expiringSoon =
+      discount("soon", List.of(), List.of(), true, NOW.plusSeconds(60));
+  private final Discount expired =
+      discount("old", List.of(), List.of(), true, NOW.minusSeconds(60));
+
+  private final DiscountCatalog catalog =
+      DiscountCatalog.build(
+          7, List.of(everywhere, store100Auto, skuOnly, skuAt200, expiringSoon, expired), NOW);
+
+  @Nested
+  class KeyLookups {
+
+    @Test
+    void findByCode_isCaseInsensitive() {
+      assertThat(catalog.findByCode("s100")).isSameAs(store100Auto);
+      assertThat(catalog.findByCode("S100")).isSameAs(store100Auto);
+      assertThat(catalog.findByCode("missing")).isNull();
+    }
+
+    @Test
+    void expiredDiscounts_remainReachableByIdAndCode() {
+      assertThat(catalog.findById("old")).isSameAs(expired);
+      assertThat(catalog.findByCode("OLD")).isSameAs(expired);
+    }
+  }
+
+  @Nested
+  class StoreViews {
+
+    @Test
+    void storeWithSpecificDiscounts_includesUnrestrictedOnes() {
+      assertThat(catalog.findActiveByStore(100, NOW))
+          .containsExactlyInAnyOrder(everywhere, store100Auto, skuOnly, expiringSoon);
+      assertThat(catalog.findAutoApplyByStore(100, NOW))
+          .containsExactlyInAnyOrder(store100Auto, expiringSoon);
+    }
+
+    @Test
+    void storeWithoutSpecificDiscounts_sharesAllStoresView() {
+      assertThat(catalog.findActiveByStore(999, NOW))
+          .containsExactlyInAnyOrder(everywhere, skuOnly, expiringSoon);
+      assertThat(catalog.findAutoApplyByStore(999, NOW))
+          .isSameAs(catalog.findAutoApplyByStore(998, NOW));
+    }
+
+    @Test
+    void discountExpiringAfterBuild_isFilteredOnceExpired() {
+      Instant later = NOW.plusSeconds(120);
+
+      assertThat(catalog.nextExpiry()).isEqualTo(expiringSoon.expiresAt());
+      assertThat(catalog.findAutoApplyByStore(999, later)).isEmpty();
+      assertThat(catalog.findActiveByStore(999, later)).doesNotContain(expiringSoon);
+    }
+  }
+
+  @Nested
+  class SkuLookups {
+
+    @Test
+    void findActiveBySku_combinesSkuRestrictedAndUnrestricted() {
+      assertThat(catalog.findActiveBySku(200, 42L, NOW))
+          .containsExactlyInAnyOrder(everywhere, expiringSoon, skuOnly, skuAt200);
+      assertThat(catalog.findActiveBySku(100, 42L, NOW))
+          .containsExactlyInAnyOrder(everywhere, store100Auto, expiringSoon, skuOnly);
+    }
+
+    @Test
+    void findActiveBySku_otherSku_returnsOnlyUnrestricted() {
+      assertThat(catalog.findActiveBySku(200, 7L, NOW))
+          .containsExactlyInAnyOrder(everywhere, expiringSoon);
+    }
+  }
+
+  @Test
+  void empty_hasNoDiscounts() {
+    assertThat(DiscountCatalog.empty().size()).isZero();
+    assertThat(DiscountCatalog.empty().findActiveByStore(100, NOW)).isEmpty();
+    assertThat(catalog.version()).isEqualTo(7);
+  }
+
+  private static Discount discount(
+      String id, List<Long> skus, List<Integer> stores, boolean autoApply, Instant expiresAt) {
+    return new Discount(
+        id,
+        id.toUpperCase(),
+        DiscountType.PERCENTAGE,
+        BigDecimal.TEN,
+        id,
+        expiresAt,
+        DiscountScope.CART,
+        true,
+        BigDecimal.ZERO,
+        skus,
+        stores,
+        autoApply);
+  }
+}
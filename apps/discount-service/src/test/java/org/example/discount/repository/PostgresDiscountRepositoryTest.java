@@ -0,0 +1,149 @@
+package org.example.discount.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import org.example.discount.AbstractIntegrationTest;
+import org.example.model.discount.Discount;
+import org.example.model.discount.DiscountScope;
+import org.example.model.discount.DiscountType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+/** Integration tests for PostgresDiscountRepository reloads against a real discounts table. */
+class PostgresDiscountRepositoryTest extends AbstractIntegrationTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private PostgresDiscountRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    repository = new PostgresDiscountRepository(databaseClient(), meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    execute("DELETE FROM discounts WHERE discount_id LIKE 'test-%'");
+  }
+
+  @Test
+  void reload_mapsEnabledRowsIncludingArrays() {
+    execute(
+        """
+        INSERT INTO discounts
+            (discount_id, code, type, value, scope, eligible_skus, eligible_stores,
+             eligible_categories, buy_quantity, get_quantity, auto_apply)
+        VALUES
+            ('test-bogo', 'TEST-BOGO', 'BUY_X_GET_Y', 0, 'ITEM', '{42,43}', '{100}',
+             '{tools}', 2, 1, TRUE)
+        """);
+    execute(
+        "INSERT INTO discounts (discount_id, code, type, value, scope, enabled)"
+            + " VALUES ('test-off', 'TEST-OFF', 'PERCENTAGE', 10, 'CART', FALSE)");
+
+    StepVerifier.create(repository.reload("test"))
+        .assertNext(
+            catalog -> {
+              assertThat(catalog.version()).isEqualTo(1);
+              assertThat(catalog.findById("test-off")).isNull();
+              Discount bogo = catalog.findById("test-bogo");
+              assertThat(bogo.type()).isEqualTo(DiscountType.BUY_X_GET_Y);
+              assertThat(bogo.scope()).isEqualTo(DiscountScope.ITEM);
+              assertThat(bogo.value()).isEqualByComparingTo(BigDecimal.ZERO);
+              assertThat(bogo.eligibleSkus()).containsExactly(42L, 43L);
+              assertThat(bogo.eligibleStores()).containsExactly(100);
+              assertThat(bogo.eligibleCategories()).containsExactly("tools");
+              assertThat(bogo.buyQuantity()).isEqualTo(2);
+              assertThat(bogo.getQuantity()).isEqualTo(1);
+              assertThat(bogo.autoApply()).isTrue();
+            })
+        .verifyComplete();
+
+    StepVerifier.create(repository.findByCode("test-bogo"))
+        .assertNext(discount -> assertThat(discount.discountId()).isEqualTo("test-bogo"))
+        .verifyComplete();
+  }
+
+  @Test
+  void reload_unchangedTable_keepsSnapshotAndVersion() {
+    DiscountCatalog first = repository.reload("test").block(TIMEOUT);
+    DiscountCatalog second = repository.reload("test").block(TIMEOUT);
+
+    assertThat(second).isSameAs(first);
+    assertThat(repository.catalogVersion()).isEqualTo(1);
+  }
+
+  @Test
+  void reload_expiry_reindexesWithoutQuerying() {
+    repository.reload("startup").block(TIMEOUT);
+    insertDiscount("test-new");
+
+    repository.reload("expiry").block(TIMEOUT);
+    assertThat(repository.findById("test-new").blockOptional()).isEmpty();
+
+    repository.reload("notify:test-new").block(TIMEOUT);
+    assertThat(repository.findById("test-new").blockOptional()).isPresent();
+    assertThat(repository.catalogVersion()).isEqualTo(2);
+  }
+
+  @Test
+  void requestRefresh_coalescesRequestsMadeDuringAReload() {
+    // The first request starts a reload; the rest arrive while it runs and share one follow-up
+    for (int i = 0; i < 50; i++) {
+      repository.requestRefresh("notify:" + i);
+    }
+
+    await().atMost(TIMEOUT).until(() -> reloads() == 2);
+    await().during(Duration.ofMillis(500)).atMost(TIMEOUT).until(() -> reloads() == 2);
+    assertThat(repository.catalogVersion()).isEqualTo(1);
+  }
+
+  @Test
+  void requestRefresh_failedReloadKeepsPreviousSnapshot() {
+    repository.reload("startup").block(TIMEOUT);
+    execute("ALTER TABLE discounts RENAME TO discounts_unavailable");
+    try {
+      repository.requestRefresh("notify:broken");
+
+      await().atMost(TIMEOUT).until(() -> reloadFailures() == 1);
+    } finally {
+      execute("ALTER TABLE discounts_unavailable RENAME TO discounts");
+    }
+
+    assertThat(repository.catalogVersion()).isEqualTo(1);
+    assertThat(repository.findByCode("SAVE10").blockOptional()).isPresent();
+
+    // The failure does not stop later requests from reloading
+    insertDiscount("test-after-failure");
+    repository.requestRefresh("notify:test-after-failure");
+    await()
+        .atMost(TIMEOUT)
+        .until(() -> repository.findById("test-after-failure").blockOptional().isPresent());
+  }
+
+  @Test
+  void reload_seedData_servesStoreLookupsFromMemory() {
+    repository.reload("startup").block(TIMEOUT);
+
+    List<Discount> autoApply = repository.findAutoApplyByStore(100).collectList().block(TIMEOUT);
+
+    assertThat(autoApply)
+        .extracting(Discount::discountId)
+        .containsExactlyInAnyOrder("disc-005", "disc-006");
+  }
+
+  private long reloads() {
+    return meterRegistry.get("discount.catalog.reload.duration").timer().count();
+  }
+
+  private double reloadFailures() {
+    return meterRegistry.get("discount.catalog.reload.failures").counter().count();
+  }
+}
@@ -9,6 +9,7 @@ export interface Product {
   category: string;
   inStock: boolean;        // Derived by backend
   onSale: boolean;         // Derived by backend
+  degraded?: string[];     // Sources served from fallbacks (merchandise, price, inventory)
 }
 
 export interface ProductSearchParams {
@@ -1,7 +1,9 @@
 package org.example.merchandise;
 
+import org.example.merchandise.config.ExportProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 
 @SpringBootApplication(
     scanBasePackages = {
@@ -10,6 +12,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
       "org.example.platform.error",
       "org.example.platform.security"
     })
+@EnableConfigurationProperties(ExportProperties.class)
 public class MerchandiseServiceApplication {
 
   public static void main(String[] args) {
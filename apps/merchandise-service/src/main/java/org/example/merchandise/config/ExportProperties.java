@@ -0,0 +1,22 @@
+package org.example.merchandise.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/** Streaming catalog export ({@code GET /merchandise/export}). */
+@ConfigurationProperties(prefix = "merchandise.export")
+public class ExportProperties {
+
+  /**
+   * Rows read per keyset query. Each chunk is a short query, so an export never holds a
+   * connection while waiting on a slow consumer; at most one chunk is read ahead of the writer.
+   */
+  private int chunkSize = 1000;
+
+  public int getChunkSize() {
+    return chunkSize;
+  }
+
+  public void setChunkSize(int chunkSize) {
+    this.chunkSize = chunkSize;
+  }
+}
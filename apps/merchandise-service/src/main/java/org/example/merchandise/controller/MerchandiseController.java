@@ -1,12 +1,14 @@
 package org.example.merchandise.controller;
 
 import jakarta.validation.Valid;
+import java.time.Instant;
 import org.example.merchandise.dto.CreateProductRequest;
 import org.example.merchandise.dto.MerchandiseResponse;
 import org.example.merchandise.dto.UpdateProductRequest;
 import org.example.merchandise.repository.ProductEntity;
 import org.example.merchandise.service.MerchandiseService;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
@@ -41,6 +43,18 @@ public class MerchandiseController {
     return service.listProducts(page, size);
   }
 
+  /**
+   * Stream the catalog as newline-delimited JSON, one product per line in SKU order - used by
+   * indexers and product-service. A client that loses the connection resumes with the last SKU it
+   * received as {@code afterSku}; {@code updatedSince} limits the export to recent changes.
+   */
+  @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public Flux<ProductEntity> exportProducts(
+      @RequestParam(defaultValue = "0") long afterSku,
+      @RequestParam(required = false) Instant updatedSince) {
+    return service.exportProducts(afterSku, updatedSince);
+  }
+
   /** Create product - used by merchant portal (requires MERCHANT role). */
   @PostMapping
   @ResponseStatus(HttpStatus.CREATED)
@@ -1,5 +1,6 @@
 package org.example.merchandise.repository;
 
+import java.time.Instant;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import reactor.core.publisher.Flux;
@@ -9,4 +10,9 @@ public interface ProductR2dbcRepository extends R2dbcRepository<ProductEntity, L
   Flux<ProductEntity> findAllBy(Pageable pageable);
 
   Flux<ProductEntity> findByCategory(String category, Pageable pageable);
+
+  Flux<ProductEntity> findBySkuGreaterThan(Long afterSku, Pageable pageable);
+
+  Flux<ProductEntity> findByUpdatedAtGreaterThanAndSkuGreaterThan(
+      Instant updatedSince, Long afterSku, Pageable pageable);
 }
@@ -1,12 +1,16 @@
 package org.example.merchandise.service;
 
 import java.time.Instant;
+import java.util.List;
+import org.example.merchandise.config.ExportProperties;
 import org.example.merchandise.dto.CreateProductRequest;
 import org.example.merchandise.dto.MerchandiseResponse;
 import org.example.merchandise.dto.UpdateProductRequest;
 import org.example.merchandise.repository.ProductEntity;
 import org.example.merchandise.repository.ProductR2dbcRepository;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
@@ -17,10 +21,15 @@ public class MerchandiseService {
 
   private final ProductR2dbcRepository repository;
   private final R2dbcEntityTemplate template;
+  private final ExportProperties exportProperties;
 
-  public MerchandiseService(ProductR2dbcRepository repository, R2dbcEntityTemplate template) {
+  public MerchandiseService(
+      ProductR2dbcRepository repository,
+      R2dbcEntityTemplate template,
+      ExportProperties exportProperties) {
     this.repository = repository;
     this.template = template;
+    this.exportProperties = exportProperties;
   }
 
   public Mono<MerchandiseResponse> getProduct(Long sku) {
@@ -31,6 +40,40 @@ public class MerchandiseService {
     return repository.findAllBy(PageRequest.of(page, size));
   }
 
+  /**
+   * Stream every product after a given SKU, in SKU order, for bulk consumers.
+   *
+   * <p>Reads keyset chunks of {@code merchandise.export.chunk-size} rows. The next chunk is
+   * queried only once the previous one has been handed to the writer, so memory stays at about
+   * two chunks however slowly the client reads, and no query runs for longer than one chunk.
+   *
+   * @param afterSku resume after this SKU; 0 exports from the start
+   * @param updatedSince if non-null, export only products updated after this instant
+   * @return the products in ascending SKU order
+   */
+  public Flux<ProductEntity> exportProducts(long afterSku, Instant updatedSince) {
+    int chunkSize = exportProperties.getChunkSize();
+    return exportChunk(afterSku, updatedSince, chunkSize)
+        .expand(
+            chunk ->
+                chunk.size() < chunkSize
+                    ? Mono.empty()
+                    : exportChunk(chunk.getLast().sku(), updatedSince, chunkSize))
+        // Request one chunk at a time so reads follow the writer's demand
+        .concatMapIterable(chunk -> chunk, 1);
+  }
+
+  private Mono<List<ProductEntity>> exportChunk(long afterSku, Instant updatedSince, int size) {
+    return findAfter(afterSku, updatedSince, size).collectList();
+  }
+
+  private Flux<ProductEntity> findAfter(long afterSku, Instant updatedSince, int size) {
+    Pageable limit = PageRequest.of(0, size, Sort.by("sku"));
+    return updatedSince == null
+        ? repository.findBySkuGreaterThan(afterSku, limit)
+        : repository.findByUpdatedAtGreaterThanAndSkuGreaterThan(updatedSince, afterSku, limit);
+  }
+
   public Mono<ProductEntity> createProduct(CreateProductRequest request) {
     Instant now = Instant.now();
     ProductEntity entity =
@@ -0,0 +1,3 @@
+-- V004__add_updated_at_index.sql
+-- Supports incremental listing of recently updated products (GET /merchandise/export?updatedSince=)
+CREATE INDEX IF NOT EXISTS idx_products_updated_at ON products(updated_at);
@@ -0,0 +1,269 @@
+package org.example.order.repository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Single-row order inserts and one-week store listings against the orders table as a single heap
+ * (V1 and V2 migrations) and as monthly partitions (V1 to V3), each seeded with {@code orders} rows
+ * spread over the last two years. Partitioned inserts only touch the indexes of the current month,
+ * so they should stay fast once the heap's indexes no longer fit in memory, and a one-week listing
+ * scans one or two partitions instead of the whole table's indexes. Partitioned inserts also claim
+ * the order number in the unpartitioned order_numbers table, as the service does, so that
+ * table's primary key is part of the measured cost.
+ *
+ * <p>Needs a Postgres 13+ database, configured with ORDER_BENCH_DB_URL, ORDER_BENCH_DB_USERNAME
+ * and ORDER_BENCH_DB_PASSWORD (defaults match application.yml). Each layout gets its own schema,
+ * seeded on the first run and reused afterwards; seeding 50M orders takes a while. Run with {@code
+ * ./gradlew :apps:order-service:jmh}.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(1)
+public class OrderPartitioningBenchmark {
+
+  private static final int SEED_MONTHS = 24;
+  private static final int SEED_CHUNK = 1_000_000;
+  private static final int STORES = 500;
+  private static final Duration LISTING_WINDOW = Duration.ofDays(7);
+
+  @Param({"heap", "partitioned"})
+  String layout;
+
+  @Param({"50000000"})
+  long orders;
+
+  private Connection connection;
+  private PreparedStatement insert;
+  private PreparedStatement listing;
+  private Instant seedStart;
+  private Instant seedEnd;
+
+  @Setup
+  public void setUp() throws SQLException, IOException {
+    connection =
+        DriverManager.getConnection(
+            env("ORDER_BENCH_DB_URL", "jdbc:postgresql://localhost:5432/orderdb"),
+            env("ORDER_BENCH_DB_USERNAME", "order_user"),
+            env("ORDER_BENCH_DB_PASSWORD", "order_pass"));
+    YearMonth current = YearMonth.now(ZoneOffset.UTC);
+    seedStart = current.minusMonths(SEED_MONTHS).atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+    seedEnd = current.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+
+    String schema = "order_bench_" + layout + "_" + orders;
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("CREATE SCHEMA IF NOT EXISTS " + schema);
+      // Only the benchmark schema, so partition lookups never resolve to the service's own tables
+      statement.execute("SET search_path TO " + schema);
+    }
+    if (!seeded()) {
+      createSchema();
+      seed();
+    }
+
+    insert =
+        connection.prepareStatement(
+            layout.equals("partitioned") ? PARTITIONED_INSERT_SQL : INSERT_SQL);
+    listing = connection.prepareStatement(LISTING_SQL);
+  }
+
+  @TearDown
+  public void tearDown() throws SQLException {
+    connection.close();
+  }
+
+  /** Orders inserted per millisecond, auto-committed one at a time as the event consumer does. */
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  public int insertOrder() throws SQLException {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    UUID id = UUID.randomUUID();
+    insert.setObject(1, id);
+    insert.setInt(2, 1 + random.nextInt(STORES));
+    insert.setString(3, "BENCH-" + id);
+    insert.setString(4, "cust-" + random.nextInt(1_000_000));
+    insert.setTimestamp(5, Timestamp.from(Instant.now()));
+    return insert.executeUpdate();
+  }
+
+  /** Latency of the first page of one store's orders over a random week in the seeded range. */
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public int dateRangeListing() throws SQLException {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    long rangeSeconds = Duration.between(seedStart, seedEnd).minus(LISTING_WINDOW).toSeconds();
+    Instant from = seedStart.plusSeconds(random.nextLong(rangeSeconds));
+    listing.setInt(1, 1 + random.nextInt(STORES));
+    listing.setTimestamp(2, Timestamp.from(from));
+    listing.setTimestamp(3, Timestamp.from(from.plus(LISTING_WINDOW)));
+    int rows = 0;
+    try (ResultSet resultSet = listing.executeQuery()) {
+      while (resultSet.next()) {
+        rows++;
+      }
+    }
+    return rows;
+  }
+
+  private boolean seeded() throws SQLException {
+    try (Statement statement = connection.createStatement();
+        ResultSet resultSet =
+            statement.executeQuery("SELECT to_regclass('benchmark_seed') IS NOT NULL")) {
+      resultSet.next();
+      return resultSet.getBoolean(1);
+    }
+  }
+
+  private void createSchema() throws SQLException, IOException {
+    List<String> migrations =
+        layout.equals("partitioned")
+            ? List.of(
+                "V1__create_orders_table.sql",
+                "V2__keyset_pagination_indexes.sql",
+                "V3__partition_orders_by_created_at.sql")
+            : List.of("V1__create_orders_table.sql", "V2__keyset_pagination_indexes.sql");
+    try (Statement statement = connection.createStatement()) {
+      for (String migration : migrations) {
+        statement.execute(migration(migration));
+      }
+      if (layout.equals("partitioned")) {
+        statement.execute(
+            "SELECT ensure_orders_partitions('"
+                + seedStart.atOffset(ZoneOffset.UTC).toLocalDate()
+                + "', CURRENT_DATE)");
+      }
+    }
+  }
+
+  /** Insert the seed rows in chunks, oldest first, then analyze and mark the schema as seeded. */
+  private void seed() throws SQLException {
+    long spanSeconds = Duration.between(seedStart, seedEnd).toSeconds();
+    try (PreparedStatement chunk = connection.prepareStatement(SEED_SQL);
+        Statement statement = connection.createStatement()) {
+      for (long from = 1; from <= orders; from += SEED_CHUNK) {
+        chunk.setLong(1, from);
+        chunk.setLong(2, Math.min(from + SEED_CHUNK - 1, orders));
+        chunk.setLong(3, seedStart.getEpochSecond());
+        chunk.setLong(4, spanSeconds);
+        chunk.setLong(5, orders);
+        chunk.executeUpdate();
+      }
+      if (layout.equals("partitioned")) {
+        statement.execute(
+            "INSERT INTO order_numbers (order_number, id, created_at)"
+                + " SELECT order_number, id, created_at FROM orders");
+        statement.execute("ANALYZE order_numbers");
+      }
+      statement.execute("ANALYZE orders");
+      statement.execute("CREATE TABLE benchmark_seed (seeded_at TIMESTAMPTZ DEFAULT NOW())");
+    }
+  }
+
+  private static String migration(String name) throws IOException {
+    try (InputStream in =
+        OrderPartitioningBenchmark.class.getResourceAsStream("/db/migration/" + name)) {
+      return new String(
+          Objects.requireNonNull(in, "Missing migration " + name).readAllBytes(),
+          StandardCharsets.UTF_8);
+    }
+  }
+
+  private static String env(String name, String defaultValue) {
+    String value = System.getenv(name);
+    return value != null ? value : defaultValue;
+  }
+
+  private static final String INSERT_SQL =
+      """
+      INSERT INTO orders (
+        id, store_number, order_number, customer_id, fulfillment_type,
+        subtotal, grand_total, line_items, created_at, updated_at
+      ) VALUES (
+        ?, ?, ?, ?, 'IMMEDIATE', 29.97, 32.37,
+        '[{"sku": 100001, "quantity": 3, "unitPrice": 9.99}]', ?, NOW()
+      )
+      """;
+
+  // Same parameters as INSERT_SQL; the order row is only written if the number was claimed
+  private static final String PARTITIONED_INSERT_SQL =
+      """
+      WITH input (id, store_number, order_number, customer_id, created_at) AS (
+        VALUES (?::uuid, ?::integer, ?::varchar, ?::varchar, ?::timestamptz)
+      ),
+      claimed AS (
+        INSERT INTO order_numbers (order_number, id, created_at)
+        SELECT order_number, id, created_at FROM input
+        ON CONFLICT (order_number) DO NOTHING
+        RETURNING order_number
+      )
+      INSERT INTO orders (
+        id, store_number, order_number, customer_id, fulfillment_type,
+        subtotal, grand_total, line_items, created_at, updated_at
+      )
+      SELECT i.id, i.store_number, i.order_number, i.customer_id, 'IMMEDIATE', 29.97, 32.37,
+             '[{"sku": 100001, "quantity": 3, "unitPrice": 9.99}]', i.created_at, NOW()
+      FROM input i JOIN claimed c ON c.order_number = i.order_number
+      """;
+
+  private static final String LISTING_SQL =
+      """
+      SELECT id, store_number, order_number, customer_id, status, grand_total, created_at
+      FROM orders
+      WHERE store_number = ? AND created_at >= ? AND created_at < ?
+      ORDER BY created_at DESC, id DESC
+      LIMIT 50
+      """;
+
+  // Rows are spread evenly over the seeded range in insertion order, like real order traffic
+  private static final String SEED_SQL =
+      """
+      INSERT INTO orders (
+        id, store_number, order_number, customer_id, fulfillment_type,
+        subtotal, grand_total, status, line_items, created_at, updated_at
+      )
+      SELECT gen_random_uuid(),
+             1 + g % 500,
+             'SEED-' || g,
+             CASE WHEN g % 10 < 7 THEN 'cust-' || g % 1000000 END,
+             'IMMEDIATE',
+             29.97,
+             32.37,
+             CASE WHEN g % 20 = 0 THEN 'CANCELLED' ELSE 'DELIVERED' END,
+             jsonb_build_array(
+                 jsonb_build_object('sku', 100000 + g % 5000, 'quantity', 1 + g % 3)),
+             t.created_at,
+             t.created_at
+      FROM generate_series(?::bigint, ?::bigint) AS g,
+           LATERAL (
+             SELECT to_timestamp(?::bigint + g::double precision * ?::bigint / ?::bigint)
+               AS created_at
+           ) t
+      """;
+}
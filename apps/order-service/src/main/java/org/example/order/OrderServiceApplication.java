@@ -1,9 +1,12 @@
 package org.example.order;
 
 import org.example.order.consumer.OrderEventProperties;
+import org.example.order.service.OrderPartitionProperties;
+import org.example.order.service.OrderSearchProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(
     scanBasePackages = {
@@ -12,7 +15,12 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
       "org.example.platform.error",
       "org.example.platform.security"
     })
-@EnableConfigurationProperties(OrderEventProperties.class)
+@EnableConfigurationProperties({
+  OrderEventProperties.class,
+  OrderSearchProperties.class,
+  OrderPartitionProperties.class
+})
+@EnableScheduling
 public class OrderServiceApplication {
 
   public static void main(String[] args) {
@@ -6,8 +6,11 @@ import org.example.model.order.Order;
 import org.example.model.order.OrderStatus;
 import org.example.order.dto.OrderSearchRequest;
 import org.example.order.dto.OrderSearchResponse;
+import org.example.order.repository.OrderCursor;
+import org.example.order.repository.OrderSearchCriteria;
+import org.example.order.repository.OrderSummary;
+import org.example.order.service.OrderPage;
 import org.example.order.service.OrderService;
-import org.example.order.service.OrderService.OrderSearchCriteria;
 import org.example.order.validation.OrderRequestValidator;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -47,7 +50,10 @@ public class OrderController {
         .then(orderService.findByOrderNumber(orderNumber));
   }
 
-  /** Search orders with optional filters. */
+  /**
+   * Search orders with optional filters, newest first. Requires a store number or customer ID;
+   * pass {@code nextCursor} from the response as {@code after} to fetch the next page.
+   */
   @GetMapping
   @PreAuthorize("hasAuthority('SCOPE_order:read')")
   public Mono<OrderSearchResponse> searchOrders(
@@ -56,91 +62,95 @@ public class OrderController {
       @RequestParam(required = false) String status,
       @RequestParam(required = false) Instant startDate,
       @RequestParam(required = false) Instant endDate,
-      @RequestParam(required = false) Integer page,
+      @RequestParam(required = false) String after,
       @RequestParam(required = false) Integer size) {
 
     OrderSearchRequest request =
-        new OrderSearchRequest(storeNumber, customerId, status, startDate, endDate, page, size);
+        new OrderSearchRequest(storeNumber, customerId, status, startDate, endDate, after, size);
 
     return validator
         .validateSearchRequest(request)
         .then(
             Mono.defer(
                 () -> {
-                  // If customer ID is provided, search by customer
-                  if (customerId != null && !customerId.isBlank()) {
-                    return orderService
-                        .findByCustomer(customerId)
-                        .collectList()
-                        .map(
-                            orders ->
-                                OrderSearchResponse.of(
-                                    orders, orders.size(), request.pageOrDefault(), orders.size()));
+                  boolean hasCustomer = customerId != null && !customerId.isBlank();
+                  // No store or customer filter - return empty results
+                  if (storeNumber == null && !hasCustomer) {
+                    return Mono.just(OrderSearchResponse.empty(request.sizeOrDefault()));
                   }
 
-                  // If store number is provided, search by store with optional status filter
-                  if (storeNumber != null) {
-                    if (status != null && !status.isBlank()) {
-                      return orderService
-                          .findByStoreAndStatus(
-                              storeNumber, OrderStatus.valueOf(status.toUpperCase()))
-                          .collectList()
-                          .map(
-                              orders ->
-                                  OrderSearchResponse.of(
-                                      orders,
-                                      orders.size(),
-                                      request.pageOrDefault(),
-                                      orders.size()));
-                    }
-
-                    // Search with date range and pagination
-                    OrderSearchCriteria criteria =
-                        OrderSearchCriteria.builder()
-                            .storeNumber(storeNumber)
-                            .startDate(startDate != null ? startDate : Instant.EPOCH)
-                            .endDate(endDate != null ? endDate : Instant.now())
-                            .limit(request.sizeOrDefault())
-                            .offset(request.offset())
-                            .build();
+                  OrderSearchCriteria criteria =
+                      OrderSearchCriteria.builder()
+                          .storeNumber(storeNumber)
+                          .customerId(hasCustomer ? customerId : null)
+                          .status(
+                              status != null && !status.isBlank()
+                                  ? OrderStatus.valueOf(status.toUpperCase())
+                                  : null)
+                          .startDate(startDate)
+                          .endDate(endDate)
+                          .after(after != null ? OrderCursor.decode(after) : null)
+                          .limit(request.sizeOrDefault())
+                          .build();
 
-                    return Mono.zip(
-                            orderService.search(criteria).collectList(),
-                            orderService.countSearch(criteria))
-                        .map(
-                            tuple ->
-                                OrderSearchResponse.of(
-                                    tuple.getT1(),
-                                    tuple.getT2(),
-                                    request.pageOrDefault(),
-                                    request.sizeOrDefault()));
-                  }
-
-                  // No store or customer filter - return empty results
-                  return Mono.just(
-                      OrderSearchResponse.of(
-                          java.util.List.of(),
-                          0,
-                          request.pageOrDefault(),
-                          request.sizeOrDefault()));
+                  return Mono.zip(orderService.search(criteria), orderService.countSearch(criteria))
+                      .map(
+                          tuple ->
+                              OrderSearchResponse.of(
+                                  tuple.getT1(), tuple.getT2(), request.sizeOrDefault()));
                 }));
   }
 
-  /** List orders by store. */
+  /**
+   * List order summaries by store, one page at a time. Summaries carry the scalar order fields
+   * only; fetch an order by ID for its line items and details.
+   */
   @GetMapping("/store/{storeNumber}")
   @PreAuthorize("hasAuthority('SCOPE_order:read')")
-  public Flux<Order> getOrdersByStore(@PathVariable int storeNumber) {
+  public Flux<OrderSummary> getOrdersByStore(
+      @PathVariable int storeNumber,
+      @RequestParam(required = false) String after,
+      @RequestParam(required = false) Integer size) {
     return validator
         .validateStoreNumber(storeNumber)
-        .thenMany(orderService.findByStore(storeNumber));
+        .then(validator.validatePage(size, after))
+        .thenMany(
+            Flux.defer(
+                () ->
+                    orderService
+                        .searchSummaries(
+                            pageCriteria(
+                                OrderSearchCriteria.builder().storeNumber(storeNumber),
+                                after,
+                                size))
+                        .flatMapIterable(OrderPage::orders)));
   }
 
-  /** List orders by customer. */
+  /** List orders by customer, one page at a time. */
   @GetMapping("/customer/{customerId}")
   @PreAuthorize("hasAuthority('SCOPE_order:read')")
-  public Flux<Order> getOrdersByCustomer(@PathVariable String customerId) {
+  public Flux<Order> getOrdersByCustomer(
+      @PathVariable String customerId,
+      @RequestParam(required = false) String after,
+      @RequestParam(required = false) Integer size) {
     return validator
         .validateCustomerId(customerId)
-        .thenMany(orderService.findByCustomer(customerId));
+        .then(validator.validatePage(size, after))
+        .thenMany(
+            Flux.defer(
+                () ->
+                    orderService
+                        .search(
+                            pageCriteria(
+                                OrderSearchCriteria.builder().customerId(customerId), after, size))
+                        .flatMapIterable(OrderPage::orders)));
+  }
+
+  private static OrderSearchCriteria pageCriteria(
+      OrderSearchCriteria.Builder criteria, String after, Integer size) {
+    return criteria
+        .after(after != null ? OrderCursor.decode(after) : null)
+        .limit(size != null ? size : OrderSearchCriteria.DEFAULT_LIMIT)
+        .build();
   }
 }
@@ -9,18 +9,10 @@ public record OrderSearchRequest(
     String status,
     Instant startDate,
     Instant endDate,
-    Integer page,
+    String after,
     Integer size) {
 
-  public int pageOrDefault() {
-    return page != null && page >= 0 ? page : 0;
-  }
-
   public int sizeOrDefault() {
     return size != null && size > 0 && size <= 100 ? size : 20;
   }
-
-  public int offset() {
-    return pageOrDefault() * sizeOrDefault();
-  }
 }
@@ -2,13 +2,24 @@ package org.example.order.dto;
 
 import java.util.List;
 import org.example.model.order.Order;
+import org.example.order.service.OrderPage;
 
-/** Response DTO for order search with pagination info. */
+/**
+ * Response DTO for order search with pagination info.
+ *
+ * <p>{@code nextCursor} is passed back as {@code after} to fetch the following page; it is null on
+ * the last page. {@code totalCount} may be a planner estimate for large results (see {@code
+ * order.search.count-mode}).
+ */
 public record OrderSearchResponse(
-    List<Order> orders, long totalCount, int page, int size, boolean hasMore) {
+    List<Order> orders, long totalCount, int size, boolean hasMore, String nextCursor) {
 
-  public static OrderSearchResponse of(List<Order> orders, long totalCount, int page, int size) {
-    boolean hasMore = (long) (page + 1) * size < totalCount;
-    return new OrderSearchResponse(orders, totalCount, page, size, hasMore);
+  public static OrderSearchResponse of(OrderPage<Order> page, long totalCount, int size) {
+    return new OrderSearchResponse(
+        page.orders(), totalCount, size, page.hasMore(), page.nextCursor());
+  }
+
+  public static OrderSearchResponse empty(int size) {
+    return new OrderSearchResponse(List.of(), 0, size, false, null);
   }
 }
@@ -1,11 +1,14 @@
 package org.example.order.graphql;
 
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
 import org.example.model.order.OrderStatus;
 import org.example.order.graphql.input.OrderSearchInput;
 import org.example.order.graphql.input.UpdateFulfillmentInput;
+import org.example.order.repository.OrderCursor;
 import org.example.platform.error.ValidationException;
 import org.example.platform.error.ValidationException.ValidationError;
 import org.springframework.stereotype.Component;
@@ -53,18 +56,11 @@ public class GraphQLInputValidator {
     return toMono(errors);
   }
 
-  /** Validate pagination parameters for orders query. */
-  public Mono<Void> validatePagination(Integer limit, Integer offset) {
+  /** Validate pagination parameters for list queries. */
+  public Mono<Void> validatePagination(Integer limit, String after) {
     List<ValidationError> errors = new ArrayList<>();
-
-    if (limit != null && (limit < 1 || limit > 100)) {
-      errors.add(new ValidationError("limit", "Must be between 1 and 100"));
-    }
-
-    if (offset != null && offset < 0) {
-      errors.add(new ValidationError("offset", "Must be non-negative"));
-    }
-
+    validateLimit(limit, errors);
+    validateCursor(after, errors);
     return toMono(errors);
   }
 
@@ -72,15 +68,10 @@ public class GraphQLInputValidator {
   public Mono<Void> validateOrderSearch(OrderSearchInput input) {
     List<ValidationError> errors = new ArrayList<>();
     validateStoreNumber(input.storeNumber(), "storeNumber", errors);
-
-    if (input.limit() != null && (input.limit() < 1 || input.limit() > 100)) {
-      errors.add(new ValidationError("limit", "Must be between 1 and 100"));
-    }
-
-    if (input.offset() != null && input.offset() < 0) {
-      errors.add(new ValidationError("offset", "Must be non-negative"));
-    }
-
+    validateLimit(input.limit(), errors);
+    validateCursor(input.after(), errors);
+    validateDate(input.startDate(), "startDate", errors);
+    validateDate(input.endDate(), "endDate", errors);
     return toMono(errors);
   }
 
@@ -146,6 +137,34 @@ public class GraphQLInputValidator {
     }
   }
 
+  private void validateLimit(Integer limit, List<ValidationError> errors) {
+    if (limit != null && (limit < 1 || limit > 100)) {
+      errors.add(new ValidationError("limit", "Must be between 1 and 100"));
+    }
+  }
+
+  private void validateCursor(String after, List<ValidationError> errors) {
+    if (after == null) {
+      return;
+    }
+    try {
+      OrderCursor.decode(after);
+    } catch (IllegalArgumentException e) {
+      errors.add(new ValidationError("after", "Invalid cursor"));
+    }
+  }
+
+  private void validateDate(String value, String field, List<ValidationError> errors) {
+    if (value == null) {
+      return;
+    }
+    try {
+      Instant.parse(value);
+    } catch (DateTimeParseException e) {
+      errors.add(new ValidationError(field, "Must be an ISO-8601 instant"));
+    }
+  }
+
   private void validateStoreNumber(int value, String field, List<ValidationError> errors) {
     if (value < STORE_NUMBER_MIN || value > STORE_NUMBER_MAX) {
       errors.add(
@@ -1,15 +1,21 @@
 package org.example.order.graphql;
 
+import graphql.schema.DataFetchingFieldSelectionSet;
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 import org.example.model.order.Order;
 import org.example.model.order.OrderStatus;
 import org.example.order.dto.OrderSearchResponse;
 import org.example.order.graphql.input.OrderSearchInput;
+import org.example.order.repository.OrderCursor;
+import org.example.order.repository.OrderSearchCriteria;
+import org.example.order.repository.OrderSummary;
+import org.example.order.service.OrderPage;
 import org.example.order.service.OrderService;
-import org.example.order.service.OrderService.OrderSearchCriteria;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.server.ResponseStatusException;
@@ -19,10 +25,17 @@ import reactor.core.publisher.Mono;
 /**
  * GraphQL query resolver for order operations. Provides read-only access to order data with parity
  * to REST GET endpoints.
+ *
+ * <p>List queries look at the selection set: unless the client asks for line items, discounts or
+ * snapshots they read order summaries, so the JSONB columns are neither fetched nor parsed.
  */
 @Controller
 public class OrderQueryController {
 
+  /** Order fields read from JSONB columns; selecting any of them requires the full order. */
+  private static final List<String> DETAIL_FIELDS =
+      List.of("lineItems", "appliedDiscounts", "customerSnapshot", "fulfillmentDetails");
+
   private final OrderService orderService;
   private final GraphQLInputValidator validator;
 
@@ -69,67 +82,109 @@ public class OrderQueryController {
       @Argument int storeNumber,
       @Argument OrderStatus status,
       @Argument Integer limit,
-      @Argument Integer offset) {
+      @Argument String after,
+      DataFetchingFieldSelectionSet selection) {
     return validator
         .validateStoreNumber(storeNumber)
-        .then(validator.validatePagination(limit, offset))
+        .then(validator.validatePagination(limit, after))
         .thenMany(
             Flux.defer(
-                () -> {
-                  if (status != null) {
-                    return orderService.findByStoreAndStatus(storeNumber, status);
-                  }
-                  // Default search with pagination
-                  OrderSearchCriteria criteria =
-                      OrderSearchCriteria.builder()
-                          .storeNumber(storeNumber)
-                          .limit(limit != null ? limit : 50)
-                          .offset(offset != null ? offset : 0)
-                          .build();
-                  return orderService.search(criteria);
-                }));
+                () ->
+                    listPage(
+                        OrderSearchCriteria.builder().storeNumber(storeNumber).status(status),
+                        limit,
+                        after,
+                        selectsDetails(selection, ""))));
   }
 
   @QueryMapping
   @PreAuthorize("hasAuthority('SCOPE_order:read')")
-  public Flux<Order> ordersByCustomer(@Argument String customerId) {
+  public Flux<Order> ordersByCustomer(
+      @Argument String customerId,
+      @Argument Integer limit,
+      @Argument String after,
+      DataFetchingFieldSelectionSet selection) {
     return validator
         .validateCustomerId(customerId)
-        .thenMany(orderService.findByCustomer(customerId));
+        .then(validator.validatePagination(limit, after))
+        .thenMany(
+            Flux.defer(
+                () ->
+                    listPage(
+                        OrderSearchCriteria.builder().customerId(customerId),
+                        limit,
+                        after,
+                        selectsDetails(selection, ""))));
   }
 
   @QueryMapping
   @PreAuthorize("hasAuthority('SCOPE_order:read')")
-  public Mono<OrderSearchResponse> searchOrders(@Argument OrderSearchInput input) {
+  public Mono<OrderSearchResponse> searchOrders(
+      @Argument OrderSearchInput input, DataFetchingFieldSelectionSet selection) {
     return validator
         .validateOrderSearch(input)
         .then(
             Mono.defer(
                 () -> {
-                  Instant startDate =
-                      input.startDate() != null ? Instant.parse(input.startDate()) : Instant.EPOCH;
-                  Instant endDate =
-                      input.endDate() != null ? Instant.parse(input.endDate()) : Instant.now();
-
                   OrderSearchCriteria criteria =
                       OrderSearchCriteria.builder()
                           .storeNumber(input.storeNumber())
-                          .startDate(startDate)
-                          .endDate(endDate)
+                          .customerId(input.customerId())
+                          .status(input.status())
+                          .startDate(
+                              input.startDate() != null ? Instant.parse(input.startDate()) : null)
+                          .endDate(input.endDate() != null ? Instant.parse(input.endDate()) : null)
+                          .after(input.after() != null ? OrderCursor.decode(input.after()) : null)
                           .limit(input.limitOrDefault())
-                          .offset(input.offsetOrDefault())
                           .build();
 
                   return Mono.zip(
-                          orderService.search(criteria).collectList(),
+                          page(criteria, selectsDetails(selection, "orders/")),
                           orderService.countSearch(criteria))
                       .map(
                           tuple ->
                               OrderSearchResponse.of(
-                                  tuple.getT1(),
-                                  tuple.getT2(),
-                                  input.offsetOrDefault() / input.limitOrDefault(),
-                                  input.limitOrDefault()));
+                                  tuple.getT1(), tuple.getT2(), input.limitOrDefault()));
                 }));
   }
+
+  /** Opaque position of an order in its listing; pass it as {@code after} for the next page. */
+  @SchemaMapping(typeName = "Order")
+  public String cursor(Order order) {
+    return OrderCursor.of(order).encode();
+  }
+
+  private Flux<Order> listPage(
+      OrderSearchCriteria.Builder criteria, Integer limit, String after, boolean details) {
+    criteria
+        .after(after != null ? OrderCursor.decode(after) : null)
+        .limit(limit != null ? limit : OrderSearchCriteria.DEFAULT_LIMIT);
+    return page(criteria.build(), details).flatMapIterable(OrderPage::orders);
+  }
+
+  /**
+   * Full orders when the query selects JSONB-backed fields, otherwise summaries, which skip reading
+   * and parsing those columns.
+   */
+  private Mono<OrderPage<Order>> page(OrderSearchCriteria criteria, boolean details) {
+    if (details) {
+      return orderService.search(criteria);
+    }
+    return orderService
+        .searchSummaries(criteria)
+        .map(page -> page.map(OrderSummary::toPartialOrder));
+  }
+
+  /** Whether the selection under {@code prefix} includes a field only full orders carry. */
+  private static boolean selectsDetails(DataFetchingFieldSelectionSet selection, String prefix) {
+    if (selection == null) {
+      return true;
+    }
+    for (String field : DETAIL_FIELDS) {
+      if (selection.contains(prefix + field)) {
+        return true;
+      }
+    }
+    return false;
+  }
 }
@@ -10,13 +10,9 @@ public record OrderSearchInput(
     String startDate,
     String endDate,
     Integer limit,
-    Integer offset) {
+    String after) {
 
   public int limitOrDefault() {
     return limit != null && limit > 0 && limit <= 100 ? limit : 50;
   }
-
-  public int offsetOrDefault() {
-    return offset != null && offset >= 0 ? offset : 0;
-  }
 }
@@ -0,0 +1,56 @@
+package org.example.order.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+import org.example.model.order.Order;
+
+/**
+ * Position in an order listing: the sort key of the last order on a page.
+ *
+ * <p>Listings are ordered by {@code (created_at, id)} descending, so the next page starts strictly
+ * below this key. Clients see it as an opaque, URL-safe string.
+ */
+public record OrderCursor(Instant createdAt, UUID id) {
+
+  private static final char SEPARATOR = '|';
+
+  /** Cursor positioned at the given order. */
+  public static OrderCursor of(Order order) {
+    return new OrderCursor(order.createdAt(), order.id());
+  }
+
+  /** Cursor positioned at the given order. */
+  public static OrderCursor of(OrderSummary order) {
+    return new OrderCursor(order.createdAt(), order.id());
+  }
+
+  /** Opaque string form, suitable for query parameters. */
+  public String encode() {
+    String key = createdAt.toString() + SEPARATOR + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(key.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Parse a cursor produced by {@link #encode()}.
+   *
+   * @throws IllegalArgumentException if the value is not a valid cursor
+   */
+  public static OrderCursor decode(String value) {
+    try {
+      String key = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+      int separator = key.indexOf(SEPARATOR);
+      if (separator < 0) {
+        throw new IllegalArgumentException("Invalid cursor");
+      }
+      return new OrderCursor(
+          Instant.parse(key.substring(0, separator)),
+          UUID.fromString(key.substring(separator + 1)));
+    } catch (RuntimeException e) {
+      throw new IllegalArgumentException("Invalid cursor", e);
+    }
+  }
+}
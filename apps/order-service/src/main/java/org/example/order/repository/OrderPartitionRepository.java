@@ -0,0 +1,203 @@
+package org.example.order.repository;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Maintenance queries for the monthly partitions of the orders table.
+ *
+ * <p>Partitions are named orders_pYYYYMM and cover one UTC month of {@code created_at}. The default
+ * partition (orders_default) is never listed, so it is neither detached nor archived.
+ */
+@Repository
+public class OrderPartitionRepository {
+
+  private static final Pattern PARTITION_NAME = Pattern.compile("^orders_p(\\d{6})$");
+  private static final DateTimeFormatter PARTITION_MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+
+  private final DatabaseClient databaseClient;
+  private final TransactionalOperator transactionalOperator;
+
+  public OrderPartitionRepository(
+      DatabaseClient databaseClient, ReactiveTransactionManager transactionManager) {
+    this.databaseClient = databaseClient;
+    this.transactionalOperator = TransactionalOperator.create(transactionManager);
+  }
+
+  /**
+   * Monthly partition of the orders table.
+   *
+   * @param name the partition table name (orders_pYYYYMM)
+   * @param month the UTC month the partition covers
+   */
+  public record OrderPartition(String name, YearMonth month) {
+
+    /** Name of the standalone table the partition becomes when archived. */
+    public String archiveName() {
+      return name.replace("orders_", "orders_archive_");
+    }
+
+    /** First instant of the month, inclusive. */
+    public Instant start() {
+      return month.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+
+    /** First instant of the following month, exclusive. */
+    public Instant end() {
+      return month.plusMonths(1).atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+  }
+
+  /**
+   * Outcome of pre-creating partitions.
+   *
+   * @param created number of partitions created
+   * @param failed one "orders_pYYYYMM: error" entry per month that could not be created because
+   *     of a lock timeout or rows inserted into orders_default concurrently
+   */
+  public record PartitionsEnsured(int created, List<String> failed) {}
+
+  /**
+   * Create monthly partitions from the current month through {@code monthsAhead} months ahead.
+   * Rows already in orders_default for a month are moved into its partition as it is created. A
+   * month skipped on a lock timeout or a concurrent insert is reported in {@link
+   * PartitionsEnsured#failed()}; any other error fails the returned Mono.
+   *
+   * @param monthsAhead number of future months to pre-create
+   * @return partitions created and months skipped
+   */
+  public Mono<PartitionsEnsured> ensurePartitions(int monthsAhead) {
+    return databaseClient
+        .sql(ENSURE_PARTITIONS_SQL)
+        .bind("monthsAhead", monthsAhead)
+        .map(
+            row -> {
+              String[] failed = row.get("failed", String[].class);
+              return new PartitionsEnsured(
+                  row.get("created", Integer.class),
+                  failed == null ? List.of() : List.of(failed));
+            })
+        .one();
+  }
+
+  /** List the monthly partitions currently attached to the orders table. */
+  public Flux<OrderPartition> findMonthlyPartitions() {
+    return databaseClient
+        .sql(LIST_PARTITIONS_SQL)
+        .map(row -> row.get("name", String.class))
+        .all()
+        .flatMap(
+            name -> {
+              Matcher matcher = PARTITION_NAME.matcher(name);
+              if (!matcher.matches()) {
+                return Mono.empty();
+              }
+              return Mono.just(
+                  new OrderPartition(name, YearMonth.parse(matcher.group(1), PARTITION_MONTH)));
+            });
+  }
+
+  /**
+   * Estimate the rows in a partition from the table statistics. An exact count would read the
+   * whole month, which is the scan partitioning is meant to avoid.
+   *
+   * @param partition the partition
+   * @return estimated row count; 0 if the partition has not been analyzed
+   */
+  public Mono<Long> estimateRows(OrderPartition partition) {
+    return databaseClient
+        .sql(ESTIMATE_ROWS_SQL)
+        .bind("name", partition.name())
+        .map(row -> row.get(0, Long.class))
+        .one()
+        .defaultIfEmpty(0L);
+  }
+
+  /**
+   * Detach a partition from the orders table and release the month's order numbers. When
+   * archiving, the detached table is kept and renamed to orders_archive_pYYYYMM; otherwise it is
+   * dropped.
+   *
+   * <p>All statements run in one transaction, so a failed rename or drop leaves the partition
+   * attached rather than detached under its original name. Archiving fails up front if the archive
+   * table already exists.
+   *
+   * @param partition the partition to detach
+   * @param archive whether to keep the detached table
+   * @return completion signal
+   */
+  public Mono<Void> detachPartition(OrderPartition partition, boolean archive) {
+    String name = partition.name();
+    String disposeSql =
+        archive
+            ? "ALTER TABLE " + name + " RENAME TO " + partition.archiveName()
+            : "DROP TABLE " + name;
+    Mono<Void> detach =
+        databaseClient
+            .sql("ALTER TABLE orders DETACH PARTITION " + name)
+            .then()
+            .then(databaseClient.sql(disposeSql).then())
+            .then(
+                databaseClient
+                    .sql(RELEASE_ORDER_NUMBERS_SQL)
+                    .bind("start", partition.start())
+                    .bind("end", partition.end())
+                    .then());
+    Mono<Void> checked = archive ? ensureArchiveNameFree(partition).then(detach) : detach;
+    return transactionalOperator.transactional(checked);
+  }
+
+  private Mono<Void> ensureArchiveNameFree(OrderPartition partition) {
+    return databaseClient
+        .sql(TABLE_EXISTS_SQL)
+        .bind("name", partition.archiveName())
+        .map(row -> row.get(0, Boolean.class))
+        .one()
+        .filter(exists -> exists)
+        .flatMap(
+            exists ->
+                Mono.error(
+                    new IllegalStateException(
+                        "Archive table already exists: " + partition.archiveName())))
+        .then();
+  }
+
+  private static final String ENSURE_PARTITIONS_SQL =
+      """
+      SELECT created, failed FROM ensure_orders_partitions(
+        date_trunc('month', NOW() AT TIME ZONE 'UTC')::date,
+        (date_trunc('month', NOW() AT TIME ZONE 'UTC') + make_interval(months => :monthsAhead))::date)
+      """;
+
+  private static final String LIST_PARTITIONS_SQL =
+      """
+      SELECT c.relname AS name
+      FROM pg_inherits i
+      JOIN pg_class c ON c.oid = i.inhrelid
+      WHERE i.inhparent = 'orders'::regclass
+      """;
+
+  private static final String TABLE_EXISTS_SQL = "SELECT to_regclass(:name) IS NOT NULL";
+
+  // Detached orders are no longer found by number, so their numbers stop counting as taken
+  private static final String RELEASE_ORDER_NUMBERS_SQL =
+      "DELETE FROM order_numbers WHERE created_at >= :start AND created_at < :end";
+
+  private static final String ESTIMATE_ROWS_SQL =
+      """
+      SELECT GREATEST(reltuples, 0)::bigint
+      FROM pg_class
+      WHERE oid = to_regclass(:name)
+      """;
+}
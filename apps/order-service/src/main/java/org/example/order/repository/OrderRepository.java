@@ -1,9 +1,7 @@
 package org.example.order.repository;
 
-import java.time.Instant;
 import java.util.UUID;
 import org.example.model.order.Order;
-import org.example.model.order.OrderStatus;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -21,21 +19,27 @@ public interface OrderRepository {
   /** Find order by order number. */
   Mono<Order> findByOrderNumber(String orderNumber);
 
-  /** Find all orders for a store. */
-  Flux<Order> findByStoreNumber(int storeNumber);
-
-  /** Find all orders for a customer. */
-  Flux<Order> findByCustomerId(String customerId);
+  /**
+   * Find orders matching the criteria, newest first.
+   *
+   * <p>Returns at most {@code criteria.limit()} orders, starting below the cursor when one is set.
+   */
+  Flux<Order> searchOrders(OrderSearchCriteria criteria);
 
-  /** Find orders by store and status. */
-  Flux<Order> findByStoreNumberAndStatus(int storeNumber, OrderStatus status);
+  /**
+   * Same as {@link #searchOrders} but selects only scalar columns, skipping the JSONB columns and
+   * their deserialization.
+   */
+  Flux<OrderSummary> searchOrderSummaries(OrderSearchCriteria criteria);
 
-  /** Search orders with date range and pagination. */
-  Flux<Order> searchOrders(
-      int storeNumber, Instant startDate, Instant endDate, int limit, int offset);
+  /** Count orders matching the criteria, ignoring cursor and limit. */
+  Mono<Long> countSearchOrders(OrderSearchCriteria criteria);
 
-  /** Count orders matching search criteria. */
-  Mono<Long> countSearchOrders(int storeNumber, Instant startDate, Instant endDate);
+  /**
+   * Estimate the number of orders matching the criteria from planner statistics, ignoring cursor
+   * and limit. Does not scan the table, so it stays cheap on stores with millions of orders.
+   */
+  Mono<Long> estimateSearchOrders(OrderSearchCriteria criteria);
 
   /** Update order (for status changes, fulfillment updates, etc.). */
   Mono<Order> update(Order order);
@@ -46,10 +50,14 @@ public interface OrderRepository {
   /**
    * Insert order if it doesn't already exist (idempotent).
    *
-   * <p>Uses INSERT ... ON CONFLICT DO NOTHING for idempotent inserts from event consumers.
+   * <p>Uses INSERT ... ON CONFLICT DO NOTHING for idempotent inserts from event consumers. The
+   * order number is claimed in the same statement, and the order is only inserted if the claim
+   * succeeds. A redelivered event finds its own claim and is recognized as a duplicate.
    *
-   * @param order the order to insert
-   * @return Mono<Boolean> true if inserted, false if already existed
+   * @param order the order to insert; {@code createdAt} is required
+   * @return Mono<Boolean> true if inserted, false if already existed, an {@link
+   *     IllegalArgumentException} error if {@code createdAt} is null, or an {@link
+   *     IllegalStateException} error if another order already holds the order number
    */
   Mono<Boolean> insertIfAbsent(Order order);
 }
@@ -0,0 +1,82 @@
+package org.example.order.repository;
+
+import java.time.Instant;
+import org.example.model.order.OrderStatus;
+
+/**
+ * Filters and page position for order listings.
+ *
+ * <p>Every filter is optional; a null value leaves it out of the query. At least one of store
+ * number and customer ID should be set so the query can start from an index.
+ */
+public record OrderSearchCriteria(
+    Integer storeNumber,
+    String customerId,
+    OrderStatus status,
+    Instant startDate,
+    Instant endDate,
+    OrderCursor after,
+    int limit) {
+
+  public static final int DEFAULT_LIMIT = 50;
+
+  /** The same criteria with a different row limit. */
+  public OrderSearchCriteria withLimit(int limit) {
+    return new OrderSearchCriteria(
+        storeNumber, customerId, status, startDate, endDate, after, limit);
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public static class Builder {
+    private Integer storeNumber;
+    private String customerId;
+    private OrderStatus status;
+    private Instant startDate;
+    private Instant endDate;
+    private OrderCursor after;
+    private int limit = DEFAULT_LIMIT;
+
+    public Builder storeNumber(Integer storeNumber) {
+      this.storeNumber = storeNumber;
+      return this;
+    }
+
+    public Builder customerId(String customerId) {
+      this.customerId = customerId;
+      return this;
+    }
+
+    public Builder status(OrderStatus status) {
+      this.status = status;
+      return this;
+    }
+
+    public Builder startDate(Instant startDate) {
+      this.startDate = startDate;
+      return this;
+    }
+
+    public Builder endDate(Instant endDate) {
+      this.endDate = endDate;
+      return this;
+    }
+
+    public Builder after(OrderCursor after) {
+      this.after = after;
+      return this;
+    }
+
+    public Builder limit(int limit) {
+      this.limit = limit;
+      return this;
+    }
+
+    public OrderSearchCriteria build() {
+      return new OrderSearchCriteria(
+          storeNumber, customerId, status, startDate, endDate, after, limit);
+    }
+  }
+}
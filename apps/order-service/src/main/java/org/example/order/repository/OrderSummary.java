@@ -0,0 +1,59 @@
+package org.example.order.repository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+import org.example.model.order.FulfillmentType;
+import org.example.model.order.Order;
+import org.example.model.order.OrderStatus;
+import org.example.model.order.PaymentStatus;
+
+/**
+ * Scalar columns of an order, for list views.
+ *
+ * <p>Read with a select that leaves out the JSONB columns (line items, discounts, customer
+ * snapshot, fulfillment details), so listing orders neither fetches those values from TOAST
+ * storage nor parses them.
+ */
+public record OrderSummary(
+    UUID id,
+    int storeNumber,
+    String orderNumber,
+    String customerId,
+    FulfillmentType fulfillmentType,
+    Instant fulfillmentDate,
+    BigDecimal subtotal,
+    BigDecimal discountTotal,
+    BigDecimal taxTotal,
+    BigDecimal fulfillmentCost,
+    BigDecimal grandTotal,
+    PaymentStatus paymentStatus,
+    OrderStatus status,
+    Instant createdAt,
+    Instant updatedAt) {
+
+  /**
+   * An Order holding only the summary fields; line items and discounts are empty and the
+   * snapshots null. Only for callers that will not read those fields, such as GraphQL resolvers
+   * whose selection set leaves them out.
+   */
+  public Order toPartialOrder() {
+    return Order.builder()
+        .id(id)
+        .storeNumber(storeNumber)
+        .orderNumber(orderNumber)
+        .customerId(customerId)
+        .fulfillmentType(fulfillmentType)
+        .fulfillmentDate(fulfillmentDate)
+        .subtotal(subtotal)
+        .discountTotal(discountTotal)
+        .taxTotal(taxTotal)
+        .fulfillmentCost(fulfillmentCost)
+        .grandTotal(grandTotal)
+        .paymentStatus(paymentStatus)
+        .status(status)
+        .createdAt(createdAt)
+        .updatedAt(updatedAt)
+        .build();
+  }
+}
@@ -3,9 +3,11 @@ package org.example.order.repository;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import java.time.Instant;
+import io.r2dbc.spi.Readable;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.example.model.order.AppliedDiscount;
 import org.example.model.order.CustomerSnapshot;
@@ -15,6 +17,7 @@ import org.example.model.order.Order;
 import org.example.model.order.OrderLineItem;
 import org.example.model.order.OrderStatus;
 import org.example.model.order.PaymentStatus;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
@@ -24,21 +27,33 @@ import reactor.core.publisher.Mono;
  * Postgres implementation of OrderRepository.
  *
  * <p>Converts between domain Order objects and OrderEntity database records, handling JSON
- * serialization for denormalized collections.
+ * serialization for denormalized collections. Order listings use keyset pagination: rows are
+ * ordered by {@code (created_at, id)} descending and each page starts below the previous page's
+ * last row, so a deep page costs the same as the first one.
+ *
+ * <p>The orders table is range-partitioned by month on {@code created_at}. Listings bound {@code
+ * created_at} by the date range and the cursor so Postgres only scans the partitions those bounds
+ * cover; lookups by ID have no such bound and probe every partition's index. Order numbers cannot
+ * be kept unique by the partitioned table, so they are claimed in the unpartitioned order_numbers
+ * table in the same statement that inserts the order; a lookup by order number reads the claim
+ * first and then only the partition holding that order.
  */
 @Repository
 public class PostgresOrderRepository implements OrderRepository {
 
   private final OrderEntityRepository entityRepository;
   private final DatabaseClient databaseClient;
+  private final R2dbcConverter converter;
   private final ObjectMapper objectMapper;
 
   public PostgresOrderRepository(
       OrderEntityRepository entityRepository,
       DatabaseClient databaseClient,
+      R2dbcConverter converter,
       ObjectMapper objectMapper) {
     this.entityRepository = entityRepository;
     this.databaseClient = databaseClient;
+    this.converter = converter;
     this.objectMapper = objectMapper;
   }
 
@@ -49,37 +64,62 @@ public class PostgresOrderRepository implements OrderRepository {
 
   @Override
   public Mono<Order> findByOrderNumber(String orderNumber) {
-    return entityRepository.findByOrderNumber(orderNumber).flatMap(this::toDomain);
-  }
-
-  @Override
-  public Flux<Order> findByStoreNumber(int storeNumber) {
-    return entityRepository.findByStoreNumber(storeNumber).flatMap(this::toDomain);
+    return databaseClient
+        .sql(FIND_BY_ORDER_NUMBER_SQL)
+        .bind("orderNumber", orderNumber)
+        .map((row, metadata) -> converter.read(OrderEntity.class, row, metadata))
+        .one()
+        .flatMap(this::toDomain);
   }
 
   @Override
-  public Flux<Order> findByCustomerId(String customerId) {
-    return entityRepository.findByCustomerId(customerId).flatMap(this::toDomain);
+  public Flux<Order> searchOrders(OrderSearchCriteria criteria) {
+    SearchFilter filter = SearchFilter.of(criteria, true);
+    String sql =
+        "SELECT * FROM orders"
+            + filter.sql()
+            + " ORDER BY created_at DESC, id DESC LIMIT :limit";
+    return filter
+        .bindTo(databaseClient.sql(sql))
+        .bind("limit", criteria.limit())
+        .map((row, metadata) -> converter.read(OrderEntity.class, row, metadata))
+        .all()
+        .concatMap(this::toDomain);
   }
 
   @Override
-  public Flux<Order> findByStoreNumberAndStatus(int storeNumber, OrderStatus status) {
-    return entityRepository
-        .findByStoreNumberAndStatus(storeNumber, status.name())
-        .flatMap(this::toDomain);
+  public Flux<OrderSummary> searchOrderSummaries(OrderSearchCriteria criteria) {
+    SearchFilter filter = SearchFilter.of(criteria, true);
+    String sql =
+        "SELECT "
+            + SUMMARY_COLUMNS
+            + " FROM orders"
+            + filter.sql()
+            + " ORDER BY created_at DESC, id DESC LIMIT :limit";
+    return filter
+        .bindTo(databaseClient.sql(sql))
+        .bind("limit", criteria.limit())
+        .map(PostgresOrderRepository::toSummary)
+        .all();
   }
 
   @Override
-  public Flux<Order> searchOrders(
-      int storeNumber, Instant startDate, Instant endDate, int limit, int offset) {
-    return entityRepository
-        .searchOrders(storeNumber, startDate, endDate, limit, offset)
-        .flatMap(this::toDomain);
+  public Mono<Long> countSearchOrders(OrderSearchCriteria criteria) {
+    SearchFilter filter = SearchFilter.of(criteria, false);
+    return filter
+        .bindTo(databaseClient.sql("SELECT COUNT(*) FROM orders" + filter.sql()))
+        .map(row -> row.get(0, Long.class))
+        .one();
   }
 
   @Override
-  public Mono<Long> countSearchOrders(int storeNumber, Instant startDate, Instant endDate) {
-    return entityRepository.countSearchOrders(storeNumber, startDate, endDate);
+  public Mono<Long> estimateSearchOrders(OrderSearchCriteria criteria) {
+    SearchFilter filter = SearchFilter.of(criteria, false);
+    return filter
+        .bindTo(databaseClient.sql("EXPLAIN (FORMAT JSON) SELECT 1 FROM orders" + filter.sql()))
+        .map(row -> row.get(0, String.class))
+        .one()
+        .map(this::plannedRows);
   }
 
   @Override
@@ -94,6 +134,11 @@ public class PostgresOrderRepository implements OrderRepository {
 
   @Override
   public Mono<Boolean> insertIfAbsent(Order order) {
+    // created_at is in the conflict key; defaulting it would insert a redelivery as a second row
+    if (order.createdAt() == null) {
+      return Mono.error(
+          new IllegalArgumentException("Order createdAt is required: orderId=" + order.id()));
+    }
     return Mono.fromCallable(() -> serializeOrder(order))
         .flatMap(params -> executeInsert(order, params));
   }
@@ -137,7 +182,38 @@ public class PostgresOrderRepository implements OrderRepository {
     spec = bindOptional(spec, "createdBy", order.createdBy(), String.class);
     spec = bindOptional(spec, "sessionId", order.sessionId(), UUID.class);
 
-    return spec.fetch().rowsUpdated().map(rowsUpdated -> rowsUpdated > 0);
+    return spec.fetch()
+        .rowsUpdated()
+        .flatMap(
+            rowsUpdated ->
+                rowsUpdated > 0 ? Mono.just(true) : checkOrderNumberClaim(order, params));
+  }
+
+  /**
+   * Nothing was inserted, so the order number was already claimed. A redelivery of the same order
+   * holds the claim itself; a claim by another order means checkout-service assigned one order
+   * number twice, which is reported rather than dropped as a duplicate.
+   */
+  private Mono<Boolean> checkOrderNumberClaim(Order order, OrderInsertParams params) {
+    return databaseClient
+        .sql(ORDER_NUMBER_CLAIM_SQL)
+        .bind("orderNumber", params.orderNumber())
+        .map(row -> row.get("id", UUID.class))
+        .one()
+        .map(
+            claimedBy -> {
+              if (!claimedBy.equals(params.id())) {
+                throw new IllegalStateException(
+                    "Order number already assigned to another order: orderNumber="
+                        + order.orderNumber()
+                        + ", orderId="
+                        + order.id()
+                        + ", existingOrderId="
+                        + claimedBy);
+              }
+              return false;
+            })
+        .defaultIfEmpty(false);
   }
 
   @SuppressWarnings("unchecked")
@@ -157,8 +233,21 @@ public class PostgresOrderRepository implements OrderRepository {
     return spec.bindNull(name, io.r2dbc.postgresql.codec.Json.class);
   }
 
+  private static final String SUMMARY_COLUMNS =
+      "id, store_number, order_number, customer_id, fulfillment_type, fulfillment_date, "
+          + "subtotal, discount_total, tax_total, fulfillment_cost, grand_total, "
+          + "payment_status, status, created_at, updated_at";
+
+  // The order row is only inserted if this statement claims the order number, so two orders can
+  // never share one; a redelivery finds its own claim and inserts nothing
   private static final String INSERT_IF_ABSENT_SQL =
       """
+      WITH claimed AS (
+        INSERT INTO order_numbers (order_number, id, created_at)
+        VALUES (:orderNumber, :id, :createdAt)
+        ON CONFLICT (order_number) DO NOTHING
+        RETURNING order_number
+      )
       INSERT INTO orders (
         id, store_number, order_number, customer_id,
         fulfillment_type, fulfillment_date, reservation_id,
@@ -166,17 +255,75 @@ public class PostgresOrderRepository implements OrderRepository {
         payment_status, payment_method, payment_reference,
         status, line_items, applied_discounts, customer_snapshot, fulfillment_details,
         created_at, updated_at, created_by, session_id
-      ) VALUES (
-        :id, :storeNumber, :orderNumber, :customerId,
-        :fulfillmentType, :fulfillmentDate, :reservationId,
-        :subtotal, :discountTotal, :taxTotal, :fulfillmentCost, :grandTotal,
-        :paymentStatus, :paymentMethod, :paymentReference,
-        :status, :lineItems, :appliedDiscounts, :customerSnapshot, :fulfillmentDetails,
-        :createdAt, :updatedAt, :createdBy, :sessionId
       )
-      ON CONFLICT (id) DO NOTHING
+      SELECT :id, :storeNumber, order_number, :customerId,
+             :fulfillmentType, :fulfillmentDate, :reservationId,
+             :subtotal, :discountTotal, :taxTotal, :fulfillmentCost, :grandTotal,
+             :paymentStatus, :paymentMethod, :paymentReference,
+             :status, :lineItems, :appliedDiscounts, :customerSnapshot, :fulfillmentDetails,
+             :createdAt, :updatedAt, :createdBy, :sessionId
+      FROM claimed
+      ON CONFLICT (id, created_at) DO NOTHING
+      """;
+
+  private static final String ORDER_NUMBER_CLAIM_SQL =
+      "SELECT id FROM order_numbers WHERE order_number = :orderNumber";
+
+  // Joining on created_at as well lets Postgres prune the lookup to the order's partition
+  private static final String FIND_BY_ORDER_NUMBER_SQL =
+      """
+      SELECT o.* FROM order_numbers n
+      JOIN orders o ON o.id = n.id AND o.created_at = n.created_at
+      WHERE n.order_number = :orderNumber
       """;
 
+  /** WHERE clause and bind values for order search criteria. */
+  private record SearchFilter(String sql, Map<String, Object> binds) {
+
+    static SearchFilter of(OrderSearchCriteria criteria, boolean withCursor) {
+      List<String> conditions = new ArrayList<>();
+      Map<String, Object> binds = new LinkedHashMap<>();
+      if (criteria.storeNumber() != null) {
+        conditions.add("store_number = :storeNumber");
+        binds.put("storeNumber", criteria.storeNumber());
+      }
+      if (criteria.customerId() != null) {
+        conditions.add("customer_id = :customerId");
+        binds.put("customerId", criteria.customerId());
+      }
+      if (criteria.status() != null) {
+        conditions.add("status = :status");
+        binds.put("status", criteria.status().name());
+      }
+      if (criteria.startDate() != null) {
+        conditions.add("created_at >= :startDate");
+        binds.put("startDate", criteria.startDate());
+      }
+      if (criteria.endDate() != null) {
+        conditions.add("created_at <= :endDate");
+        binds.put("endDate", criteria.endDate());
+      }
+      if (withCursor && criteria.after() != null) {
+        // Row comparison matches the (created_at DESC, id DESC) index order, so Postgres seeks
+        // straight to the cursor instead of reading and discarding the earlier pages
+        conditions.add("(created_at, id) < (:afterCreatedAt, :afterId)");
+        // Partitions are pruned on plain comparisons of created_at, not on row comparisons
+        conditions.add("created_at <= :afterCreatedAt");
+        binds.put("afterCreatedAt", criteria.after().createdAt());
+        binds.put("afterId", criteria.after().id());
+      }
+      String sql = conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+      return new SearchFilter(sql, binds);
+    }
+
+    DatabaseClient.GenericExecuteSpec bindTo(DatabaseClient.GenericExecuteSpec spec) {
+      for (Map.Entry<String, Object> bind : binds.entrySet()) {
+        spec = spec.bind(bind.getKey(), bind.getValue());
+      }
+      return spec;
+    }
+  }
+
   /** Serialized order parameters for database insert. */
   private record OrderInsertParams(
       UUID id,
@@ -214,8 +361,8 @@ public class PostgresOrderRepository implements OrderRepository {
         serialize(order.appliedDiscounts() != null ? order.appliedDiscounts() : new ArrayList<>()),
         order.customerSnapshot() != null ? serialize(order.customerSnapshot()) : null,
         order.fulfillmentDetails() != null ? serialize(order.fulfillmentDetails()) : null,
-        order.createdAt() != null ? order.createdAt() : java.time.Instant.now(),
-        order.updatedAt() != null ? order.updatedAt() : java.time.Instant.now());
+        order.createdAt(),
+        order.updatedAt() != null ? order.updatedAt() : order.createdAt());
   }
 
   // ==================== Mapping Methods ====================
@@ -280,6 +427,28 @@ public class PostgresOrderRepository implements OrderRepository {
     }
   }
 
+  private static OrderSummary toSummary(Readable row) {
+    String fulfillmentType = row.get("fulfillment_type", String.class);
+    String paymentStatus = row.get("payment_status", String.class);
+    String status = row.get("status", String.class);
+    return new OrderSummary(
+        row.get("id", UUID.class),
+        row.get("store_number", Integer.class),
+        row.get("order_number", String.class),
+        row.get("customer_id", String.class),
+        fulfillmentType != null ? FulfillmentType.valueOf(fulfillmentType) : null,
+        row.get("fulfillment_date", java.time.Instant.class),
+        row.get("subtotal", java.math.BigDecimal.class),
+        row.get("discount_total", java.math.BigDecimal.class),
+        row.get("tax_total", java.math.BigDecimal.class),
+        row.get("fulfillment_cost", java.math.BigDecimal.class),
+        row.get("grand_total", java.math.BigDecimal.class),
+        paymentStatus != null ? PaymentStatus.valueOf(paymentStatus) : PaymentStatus.PENDING,
+        status != null ? OrderStatus.valueOf(status) : OrderStatus.CREATED,
+        row.get("created_at", java.time.Instant.class),
+        row.get("updated_at", java.time.Instant.class));
+  }
+
   private Mono<OrderEntity> toEntity(Order order) {
     return Mono.fromCallable(
         () ->
@@ -310,6 +479,14 @@ public class PostgresOrderRepository implements OrderRepository {
                 order.sessionId()));
   }
 
+  private long plannedRows(String plan) {
+    try {
+      return objectMapper.readTree(plan).path(0).path("Plan").path("Plan Rows").asLong();
+    } catch (JsonProcessingException e) {
+      throw new RuntimeException("Failed to parse query plan", e);
+    }
+  }
+
   private <T> T deserialize(String json, TypeReference<T> typeRef) throws JsonProcessingException {
     if (json == null || json.isBlank()) {
       return null;
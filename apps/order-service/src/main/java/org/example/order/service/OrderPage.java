@@ -0,0 +1,33 @@
+package org.example.order.service;
+
+import java.util.List;
+import java.util.function.Function;
+import org.example.order.repository.OrderCursor;
+
+/**
+ * One page of an order listing.
+ *
+ * @param orders the orders on this page, newest first
+ * @param hasMore whether more orders follow this page
+ * @param nextCursor cursor for the following page, or null on the last page
+ * @param <T> the order representation: full {@code Order} or {@code OrderSummary}
+ */
+public record OrderPage<T>(List<T> orders, boolean hasMore, String nextCursor) {
+
+  /**
+   * Build a page from a query that fetched one row more than the limit; the extra row only tells
+   * whether another page exists.
+   */
+  static <T> OrderPage<T> of(List<T> fetched, int limit, Function<T, OrderCursor> cursor) {
+    if (fetched.size() <= limit) {
+      return new OrderPage<>(fetched, false, null);
+    }
+    List<T> orders = fetched.subList(0, limit);
+    return new OrderPage<>(orders, true, cursor.apply(orders.get(limit - 1)).encode());
+  }
+
+  /** The same page with each order converted. */
+  public <R> OrderPage<R> map(Function<T, R> mapper) {
+    return new OrderPage<>(orders.stream().map(mapper).toList(), hasMore, nextCursor);
+  }
+}
@@ -0,0 +1,195 @@
+package org.example.order.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.example.order.repository.OrderPartitionRepository;
+import org.example.order.repository.OrderPartitionRepository.OrderPartition;
+import org.example.order.repository.OrderPartitionRepository.PartitionsEnsured;
+import org.example.order.service.OrderPartitionProperties.RetentionMode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Background job that keeps the monthly partitions of the orders table in shape.
+ *
+ * <p>Each run pre-creates partitions for the coming months, so orders never land in the default
+ * partition in normal operation, then detaches partitions older than the retention window and
+ * archives or drops them. Detaching takes a brief exclusive lock on orders, but no rows are
+ * rewritten or deleted. Partitions created, failed and detached and run duration are published as
+ * metrics.
+ */
+@Service
+@ConditionalOnProperty(
+    name = "order.partitions.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class OrderPartitionMaintainer {
+
+  private static final Logger log = LoggerFactory.getLogger(OrderPartitionMaintainer.class);
+
+  private final OrderPartitionRepository partitionRepository;
+  private final OrderPartitionProperties properties;
+  private final Counter partitionsCreated;
+  private final Counter partitionsFailed;
+  private final Counter partitionsDetached;
+  private final Counter rowsDetached;
+  private final Timer runTimer;
+  private final AtomicBoolean running = new AtomicBoolean(false);
+
+  public OrderPartitionMaintainer(
+      OrderPartitionRepository partitionRepository,
+      OrderPartitionProperties properties,
+      MeterRegistry meterRegistry) {
+    this.partitionRepository = partitionRepository;
+    this.properties = properties;
+    String mode = properties.getRetentionMode().name();
+    this.partitionsCreated =
+        Counter.builder("order.partitions.created")
+            .description("Orders partitions created ahead of time")
+            .register(meterRegistry);
+    this.partitionsFailed =
+        Counter.builder("order.partitions.failed")
+            .description("Orders partitions that could not be created ahead of time")
+            .register(meterRegistry);
+    this.partitionsDetached =
+        Counter.builder("order.partitions.detached")
+            .description("Orders partitions detached after the retention window")
+            .tag("mode", mode)
+            .register(meterRegistry);
+    this.rowsDetached =
+        Counter.builder("order.partitions.rows.detached")
+            .description("Estimated order rows in detached partitions")
+            .tag("mode", mode)
+            .register(meterRegistry);
+    this.runTimer =
+        Timer.builder("order.partitions.run.duration")
+            .description("Duration of an orders partition maintenance run")
+            .register(meterRegistry);
+  }
+
+  /**
+   * Result of a single maintenance run.
+   *
+   * @param partitionsCreated number of future partitions created
+   * @param partitionsDetached number of expired partitions detached
+   * @param rowsDetached estimated rows in the detached partitions
+   * @param duration wall-clock duration of the run
+   */
+  public record MaintenanceResult(
+      long partitionsCreated, long partitionsDetached, long rowsDetached, Duration duration) {}
+
+  @Scheduled(
+      initialDelayString = "${order.partitions.initial-delay:PT1M}",
+      fixedDelayString = "${order.partitions.interval:PT1H}")
+  public void scheduledRun() {
+    // Skip if the previous (asynchronous) run is still in flight
+    if (!running.compareAndSet(false, true)) {
+      return;
+    }
+    run()
+        .doFinally(signal -> running.set(false))
+        .subscribe(
+            result -> {
+              if (result.partitionsCreated() > 0 || result.partitionsDetached() > 0) {
+                log.info(
+                    "Order partition maintenance complete: created={}, detached={},"
+                        + " rowsDetached={}, durationMs={}",
+                    result.partitionsCreated(),
+                    result.partitionsDetached(),
+                    result.rowsDetached(),
+                    result.duration().toMillis());
+              }
+            },
+            error -> log.error("Order partition maintenance failed: {}", error.getMessage()));
+  }
+
+  /**
+   * Execute one maintenance run. If any partition could not be created the run fails before
+   * detaching anything, so the failure is logged and retried on the next run.
+   *
+   * @return the run result
+   */
+  public Mono<MaintenanceResult> run() {
+    return Mono.defer(
+        () -> {
+          long startNanos = System.nanoTime();
+          return partitionRepository
+              .ensurePartitions(properties.getMonthsAhead())
+              .flatMap(this::checkPartitionsCreated)
+              .flatMap(
+                  created ->
+                      detachExpiredPartitions()
+                          .map(
+                              detached ->
+                                  new MaintenanceResult(
+                                      created,
+                                      detached.partitions(),
+                                      detached.rows(),
+                                      Duration.ofNanos(System.nanoTime() - startNanos))))
+              .doOnNext(
+                  result -> {
+                    partitionsCreated.increment(result.partitionsCreated());
+                    partitionsDetached.increment(result.partitionsDetached());
+                    rowsDetached.increment(result.rowsDetached());
+                    runTimer.record(result.duration());
+                  });
+        });
+  }
+
+  private Mono<Integer> checkPartitionsCreated(PartitionsEnsured ensured) {
+    if (ensured.failed().isEmpty()) {
+      return Mono.just(ensured.created());
+    }
+    partitionsCreated.increment(ensured.created());
+    partitionsFailed.increment(ensured.failed().size());
+    return Mono.error(
+        new IllegalStateException(
+            "Could not create orders partitions: " + String.join("; ", ensured.failed())));
+  }
+
+  private record DetachTotals(long partitions, long rows) {}
+
+  /** Detach partitions for months before the retention window, oldest first. */
+  private Mono<DetachTotals> detachExpiredPartitions() {
+    if (properties.getRetentionMonths() <= 0) {
+      return Mono.just(new DetachTotals(0, 0));
+    }
+    YearMonth oldestRetained =
+        YearMonth.now(ZoneOffset.UTC).minusMonths(properties.getRetentionMonths());
+    return partitionRepository
+        .findMonthlyPartitions()
+        .filter(partition -> partition.month().isBefore(oldestRetained))
+        .sort((a, b) -> a.month().compareTo(b.month()))
+        .concatMap(this::detach)
+        .reduce(
+            new DetachTotals(0, 0),
+            (totals, rows) -> new DetachTotals(totals.partitions() + 1, totals.rows() + rows));
+  }
+
+  private Mono<Long> detach(OrderPartition partition) {
+    boolean archive = properties.getRetentionMode() == RetentionMode.ARCHIVE;
+    return partitionRepository
+        .estimateRows(partition)
+        .flatMap(
+            rows ->
+                partitionRepository
+                    .detachPartition(partition, archive)
+                    .doOnSuccess(
+                        v ->
+                            log.info(
+                                "Detached orders partition: name={}, estimatedRows={}, mode={}",
+                                partition.name(),
+                                rows,
+                                properties.getRetentionMode()))
+                    .thenReturn(rows));
+  }
+}
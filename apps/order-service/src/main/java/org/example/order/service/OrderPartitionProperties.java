@@ -0,0 +1,77 @@
+package org.example.order.service;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/** Configuration for orders partition maintenance. */
+@ConfigurationProperties(prefix = "order.partitions")
+public class OrderPartitionProperties {
+
+  /** What happens to a partition once it falls out of the retention window. */
+  public enum RetentionMode {
+    /** Detach it and keep it as a standalone orders_archive_pYYYYMM table. */
+    ARCHIVE,
+    /** Detach and drop it. */
+    DROP
+  }
+
+  private boolean enabled = true;
+
+  /** Future months to keep partitions for, beyond the current month. */
+  private int monthsAhead = 3;
+
+  /** Months of orders to keep attached, beyond the current month; 0 or less keeps every month. */
+  private int retentionMonths = 24;
+
+  private RetentionMode retentionMode = RetentionMode.ARCHIVE;
+  private Duration interval = Duration.ofHours(1);
+  private Duration initialDelay = Duration.ofMinutes(1);
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public int getMonthsAhead() {
+    return monthsAhead;
+  }
+
+  public void setMonthsAhead(int monthsAhead) {
+    this.monthsAhead = monthsAhead;
+  }
+
+  public int getRetentionMonths() {
+    return retentionMonths;
+  }
+
+  public void setRetentionMonths(int retentionMonths) {
+    this.retentionMonths = retentionMonths;
+  }
+
+  public RetentionMode getRetentionMode() {
+    return retentionMode;
+  }
+
+  public void setRetentionMode(RetentionMode retentionMode) {
+    this.retentionMode = retentionMode;
+  }
+
+  public Duration getInterval() {
+    return interval;
+  }
+
+  public void setInterval(Duration interval) {
+    this.interval = interval;
+  }
+
+  public Duration getInitialDelay() {
+    return initialDelay;
+  }
+
+  public void setInitialDelay(Duration initialDelay) {
+    this.initialDelay = initialDelay;
+  }
+}
@@ -0,0 +1,37 @@
+package org.example.order.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/** Configuration for order search. */
+@ConfigurationProperties(prefix = "order.search")
+public class OrderSearchProperties {
+
+  /** How search results report their total count. */
+  public enum CountMode {
+    /** COUNT(*) over every matching row. */
+    EXACT,
+    /** Planner estimate, replaced by an exact count when it is below the threshold. */
+    ESTIMATED
+  }
+
+  private CountMode countMode = CountMode.ESTIMATED;
+
+  /** Estimates below this are recounted exactly; small counts are cheap and users notice them. */
+  private long exactCountThreshold = 10_000;
+
+  public CountMode getCountMode() {
+    return countMode;
+  }
+
+  public void setCountMode(CountMode countMode) {
+    this.countMode = countMode;
+  }
+
+  public long getExactCountThreshold() {
+    return exactCountThreshold;
+  }
+
+  public void setExactCountThreshold(long exactCountThreshold) {
+    this.exactCountThreshold = exactCountThreshold;
+  }
+}
@@ -1,15 +1,17 @@
 package org.example.order.service;
 
-import java.time.Instant;
 import java.util.UUID;
 import org.example.model.order.FulfillmentDetails;
 import org.example.model.order.Order;
 import org.example.model.order.OrderStatus;
+import org.example.order.repository.OrderCursor;
 import org.example.order.repository.OrderRepository;
+import org.example.order.repository.OrderSearchCriteria;
+import org.example.order.repository.OrderSummary;
+import org.example.order.service.OrderSearchProperties.CountMode;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -21,9 +23,11 @@ import reactor.core.publisher.Mono;
 public class OrderService {
 
   private final OrderRepository orderRepository;
+  private final OrderSearchProperties searchProperties;
 
-  public OrderService(OrderRepository orderRepository) {
+  public OrderService(OrderRepository orderRepository, OrderSearchProperties searchProperties) {
     this.orderRepository = orderRepository;
+    this.searchProperties = searchProperties;
   }
 
   /** Find order by ID. */
@@ -45,35 +49,45 @@ public class OrderService {
                     HttpStatus.NOT_FOUND, "Order not found: " + orderNumber)));
   }
 
-  /** Find all orders for a store. */
-  public Flux<Order> findByStore(int storeNumber) {
-    return orderRepository.findByStoreNumber(storeNumber);
-  }
-
-  /** Find all orders for a customer. */
-  public Flux<Order> findByCustomer(String customerId) {
-    return orderRepository.findByCustomerId(customerId);
-  }
-
-  /** Find orders by store and status. */
-  public Flux<Order> findByStoreAndStatus(int storeNumber, OrderStatus status) {
-    return orderRepository.findByStoreNumberAndStatus(storeNumber, status);
+  /**
+   * Find one page of orders matching the criteria, newest first. Pass the page's next cursor as
+   * {@code after} to fetch the following page.
+   */
+  public Mono<OrderPage<Order>> search(OrderSearchCriteria criteria) {
+    int limit = criteria.limit();
+    return orderRepository
+        .searchOrders(criteria.withLimit(limit + 1))
+        .collectList()
+        .map(fetched -> OrderPage.of(fetched, limit, OrderCursor::of));
   }
 
-  /** Search orders with criteria. */
-  public Flux<Order> search(OrderSearchCriteria criteria) {
-    return orderRepository.searchOrders(
-        criteria.storeNumber(),
-        criteria.startDate(),
-        criteria.endDate(),
-        criteria.limit(),
-        criteria.offset());
+  /**
+   * Like {@link #search} but returns summaries, skipping the JSONB columns. Use for list views
+   * that show no line items, discounts or snapshots.
+   */
+  public Mono<OrderPage<OrderSummary>> searchSummaries(OrderSearchCriteria criteria) {
+    int limit = criteria.limit();
+    return orderRepository
+        .searchOrderSummaries(criteria.withLimit(limit + 1))
+        .collectList()
+        .map(fetched -> OrderPage.of(fetched, limit, OrderCursor::of));
   }
 
-  /** Count orders matching search criteria. */
+  /**
+   * Count orders matching the criteria. In ESTIMATED mode large results report the planner
+   * estimate rather than scanning every matching row.
+   */
   public Mono<Long> countSearch(OrderSearchCriteria criteria) {
-    return orderRepository.countSearchOrders(
-        criteria.storeNumber(), criteria.startDate(), criteria.endDate());
+    if (searchProperties.getCountMode() == CountMode.EXACT) {
+      return orderRepository.countSearchOrders(criteria);
+    }
+    return orderRepository
+        .estimateSearchOrders(criteria)
+        .flatMap(
+            estimate ->
+                estimate < searchProperties.getExactCountThreshold()
+                    ? orderRepository.countSearchOrders(criteria)
+                    : Mono.just(estimate));
   }
 
   /** Update order status. */
@@ -154,50 +168,4 @@ public class OrderService {
         || status == OrderStatus.PAID
         || status == OrderStatus.PROCESSING;
   }
-
-  /** Search criteria for order queries. */
-  public record OrderSearchCriteria(
-      int storeNumber, Instant startDate, Instant endDate, int limit, int offset) {
-
-    public static Builder builder() {
-      return new Builder();
-    }
-
-    public static class Builder {
-      private int storeNumber;
-      private Instant startDate = Instant.EPOCH;
-      private Instant endDate = Instant.now();
-      private int limit = 50;
-      private int offset = 0;
-
-      public Builder storeNumber(int storeNumber) {
-        this.storeNumber = storeNumber;
-        return this;
-      }
-
-      public Builder startDate(Instant startDate) {
-        this.startDate = startDate;
-        return this;
-      }
-
-      public Builder endDate(Instant endDate) {
-        this.endDate = endDate;
-        return this;
-      }
-
-      public Builder limit(int limit) {
-        this.limit = limit;
-        return this;
-      }
-
-      public Builder offset(int offset) {
-        this.offset = offset;
-        return this;
-      }
-
-      public OrderSearchCriteria build() {
-        return new OrderSearchCriteria(storeNumber, startDate, endDate, limit, offset);
-      }
-    }
-  }
 }
@@ -6,6 +6,7 @@ import java.util.UUID;
 import java.util.regex.Pattern;
 import org.example.model.order.OrderStatus;
 import org.example.order.dto.OrderSearchRequest;
+import org.example.order.repository.OrderCursor;
 import org.example.platform.error.ValidationException;
 import org.example.platform.error.ValidationException.ValidationError;
 import org.springframework.stereotype.Component;
@@ -88,13 +89,21 @@ public class OrderRequestValidator {
       errors.add(new ValidationError("size", "Must be between 1 and 100"));
     }
 
-    if (request.page() != null && request.page() < 0) {
-      errors.add(new ValidationError("page", "Must be non-negative"));
-    }
+    validateCursor(request.after(), errors);
 
     return toMono(errors);
   }
 
+  /** Validate page size and cursor for list endpoints. */
+  public Mono<Void> validatePage(Integer size, String after) {
+    List<ValidationError> errors = new ArrayList<>();
+    if (size != null && (size < 1 || size > 100)) {
+      errors.add(new ValidationError("size", "Must be between 1 and 100"));
+    }
+    validateCursor(after, errors);
+    return toMono(errors);
+  }
+
   /** Validate status for update. */
   public Mono<Void> validateStatus(String status) {
     List<ValidationError> errors = new ArrayList<>();
@@ -120,6 +129,17 @@ public class OrderRequestValidator {
     }
   }
 
+  private void validateCursor(String after, List<ValidationError> errors) {
+    if (after == null) {
+      return;
+    }
+    try {
+      OrderCursor.decode(after);
+    } catch (IllegalArgumentException e) {
+      errors.add(new ValidationError("after", "Invalid cursor"));
+    }
+  }
+
   private void validateStoreNumber(int value, String field, List<ValidationError> errors) {
     if (value < STORE_NUMBER_MIN || value > STORE_NUMBER_MAX) {
       errors.add(
@@ -0,0 +1,184 @@
+-- Range-partition orders by month on created_at.
+-- Each insert only maintains the indexes of the current month's partition, which stay small and
+-- cached, and listings bounded by date scan only the months they cover. Old months are detached
+-- whole by the partition maintainer instead of deleted row by row.
+
+ALTER TABLE orders RENAME TO orders_unpartitioned;
+
+ALTER TABLE orders_unpartitioned DROP CONSTRAINT IF EXISTS orders_pkey;
+ALTER TABLE orders_unpartitioned DROP CONSTRAINT IF EXISTS orders_order_number_key;
+DROP INDEX IF EXISTS idx_orders_fulfillment_type;
+DROP INDEX IF EXISTS idx_orders_fulfillment_date;
+DROP INDEX IF EXISTS idx_orders_line_items;
+DROP INDEX IF EXISTS idx_orders_store_created;
+DROP INDEX IF EXISTS idx_orders_store_status_created;
+DROP INDEX IF EXISTS idx_orders_customer_created;
+
+-- Partition key must be part of the primary key on a partitioned table. For the same reason
+-- order_number can no longer be UNIQUE on orders; uniqueness moves to order_numbers below.
+CREATE TABLE orders (
+    id UUID NOT NULL,
+    store_number INTEGER NOT NULL,
+    order_number VARCHAR(50) NOT NULL,
+    customer_id VARCHAR(100),
+
+    -- Fulfillment type: IMMEDIATE, WILL_CALL, DELIVERY
+    fulfillment_type VARCHAR(20) NOT NULL,
+    fulfillment_date TIMESTAMP WITH TIME ZONE,
+    reservation_id UUID,
+
+    -- Denormalized totals (pre-calculated)
+    subtotal DECIMAL(12,2) NOT NULL,
+    discount_total DECIMAL(12,2) NOT NULL DEFAULT 0,
+    tax_total DECIMAL(12,2) NOT NULL DEFAULT 0,
+    fulfillment_cost DECIMAL(12,2) NOT NULL DEFAULT 0,
+    grand_total DECIMAL(12,2) NOT NULL,
+
+    -- Payment info
+    payment_status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    payment_method VARCHAR(50),
+    payment_reference VARCHAR(100),
+
+    -- Order status
+    status VARCHAR(20) NOT NULL DEFAULT 'CREATED',
+
+    -- Denormalized line items as JSONB (for analytics extraction)
+    line_items JSONB NOT NULL,
+
+    -- Denormalized discounts applied as JSONB
+    applied_discounts JSONB NOT NULL DEFAULT '[]',
+
+    -- Denormalized customer snapshot
+    customer_snapshot JSONB,
+
+    -- Denormalized fulfillment details
+    fulfillment_details JSONB,
+
+    -- Audit fields
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    created_by VARCHAR(50),
+    session_id UUID,
+
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- Catches rows outside the pre-created monthly range (e.g. backfills, clock skew)
+CREATE TABLE orders_default PARTITION OF orders DEFAULT;
+
+-- Indexes are declared on the parent and created on every partition
+CREATE INDEX idx_orders_fulfillment_type ON orders(fulfillment_type);
+CREATE INDEX idx_orders_fulfillment_date ON orders(fulfillment_date);
+
+-- GIN index for JSONB queries (analytics)
+CREATE INDEX idx_orders_line_items ON orders USING GIN(line_items);
+
+-- Keyset pagination indexes (see V2)
+CREATE INDEX idx_orders_store_created ON orders(store_number, created_at DESC, id DESC)
+    INCLUDE (status, customer_id);
+CREATE INDEX idx_orders_store_status_created
+    ON orders(store_number, status, created_at DESC, id DESC);
+CREATE INDEX idx_orders_customer_created ON orders(customer_id, created_at DESC, id DESC)
+    WHERE customer_id IS NOT NULL;
+
+-- Order numbers are claimed here, in the same statement that inserts the order, so they stay
+-- unique across partitions. created_at locates the order's partition on lookup.
+CREATE TABLE order_numbers (
+    order_number VARCHAR(50) PRIMARY KEY,
+    id UUID NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_order_numbers_created_at ON order_numbers(created_at);
+
+-- Creates monthly partitions (UTC month boundaries) named orders_pYYYYMM for every month in
+-- [from_month, to_month]. Returns the number of partitions created and, for each month skipped,
+-- "orders_pYYYYMM: <error>".
+--
+-- CREATE TABLE ... PARTITION OF fails while orders_default holds rows for the new month, so each
+-- partition is built as a standalone table, the month's rows are moved out of orders_default, and
+-- the table is then attached. Only a lock timeout or a partition-constraint violation (rows
+-- inserted into orders_default concurrently) skips a month; callers must treat a non-empty
+-- failed list as an error. Any other error aborts the call.
+CREATE OR REPLACE FUNCTION ensure_orders_partitions(
+    from_month DATE, to_month DATE, OUT created INTEGER, OUT failed TEXT[])
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    month_start DATE := date_trunc('month', from_month)::date;
+    range_start TIMESTAMP WITH TIME ZONE;
+    range_end TIMESTAMP WITH TIME ZONE;
+    partition_name TEXT;
+BEGIN
+    created := 0;
+    failed := ARRAY[]::TEXT[];
+    WHILE month_start <= to_month LOOP
+        partition_name := 'orders_p' || to_char(month_start, 'YYYYMM');
+        range_start := month_start::timestamp AT TIME ZONE 'UTC';
+        range_end := (month_start + INTERVAL '1 month')::timestamp AT TIME ZONE 'UTC';
+        IF to_regclass(partition_name) IS NULL THEN
+            BEGIN
+                EXECUTE format('CREATE TABLE %I (LIKE orders INCLUDING DEFAULTS)', partition_name);
+                EXECUTE format(
+                    'WITH moved AS ('
+                        || 'DELETE FROM orders_default WHERE created_at >= %L AND created_at < %L '
+                        || 'RETURNING *) '
+                        || 'INSERT INTO %I SELECT * FROM moved',
+                    range_start,
+                    range_end,
+                    partition_name);
+                EXECUTE format(
+                    'ALTER TABLE orders ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                    partition_name,
+                    range_start,
+                    range_end);
+                created := created + 1;
+            EXCEPTION WHEN lock_not_available OR check_violation THEN
+                failed := failed || format('%s: %s', partition_name, SQLERRM);
+            END;
+        END IF;
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+END;
+$$;
+
+-- Cover existing data plus three months ahead, then move the rows across. A skipped month would
+-- leave its rows in orders_default, so fail the migration instead.
+DO $$
+DECLARE
+    result RECORD;
+BEGIN
+    SELECT * INTO result FROM ensure_orders_partitions(
+        COALESCE(
+            (SELECT date_trunc('month', MIN(created_at) AT TIME ZONE 'UTC')::date
+             FROM orders_unpartitioned),
+            date_trunc('month', NOW() AT TIME ZONE 'UTC')::date),
+        (date_trunc('month', NOW() AT TIME ZONE 'UTC') + INTERVAL '3 months')::date);
+    IF cardinality(result.failed) > 0 THEN
+        RAISE EXCEPTION 'Could not create orders partitions: %',
+            array_to_string(result.failed, '; ');
+    END IF;
+END;
+$$;
+
+INSERT INTO orders (
+    id, store_number, order_number, customer_id,
+    fulfillment_type, fulfillment_date, reservation_id,
+    subtotal, discount_total, tax_total, fulfillment_cost, grand_total,
+    payment_status, payment_method, payment_reference,
+    status, line_items, applied_discounts, customer_snapshot, fulfillment_details,
+    created_at, updated_at, created_by, session_id
+)
+SELECT id, store_number, order_number, customer_id,
+       fulfillment_type, fulfillment_date, reservation_id,
+       subtotal, discount_total, tax_total, fulfillment_cost, grand_total,
+       payment_status, payment_method, payment_reference,
+       status, line_items, applied_discounts, customer_snapshot, fulfillment_details,
+       created_at, updated_at, created_by, session_id
+FROM orders_unpartitioned;
+
+-- order_number was UNIQUE on the old table, so every existing number can be claimed
+INSERT INTO order_numbers (order_number, id, created_at)
+SELECT order_number, id, created_at FROM orders_unpartitioned;
+
+DROP TABLE orders_unpartitioned;
@@ -4,8 +4,10 @@ import io.r2dbc.spi.ConnectionFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.connection.init.CompositeDatabasePopulator;
 import org.springframework.r2dbc.connection.init.ConnectionFactoryInitializer;
 import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.connection.init.ScriptUtils;
 
 /**
  * Test configuration for reactive schema initialization.
@@ -22,7 +24,16 @@ public class TestR2dbcConfig {
 
     ResourceDatabasePopulator populator = new ResourceDatabasePopulator();
     populator.addScript(new ClassPathResource("db/migration/V1__create_orders_table.sql"));
-    initializer.setDatabasePopulator(populator);
+    populator.addScript(new ClassPathResource("db/migration/V2__keyset_pagination_indexes.sql"));
+
+    // V3 defines a plpgsql function, whose body would be split at every semicolon; run the file
+    // as a single multi-statement query instead
+    ResourceDatabasePopulator partitioning =
+        new ResourceDatabasePopulator(
+            new ClassPathResource("db/migration/V3__partition_orders_by_created_at.sql"));
+    partitioning.setSeparator(ScriptUtils.EOF_STATEMENT_SEPARATOR);
+
+    initializer.setDatabasePopulator(new CompositeDatabasePopulator(populator, partitioning));
 
     return initializer;
   }
@@ -1,6 +1,9 @@
 package org.example.order.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
@@ -11,17 +14,21 @@ import org.example.model.order.FulfillmentType;
 import org.example.model.order.Order;
 import org.example.model.order.OrderStatus;
 import org.example.model.order.PaymentStatus;
+import org.example.order.repository.OrderCursor;
+import org.example.order.repository.OrderSearchCriteria;
+import org.example.order.repository.OrderSummary;
+import org.example.order.service.OrderPage;
 import org.example.order.service.OrderService;
 import org.example.order.validation.OrderRequestValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -100,23 +107,42 @@ class OrderControllerTest {
   class GetOrdersByStore {
 
     @Test
-    void validStore_returnsOrders() {
+    void validStore_returnsFirstPageOfSummaries() {
       int storeNumber = 100;
+      OrderSummary summary = summaryOf(testOrder);
       when(validator.validateStoreNumber(storeNumber)).thenReturn(Mono.empty());
-      when(orderService.findByStore(storeNumber)).thenReturn(Flux.just(testOrder));
+      when(validator.validatePage(null, null)).thenReturn(Mono.empty());
+      when(orderService.searchSummaries(any())).thenReturn(Mono.just(page(summary)));
 
-      StepVerifier.create(controller.getOrdersByStore(storeNumber))
-          .expectNext(testOrder)
+      StepVerifier.create(controller.getOrdersByStore(storeNumber, null, null))
+          .expectNext(summary)
           .verifyComplete();
+
+      ArgumentCaptor<OrderSearchCriteria> criteria =
+          ArgumentCaptor.forClass(OrderSearchCriteria.class);
+      verify(orderService).searchSummaries(criteria.capture());
+      verify(orderService, never()).search(any());
+      assertThat(criteria.getValue().storeNumber()).isEqualTo(storeNumber);
+      assertThat(criteria.getValue().after()).isNull();
+      assertThat(criteria.getValue().limit()).isEqualTo(OrderSearchCriteria.DEFAULT_LIMIT);
     }
 
     @Test
-    void noOrders_returnsEmpty() {
+    void withCursor_continuesBelowCursor() {
       int storeNumber = 100;
+      OrderCursor cursor = OrderCursor.of(testOrder);
       when(validator.validateStoreNumber(storeNumber)).thenReturn(Mono.empty());
-      when(orderService.findByStore(storeNumber)).thenReturn(Flux.empty());
+      when(validator.validatePage(10, cursor.encode())).thenReturn(Mono.empty());
+      when(orderService.searchSummaries(any())).thenReturn(Mono.just(page()));
+
+      StepVerifier.create(controller.getOrdersByStore(storeNumber, cursor.encode(), 10))
+          .verifyComplete();
 
-      StepVerifier.create(controller.getOrdersByStore(storeNumber)).verifyComplete();
+      ArgumentCaptor<OrderSearchCriteria> criteria =
+          ArgumentCaptor.forClass(OrderSearchCriteria.class);
+      verify(orderService).searchSummaries(criteria.capture());
+      assertThat(criteria.getValue().after()).isEqualTo(cursor);
+      assertThat(criteria.getValue().limit()).isEqualTo(10);
     }
 
     @Test
@@ -124,8 +150,9 @@ class OrderControllerTest {
       int invalidStore = 0;
       RuntimeException validationError = new RuntimeException("Invalid store");
       when(validator.validateStoreNumber(invalidStore)).thenReturn(Mono.error(validationError));
+      when(validator.validatePage(null, null)).thenReturn(Mono.empty());
 
-      StepVerifier.create(controller.getOrdersByStore(invalidStore))
+      StepVerifier.create(controller.getOrdersByStore(invalidStore, null, null))
           .expectError(RuntimeException.class)
           .verify();
     }
@@ -136,23 +163,13 @@ class OrderControllerTest {
 
     @Test
     void validCustomer_returnsOrders() {
-      String customerId = "cust-123";
-      when(validator.validateCustomerId(customerId)).thenReturn(Mono.empty());
-      when(orderService.findByCustomer(customerId)).thenReturn(Flux.just(testOrder));
-
-      StepVerifier.create(controller.getOrdersByCustomer(customerId))
-          .expectNext(testOrder)
-          .verifyComplete();
-    }
-
-    @Test
-    void multipleOrders_returnsAll() {
       String customerId = "cust-123";
       Order order2 = createTestOrder(UUID.randomUUID(), OrderStatus.PAID);
       when(validator.validateCustomerId(customerId)).thenReturn(Mono.empty());
-      when(orderService.findByCustomer(customerId)).thenReturn(Flux.just(testOrder, order2));
+      when(validator.validatePage(null, null)).thenReturn(Mono.empty());
+      when(orderService.search(any())).thenReturn(Mono.just(page(testOrder, order2)));
 
-      StepVerifier.create(controller.getOrdersByCustomer(customerId))
+      StepVerifier.create(controller.getOrdersByCustomer(customerId, null, null))
           .expectNext(testOrder)
           .expectNext(order2)
           .verifyComplete();
@@ -163,8 +180,9 @@ class OrderControllerTest {
       String customerId = "";
       RuntimeException validationError = new RuntimeException("Invalid customer ID");
       when(validator.validateCustomerId(customerId)).thenReturn(Mono.error(validationError));
+      when(validator.validatePage(null, null)).thenReturn(Mono.empty());
 
-      StepVerifier.create(controller.getOrdersByCustomer(customerId))
+      StepVerifier.create(controller.getOrdersByCustomer(customerId, null, null))
           .expectError(RuntimeException.class)
           .verify();
     }
@@ -176,7 +194,8 @@ class OrderControllerTest {
     @Test
     void byCustomerId_returnsOrders() {
       when(validator.validateSearchRequest(any())).thenReturn(Mono.empty());
-      when(orderService.findByCustomer("cust-123")).thenReturn(Flux.just(testOrder));
+      when(orderService.search(any())).thenReturn(Mono.just(page(testOrder)));
+      when(orderService.countSearch(any())).thenReturn(Mono.just(1L));
 
       StepVerifier.create(controller.searchOrders(null, "cust-123", null, null, null, null, null))
           .expectNextMatches(response -> response.orders().size() == 1)
@@ -184,14 +203,38 @@ class OrderControllerTest {
     }
 
     @Test
-    void byStoreAndStatus_returnsOrders() {
+    void byStoreAndStatus_filtersInQuery() {
       when(validator.validateSearchRequest(any())).thenReturn(Mono.empty());
-      when(orderService.findByStoreAndStatus(100, OrderStatus.CREATED))
-          .thenReturn(Flux.just(testOrder));
+      when(orderService.search(any())).thenReturn(Mono.just(page(testOrder)));
+      when(orderService.countSearch(any())).thenReturn(Mono.just(1L));
 
-      StepVerifier.create(controller.searchOrders(100, null, "CREATED", null, null, null, null))
+      StepVerifier.create(controller.searchOrders(100, null, "created", null, null, null, null))
           .expectNextMatches(response -> response.orders().size() == 1)
           .verifyComplete();
+
+      ArgumentCaptor<OrderSearchCriteria> criteria =
+          ArgumentCaptor.forClass(OrderSearchCriteria.class);
+      verify(orderService).search(criteria.capture());
+      assertThat(criteria.getValue().storeNumber()).isEqualTo(100);
+      assertThat(criteria.getValue().status()).isEqualTo(OrderStatus.CREATED);
+    }
+
+    @Test
+    void morePages_returnsNextCursor() {
+      String next = OrderCursor.of(testOrder).encode();
+      when(validator.validateSearchRequest(any())).thenReturn(Mono.empty());
+      when(orderService.search(any()))
+          .thenReturn(Mono.just(new OrderPage<>(List.of(testOrder), true, next)));
+      when(orderService.countSearch(any())).thenReturn(Mono.just(500L));
+
+      StepVerifier.create(controller.searchOrders(100, null, null, null, null, null, 1))
+          .assertNext(
+              response -> {
+                assertThat(response.hasMore()).isTrue();
+                assertThat(response.nextCursor()).isEqualTo(next);
+                assertThat(response.totalCount()).isEqualTo(500L);
+              })
+          .verifyComplete();
     }
 
     @Test
@@ -204,6 +247,30 @@ class OrderControllerTest {
     }
   }
 
+  @SafeVarargs
+  private static <T> OrderPage<T> page(T... orders) {
+    return new OrderPage<>(List.of(orders), false, null);
+  }
+
+  private static OrderSummary summaryOf(Order order) {
+    return new OrderSummary(
+        order.id(),
+        order.storeNumber(),
+        order.orderNumber(),
+        order.customerId(),
+        order.fulfillmentType(),
+        order.fulfillmentDate(),
+        order.subtotal(),
+        order.discountTotal(),
+        order.taxTotal(),
+        order.fulfillmentCost(),
+        order.grandTotal(),
+        order.paymentStatus(),
+        order.status(),
+        order.createdAt(),
+        order.updatedAt());
+  }
+
   private Order createTestOrder(UUID id, OrderStatus status) {
     return Order.builder()
         .id(id)
@@ -10,85 +10,52 @@ import org.example.model.order.FulfillmentType;
 import org.example.model.order.Order;
 import org.example.model.order.OrderStatus;
 import org.example.model.order.PaymentStatus;
+import org.example.order.repository.OrderCursor;
+import org.example.order.service.OrderPage;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
-/** Unit tests for OrderSearchResponse factory method. */
+/** Unit tests for OrderSearchResponse factory methods. */
 class OrderSearchResponseTest {
 
   @Nested
   class FactoryMethod {
 
     @Test
-    void emptyResults_hasMoreFalse() {
-      OrderSearchResponse response = OrderSearchResponse.of(List.of(), 0, 0, 20);
+    void emptyResponse_hasNoMore() {
+      OrderSearchResponse response = OrderSearchResponse.empty(20);
 
       assertThat(response.orders()).isEmpty();
       assertThat(response.totalCount()).isEqualTo(0);
-      assertThat(response.page()).isEqualTo(0);
       assertThat(response.size()).isEqualTo(20);
       assertThat(response.hasMore()).isFalse();
+      assertThat(response.nextCursor()).isNull();
     }
 
     @Test
-    void singlePage_hasMoreFalse() {
+    void lastPage_hasNoCursor() {
       List<Order> orders = List.of(createTestOrder());
-      OrderSearchResponse response = OrderSearchResponse.of(orders, 1, 0, 20);
+      OrderSearchResponse response =
+          OrderSearchResponse.of(new OrderPage<>(orders, false, null), 1, 20);
 
       assertThat(response.orders()).hasSize(1);
       assertThat(response.totalCount()).isEqualTo(1);
       assertThat(response.hasMore()).isFalse();
+      assertThat(response.nextCursor()).isNull();
     }
 
     @Test
-    void exactlyOnePage_hasMoreFalse() {
+    void morePagesAvailable_carriesCursor() {
       List<Order> orders = List.of(createTestOrder(), createTestOrder());
-      OrderSearchResponse response = OrderSearchResponse.of(orders, 2, 0, 2);
-
-      assertThat(response.orders()).hasSize(2);
-      assertThat(response.totalCount()).isEqualTo(2);
-      assertThat(response.hasMore()).isFalse();
-    }
-
-    @Test
-    void morePagesAvailable_hasMoreTrue() {
-      List<Order> orders = List.of(createTestOrder(), createTestOrder());
-      // Page 0, size 2, but total is 5 - there are more pages
-      OrderSearchResponse response = OrderSearchResponse.of(orders, 5, 0, 2);
+      String next = OrderCursor.of(orders.get(1)).encode();
+      OrderSearchResponse response =
+          OrderSearchResponse.of(new OrderPage<>(orders, true, next), 5, 2);
 
       assertThat(response.orders()).hasSize(2);
       assertThat(response.totalCount()).isEqualTo(5);
-      assertThat(response.page()).isEqualTo(0);
       assertThat(response.size()).isEqualTo(2);
       assertThat(response.hasMore()).isTrue();
-    }
-
-    @Test
-    void lastPage_hasMoreFalse() {
-      List<Order> orders = List.of(createTestOrder());
-      // Page 2, size 2, total 5: pages 0(2), 1(2), 2(1) - this is the last page
-      OrderSearchResponse response = OrderSearchResponse.of(orders, 5, 2, 2);
-
-      assertThat(response.hasMore()).isFalse();
-    }
-
-    @Test
-    void middlePage_hasMoreTrue() {
-      List<Order> orders = List.of(createTestOrder(), createTestOrder());
-      // Page 1, size 2, total 10: pages 0(2), 1(2), 2(2), 3(2), 4(2) - more pages exist
-      OrderSearchResponse response = OrderSearchResponse.of(orders, 10, 1, 2);
-
-      assertThat(response.page()).isEqualTo(1);
-      assertThat(response.hasMore()).isTrue();
-    }
-
-    @Test
-    void boundaryCondition_exactFit() {
-      List<Order> orders = List.of(createTestOrder(), createTestOrder());
-      // Page 1, size 2, total 4: pages 0(2), 1(2) - exactly fits, no more
-      OrderSearchResponse response = OrderSearchResponse.of(orders, 4, 1, 2);
-
-      assertThat(response.hasMore()).isFalse();
+      assertThat(response.nextCursor()).isEqualTo(next);
     }
   }
 
@@ -98,13 +65,13 @@ class OrderSearchResponseTest {
     @Test
     void preservesAllFields() {
       List<Order> orders = List.of(createTestOrder());
-      OrderSearchResponse response = new OrderSearchResponse(orders, 100L, 5, 20, true);
+      OrderSearchResponse response = new OrderSearchResponse(orders, 100L, 20, true, "cursor");
 
       assertThat(response.orders()).hasSize(1);
       assertThat(response.totalCount()).isEqualTo(100L);
-      assertThat(response.page()).isEqualTo(5);
       assertThat(response.size()).isEqualTo(20);
       assertThat(response.hasMore()).isTrue();
+      assertThat(response.nextCursor()).isEqualTo("cursor");
     }
   }
 
@@ -1,9 +1,11 @@
 package org.example.order.graphql;
 
+import java.time.Instant;
 import java.util.UUID;
 import org.example.model.order.OrderStatus;
 import org.example.order.graphql.input.OrderSearchInput;
 import org.example.order.graphql.input.UpdateFulfillmentInput;
+import org.example.order.repository.OrderCursor;
 import org.example.platform.error.ValidationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -13,6 +15,9 @@ import reactor.test.StepVerifier;
 /** Unit tests for GraphQLInputValidator. */
 class GraphQLInputValidatorTest {
 
+  private static final String CURSOR =
+      new OrderCursor(Instant.parse("2024-06-01T12:00:00Z"), UUID.randomUUID()).encode();
+
   private GraphQLInputValidator validator;
 
   @BeforeEach
@@ -175,22 +180,22 @@ class GraphQLInputValidatorTest {
 
     @Test
     void validValues_succeeds() {
-      StepVerifier.create(validator.validatePagination(50, 10)).verifyComplete();
+      StepVerifier.create(validator.validatePagination(50, CURSOR)).verifyComplete();
     }
 
     @Test
     void limitAtMin_succeeds() {
-      StepVerifier.create(validator.validatePagination(1, 0)).verifyComplete();
+      StepVerifier.create(validator.validatePagination(1, null)).verifyComplete();
     }
 
     @Test
     void limitAtMax_succeeds() {
-      StepVerifier.create(validator.validatePagination(100, 0)).verifyComplete();
+      StepVerifier.create(validator.validatePagination(100, null)).verifyComplete();
     }
 
     @Test
     void limitBelowMin_fails() {
-      StepVerifier.create(validator.validatePagination(0, 0))
+      StepVerifier.create(validator.validatePagination(0, null))
           .expectErrorMatches(
               ex ->
                   ex instanceof ValidationException
@@ -201,7 +206,7 @@ class GraphQLInputValidatorTest {
 
     @Test
     void limitAboveMax_fails() {
-      StepVerifier.create(validator.validatePagination(101, 0))
+      StepVerifier.create(validator.validatePagination(101, null))
           .expectErrorMatches(
               ex ->
                   ex instanceof ValidationException
@@ -211,19 +216,19 @@ class GraphQLInputValidatorTest {
     }
 
     @Test
-    void negativeOffset_fails() {
-      StepVerifier.create(validator.validatePagination(50, -1))
+    void malformedCursor_fails() {
+      StepVerifier.create(validator.validatePagination(50, "not-a-cursor"))
           .expectErrorMatches(
               ex ->
                   ex instanceof ValidationException
                       && ((ValidationException) ex)
-                          .getErrors().stream().anyMatch(e -> e.field().equals("offset")))
+                          .getErrors().stream().anyMatch(e -> e.field().equals("after")))
           .verify();
     }
 
     @Test
     void bothInvalid_collectsAllErrors() {
-      StepVerifier.create(validator.validatePagination(0, -1))
+      StepVerifier.create(validator.validatePagination(0, "not-a-cursor"))
           .expectErrorMatches(
               ex ->
                   ex instanceof ValidationException
@@ -237,7 +242,7 @@ class GraphQLInputValidatorTest {
 
     @Test
     void validInput_succeeds() {
-      OrderSearchInput input = new OrderSearchInput(100, null, null, null, null, 50, 0);
+      OrderSearchInput input = new OrderSearchInput(100, null, null, null, null, 50, CURSOR);
       StepVerifier.create(validator.validateOrderSearch(input)).verifyComplete();
     }
 
@@ -266,14 +271,26 @@ class GraphQLInputValidatorTest {
     }
 
     @Test
-    void negativeOffset_fails() {
-      OrderSearchInput input = new OrderSearchInput(100, null, null, null, null, null, -5);
+    void malformedCursor_fails() {
+      OrderSearchInput input = new OrderSearchInput(100, null, null, null, null, null, "bogus");
+      StepVerifier.create(validator.validateOrderSearch(input))
+          .expectErrorMatches(
+              ex ->
+                  ex instanceof ValidationException
+                      && ((ValidationException) ex)
+                          .getErrors().stream().anyMatch(e -> e.field().equals("after")))
+          .verify();
+    }
+
+    @Test
+    void malformedDate_fails() {
+      OrderSearchInput input = new OrderSearchInput(100, null, null, "yesterday", null, null, null);
       StepVerifier.create(validator.validateOrderSearch(input))
           .expectErrorMatches(
               ex ->
                   ex instanceof ValidationException
                       && ((ValidationException) ex)
-                          .getErrors().stream().anyMatch(e -> e.field().equals("offset")))
+                          .getErrors().stream().anyMatch(e -> e.field().equals("startDate")))
           .verify();
     }
   }
@@ -2,8 +2,12 @@ package org.example.order.graphql;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import graphql.schema.DataFetchingFieldSelectionSet;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
@@ -13,17 +17,20 @@ import org.example.model.order.Order;
 import org.example.model.order.OrderStatus;
 import org.example.model.order.PaymentStatus;
 import org.example.order.graphql.input.OrderSearchInput;
+import org.example.order.repository.OrderCursor;
+import org.example.order.repository.OrderSearchCriteria;
+import org.example.order.repository.OrderSummary;
+import org.example.order.service.OrderPage;
 import org.example.order.service.OrderService;
-import org.example.order.service.OrderService.OrderSearchCriteria;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -131,40 +138,39 @@ class OrderQueryControllerTest {
   class OrdersQuery {
 
     @Test
-    void byStoreWithStatus_returnsFilteredOrders() {
+    void byStoreWithStatus_filtersAndPaginates() {
       int storeNumber = 100;
       when(validator.validateStoreNumber(storeNumber)).thenReturn(Mono.empty());
-      when(validator.validatePagination(any(), any())).thenReturn(Mono.empty());
-      when(orderService.findByStoreAndStatus(storeNumber, OrderStatus.CREATED))
-          .thenReturn(Flux.just(testOrder));
+      when(validator.validatePagination(null, null)).thenReturn(Mono.empty());
+      when(orderService.search(any(OrderSearchCriteria.class)))
+          .thenReturn(Mono.just(page(testOrder)));
 
-      StepVerifier.create(controller.orders(storeNumber, OrderStatus.CREATED, null, null))
+      StepVerifier.create(controller.orders(storeNumber, OrderStatus.CREATED, null, null, null))
           .expectNext(testOrder)
           .verifyComplete();
-    }
 
-    @Test
-    void byStoreWithoutStatus_usesPagination() {
-      int storeNumber = 100;
-      when(validator.validateStoreNumber(storeNumber)).thenReturn(Mono.empty());
-      when(validator.validatePagination(any(), any())).thenReturn(Mono.empty());
-      when(orderService.search(any(OrderSearchCriteria.class))).thenReturn(Flux.just(testOrder));
-
-      StepVerifier.create(controller.orders(storeNumber, null, 50, 0))
-          .expectNext(testOrder)
-          .verifyComplete();
+      OrderSearchCriteria criteria = searchedCriteria();
+      assertThat(criteria.storeNumber()).isEqualTo(storeNumber);
+      assertThat(criteria.status()).isEqualTo(OrderStatus.CREATED);
+      assertThat(criteria.limit()).isEqualTo(OrderSearchCriteria.DEFAULT_LIMIT);
     }
 
     @Test
-    void defaultPagination_usesDefaults() {
+    void withCursor_continuesBelowCursor() {
       int storeNumber = 100;
+      OrderCursor cursor = OrderCursor.of(testOrder);
       when(validator.validateStoreNumber(storeNumber)).thenReturn(Mono.empty());
-      when(validator.validatePagination(any(), any())).thenReturn(Mono.empty());
-      when(orderService.search(any(OrderSearchCriteria.class))).thenReturn(Flux.just(testOrder));
+      when(validator.validatePagination(20, cursor.encode())).thenReturn(Mono.empty());
+      when(orderService.search(any(OrderSearchCriteria.class)))
+          .thenReturn(Mono.just(page(testOrder)));
 
-      StepVerifier.create(controller.orders(storeNumber, null, null, null))
+      StepVerifier.create(controller.orders(storeNumber, null, 20, cursor.encode(), null))
           .expectNext(testOrder)
           .verifyComplete();
+
+      OrderSearchCriteria criteria = searchedCriteria();
+      assertThat(criteria.after()).isEqualTo(cursor);
+      assertThat(criteria.limit()).isEqualTo(20);
     }
 
     @Test
@@ -175,7 +181,7 @@ class OrderQueryControllerTest {
       // The .then() operator evaluates its argument eagerly, so we must mock validatePagination
       when(validator.validatePagination(null, null)).thenReturn(Mono.empty());
 
-      StepVerifier.create(controller.orders(invalidStore, null, null, null))
+      StepVerifier.create(controller.orders(invalidStore, null, null, null, null))
           .expectError(RuntimeException.class)
           .verify();
     }
@@ -185,48 +191,104 @@ class OrderQueryControllerTest {
       int storeNumber = 100;
       RuntimeException error = new RuntimeException("Invalid pagination");
       when(validator.validateStoreNumber(storeNumber)).thenReturn(Mono.empty());
-      when(validator.validatePagination(-1, -1)).thenReturn(Mono.error(error));
+      when(validator.validatePagination(-1, "bogus")).thenReturn(Mono.error(error));
 
-      StepVerifier.create(controller.orders(storeNumber, null, -1, -1))
+      StepVerifier.create(controller.orders(storeNumber, null, -1, "bogus", null))
           .expectError(RuntimeException.class)
           .verify();
     }
   }
 
   @Nested
-  class OrdersByCustomerQuery {
+  class SelectionAwareLoading {
 
     @Test
-    void validCustomer_returnsOrders() {
-      String customerId = "cust-123";
-      when(validator.validateCustomerId(customerId)).thenReturn(Mono.empty());
-      when(orderService.findByCustomer(customerId)).thenReturn(Flux.just(testOrder));
+    void scalarSelection_readsSummaries() {
+      int storeNumber = 100;
+      DataFetchingFieldSelectionSet selection = mock(DataFetchingFieldSelectionSet.class);
+      when(validator.validateStoreNumber(storeNumber)).thenReturn(Mono.empty());
+      when(validator.validatePagination(null, null)).thenReturn(Mono.empty());
+      when(orderService.searchSummaries(any(OrderSearchCriteria.class)))
+          .thenReturn(Mono.just(new OrderPage<>(List.of(summaryOf(testOrder)), false, null)));
+
+      StepVerifier.create(controller.orders(storeNumber, null, null, null, selection))
+          .assertNext(
+              order -> {
+                assertThat(order.id()).isEqualTo(testOrder.id());
+                assertThat(order.orderNumber()).isEqualTo(testOrder.orderNumber());
+                assertThat(order.grandTotal()).isEqualTo(testOrder.grandTotal());
+              })
+          .verifyComplete();
+
+      verify(orderService, never()).search(any());
+    }
+
+    @Test
+    void lineItemSelection_readsFullOrders() {
+      int storeNumber = 100;
+      DataFetchingFieldSelectionSet selection = mock(DataFetchingFieldSelectionSet.class);
+      when(selection.contains("lineItems")).thenReturn(true);
+      when(validator.validateStoreNumber(storeNumber)).thenReturn(Mono.empty());
+      when(validator.validatePagination(null, null)).thenReturn(Mono.empty());
+      when(orderService.search(any(OrderSearchCriteria.class)))
+          .thenReturn(Mono.just(page(testOrder)));
 
-      StepVerifier.create(controller.ordersByCustomer(customerId))
+      StepVerifier.create(controller.orders(storeNumber, null, null, null, selection))
           .expectNext(testOrder)
           .verifyComplete();
+
+      verify(orderService, never()).searchSummaries(any());
+    }
+
+    @Test
+    void searchWithoutNestedOrderFields_readsSummaries() {
+      OrderSearchInput input = new OrderSearchInput(100, null, null, null, null, 20, null);
+      DataFetchingFieldSelectionSet selection = mock(DataFetchingFieldSelectionSet.class);
+      when(validator.validateOrderSearch(input)).thenReturn(Mono.empty());
+      when(orderService.searchSummaries(any(OrderSearchCriteria.class)))
+          .thenReturn(Mono.just(new OrderPage<>(List.of(summaryOf(testOrder)), false, null)));
+      when(orderService.countSearch(any(OrderSearchCriteria.class))).thenReturn(Mono.just(1L));
+
+      StepVerifier.create(controller.searchOrders(input, selection))
+          .assertNext(response -> assertThat(response.orders()).hasSize(1))
+          .verifyComplete();
+
+      verify(selection).contains("orders/lineItems");
+      verify(orderService, never()).search(any());
     }
+  }
+
+  @Nested
+  class OrdersByCustomerQuery {
 
     @Test
-    void multipleOrders_returnsAll() {
+    void validCustomer_returnsFirstPage() {
       String customerId = "cust-123";
       Order order2 = createTestOrder(UUID.randomUUID(), OrderStatus.PAID);
       when(validator.validateCustomerId(customerId)).thenReturn(Mono.empty());
-      when(orderService.findByCustomer(customerId)).thenReturn(Flux.just(testOrder, order2));
+      when(validator.validatePagination(null, null)).thenReturn(Mono.empty());
+      when(orderService.search(any(OrderSearchCriteria.class)))
+          .thenReturn(Mono.just(page(testOrder, order2)));
 
-      StepVerifier.create(controller.ordersByCustomer(customerId))
+      StepVerifier.create(controller.ordersByCustomer(customerId, null, null, null))
           .expectNext(testOrder)
           .expectNext(order2)
           .verifyComplete();
+
+      OrderSearchCriteria criteria = searchedCriteria();
+      assertThat(criteria.customerId()).isEqualTo(customerId);
+      assertThat(criteria.storeNumber()).isNull();
     }
 
     @Test
     void noOrders_returnsEmpty() {
       String customerId = "cust-empty";
       when(validator.validateCustomerId(customerId)).thenReturn(Mono.empty());
-      when(orderService.findByCustomer(customerId)).thenReturn(Flux.empty());
+      when(validator.validatePagination(null, null)).thenReturn(Mono.empty());
+      when(orderService.search(any(OrderSearchCriteria.class))).thenReturn(Mono.just(page()));
 
-      StepVerifier.create(controller.ordersByCustomer(customerId)).verifyComplete();
+      StepVerifier.create(controller.ordersByCustomer(customerId, null, null, null))
+          .verifyComplete();
     }
 
     @Test
@@ -234,8 +296,9 @@ class OrderQueryControllerTest {
       String customerId = "";
       RuntimeException error = new RuntimeException("Invalid customer");
       when(validator.validateCustomerId(customerId)).thenReturn(Mono.error(error));
+      when(validator.validatePagination(null, null)).thenReturn(Mono.empty());
 
-      StepVerifier.create(controller.ordersByCustomer(customerId))
+      StepVerifier.create(controller.ordersByCustomer(customerId, null, null, null))
           .expectError(RuntimeException.class)
           .verify();
     }
@@ -246,32 +309,57 @@ class OrderQueryControllerTest {
 
     @Test
     void validInput_returnsSearchResponse() {
-      OrderSearchInput input = new OrderSearchInput(100, null, null, null, null, 20, 0);
+      OrderSearchInput input = new OrderSearchInput(100, null, null, null, null, 20, null);
       when(validator.validateOrderSearch(input)).thenReturn(Mono.empty());
-      when(orderService.search(any(OrderSearchCriteria.class))).thenReturn(Flux.just(testOrder));
+      when(orderService.search(any(OrderSearchCriteria.class)))
+          .thenReturn(Mono.just(page(testOrder)));
       when(orderService.countSearch(any(OrderSearchCriteria.class))).thenReturn(Mono.just(1L));
 
-      StepVerifier.create(controller.searchOrders(input))
+      StepVerifier.create(controller.searchOrders(input, null))
           .assertNext(
               response -> {
                 assertThat(response.orders()).hasSize(1);
                 assertThat(response.totalCount()).isEqualTo(1);
+                assertThat(response.nextCursor()).isNull();
               })
           .verifyComplete();
     }
 
+    @Test
+    void customerAndStatus_areAppliedToQuery() {
+      OrderSearchInput input =
+          new OrderSearchInput(100, "cust-123", OrderStatus.PAID, null, null, null, null);
+      when(validator.validateOrderSearch(input)).thenReturn(Mono.empty());
+      when(orderService.search(any(OrderSearchCriteria.class)))
+          .thenReturn(Mono.just(page(testOrder)));
+      when(orderService.countSearch(any(OrderSearchCriteria.class))).thenReturn(Mono.just(1L));
+
+      StepVerifier.create(controller.searchOrders(input, null))
+          .assertNext(response -> assertThat(response.orders()).hasSize(1))
+          .verifyComplete();
+
+      OrderSearchCriteria criteria = searchedCriteria();
+      assertThat(criteria.customerId()).isEqualTo("cust-123");
+      assertThat(criteria.status()).isEqualTo(OrderStatus.PAID);
+    }
+
     @Test
     void withDateRange_parsesCorrectly() {
       OrderSearchInput input =
           new OrderSearchInput(
-              100, null, null, "2024-01-01T00:00:00Z", "2024-12-31T23:59:59Z", 50, 0);
+              100, null, null, "2024-01-01T00:00:00Z", "2024-12-31T23:59:59Z", 50, null);
       when(validator.validateOrderSearch(input)).thenReturn(Mono.empty());
-      when(orderService.search(any(OrderSearchCriteria.class))).thenReturn(Flux.just(testOrder));
+      when(orderService.search(any(OrderSearchCriteria.class)))
+          .thenReturn(Mono.just(page(testOrder)));
       when(orderService.countSearch(any(OrderSearchCriteria.class))).thenReturn(Mono.just(1L));
 
-      StepVerifier.create(controller.searchOrders(input))
+      StepVerifier.create(controller.searchOrders(input, null))
           .assertNext(response -> assertThat(response.orders()).hasSize(1))
           .verifyComplete();
+
+      OrderSearchCriteria criteria = searchedCriteria();
+      assertThat(criteria.startDate()).isEqualTo(Instant.parse("2024-01-01T00:00:00Z"));
+      assertThat(criteria.endDate()).isEqualTo(Instant.parse("2024-12-31T23:59:59Z"));
     }
 
     @Test
@@ -280,12 +368,52 @@ class OrderQueryControllerTest {
       RuntimeException error = new RuntimeException("Validation failed");
       when(validator.validateOrderSearch(input)).thenReturn(Mono.error(error));
 
-      StepVerifier.create(controller.searchOrders(input))
+      StepVerifier.create(controller.searchOrders(input, null))
           .expectError(RuntimeException.class)
           .verify();
     }
   }
 
+  @Nested
+  class CursorField {
+
+    @Test
+    void encodesOrderPosition() {
+      assertThat(OrderCursor.decode(controller.cursor(testOrder)))
+          .isEqualTo(new OrderCursor(testOrder.createdAt(), testOrder.id()));
+    }
+  }
+
+  private OrderSearchCriteria searchedCriteria() {
+    ArgumentCaptor<OrderSearchCriteria> criteria =
+        ArgumentCaptor.forClass(OrderSearchCriteria.class);
+    verify(orderService).search(criteria.capture());
+    return criteria.getValue();
+  }
+
+  private static OrderSummary summaryOf(Order order) {
+    return new OrderSummary(
+        order.id(),
+        order.storeNumber(),
+        order.orderNumber(),
+        order.customerId(),
+        order.fulfillmentType(),
+        order.fulfillmentDate(),
+        order.subtotal(),
+        order.discountTotal(),
+        order.taxTotal(),
+        order.fulfillmentCost(),
+        order.grandTotal(),
+        order.paymentStatus(),
+        order.status(),
+        order.createdAt(),
+        order.updatedAt());
+  }
+
+  private static OrderPage<Order> page(Order... orders) {
+    return new OrderPage<>(List.of(orders), false, null);
+  }
+
   private Order createTestOrder(UUID id, OrderStatus status) {
     return Order.builder()
         .id(id)
@@ -55,34 +55,6 @@ class OrderSearchInputTest {
     }
   }
 
-  @Nested
-  class OffsetOrDefault {
-
-    @Test
-    void nullOffset_returnsDefault() {
-      OrderSearchInput input = new OrderSearchInput(100, null, null, null, null, null, null);
-      assertThat(input.offsetOrDefault()).isEqualTo(0);
-    }
-
-    @Test
-    void negativeOffset_returnsDefault() {
-      OrderSearchInput input = new OrderSearchInput(100, null, null, null, null, null, -10);
-      assertThat(input.offsetOrDefault()).isEqualTo(0);
-    }
-
-    @Test
-    void zeroOffset_returnsZero() {
-      OrderSearchInput input = new OrderSearchInput(100, null, null, null, null, null, 0);
-      assertThat(input.offsetOrDefault()).isEqualTo(0);
-    }
-
-    @Test
-    void positiveOffset_returnsProvided() {
-      OrderSearchInput input = new OrderSearchInput(100, null, null, null, null, null, 50);
-      assertThat(input.offsetOrDefault()).isEqualTo(50);
-    }
-  }
-
   @Nested
   class RecordFields {
 
@@ -96,7 +68,7 @@ class OrderSearchInputTest {
               "2024-01-01T00:00:00Z",
               "2024-12-31T23:59:59Z",
               25,
-              10);
+              "cursor");
 
       assertThat(input.storeNumber()).isEqualTo(100);
       assertThat(input.customerId()).isEqualTo("cust-123");
@@ -104,7 +76,7 @@ class OrderSearchInputTest {
       assertThat(input.startDate()).isEqualTo("2024-01-01T00:00:00Z");
       assertThat(input.endDate()).isEqualTo("2024-12-31T23:59:59Z");
       assertThat(input.limit()).isEqualTo(25);
-      assertThat(input.offset()).isEqualTo(10);
+      assertThat(input.after()).isEqualTo("cursor");
     }
   }
 }
@@ -0,0 +1,35 @@
+package org.example.order.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for OrderCursor encoding. */
+class OrderCursorTest {
+
+  @Test
+  void encode_roundTripsMicrosecondTimestamps() {
+    OrderCursor cursor =
+        new OrderCursor(Instant.parse("2024-06-01T12:34:56.123456Z"), UUID.randomUUID());
+
+    assertThat(OrderCursor.decode(cursor.encode())).isEqualTo(cursor);
+  }
+
+  @Test
+  void encode_isUrlSafe() {
+    String encoded = new OrderCursor(Instant.now(), UUID.randomUUID()).encode();
+
+    assertThat(encoded).matches("[A-Za-z0-9_-]+");
+  }
+
+  @Test
+  void decode_garbage_throwsIllegalArgument() {
+    assertThatThrownBy(() -> OrderCursor.decode("not-a-cursor"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> OrderCursor.decode("%%%"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
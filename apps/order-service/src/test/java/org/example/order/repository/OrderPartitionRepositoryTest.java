@@ -0,0 +1,196 @@
+package org.example.order.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.r2dbc.postgresql.PostgresqlConnectionConfiguration;
+import io.r2dbc.postgresql.PostgresqlConnectionFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import org.example.order.repository.OrderPartitionRepository.OrderPartition;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.test.StepVerifier;
+
+/**
+ * Integration tests for the orders partitioning against a real database. The Flyway migrations are
+ * read from src/main/resources rather than the classpath, where the test copies run by
+ * TestR2dbcConfig would shadow them, and V3 runs on a table that already holds orders.
+ */
+@Testcontainers
+class OrderPartitionRepositoryTest {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(10);
+  private static final YearMonth CURRENT = YearMonth.now(ZoneOffset.UTC);
+  private static final UUID EXISTING_ORDER = UUID.randomUUID();
+  private static final UUID ARCHIVED_ORDER = UUID.randomUUID();
+
+  @Container
+  static PostgreSQLContainer<?> postgres =
+      new PostgreSQLContainer<>("postgres:15-alpine")
+          .withDatabaseName("orderdb")
+          .withUsername("order_user")
+          .withPassword("order_pass");
+
+  private static PostgresqlConnectionFactory connectionFactory;
+  private static DatabaseClient databaseClient;
+
+  private OrderPartitionRepository repository;
+
+  @BeforeAll
+  static void migrate() {
+    connectionFactory =
+        new PostgresqlConnectionFactory(
+            PostgresqlConnectionConfiguration.builder()
+                .host(postgres.getHost())
+                .port(postgres.getFirstMappedPort())
+                .database(postgres.getDatabaseName())
+                .username(postgres.getUsername())
+                .password(postgres.getPassword())
+                .build());
+    databaseClient = DatabaseClient.create(connectionFactory);
+
+    // Orders placed before partitioning, so V3 has rows to move
+    flyway("2").migrate();
+    insertOrder(EXISTING_ORDER, "ORD-EXISTING", CURRENT.minusMonths(13));
+    insertOrder(ARCHIVED_ORDER, "ORD-ARCHIVED", CURRENT.minusMonths(14));
+    flyway("latest").migrate();
+  }
+
+  @BeforeEach
+  void setUp() {
+    repository =
+        new OrderPartitionRepository(
+            databaseClient, new R2dbcTransactionManager(connectionFactory));
+  }
+
+  @Test
+  void migration_movesExistingOrdersIntoTheirMonthsPartition() {
+    assertThat(partitionOf(EXISTING_ORDER)).isEqualTo(partitionName(CURRENT.minusMonths(13)));
+    assertThat(claimedBy("ORD-EXISTING")).isEqualTo(EXISTING_ORDER.toString());
+    assertThat(tableExists("orders_unpartitioned")).isFalse();
+  }
+
+  @Test
+  void ensurePartitions_movesDefaultPartitionRowsIntoTheNewPartition() {
+    // The migration creates three months ahead, so this month lands in orders_default
+    YearMonth month = CURRENT.plusMonths(6);
+    UUID id = UUID.randomUUID();
+    insertOrder(id, "ORD-FUTURE", month);
+    assertThat(partitionOf(id)).isEqualTo("orders_default");
+
+    StepVerifier.create(repository.ensurePartitions(6))
+        .assertNext(
+            ensured -> {
+              assertThat(ensured.created()).isEqualTo(3);
+              assertThat(ensured.failed()).isEmpty();
+            })
+        .verifyComplete();
+
+    assertThat(partitionOf(id)).isEqualTo(partitionName(month));
+    assertThat(count("SELECT COUNT(*) FROM orders_default")).isZero();
+  }
+
+  @Test
+  void detachPartition_archivesMonthAndReleasesItsOrderNumbers() {
+    YearMonth month = CURRENT.minusMonths(14);
+    OrderPartition partition = new OrderPartition(partitionName(month), month);
+
+    StepVerifier.create(repository.detachPartition(partition, true)).verifyComplete();
+
+    assertThat(tableExists(partition.archiveName())).isTrue();
+    assertThat(count("SELECT COUNT(*) FROM " + partition.archiveName())).isEqualTo(1);
+    assertThat(partitionOf(ARCHIVED_ORDER)).isNull();
+    assertThat(claimedBy("ORD-ARCHIVED")).isNull();
+  }
+
+  @Test
+  void detachPartition_keepsPartitionAttachedWhenArchiveNameIsTaken() {
+    YearMonth month = CURRENT.minusMonths(12);
+    OrderPartition partition = new OrderPartition(partitionName(month), month);
+    execute("CREATE TABLE " + partition.archiveName() + " (id UUID)");
+
+    StepVerifier.create(repository.detachPartition(partition, true))
+        .expectError(IllegalStateException.class)
+        .verify();
+
+    StepVerifier.create(repository.findMonthlyPartitions().map(OrderPartition::name).collectList())
+        .assertNext(names -> assertThat(names).contains(partition.name()))
+        .verifyComplete();
+  }
+
+  private static Flyway flyway(String target) {
+    return Flyway.configure()
+        .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+        .locations("filesystem:src/main/resources/db/migration")
+        .target(target)
+        .load();
+  }
+
+  private static void insertOrder(UUID id, String orderNumber, YearMonth month) {
+    databaseClient
+        .sql(
+            """
+            INSERT INTO orders (id, store_number, order_number, fulfillment_type,
+                                subtotal, grand_total, line_items, created_at, updated_at)
+            VALUES (:id, 100, :orderNumber, 'IMMEDIATE', 10, 10, '[]', :createdAt, :createdAt)
+            """)
+        .bind("id", id)
+        .bind("orderNumber", orderNumber)
+        .bind("createdAt", midMonth(month))
+        .then()
+        .block(TIMEOUT);
+  }
+
+  private static Instant midMonth(YearMonth month) {
+    return month.atDay(15).atStartOfDay(ZoneOffset.UTC).toInstant();
+  }
+
+  private static String partitionName(YearMonth month) {
+    return String.format("orders_p%04d%02d", month.getYear(), month.getMonthValue());
+  }
+
+  private static String partitionOf(UUID id) {
+    return databaseClient
+        .sql("SELECT tableoid::regclass::text FROM orders WHERE id = :id")
+        .bind("id", id)
+        .map(row -> row.get(0, String.class))
+        .one()
+        .block(TIMEOUT);
+  }
+
+  private static String claimedBy(String orderNumber) {
+    return databaseClient
+        .sql("SELECT id::text FROM order_numbers WHERE order_number = :orderNumber")
+        .bind("orderNumber", orderNumber)
+        .map(row -> row.get(0, String.class))
+        .one()
+        .block(TIMEOUT);
+  }
+
+  private static boolean tableExists(String name) {
+    return databaseClient
+        .sql("SELECT to_regclass(:name) IS NOT NULL")
+        .bind("name", name)
+        .map(row -> row.get(0, Boolean.class))
+        .one()
+        .block(TIMEOUT);
+  }
+
+  private static long count(String sql) {
+    return databaseClient.sql(sql).map(row -> row.get(0, Long.class)).one().block(TIMEOUT);
+  }
+
+  private static void execute(String sql) {
+    databaseClient.sql(sql).then().block(TIMEOUT);
+  }
+}
@@ -0,0 +1,57 @@
+package org.example.order.repository;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import org.example.model.order.FulfillmentType;
+import org.example.model.order.Order;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.test.StepVerifier;
+
+/** Unit tests for PostgresOrderRepository checks that run before any SQL is issued. */
+@ExtendWith(MockitoExtension.class)
+class PostgresOrderRepositoryTest {
+
+  @Mock private OrderEntityRepository entityRepository;
+  @Mock private DatabaseClient databaseClient;
+  @Mock private R2dbcConverter converter;
+
+  private PostgresOrderRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    repository =
+        new PostgresOrderRepository(
+            entityRepository, databaseClient, converter, new ObjectMapper());
+  }
+
+  @Test
+  void insertIfAbsent_withoutCreatedAt_failsWithoutInserting() {
+    // A defaulted created_at would give each redelivery a new (id, created_at) key
+    Order order =
+        Order.builder()
+            .id(UUID.randomUUID())
+            .storeNumber(100)
+            .orderNumber("ORD-1")
+            .fulfillmentType(FulfillmentType.IMMEDIATE)
+            .subtotal(BigDecimal.TEN)
+            .grandTotal(BigDecimal.TEN)
+            .lineItems(List.of())
+            .build();
+
+    StepVerifier.create(repository.insertIfAbsent(order))
+        .expectError(IllegalArgumentException.class)
+        .verify();
+
+    verifyNoInteractions(databaseClient);
+  }
+}
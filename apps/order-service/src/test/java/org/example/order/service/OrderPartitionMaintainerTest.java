@@ -0,0 +1,168 @@
+package org.example.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.example.order.repository.OrderPartitionRepository;
+import org.example.order.repository.OrderPartitionRepository.OrderPartition;
+import org.example.order.repository.OrderPartitionRepository.PartitionsEnsured;
+import org.example.order.service.OrderPartitionProperties.RetentionMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class OrderPartitionMaintainerTest {
+
+  @Mock private OrderPartitionRepository partitionRepository;
+
+  private OrderPartitionProperties properties;
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    properties = new OrderPartitionProperties();
+    properties.setMonthsAhead(3);
+    properties.setRetentionMonths(24);
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @Test
+  void run_createsPartitionsAhead() {
+    when(partitionRepository.ensurePartitions(3)).thenReturn(Mono.just(ensured(2)));
+    when(partitionRepository.findMonthlyPartitions()).thenReturn(Flux.empty());
+
+    StepVerifier.create(maintainer().run())
+        .assertNext(
+            result -> {
+              assertThat(result.partitionsCreated()).isEqualTo(2);
+              assertThat(result.partitionsDetached()).isZero();
+            })
+        .verifyComplete();
+
+    assertThat(meterRegistry.get("order.partitions.created").counter().count()).isEqualTo(2.0);
+    assertThat(meterRegistry.get("order.partitions.run.duration").timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  void run_detachesOnlyPartitionsBeforeRetentionWindow() {
+    YearMonth now = YearMonth.now(ZoneOffset.UTC);
+    OrderPartition older = partition(now.minusMonths(26));
+    OrderPartition expired = partition(now.minusMonths(25));
+    OrderPartition oldestRetained = partition(now.minusMonths(24));
+    OrderPartition current = partition(now);
+    when(partitionRepository.ensurePartitions(3)).thenReturn(Mono.just(ensured(0)));
+    when(partitionRepository.findMonthlyPartitions())
+        .thenReturn(Flux.just(current, expired, oldestRetained, older));
+    when(partitionRepository.estimateRows(any())).thenReturn(Mono.just(1000L));
+    when(partitionRepository.detachPartition(any(), eq(true))).thenReturn(Mono.empty());
+
+    StepVerifier.create(maintainer().run())
+        .assertNext(
+            result -> {
+              assertThat(result.partitionsDetached()).isEqualTo(2);
+              assertThat(result.rowsDetached()).isEqualTo(2000);
+            })
+        .verifyComplete();
+
+    InOrder order = inOrder(partitionRepository);
+    order.verify(partitionRepository).detachPartition(older, true);
+    order.verify(partitionRepository).detachPartition(expired, true);
+    verify(partitionRepository, never()).detachPartition(eq(oldestRetained), anyBoolean());
+    verify(partitionRepository, never()).detachPartition(eq(current), anyBoolean());
+  }
+
+  @Test
+  void run_dropsExpiredPartitionsInDropMode() {
+    properties.setRetentionMode(RetentionMode.DROP);
+    OrderPartition expired = partition(YearMonth.of(2000, 1));
+    when(partitionRepository.ensurePartitions(3)).thenReturn(Mono.just(ensured(0)));
+    when(partitionRepository.findMonthlyPartitions()).thenReturn(Flux.just(expired));
+    when(partitionRepository.estimateRows(expired)).thenReturn(Mono.just(0L));
+    when(partitionRepository.detachPartition(expired, false)).thenReturn(Mono.empty());
+
+    StepVerifier.create(maintainer().run())
+        .assertNext(result -> assertThat(result.partitionsDetached()).isEqualTo(1))
+        .verifyComplete();
+
+    assertThat(
+            meterRegistry
+                .get("order.partitions.detached")
+                .tag("mode", "DROP")
+                .counter()
+                .count())
+        .isEqualTo(1.0);
+  }
+
+  @Test
+  void run_keepsEveryPartitionWhenRetentionDisabled() {
+    properties.setRetentionMonths(0);
+    when(partitionRepository.ensurePartitions(3)).thenReturn(Mono.just(ensured(0)));
+
+    StepVerifier.create(maintainer().run())
+        .assertNext(result -> assertThat(result.partitionsDetached()).isZero())
+        .verifyComplete();
+
+    verify(partitionRepository, never()).findMonthlyPartitions();
+  }
+
+  @Test
+  void run_propagatesPartitionCreationFailure() {
+    when(partitionRepository.ensurePartitions(3))
+        .thenReturn(Mono.error(new IllegalStateException("default partition holds rows")));
+
+    StepVerifier.create(maintainer().run()).verifyError(IllegalStateException.class);
+
+    verify(partitionRepository, never()).detachPartition(any(), anyBoolean());
+  }
+
+  @Test
+  void run_failsWhenPartitionsAreSkipped() {
+    when(partitionRepository.ensurePartitions(3))
+        .thenReturn(
+            Mono.just(
+                new PartitionsEnsured(
+                    1, List.of("orders_p203001: canceling statement due to lock timeout"))));
+
+    StepVerifier.create(maintainer().run())
+        .expectErrorSatisfies(
+            error ->
+                assertThat(error)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("orders_p203001"))
+        .verify();
+
+    assertThat(meterRegistry.get("order.partitions.created").counter().count()).isEqualTo(1.0);
+    assertThat(meterRegistry.get("order.partitions.failed").counter().count()).isEqualTo(1.0);
+    verify(partitionRepository, never()).findMonthlyPartitions();
+  }
+
+  private OrderPartitionMaintainer maintainer() {
+    return new OrderPartitionMaintainer(partitionRepository, properties, meterRegistry);
+  }
+
+  private static PartitionsEnsured ensured(int created) {
+    return new PartitionsEnsured(created, List.of());
+  }
+
+  private static OrderPartition partition(YearMonth month) {
+    return new OrderPartition(
+        String.format("orders_p%04d%02d", month.getYear(), month.getMonthValue()), month);
+  }
+}
@@ -2,6 +2,8 @@ package org.example.order.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
@@ -12,7 +14,11 @@ import org.example.model.order.FulfillmentType;
 import org.example.model.order.Order;
 import org.example.model.order.OrderStatus;
 import org.example.model.order.PaymentStatus;
+import org.example.order.repository.OrderCursor;
 import org.example.order.repository.OrderRepository;
+import org.example.order.repository.OrderSearchCriteria;
+import org.example.order.repository.OrderSummary;
+import org.example.order.service.OrderSearchProperties.CountMode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -30,6 +36,7 @@ class OrderServiceTest {
 
   @Mock private OrderRepository orderRepository;
 
+  private OrderSearchProperties searchProperties;
   private OrderService orderService;
 
   private Order testOrder;
@@ -37,7 +44,8 @@ class OrderServiceTest {
 
   @BeforeEach
   void setUp() {
-    orderService = new OrderService(orderRepository);
+    searchProperties = new OrderSearchProperties();
+    orderService = new OrderService(orderRepository, searchProperties);
     orderId = UUID.randomUUID();
     testOrder = createTestOrder(orderId, OrderStatus.CREATED);
   }
@@ -64,21 +72,83 @@ class OrderServiceTest {
   }
 
   @Test
-  void findByStore_returnsOrders() {
-    when(orderRepository.findByStoreNumber(100)).thenReturn(Flux.just(testOrder));
-
-    StepVerifier.create(orderService.findByStore(100))
-        .assertNext(order -> assertThat(order.storeNumber()).isEqualTo(100))
+  void search_fetchesOneExtraRowToDetectNextPage() {
+    Order second = createTestOrder(UUID.randomUUID(), OrderStatus.PAID);
+    Order third = createTestOrder(UUID.randomUUID(), OrderStatus.PAID);
+    OrderSearchCriteria criteria = OrderSearchCriteria.builder().storeNumber(100).limit(2).build();
+    when(orderRepository.searchOrders(criteria.withLimit(3)))
+        .thenReturn(Flux.just(testOrder, second, third));
+
+    StepVerifier.create(orderService.search(criteria))
+        .assertNext(
+            page -> {
+              assertThat(page.orders()).containsExactly(testOrder, second);
+              assertThat(page.hasMore()).isTrue();
+              assertThat(OrderCursor.decode(page.nextCursor())).isEqualTo(OrderCursor.of(second));
+            })
         .verifyComplete();
   }
 
   @Test
-  void findByCustomer_returnsOrders() {
-    when(orderRepository.findByCustomerId("cust-123")).thenReturn(Flux.just(testOrder));
+  void search_lastPage_hasNoCursor() {
+    OrderSearchCriteria criteria = OrderSearchCriteria.builder().customerId("cust-123").build();
+    when(orderRepository.searchOrders(any())).thenReturn(Flux.just(testOrder));
+
+    StepVerifier.create(orderService.search(criteria))
+        .assertNext(
+            page -> {
+              assertThat(page.orders()).containsExactly(testOrder);
+              assertThat(page.hasMore()).isFalse();
+              assertThat(page.nextCursor()).isNull();
+            })
+        .verifyComplete();
+  }
 
-    StepVerifier.create(orderService.findByCustomer("cust-123"))
-        .assertNext(order -> assertThat(order.customerId()).isEqualTo("cust-123"))
+  @Test
+  void searchSummaries_pagesLikeSearch() {
+    OrderSummary first = summary(testOrder);
+    OrderSummary second = summary(createTestOrder(UUID.randomUUID(), OrderStatus.PAID));
+    OrderSearchCriteria criteria = OrderSearchCriteria.builder().storeNumber(100).limit(1).build();
+    when(orderRepository.searchOrderSummaries(criteria.withLimit(2)))
+        .thenReturn(Flux.just(first, second));
+
+    StepVerifier.create(orderService.searchSummaries(criteria))
+        .assertNext(
+            page -> {
+              assertThat(page.orders()).containsExactly(first);
+              assertThat(page.hasMore()).isTrue();
+              assertThat(OrderCursor.decode(page.nextCursor())).isEqualTo(OrderCursor.of(first));
+            })
         .verifyComplete();
+    verify(orderRepository, never()).searchOrders(any());
+  }
+
+  @Test
+  void countSearch_largeEstimate_skipsExactCount() {
+    OrderSearchCriteria criteria = OrderSearchCriteria.builder().storeNumber(100).build();
+    when(orderRepository.estimateSearchOrders(criteria)).thenReturn(Mono.just(2_500_000L));
+
+    StepVerifier.create(orderService.countSearch(criteria)).expectNext(2_500_000L).verifyComplete();
+    verify(orderRepository, never()).countSearchOrders(any());
+  }
+
+  @Test
+  void countSearch_smallEstimate_countsExactly() {
+    OrderSearchCriteria criteria = OrderSearchCriteria.builder().storeNumber(100).build();
+    when(orderRepository.estimateSearchOrders(criteria)).thenReturn(Mono.just(40L));
+    when(orderRepository.countSearchOrders(criteria)).thenReturn(Mono.just(37L));
+
+    StepVerifier.create(orderService.countSearch(criteria)).expectNext(37L).verifyComplete();
+  }
+
+  @Test
+  void countSearch_exactMode_skipsEstimate() {
+    searchProperties.setCountMode(CountMode.EXACT);
+    OrderSearchCriteria criteria = OrderSearchCriteria.builder().storeNumber(100).build();
+    when(orderRepository.countSearchOrders(criteria)).thenReturn(Mono.just(2_500_000L));
+
+    StepVerifier.create(orderService.countSearch(criteria)).expectNext(2_500_000L).verifyComplete();
+    verify(orderRepository, never()).estimateSearchOrders(any());
   }
 
   @Test
@@ -129,6 +199,25 @@ class OrderServiceTest {
         .verify();
   }
 
+  private static OrderSummary summary(Order order) {
+    return new OrderSummary(
+        order.id(),
+        order.storeNumber(),
+        order.orderNumber(),
+        order.customerId(),
+        order.fulfillmentType(),
+        order.fulfillmentDate(),
+        order.subtotal(),
+        order.discountTotal(),
+        order.taxTotal(),
+        order.fulfillmentCost(),
+        order.grandTotal(),
+        order.paymentStatus(),
+        order.status(),
+        order.createdAt(),
+        order.updatedAt());
+  }
+
   private Order createTestOrder(UUID id, OrderStatus status) {
     return Order.builder()
         .id(id)
@@ -1,7 +1,9 @@
 package org.example.order.validation;
 
+import java.time.Instant;
 import java.util.UUID;
 import org.example.order.dto.OrderSearchRequest;
+import org.example.order.repository.OrderCursor;
 import org.example.platform.error.ValidationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -90,7 +92,7 @@ class OrderRequestValidatorTest {
   @Test
   void validateSearchRequest_validRequest_succeeds() {
     OrderSearchRequest request =
-        new OrderSearchRequest(100, "cust-123", "CREATED", null, null, 0, 20);
+        new OrderSearchRequest(100, "cust-123", "CREATED", null, null, null, 20);
 
     StepVerifier.create(validator.validateSearchRequest(request)).verifyComplete();
   }
@@ -98,7 +100,7 @@ class OrderRequestValidatorTest {
   @Test
   void validateSearchRequest_invalidStatus_fails() {
     OrderSearchRequest request =
-        new OrderSearchRequest(100, null, "INVALID_STATUS", null, null, 0, 20);
+        new OrderSearchRequest(100, null, "INVALID_STATUS", null, null, null, 20);
 
     StepVerifier.create(validator.validateSearchRequest(request))
         .expectErrorMatches(
@@ -111,7 +113,7 @@ class OrderRequestValidatorTest {
 
   @Test
   void validateSearchRequest_invalidPageSize_fails() {
-    OrderSearchRequest request = new OrderSearchRequest(100, null, null, null, null, 0, 500);
+    OrderSearchRequest request = new OrderSearchRequest(100, null, null, null, null, null, 500);
 
     StepVerifier.create(validator.validateSearchRequest(request))
         .expectErrorMatches(
@@ -122,6 +124,27 @@ class OrderRequestValidatorTest {
         .verify();
   }
 
+  @Test
+  void validateSearchRequest_malformedCursor_fails() {
+    OrderSearchRequest request =
+        new OrderSearchRequest(100, null, null, null, null, "not-a-cursor", 20);
+
+    StepVerifier.create(validator.validateSearchRequest(request))
+        .expectErrorMatches(
+            ex ->
+                ex instanceof ValidationException
+                    && ((ValidationException) ex)
+                        .getErrors().stream().anyMatch(e -> e.field().equals("after")))
+        .verify();
+  }
+
+  @Test
+  void validatePage_validCursor_succeeds() {
+    String cursor = new OrderCursor(Instant.now(), UUID.randomUUID()).encode();
+
+    StepVerifier.create(validator.validatePage(20, cursor)).verifyComplete();
+  }
+
   @Test
   void validateStatus_validStatus_succeeds() {
     StepVerifier.create(validator.validateStatus("CREATED")).verifyComplete();
@@ -0,0 +1,134 @@
+package org.example.product.typeahead;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Suggestion latency and index size for a catalog of synthetic product names. The target is a
+ * few microseconds per {@link #suggestShortPrefix} at 1M names, independent of how many names
+ * share the prefix.
+ *
+ * <p>{@link #suggestShortPrefix} also reports the packed index size ({@code
+ * PrefixIndex.estimatedBytes}) and term count as the secondary results {@code indexBytes} and
+ * {@code indexTerms}; the gc profiler reports allocation per suggestion ({@code
+ * gc.alloc.rate.norm}).
+ *
+ * <p>Run with {@code ./gradlew :apps:product-service:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TypeaheadBenchmark {
+
+  private static final String[] BRANDS = {
+    "Acme", "Northwind", "Contoso", "Fabrikam", "Globex", "Initech", "Umbrella", "Stark", "Wayne",
+    "Tyrell", "Cyberdyne", "Soylent", "Hooli", "Vandelay", "Wonka", "Aperture"
+  };
+  private static final String[] ADJECTIVES = {
+    "Wireless", "Portable", "Premium", "Compact", "Smart", "Ergonomic", "Waterproof", "Classic",
+    "Professional", "Lightweight", "Digital", "Organic", "Stainless", "Adjustable", "Electric"
+  };
+  private static final String[] NOUNS = {
+    "Headphones", "Speaker", "Keyboard", "Mouse", "Coffee Maker", "Blender", "Backpack", "Tent",
+    "Jacket", "Running Shoes", "Yoga Mat", "Dumbbells", "Toothbrush", "Hair Dryer", "Monitor",
+    "Desk Lamp", "Water Bottle", "Air Fryer", "Vacuum", "Watch"
+  };
+  private static final int CATEGORY_COUNT = 250;
+  private static final int PREFIXES = 1024;
+
+  @Param({"1000000"})
+  int names;
+
+  @Param({"10"})
+  int limit;
+
+  private List<PrefixIndex.Term> terms;
+  private TypeaheadIndex index;
+  private long indexBytes;
+  private long indexTerms;
+  private String[] shortPrefixes;
+  private String[] longPrefixes;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    terms = new ArrayList<>(names + CATEGORY_COUNT);
+    List<String> generated = new ArrayList<>(names);
+    for (int i = 0; i < names; i++) {
+      String name =
+          BRANDS[random.nextInt(BRANDS.length)]
+              + " "
+              + ADJECTIVES[random.nextInt(ADJECTIVES.length)]
+              + " "
+              + NOUNS[random.nextInt(NOUNS.length)]
+              + " "
+              + (char) ('A' + random.nextInt(26))
+              + random.nextInt(100_000);
+      generated.add(name);
+      terms.add(new PrefixIndex.Term(TypeaheadIndex.normalize(name), name, 1));
+      String category = "Category " + random.nextInt(CATEGORY_COUNT);
+      terms.add(new PrefixIndex.Term(TypeaheadIndex.normalize(category), category, 1));
+    }
+    PrefixIndex built = PrefixIndex.build(terms);
+    index = new TypeaheadIndex(new SimpleMeterRegistry());
+    index.replace(built);
+
+    shortPrefixes = new String[PREFIXES];
+    longPrefixes = new String[PREFIXES];
+    for (int i = 0; i < PREFIXES; i++) {
+      String name = generated.get(random.nextInt(names));
+      shortPrefixes[i] = name.substring(0, 1 + random.nextInt(2));
+      longPrefixes[i] = name.substring(0, Math.min(name.length(), 12 + random.nextInt(8)));
+    }
+    indexBytes = built.estimatedBytes();
+    indexTerms = built.size();
+  }
+
+  /** Index size, reported as JMH secondary results rather than printed during setup. */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class IndexSize {
+
+    public long indexBytes;
+    public long indexTerms;
+
+    @Setup(Level.Iteration)
+    public void setUp(TypeaheadBenchmark benchmark) {
+      indexBytes = benchmark.indexBytes;
+      indexTerms = benchmark.indexTerms;
+    }
+  }
+
+  /** One- or two-letter prefixes, each matching tens of thousands of names. */
+  @Benchmark
+  public List<String> suggestShortPrefix(IndexSize indexSize) {
+    return index.suggest(shortPrefixes[next++ & (PREFIXES - 1)], limit);
+  }
+
+  /** Prefixes long enough to narrow the match to a handful of names. */
+  @Benchmark
+  public List<String> suggestLongPrefix() {
+    return index.suggest(longPrefixes[next++ & (PREFIXES - 1)], limit);
+  }
+
+  /** Build the packed index from the listing (paid at startup and on each full rebuild). */
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public PrefixIndex build() {
+    return PrefixIndex.build(terms);
+  }
+}
@@ -1,10 +1,14 @@
 package org.example.product;
 
+import org.example.product.config.AssemblyProperties;
 import org.example.product.config.CacheProperties;
 import org.example.product.config.SearchCacheProperties;
+import org.example.product.config.TypeaheadProperties;
+import org.example.product.config.WarmupProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(
     scanBasePackages = {
@@ -14,7 +18,14 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
       "org.example.platform.error",
       "org.example.platform.security"
     })
-@EnableConfigurationProperties({CacheProperties.class, SearchCacheProperties.class})
+@EnableConfigurationProperties({
+  AssemblyProperties.class,
+  CacheProperties.class,
+  SearchCacheProperties.class,
+  TypeaheadProperties.class,
+  WarmupProperties.class
+})
+@EnableScheduling
 public class ProductServiceApplication {
 
   public static void main(String[] args) {
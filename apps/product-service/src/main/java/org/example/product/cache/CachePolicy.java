@@ -0,0 +1,295 @@
+package org.example.product.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.example.platform.cache.CachedValue;
+import org.example.platform.cache.ReactiveCacheService;
+import org.example.platform.resilience.Deadline;
+import org.example.product.cache.NegativeCache.Reason;
+import org.example.product.config.CacheProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * Read-through cache policy for one repository: soft/hard TTLs, stale-while-revalidate,
+ * probabilistic early refresh and single-flight loads.
+ *
+ * <p>Entries are written with the hard TTL. While more than {@code ttl - softTtl} remains they are
+ * fresh; after that they are stale, served immediately and revalidated in the background until
+ * Redis evicts them. Fresh hits may also trigger an early background refresh with a probability
+ * that rises as the soft expiry approaches (XFetch), so hot keys are usually reloaded before they
+ * go stale and cold keys are left to expire.
+ *
+ * <p>At most one load per key runs at a time in this instance: concurrent misses and refreshes
+ * join the load already in flight. Load errors are propagated to foreground callers only; a failed
+ * background refresh leaves the stale entry in place. The shared load belongs to no caller: it runs
+ * with an empty Reactor context, so no caller's deadline or request metadata reaches the backing
+ * call, and it is bounded by the policy's own load timeout. A caller that cancels or runs out of
+ * its deadline only stops waiting; each caller's deadline is applied to its own wait.
+ *
+ * <p>A failed load also writes a short-lived {@link NegativeCache} entry (404s and other failures
+ * have separate TTLs). Misses with a negative entry are served the repository's fallback without
+ * calling the backing service, so scans over unknown SKUs do not reach it on every request.
+ *
+ * @param <T> the cached value type
+ */
+public final class CachePolicy<T> {
+
+  private static final Logger log = LoggerFactory.getLogger(CachePolicy.class);
+
+  /** Weight of the latest load in the moving average used as the XFetch recompute time. */
+  private static final double LOAD_TIME_WEIGHT = 0.2;
+
+  private final String name;
+  private final Class<T> type;
+  private final T fallback;
+  private final ReactiveCacheService cacheService;
+  private final NegativeCache negativeCache;
+  private final Duration ttl;
+  private final Duration staleWindow;
+  private final double refreshAheadBeta;
+  private final Duration notFoundTtl;
+  private final Duration fallbackTtl;
+  private final Duration loadTimeout;
+  private final ConcurrentHashMap<String, Mono<T>> inFlight = new ConcurrentHashMap<>();
+  private volatile double averageLoadNanos;
+
+  private final Counter hits;
+  private final Counter staleHits;
+  private final Counter misses;
+  private final Counter negativeHits;
+  private final Counter notFoundWrites;
+  private final Counter fallbackWrites;
+  private final Counter coalescedLoads;
+  private final Counter staleRefreshes;
+  private final Counter staleRefreshFailures;
+  private final Counter earlyRefreshes;
+  private final Counter earlyRefreshFailures;
+  private final Timer loadTimer;
+
+  CachePolicy(
+      String name,
+      Class<T> type,
+      T fallback,
+      ReactiveCacheService cacheService,
+      NegativeCache negativeCache,
+      CacheProperties.ServiceCache settings,
+      MeterRegistry meterRegistry) {
+    this.name = name;
+    this.type = type;
+    this.fallback = fallback;
+    this.cacheService = cacheService;
+    this.negativeCache = negativeCache;
+    this.ttl = settings.getTtl();
+    Duration softTtl = settings.getSoftTtl();
+    this.staleWindow =
+        softTtl == null || softTtl.compareTo(ttl) >= 0 ? Duration.ZERO : ttl.minus(softTtl);
+    this.refreshAheadBeta = Math.max(0.0, settings.getRefreshAheadBeta());
+    this.notFoundTtl = positiveOrZero(settings.getNotFoundTtl());
+    this.fallbackTtl = positiveOrZero(settings.getFallbackTtl());
+    this.loadTimeout = settings.getLoadTimeout();
+
+    this.hits = requests(meterRegistry, "hit");
+    this.staleHits = requests(meterRegistry, "stale");
+    this.misses = requests(meterRegistry, "miss");
+    this.negativeHits = requests(meterRegistry, "negative");
+    this.notFoundWrites = negativeWrites(meterRegistry, Reason.NOT_FOUND);
+    this.fallbackWrites = negativeWrites(meterRegistry, Reason.FALLBACK);
+    this.coalescedLoads =
+        Counter.builder("product.cache.loads.coalesced")
+            .description("Loads that joined one already in flight for the same key")
+            .tag("policy", name)
+            .register(meterRegistry);
+    this.staleRefreshes = refreshes(meterRegistry, "stale", "success");
+    this.staleRefreshFailures = refreshes(meterRegistry, "stale", "failure");
+    this.earlyRefreshes = refreshes(meterRegistry, "early", "success");
+    this.earlyRefreshFailures = refreshes(meterRegistry, "early", "failure");
+    this.loadTimer =
+        Timer.builder("product.cache.load.duration")
+            .description("Duration of loads from the backing service")
+            .tag("policy", name)
+            .register(meterRegistry);
+  }
+
+  /**
+   * Get the value for a key, loading it on a miss.
+   *
+   * @param key the cache key
+   * @param loader fetches the value from the backing service; invoked at most once per key at a
+   *     time
+   * @return the cached or loaded value, or the fallback if a recent load failed; errors from a
+   *     foreground load are propagated, and a load outliving the caller's {@link Deadline} fails
+   *     that caller with a {@link java.util.concurrent.TimeoutException}
+   */
+  public Mono<T> get(String key, Supplier<Mono<T>> loader) {
+    return Mono.deferContextual(
+        ctx ->
+            cacheService
+                .getWithTtl(key, type)
+                .map(cached -> onHit(key, cached, loader))
+                .switchIfEmpty(Mono.defer(() -> onMiss(key, loader, ctx))));
+  }
+
+  private Mono<T> onMiss(String key, Supplier<Mono<T>> loader, ContextView ctx) {
+    return negativeCache
+        .get(key)
+        .map(
+            reason -> {
+              negativeHits.increment();
+              return fallback;
+            })
+        .switchIfEmpty(
+            Mono.defer(
+                () -> {
+                  misses.increment();
+                  Mono<T> shared = load(key, loader);
+                  return Deadline.from(ctx)
+                      .map(deadline -> deadline.bound(shared, Duration.ZERO))
+                      .orElse(shared);
+                }));
+  }
+
+  private T onHit(String key, CachedValue<T> cached, Supplier<Mono<T>> loader) {
+    Duration remaining = cached.remainingTtl();
+    if (remaining == null) {
+      hits.increment();
+      return cached.value();
+    }
+    Duration untilStale = remaining.minus(staleWindow);
+    if (untilStale.isNegative() || untilStale.isZero()) {
+      staleHits.increment();
+      refreshInBackground(key, loader, staleRefreshes, staleRefreshFailures);
+    } else {
+      hits.increment();
+      if (shouldRefreshEarly(untilStale)) {
+        refreshInBackground(key, loader, earlyRefreshes, earlyRefreshFailures);
+      }
+    }
+    return cached.value();
+  }
+
+  /**
+   * XFetch: refresh when {@code -loadTime * beta * ln(rand)} reaches the time left before the
+   * entry goes stale. With {@code beta = 1} the expected lead is one load time.
+   */
+  private boolean shouldRefreshEarly(Duration untilStale) {
+    double loadNanos = averageLoadNanos;
+    if (refreshAheadBeta == 0.0 || loadNanos == 0.0) {
+      return false;
+    }
+    double random = 1.0 - ThreadLocalRandom.current().nextDouble();
+    return loadNanos * refreshAheadBeta * -Math.log(random) >= untilStale.toNanos();
+  }
+
+  private void refreshInBackground(
+      String key, Supplier<Mono<T>> loader, Counter success, Counter failure) {
+    if (inFlight.containsKey(key)) {
+      return;
+    }
+    load(key, loader)
+        .subscribe(
+            value -> success.increment(),
+            error -> {
+              failure.increment();
+              log.warn(
+                  "Background cache refresh failed: policy={}, key={}, error={}",
+                  name,
+                  key,
+                  error.getMessage());
+            });
+  }
+
+  private Mono<T> load(String key, Supplier<Mono<T>> loader) {
+    boolean[] created = {false};
+    Mono<T> shared =
+        inFlight.computeIfAbsent(
+            key,
+            k -> {
+              created[0] = true;
+              // Leave the map before the result is delivered, so callers that react to it load anew
+              return loadAndStore(k, loader)
+                  .timeout(loadTimeout)
+                  .onErrorResume(error -> storeNegative(k, error).then(Mono.error(error)))
+                  .doOnTerminate(() -> inFlight.remove(k))
+                  .contextWrite(callerContext -> Context.empty())
+                  .cache();
+            });
+    if (created[0]) {
+      // Run the load on a subscription of its own, so it is not cancelled with any caller's.
+      // Subscribed outside computeIfAbsent: a load that completes synchronously removes its key.
+      shared.subscribe(value -> {}, error -> {});
+    } else {
+      coalescedLoads.increment();
+    }
+    return shared;
+  }
+
+  private Mono<T> loadAndStore(String key, Supplier<Mono<T>> loader) {
+    return Mono.defer(
+        () -> {
+          long startNanos = System.nanoTime();
+          return loader
+              .get()
+              .doOnNext(value -> recordLoad(System.nanoTime() - startNanos))
+              .flatMap(value -> cacheService.put(key, value, ttl).thenReturn(value));
+        });
+  }
+
+  private Mono<Boolean> storeNegative(String key, Throwable error) {
+    boolean notFound =
+        error instanceof WebClientResponseException response
+            && response.getStatusCode().value() == 404;
+    Duration negativeTtl = notFound ? notFoundTtl : fallbackTtl;
+    if (negativeTtl.isZero()) {
+      return Mono.empty();
+    }
+    (notFound ? notFoundWrites : fallbackWrites).increment();
+    return negativeCache.put(key, notFound ? Reason.NOT_FOUND : Reason.FALLBACK, negativeTtl);
+  }
+
+  private void recordLoad(long nanos) {
+    loadTimer.record(nanos, TimeUnit.NANOSECONDS);
+    double previous = averageLoadNanos;
+    averageLoadNanos = previous == 0.0 ? nanos : previous + LOAD_TIME_WEIGHT * (nanos - previous);
+  }
+
+  private Counter requests(MeterRegistry meterRegistry, String outcome) {
+    return Counter.builder("product.cache.requests")
+        .description("Cache reads by outcome: fresh, stale while revalidating, negative, miss")
+        .tag("policy", name)
+        .tag("outcome", outcome)
+        .register(meterRegistry);
+  }
+
+  private Counter negativeWrites(MeterRegistry meterRegistry, Reason reason) {
+    return Counter.builder("product.cache.negative.writes")
+        .description("Negative entries written after a failed load, by reason")
+        .tag("policy", name)
+        .tag("reason", reason.name().toLowerCase(Locale.ROOT))
+        .register(meterRegistry);
+  }
+
+  private static Duration positiveOrZero(Duration duration) {
+    return duration == null || duration.isNegative() ? Duration.ZERO : duration;
+  }
+
+  private Counter refreshes(MeterRegistry meterRegistry, String trigger, String result) {
+    return Counter.builder("product.cache.refreshes")
+        .description("Background refreshes by trigger (stale entry or early refresh) and result")
+        .tag("policy", name)
+        .tag("trigger", trigger)
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
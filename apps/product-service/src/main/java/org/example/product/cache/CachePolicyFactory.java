@@ -0,0 +1,38 @@
+package org.example.product.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.platform.cache.ReactiveCacheService;
+import org.example.product.config.CacheProperties;
+import org.springframework.stereotype.Component;
+
+/** Creates {@link CachePolicy} instances backed by the shared caches and meter registry. */
+@Component
+public class CachePolicyFactory {
+
+  private final ReactiveCacheService cacheService;
+  private final NegativeCache negativeCache;
+  private final MeterRegistry meterRegistry;
+
+  public CachePolicyFactory(
+      ReactiveCacheService cacheService, NegativeCache negativeCache, MeterRegistry meterRegistry) {
+    this.cacheService = cacheService;
+    this.negativeCache = negativeCache;
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Create a policy for one repository.
+   *
+   * @param name policy name, used as the {@code policy} metric tag
+   * @param type the cached value type
+   * @param settings TTLs and refresh settings for the policy
+   * @param fallback the value the repository serves when a load fails; served for negative hits
+   * @param <T> the cached value type
+   * @return the policy
+   */
+  public <T> CachePolicy<T> create(
+      String name, Class<T> type, CacheProperties.ServiceCache settings, T fallback) {
+    return new CachePolicy<>(
+        name, type, fallback, cacheService, negativeCache, settings, meterRegistry);
+  }
+}
@@ -0,0 +1,70 @@
+package org.example.product.cache;
+
+import java.time.Duration;
+import org.example.platform.cache.ReactiveCacheService;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Short-lived entries recording that a load failed, so repeated lookups of unknown SKUs are served
+ * their fallback without calling the backing service again.
+ *
+ * <p>Entries live under their own {@value #NAMESPACE} prefix, separate from cached values, and can
+ * be purged in bulk.
+ */
+@Component
+public class NegativeCache {
+
+  /** Key prefix of every negative entry; the cached value's key follows it. */
+  public static final String NAMESPACE = "negative:";
+
+  /** Why the load failed. */
+  public enum Reason {
+    /** The backing service returned 404. */
+    NOT_FOUND,
+    /** The load failed otherwise and the repository served its fallback. */
+    FALLBACK
+  }
+
+  private final ReactiveCacheService cacheService;
+
+  public NegativeCache(ReactiveCacheService cacheService) {
+    this.cacheService = cacheService;
+  }
+
+  /**
+   * Look up the negative entry for a cache key.
+   *
+   * @param key the key of the cached value
+   * @return the recorded reason, or empty if there is none
+   */
+  public Mono<Reason> get(String key) {
+    return cacheService
+        .get(NAMESPACE + key, String.class)
+        .flatMap(reason -> Mono.fromCallable(() -> Reason.valueOf(reason)))
+        .onErrorResume(IllegalArgumentException.class, e -> Mono.empty());
+  }
+
+  /**
+   * Record a failed load.
+   *
+   * @param key the key of the cached value
+   * @param reason why the load failed
+   * @param ttl how long to keep the entry
+   * @return a Mono indicating if the entry was written
+   */
+  public Mono<Boolean> put(String key, Reason reason, Duration ttl) {
+    return cacheService.put(NAMESPACE + key, reason.name(), ttl);
+  }
+
+  /**
+   * Delete negative entries.
+   *
+   * @param keyPrefix prefix of the cached value keys to purge, e.g. {@code "price:"}; empty purges
+   *     every negative entry
+   * @return a Mono containing the number of entries deleted
+   */
+  public Mono<Long> purge(String keyPrefix) {
+    return cacheService.deleteByPrefix(NAMESPACE + keyPrefix);
+  }
+}
@@ -0,0 +1,39 @@
+package org.example.product.cache;
+
+import java.util.Map;
+import java.util.regex.Pattern;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.OptionalParameter;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Actuator endpoint to purge negative cache entries, e.g. after SKUs are added or restocked.
+ *
+ * <p>{@code DELETE /actuator/negativecache} purges every entry; {@code ?prefix=price:} purges one
+ * service's entries.
+ */
+@Component
+@Endpoint(id = "negativecache")
+public class NegativeCacheEndpoint {
+
+  private static final Pattern KEY_PREFIX = Pattern.compile("[a-z0-9:]*");
+
+  private final NegativeCache negativeCache;
+
+  public NegativeCacheEndpoint(NegativeCache negativeCache) {
+    this.negativeCache = negativeCache;
+  }
+
+  @DeleteOperation
+  public Mono<Map<String, Long>> purge(@OptionalParameter String prefix) {
+    String keyPrefix = prefix != null ? prefix : "";
+    if (!KEY_PREFIX.matcher(keyPrefix).matches()) {
+      throw new InvalidEndpointRequestException(
+          "Invalid prefix: " + prefix, "prefix may only contain a-z, 0-9 and ':'");
+    }
+    return negativeCache.purge(keyPrefix).map(deleted -> Map.of("deleted", deleted));
+  }
+}
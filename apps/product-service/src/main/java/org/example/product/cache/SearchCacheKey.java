@@ -0,0 +1,101 @@
+package org.example.product.cache;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import org.example.product.domain.SearchCriteria;
+
+/**
+ * Cache keys for search result pages.
+ *
+ * <p>Criteria are canonicalized first, so equivalent searches share an entry: the query is
+ * Unicode-normalized and whitespace-collapsed, prices lose trailing zeros, and filters that do not
+ * filter ({@code inStockOnly=false}, {@code minAvailability<=0}, blank strings) are dropped. The
+ * query, category and selling location keep their case: they go to the Catalog Service as given,
+ * and nothing here guarantees it matches them case-insensitively. The canonical form is hashed to a
+ * fixed-length key, so long queries do not produce long keys. The page number stays outside the
+ * hash, so the pages of one search share a key prefix.
+ */
+public final class SearchCacheKey {
+
+  /** Prefix of every search page key; bump the version when the page encoding changes. */
+  public static final String PAGE_PREFIX = "search:v4:";
+
+  /** Prefix of the per-SKU search documents that pages are hydrated from. */
+  public static final String DOCUMENT_PREFIX = "search:doc:";
+
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+  private static final int HASH_BYTES = 16;
+
+  private SearchCacheKey() {
+    // Utility class
+  }
+
+  /**
+   * Key of the cached page for the criteria.
+   *
+   * @param criteria the search criteria
+   * @return the page key
+   */
+  public static String page(SearchCriteria criteria) {
+    return PAGE_PREFIX + hash(canonical(criteria)) + ":" + criteria.page();
+  }
+
+  /**
+   * Key of the search document for a SKU.
+   *
+   * @param sku the SKU identifier
+   * @return the document key
+   */
+  public static String document(long sku) {
+    return DOCUMENT_PREFIX + sku;
+  }
+
+  /** Canonical form of every criterion except the page number. */
+  static String canonical(SearchCriteria c) {
+    StringBuilder key = new StringBuilder("q=").append(normalizeQuery(c.query()));
+    c.minPrice().ifPresent(p -> key.append("|min=").append(plain(p)));
+    c.maxPrice().ifPresent(p -> key.append("|max=").append(plain(p)));
+    c.minAvailability().filter(a -> a > 0).ifPresent(a -> key.append("|avail=").append(a));
+    c.inStockOnly().filter(Boolean::booleanValue).ifPresent(s -> key.append("|stock"));
+    nonBlank(c.category()).ifPresent(cat -> key.append("|cat=").append(cat));
+    nonBlank(c.customerZipCode()).ifPresent(z -> key.append("|zip=").append(z));
+    nonBlank(c.sellingLocation()).ifPresent(l -> key.append("|loc=").append(l));
+    key.append("|sort=").append(c.sortBy().toLowerCase(Locale.ROOT)).append(':');
+    key.append(c.sortDirection()).append("|size=").append(c.size());
+    return key.toString();
+  }
+
+  private static String normalizeQuery(String query) {
+    String normalized = Normalizer.normalize(query, Normalizer.Form.NFKC);
+    return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+  }
+
+  private static String plain(BigDecimal value) {
+    return value.stripTrailingZeros().toPlainString();
+  }
+
+  private static Optional<String> nonBlank(Optional<String> value) {
+    return value.map(String::trim).filter(v -> !v.isEmpty());
+  }
+
+  private static String hash(String canonical) {
+    try {
+      byte[] digest =
+          MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+      return Base64.getUrlEncoder()
+          .withoutPadding()
+          .encodeToString(Arrays.copyOf(digest, HASH_BYTES));
+    } catch (NoSuchAlgorithmException e) {
+      // Every JRE provides SHA-256
+      throw new IllegalStateException(e);
+    }
+  }
+}
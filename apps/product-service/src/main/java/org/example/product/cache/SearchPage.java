@@ -0,0 +1,30 @@
+package org.example.product.cache;
+
+import java.util.List;
+
+/**
+ * One cached page of search results: the matching SKUs in rank order with their scores, and the
+ * paging totals. Product details are not part of the page; they are hydrated from the per-SKU
+ * search documents.
+ *
+ * @param total total number of matches
+ * @param totalPages number of pages at this page size
+ * @param pageSize the page size
+ * @param searchTimeMs time the catalog search took when the page was cached
+ * @param hits the SKUs on this page, in rank order
+ */
+public record SearchPage(
+    long total, int totalPages, int pageSize, long searchTimeMs, List<Hit> hits) {
+
+  public SearchPage {
+    hits = List.copyOf(hits);
+  }
+
+  /**
+   * One result on the page.
+   *
+   * @param sku the SKU identifier
+   * @param relevanceScore the search relevance score
+   */
+  public record Hit(long sku, double relevanceScore) {}
+}
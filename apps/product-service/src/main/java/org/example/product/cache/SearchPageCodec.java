@@ -0,0 +1,171 @@
+package org.example.product.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Binary encoding of {@link SearchPage}, replacing JSON for cached search results.
+ *
+ * <p>Layout: a format byte, then varint totals and hit count, then per hit the zigzag varint
+ * difference to the previous SKU and the score as 8 bytes. Encodings of at least {@value
+ * #COMPRESS_THRESHOLD} bytes are deflated when that makes them smaller. A page of 20 hits takes
+ * at most about 250 bytes before compression.
+ */
+public final class SearchPageCodec {
+
+  /** Encodings at least this long are compressed. */
+  static final int COMPRESS_THRESHOLD = 128;
+
+  private static final byte RAW = 1;
+  private static final byte DEFLATED = 2;
+  private static final int MAX_HITS = 10_000;
+
+  private SearchPageCodec() {
+    // Utility class
+  }
+
+  /**
+   * Encodes a page.
+   *
+   * @param page the page
+   * @return the encoded page
+   */
+  public static byte[] encode(SearchPage page) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(16 + page.hits().size() * 12);
+    writeVarLong(out, page.total());
+    writeVarLong(out, page.totalPages());
+    writeVarLong(out, page.pageSize());
+    writeVarLong(out, page.searchTimeMs());
+    writeVarLong(out, page.hits().size());
+    long previousSku = 0;
+    for (SearchPage.Hit hit : page.hits()) {
+      long delta = hit.sku() - previousSku;
+      writeVarLong(out, (delta << 1) ^ (delta >> 63));
+      previousSku = hit.sku();
+      long scoreBits = Double.doubleToLongBits(hit.relevanceScore());
+      for (int shift = 56; shift >= 0; shift -= 8) {
+        out.write((int) (scoreBits >>> shift));
+      }
+    }
+    byte[] body = out.toByteArray();
+
+    if (body.length >= COMPRESS_THRESHOLD) {
+      byte[] deflated = deflate(body);
+      if (deflated.length < body.length) {
+        return withFormat(DEFLATED, deflated);
+      }
+    }
+    return withFormat(RAW, body);
+  }
+
+  /**
+   * Decodes a page.
+   *
+   * @param bytes the encoded page
+   * @return the page
+   * @throws IllegalArgumentException if the bytes are not a page in a known format
+   */
+  public static SearchPage decode(byte[] bytes) {
+    if (bytes.length == 0) {
+      throw new IllegalArgumentException("Empty search page");
+    }
+    byte[] body = Arrays.copyOfRange(bytes, 1, bytes.length);
+    ByteBuffer in =
+        switch (bytes[0]) {
+          case RAW -> ByteBuffer.wrap(body);
+          case DEFLATED -> ByteBuffer.wrap(inflate(body));
+          default -> throw new IllegalArgumentException("Unknown search page format: " + bytes[0]);
+        };
+    try {
+      long total = readVarLong(in);
+      int totalPages = (int) readVarLong(in);
+      int pageSize = (int) readVarLong(in);
+      long searchTimeMs = readVarLong(in);
+      long count = readVarLong(in);
+      if (count > MAX_HITS) {
+        throw new IllegalArgumentException("Search page too large: " + count);
+      }
+      List<SearchPage.Hit> hits = new ArrayList<>((int) count);
+      long sku = 0;
+      for (int i = 0; i < count; i++) {
+        long zigzag = readVarLong(in);
+        sku += (zigzag >>> 1) ^ -(zigzag & 1);
+        hits.add(new SearchPage.Hit(sku, Double.longBitsToDouble(in.getLong())));
+      }
+      return new SearchPage(total, totalPages, pageSize, searchTimeMs, hits);
+    } catch (BufferUnderflowException e) {
+      throw new IllegalArgumentException("Truncated search page", e);
+    }
+  }
+
+  private static byte[] withFormat(byte format, byte[] body) {
+    byte[] bytes = new byte[body.length + 1];
+    bytes[0] = format;
+    System.arraycopy(body, 0, bytes, 1, body.length);
+    return bytes;
+  }
+
+  private static void writeVarLong(ByteArrayOutputStream out, long value) {
+    while ((value & ~0x7FL) != 0) {
+      out.write((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    out.write((int) value);
+  }
+
+  private static long readVarLong(ByteBuffer in) {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      byte b = in.get();
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("Malformed varint in search page");
+  }
+
+  private static byte[] deflate(byte[] body) {
+    Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+    try {
+      deflater.setInput(body);
+      deflater.finish();
+      ByteArrayOutputStream out = new ByteArrayOutputStream(body.length);
+      byte[] buffer = new byte[512];
+      while (!deflater.finished()) {
+        out.write(buffer, 0, deflater.deflate(buffer));
+      }
+      return out.toByteArray();
+    } finally {
+      deflater.end();
+    }
+  }
+
+  private static byte[] inflate(byte[] body) {
+    Inflater inflater = new Inflater(true);
+    try {
+      inflater.setInput(body);
+      ByteArrayOutputStream out = new ByteArrayOutputStream(body.length * 3);
+      byte[] buffer = new byte[512];
+      while (!inflater.finished()) {
+        int n = inflater.inflate(buffer);
+        if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          throw new IllegalArgumentException("Truncated compressed search page");
+        }
+        out.write(buffer, 0, n);
+      }
+      return out.toByteArray();
+    } catch (DataFormatException e) {
+      throw new IllegalArgumentException("Corrupt compressed search page", e);
+    } finally {
+      inflater.end();
+    }
+  }
+}
@@ -0,0 +1,236 @@
+package org.example.product.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.example.platform.cache.ReactiveCacheService;
+import org.example.product.config.SearchCacheProperties;
+import org.example.product.domain.SearchCriteria;
+import org.example.product.domain.SearchProduct;
+import org.example.product.domain.SearchResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Cache of search result pages, split into compact pages and shared per-SKU documents.
+ *
+ * <p>A page entry holds only the ranked SKUs, their scores and the paging totals, encoded with
+ * {@link SearchPageCodec} under a {@link SearchCacheKey hashed canonical key}. Product details are
+ * stored once per SKU as {@link SearchProduct} documents and shared by every page that lists the
+ * SKU. A hit reads the page, then all of its documents in one MGET; if any document has expired the
+ * page counts as a miss and the search is run again.
+ *
+ * <p>Pages are written through their own template with a raw byte-array value serializer, so Redis
+ * stores the codec's bytes as they are. The shared JSON template would store them as a base64
+ * string, a third larger, and decode that string on every hit. Documents stay on {@link
+ * ReactiveCacheService}. Page reads and writes fail silently like the rest of the cache.
+ */
+@Component
+public class SearchResultCache {
+
+  private static final Logger log = LoggerFactory.getLogger(SearchResultCache.class);
+
+  private final ReactiveCacheService cacheService;
+  private final ReactiveRedisTemplate<String, byte[]> pageTemplate;
+  private final SearchCacheProperties properties;
+  private final Counter hits;
+  private final Counter misses;
+  private final Counter partialMisses;
+  private final DistributionSummary pageBytes;
+
+  public SearchResultCache(
+      ReactiveCacheService cacheService,
+      ReactiveRedisConnectionFactory connectionFactory,
+      SearchCacheProperties properties,
+      MeterRegistry meterRegistry) {
+    this.cacheService = cacheService;
+    this.pageTemplate =
+        new ReactiveRedisTemplate<>(
+            connectionFactory,
+            RedisSerializationContext.<String, byte[]>newSerializationContext(
+                    RedisSerializer.string())
+                .value(RedisSerializer.byteArray())
+                .build());
+    this.properties = properties;
+    this.hits = requests(meterRegistry, "hit");
+    this.misses = requests(meterRegistry, "miss");
+    this.partialMisses = requests(meterRegistry, "partial");
+    this.pageBytes =
+        DistributionSummary.builder("product.search.cache.page.size")
+            .description("Encoded size of cached search pages")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+  }
+
+  /**
+   * Get a cached page, hydrated with its product documents.
+   *
+   * @param criteria the search criteria
+   * @return the cached response, or empty on a miss or if any document has expired
+   */
+  public Mono<SearchResponse<SearchProduct>> get(SearchCriteria criteria) {
+    return readPage(SearchCacheKey.page(criteria))
+        .switchIfEmpty(
+            Mono.defer(
+                () -> {
+                  misses.increment();
+                  return Mono.empty();
+                }))
+        .flatMap(page -> hydrate(criteria, page))
+        .doOnNext(response -> hits.increment());
+  }
+
+  /**
+   * Check whether the page for the criteria is cached, without reading its documents.
+   *
+   * @param criteria the search criteria
+   * @return true if a readable page entry exists
+   */
+  public Mono<Boolean> contains(SearchCriteria criteria) {
+    return readPage(SearchCacheKey.page(criteria)).hasElement();
+  }
+
+  /**
+   * Cache a search response: the page under the search TTL and each product document under the
+   * document TTL. Fails silently like the underlying cache.
+   *
+   * @param criteria the criteria the response answers
+   * @param response the response from the catalog
+   * @return completes when all writes have finished
+   */
+  public Mono<Void> put(SearchCriteria criteria, SearchResponse<SearchProduct> response) {
+    List<SearchPage.Hit> pageHits = new ArrayList<>(response.products().size());
+    for (SearchProduct product : response.products()) {
+      pageHits.add(new SearchPage.Hit(product.sku(), product.relevanceScore()));
+    }
+    byte[] encoded =
+        SearchPageCodec.encode(
+            new SearchPage(
+                response.total(),
+                response.totalPages(),
+                response.pageSize(),
+                response.searchTimeMs(),
+                pageHits));
+    pageBytes.record(encoded.length);
+
+    Duration documentTtl = properties.getDocumentTtl();
+    // Documents first, so a reader that sees the page finds its documents
+    return Flux.fromIterable(response.products())
+        .flatMap(
+            product ->
+                cacheService.put(
+                    SearchCacheKey.document(product.sku()), document(product), documentTtl))
+        .then(writePage(SearchCacheKey.page(criteria), encoded))
+        .then();
+  }
+
+  private Mono<Boolean> writePage(String key, byte[] encoded) {
+    return pageTemplate
+        .opsForValue()
+        .set(key, encoded, properties.getSearchTtl())
+        .onErrorResume(
+            e -> {
+              log.warn("Redis SET failed for search page: key={}, error={}", key, e.getMessage());
+              return Mono.just(false);
+            });
+  }
+
+  private Mono<SearchPage> readPage(String key) {
+    return pageTemplate
+        .opsForValue()
+        .get(key)
+        .onErrorResume(
+            e -> {
+              log.warn("Redis GET failed for search page: key={}, error={}", key, e.getMessage());
+              return Mono.empty();
+            })
+        .flatMap(
+            bytes -> {
+              try {
+                return Mono.just(SearchPageCodec.decode(bytes));
+              } catch (IllegalArgumentException e) {
+                log.warn(
+                    "Discarding unreadable search page: key={}, error={}", key, e.getMessage());
+                return Mono.empty();
+              }
+            });
+  }
+
+  private Mono<SearchResponse<SearchProduct>> hydrate(SearchCriteria criteria, SearchPage page) {
+    Set<String> keys = new LinkedHashSet<>();
+    for (SearchPage.Hit hit : page.hits()) {
+      keys.add(SearchCacheKey.document(hit.sku()));
+    }
+    return cacheService
+        .getAll(keys, SearchProduct.class)
+        .flatMap(
+            documents -> {
+              if (documents.size() < keys.size()) {
+                partialMisses.increment();
+                return Mono.empty();
+              }
+              return Mono.just(toResponse(criteria, page, documents));
+            });
+  }
+
+  private static SearchResponse<SearchProduct> toResponse(
+      SearchCriteria criteria, SearchPage page, Map<String, SearchProduct> documents) {
+    List<SearchProduct> products = new ArrayList<>(page.hits().size());
+    for (SearchPage.Hit hit : page.hits()) {
+      SearchProduct doc = documents.get(SearchCacheKey.document(hit.sku()));
+      products.add(
+          new SearchProduct(
+              doc.sku(),
+              doc.name(),
+              doc.description(),
+              doc.price(),
+              doc.originalPrice(),
+              doc.availableQuantity(),
+              doc.imageUrl(),
+              doc.category(),
+              hit.relevanceScore()));
+    }
+    return new SearchResponse<>(
+        products,
+        page.total(),
+        page.totalPages(),
+        criteria.page(),
+        page.pageSize(),
+        criteria.query(),
+        page.searchTimeMs());
+  }
+
+  /** The product without its score, which depends on the search and is kept in the page. */
+  private static SearchProduct document(SearchProduct product) {
+    return new SearchProduct(
+        product.sku(),
+        product.name(),
+        product.description(),
+        product.price(),
+        product.originalPrice(),
+        product.availableQuantity(),
+        product.imageUrl(),
+        product.category(),
+        0.0);
+  }
+
+  private static Counter requests(MeterRegistry meterRegistry, String outcome) {
+    return Counter.builder("product.search.cache.requests")
+        .description("Search result cache lookups by outcome")
+        .tag("outcome", outcome)
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,31 @@
+package org.example.product.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/** Deadline budget for assembling a product from merchandise, price and inventory. */
+@ConfigurationProperties(prefix = "product.assembly")
+public class AssemblyProperties {
+
+  /** Time allowed for the whole product request when no deadline was set upstream. */
+  private Duration budget = Duration.ofMillis(1500);
+
+  /** Time kept back from each leg's budget for assembling and writing the response. */
+  private Duration headroom = Duration.ofMillis(50);
+
+  public Duration getBudget() {
+    return budget;
+  }
+
+  public void setBudget(Duration budget) {
+    this.budget = budget;
+  }
+
+  public Duration getHeadroom() {
+    return headroom;
+  }
+
+  public void setHeadroom(Duration headroom) {
+    this.headroom = headroom;
+  }
+}
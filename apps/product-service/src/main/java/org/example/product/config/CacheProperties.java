@@ -6,9 +6,10 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "cache")
 public class CacheProperties {
 
-  private ServiceCache merchandise = new ServiceCache(Duration.ofMinutes(15));
-  private ServiceCache price = new ServiceCache(Duration.ofMinutes(2));
-  private ServiceCache inventory = new ServiceCache(Duration.ofSeconds(30));
+  private ServiceCache merchandise =
+      new ServiceCache(Duration.ofMinutes(15), Duration.ofMinutes(10));
+  private ServiceCache price = new ServiceCache(Duration.ofMinutes(2), Duration.ofMinutes(1));
+  private ServiceCache inventory = new ServiceCache(Duration.ofSeconds(30), Duration.ofSeconds(5));
 
   public ServiceCache getMerchandise() {
     return merchandise;
@@ -34,8 +35,24 @@ public class CacheProperties {
     this.inventory = inventory;
   }
 
+  /**
+   * Caching policy for one backing service.
+   *
+   * <p>{@code ttl} is the hard TTL: how long Redis keeps an entry. {@code softTtl} is how long the
+   * entry is fresh; between the two it is served stale while being revalidated in the background.
+   * A null soft TTL equals the hard TTL (no stale window). {@code refreshAheadBeta} scales the
+   * probabilistic early refresh of fresh entries; 0 disables it. {@code notFoundTtl} and {@code
+   * fallbackTtl} keep negative entries for misses that returned 404 or fell back after an error;
+   * zero disables them. {@code loadTimeout} bounds a load shared by all callers of a key, which no
+   * single caller's deadline applies to.
+   */
   public static class ServiceCache {
     private Duration ttl;
+    private Duration softTtl;
+    private double refreshAheadBeta = 1.0;
+    private Duration notFoundTtl = Duration.ofMinutes(1);
+    private Duration fallbackTtl = Duration.ofSeconds(10);
+    private Duration loadTimeout = Duration.ofSeconds(5);
 
     public ServiceCache() {
       this.ttl = Duration.ofMinutes(5);
@@ -45,6 +62,11 @@ public class CacheProperties {
       this.ttl = ttl;
     }
 
+    public ServiceCache(Duration ttl, Duration softTtl) {
+      this.ttl = ttl;
+      this.softTtl = softTtl;
+    }
+
     public Duration getTtl() {
       return ttl;
     }
@@ -52,5 +74,45 @@ public class CacheProperties {
     public void setTtl(Duration ttl) {
       this.ttl = ttl;
     }
+
+    public Duration getSoftTtl() {
+      return softTtl;
+    }
+
+    public void setSoftTtl(Duration softTtl) {
+      this.softTtl = softTtl;
+    }
+
+    public double getRefreshAheadBeta() {
+      return refreshAheadBeta;
+    }
+
+    public void setRefreshAheadBeta(double refreshAheadBeta) {
+      this.refreshAheadBeta = refreshAheadBeta;
+    }
+
+    public Duration getNotFoundTtl() {
+      return notFoundTtl;
+    }
+
+    public void setNotFoundTtl(Duration notFoundTtl) {
+      this.notFoundTtl = notFoundTtl;
+    }
+
+    public Duration getFallbackTtl() {
+      return fallbackTtl;
+    }
+
+    public void setFallbackTtl(Duration fallbackTtl) {
+      this.fallbackTtl = fallbackTtl;
+    }
+
+    public Duration getLoadTimeout() {
+      return loadTimeout;
+    }
+
+    public void setLoadTimeout(Duration loadTimeout) {
+      this.loadTimeout = loadTimeout;
+    }
   }
 }
@@ -1,6 +1,7 @@
 package org.example.product.config;
 
 import org.example.platform.logging.WebClientLoggingFilter;
+import org.example.platform.webflux.client.ServiceWebClientFactory;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -10,9 +11,10 @@ import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
 
 /**
- * Configures WebClient beans for downstream service calls. Each WebClient includes: - OAuth2 filter
- * for automatic client credentials token injection (when enabled) - Logging filter for structured
- * request/response logging
+ * Configures WebClient beans for downstream service calls. Each WebClient includes: - its own
+ * connection pool from {@link ServiceWebClientFactory} - OAuth2 filter for automatic client
+ * credentials token injection (when enabled) - Logging filter for structured request/response
+ * logging
  */
 @Configuration
 public class ProductServiceConfig {
@@ -24,11 +26,12 @@ public class ProductServiceConfig {
   @Bean
   public WebClient merchandiseWebClient(
       @Value("${services.merchandise.base-url}") String baseUrl,
+      ServiceWebClientFactory webClientFactory,
       WebClientLoggingFilter loggingFilter,
       @Qualifier("oauth2Filter") ObjectProvider<ExchangeFilterFunction> oauth2FilterProvider) {
     ExchangeFilterFunction oauth2Filter = oauth2FilterProvider.getIfAvailable(() -> NO_OP_FILTER);
-    return WebClient.builder()
-        .baseUrl(baseUrl)
+    return webClientFactory
+        .builder("merchandise", baseUrl)
         .filter(oauth2Filter)
         .filter(loggingFilter.create("merchandiserepository"))
         .build();
@@ -37,11 +40,12 @@ public class ProductServiceConfig {
   @Bean
   public WebClient priceWebClient(
       @Value("${services.price.base-url}") String baseUrl,
+      ServiceWebClientFactory webClientFactory,
       WebClientLoggingFilter loggingFilter,
       @Qualifier("oauth2Filter") ObjectProvider<ExchangeFilterFunction> oauth2FilterProvider) {
     ExchangeFilterFunction oauth2Filter = oauth2FilterProvider.getIfAvailable(() -> NO_OP_FILTER);
-    return WebClient.builder()
-        .baseUrl(baseUrl)
+    return webClientFactory
+        .builder("price", baseUrl)
         .filter(oauth2Filter)
         .filter(loggingFilter.create("pricerepository"))
         .build();
@@ -50,11 +54,12 @@ public class ProductServiceConfig {
   @Bean
   public WebClient inventoryWebClient(
       @Value("${services.inventory.base-url}") String baseUrl,
+      ServiceWebClientFactory webClientFactory,
       WebClientLoggingFilter loggingFilter,
       @Qualifier("oauth2Filter") ObjectProvider<ExchangeFilterFunction> oauth2FilterProvider) {
     ExchangeFilterFunction oauth2Filter = oauth2FilterProvider.getIfAvailable(() -> NO_OP_FILTER);
-    return WebClient.builder()
-        .baseUrl(baseUrl)
+    return webClientFactory
+        .builder("inventory", baseUrl)
         .filter(oauth2Filter)
         .filter(loggingFilter.create("inventoryrepository"))
         .build();
@@ -63,11 +68,12 @@ public class ProductServiceConfig {
   @Bean
   public WebClient catalogWebClient(
       @Value("${services.catalog.base-url}") String baseUrl,
+      ServiceWebClientFactory webClientFactory,
       WebClientLoggingFilter loggingFilter,
       @Qualifier("oauth2Filter") ObjectProvider<ExchangeFilterFunction> oauth2FilterProvider) {
     ExchangeFilterFunction oauth2Filter = oauth2FilterProvider.getIfAvailable(() -> NO_OP_FILTER);
-    return WebClient.builder()
-        .baseUrl(baseUrl)
+    return webClientFactory
+        .builder("catalog", baseUrl)
         .filter(oauth2Filter)
         .filter(loggingFilter.create("catalogserviceclient"))
         .build();
@@ -9,6 +9,12 @@ public class SearchCacheProperties {
   private Duration searchTtl = Duration.ofMinutes(5);
   private Duration suggestionsTtl = Duration.ofHours(1);
 
+  /** TTL of the per-SKU documents search pages are hydrated from; keep above the search TTL. */
+  private Duration documentTtl = Duration.ofMinutes(10);
+
+  /** On a hit, load the previous and next pages in the background if they are not cached. */
+  private boolean prefetchAdjacent = true;
+
   public Duration getSearchTtl() {
     return searchTtl;
   }
@@ -24,4 +30,20 @@ public class SearchCacheProperties {
   public void setSuggestionsTtl(Duration suggestionsTtl) {
     this.suggestionsTtl = suggestionsTtl;
   }
+
+  public Duration getDocumentTtl() {
+    return documentTtl;
+  }
+
+  public void setDocumentTtl(Duration documentTtl) {
+    this.documentTtl = documentTtl;
+  }
+
+  public boolean isPrefetchAdjacent() {
+    return prefetchAdjacent;
+  }
+
+  public void setPrefetchAdjacent(boolean prefetchAdjacent) {
+    this.prefetchAdjacent = prefetchAdjacent;
+  }
 }
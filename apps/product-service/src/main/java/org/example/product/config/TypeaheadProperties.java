@@ -0,0 +1,53 @@
+package org.example.product.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/** Local typeahead index serving search suggestions without a catalog call. */
+@ConfigurationProperties(prefix = "product.typeahead")
+public class TypeaheadProperties {
+
+  /** Build the index at startup; when false, suggestions always come from the catalog. */
+  private boolean enabled = true;
+
+  /** Interval between polls for products updated since the last poll. */
+  private Duration refreshInterval = Duration.ofMinutes(1);
+
+  /** Interval between full rebuilds, which also drop deleted and renamed products. */
+  private Duration rebuildInterval = Duration.ofHours(6);
+
+  /** Incremental additions held beside the index before they are merged into it. */
+  private int maxPendingAdditions = 10_000;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public Duration getRefreshInterval() {
+    return refreshInterval;
+  }
+
+  public void setRefreshInterval(Duration refreshInterval) {
+    this.refreshInterval = refreshInterval;
+  }
+
+  public Duration getRebuildInterval() {
+    return rebuildInterval;
+  }
+
+  public void setRebuildInterval(Duration rebuildInterval) {
+    this.rebuildInterval = rebuildInterval;
+  }
+
+  public int getMaxPendingAdditions() {
+    return maxPendingAdditions;
+  }
+
+  public void setMaxPendingAdditions(int maxPendingAdditions) {
+    this.maxPendingAdditions = maxPendingAdditions;
+  }
+}
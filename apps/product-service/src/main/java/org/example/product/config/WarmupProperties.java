@@ -0,0 +1,99 @@
+package org.example.product.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/** Startup warm-up that preloads hot SKUs before the pod reports ready. */
+@ConfigurationProperties(prefix = "product.warmup")
+public class WarmupProperties {
+
+  /** Run the warm-up; when false, readiness does not wait for it. */
+  private boolean enabled = true;
+
+  /** SKUs always warmed, ahead of those taken from access stats. */
+  private List<Long> skus = new ArrayList<>();
+
+  /** Most-requested SKUs of the last two hours to warm, from the shared access stats. */
+  private int topSkus = 200;
+
+  /** Products assembled in parallel during warm-up. */
+  private int concurrency = 16;
+
+  /** Passes over the SKU list: the first loads caches and connections, later ones hit caches. */
+  private int passes = 2;
+
+  /** Readiness reports ready once this has passed, even if warm-up has not finished. */
+  private Duration deadline = Duration.ofSeconds(45);
+
+  /** Record which SKUs are requested, for the warm-up of the next pods. */
+  private boolean trackAccess = true;
+
+  /** Interval between flushes of locally counted accesses to Redis. */
+  private Duration accessFlushInterval = Duration.ofMinutes(1);
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public List<Long> getSkus() {
+    return skus;
+  }
+
+  public void setSkus(List<Long> skus) {
+    this.skus = skus;
+  }
+
+  public int getTopSkus() {
+    return topSkus;
+  }
+
+  public void setTopSkus(int topSkus) {
+    this.topSkus = topSkus;
+  }
+
+  public int getConcurrency() {
+    return concurrency;
+  }
+
+  public void setConcurrency(int concurrency) {
+    this.concurrency = concurrency;
+  }
+
+  public int getPasses() {
+    return passes;
+  }
+
+  public void setPasses(int passes) {
+    this.passes = passes;
+  }
+
+  public Duration getDeadline() {
+    return deadline;
+  }
+
+  public void setDeadline(Duration deadline) {
+    this.deadline = deadline;
+  }
+
+  public boolean isTrackAccess() {
+    return trackAccess;
+  }
+
+  public void setTrackAccess(boolean trackAccess) {
+    this.trackAccess = trackAccess;
+  }
+
+  public Duration getAccessFlushInterval() {
+    return accessFlushInterval;
+  }
+
+  public void setAccessFlushInterval(Duration accessFlushInterval) {
+    this.accessFlushInterval = accessFlushInterval;
+  }
+}
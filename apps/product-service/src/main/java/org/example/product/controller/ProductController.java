@@ -1,15 +1,14 @@
 package org.example.product.controller;
 
+import java.util.Map;
 import org.example.model.product.Product;
 import org.example.platform.logging.RequestLogData;
 import org.example.platform.logging.ResponseLogData;
 import org.example.platform.logging.StructuredLogger;
-import org.example.platform.webflux.context.ContextKeys;
 import org.example.platform.webflux.context.RequestMetadata;
-import org.example.platform.webflux.context.RequestMetadataExtractor;
 import org.example.product.service.ProductService;
 import org.example.product.validation.ProductRequestValidator;
-import org.springframework.http.HttpHeaders;
+import org.example.product.warmup.SkuAccessTracker;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -25,25 +24,26 @@ public class ProductController {
   private final ProductService productService;
   private final StructuredLogger structuredLogger;
   private final ProductRequestValidator requestValidator;
+  private final SkuAccessTracker accessTracker;
 
   public ProductController(
       ProductService productService,
       StructuredLogger structuredLogger,
-      ProductRequestValidator requestValidator) {
+      ProductRequestValidator requestValidator,
+      SkuAccessTracker accessTracker) {
     this.productService = productService;
     this.structuredLogger = structuredLogger;
     this.requestValidator = requestValidator;
+    this.accessTracker = accessTracker;
   }
 
   @GetMapping("/{sku}")
   @PreAuthorize("hasAuthority('SCOPE_product:read')")
   public Mono<Product> getProduct(
       @PathVariable long sku,
-      @RequestHeader HttpHeaders headers,
+      RequestMetadata metadata,
       @AuthenticationPrincipal Jwt jwt,
       ServerHttpRequest request) {
-    RequestMetadata metadata = RequestMetadataExtractor.fromHeaders(headers);
-
     return requestValidator
         .validateProductRequest(
             sku,
@@ -63,22 +63,24 @@ public class ProductController {
                           request.getMethod().name(),
                           subject);
                   structuredLogger.logRequest(ctx, LOGGER_NAME, requestData);
+                  // Counted here, not in the service, so warm-up calls do not feed the stats
+                  accessTracker.record(sku);
 
                   return productService
                       .getProduct(sku)
                       .doOnSuccess(
                           product -> {
-                            // Log outbound response
+                            // Log outbound response; the SKU and degraded sources, not the body,
+                            // keep serialization off the event loop small
                             ResponseLogData responseData =
                                 new ResponseLogData(
                                     "/products/{sku}",
                                     request.getURI().getPath(),
                                     request.getMethod().name(),
                                     200,
-                                    product);
+                                    Map.of("sku", product.sku(), "degraded", product.degraded()));
                             structuredLogger.logResponse(ctx, LOGGER_NAME, responseData);
                           });
-                }))
-        .contextWrite(ContextKeys.fromHeaders(headers));
+                }));
   }
 }
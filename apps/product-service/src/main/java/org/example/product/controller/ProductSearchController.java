@@ -6,20 +6,17 @@ import java.util.Optional;
 import org.example.platform.logging.RequestLogData;
 import org.example.platform.logging.ResponseLogData;
 import org.example.platform.logging.StructuredLogger;
-import org.example.platform.webflux.context.ContextKeys;
 import org.example.product.domain.SearchCriteria;
 import org.example.product.domain.SearchProduct;
 import org.example.product.domain.SearchResponse;
 import org.example.product.domain.SortDirection;
 import org.example.product.service.ProductSearchService;
 import org.example.product.validation.SearchRequestValidator;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -59,7 +56,6 @@ public class ProductSearchController {
       @RequestParam(defaultValue = "DESC") String sortDirection,
       @RequestParam(defaultValue = "0") int page,
       @RequestParam(defaultValue = "20") int size,
-      @RequestHeader HttpHeaders headers,
       @AuthenticationPrincipal Jwt jwt,
       ServerHttpRequest request) {
 
@@ -105,8 +101,7 @@ public class ProductSearchController {
                                     response);
                             structuredLogger.logResponse(ctx, LOGGER_NAME, responseData);
                           });
-                }))
-        .contextWrite(ContextKeys.fromHeaders(headers));
+                }));
   }
 
   @GetMapping("/suggestions")
@@ -114,36 +109,34 @@ public class ProductSearchController {
   public Mono<List<String>> getSuggestions(
       @RequestParam String prefix,
       @RequestParam(defaultValue = "10") int limit,
-      @RequestHeader HttpHeaders headers,
       @AuthenticationPrincipal Jwt jwt,
       ServerHttpRequest request) {
 
     return Mono.deferContextual(
-            ctx -> {
-              String subject = jwt != null ? jwt.getSubject() : "unknown";
-              RequestLogData requestData =
-                  new RequestLogData(
-                      "/products/search/suggestions",
-                      request.getURI().getPath(),
-                      request.getMethod().name(),
-                      subject);
-              structuredLogger.logRequest(ctx, LOGGER_NAME, requestData);
+        ctx -> {
+          String subject = jwt != null ? jwt.getSubject() : "unknown";
+          RequestLogData requestData =
+              new RequestLogData(
+                  "/products/search/suggestions",
+                  request.getURI().getPath(),
+                  request.getMethod().name(),
+                  subject);
+          structuredLogger.logRequest(ctx, LOGGER_NAME, requestData);
 
-              return searchService
-                  .getSuggestions(prefix, Math.min(limit, 20))
-                  .doOnSuccess(
-                      suggestions -> {
-                        ResponseLogData responseData =
-                            new ResponseLogData(
-                                "/products/search/suggestions",
-                                request.getURI().getPath(),
-                                request.getMethod().name(),
-                                200,
-                                suggestions);
-                        structuredLogger.logResponse(ctx, LOGGER_NAME, responseData);
-                      });
-            })
-        .contextWrite(ContextKeys.fromHeaders(headers));
+          return searchService
+              .getSuggestions(prefix, Math.min(limit, 20))
+              .doOnSuccess(
+                  suggestions -> {
+                    ResponseLogData responseData =
+                        new ResponseLogData(
+                            "/products/search/suggestions",
+                            request.getURI().getPath(),
+                            request.getMethod().name(),
+                            200,
+                            suggestions);
+                    structuredLogger.logResponse(ctx, LOGGER_NAME, responseData);
+                  });
+        });
   }
 
   private SortDirection parseSortDirection(String direction) {
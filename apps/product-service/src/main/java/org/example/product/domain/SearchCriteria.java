@@ -27,4 +27,21 @@ public record SearchCriteria(
     if (sortBy == null || sortBy.isBlank()) sortBy = DEFAULT_SORT;
     if (sortDirection == null) sortDirection = SortDirection.DESC;
   }
+
+  /** The same search, for another page. */
+  public SearchCriteria withPage(int page) {
+    return new SearchCriteria(
+        query,
+        minPrice,
+        maxPrice,
+        minAvailability,
+        inStockOnly,
+        category,
+        customerZipCode,
+        sellingLocation,
+        sortBy,
+        sortDirection,
+        page,
+        size);
+  }
 }
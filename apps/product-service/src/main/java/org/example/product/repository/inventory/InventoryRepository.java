@@ -1,9 +1,10 @@
 package org.example.product.repository.inventory;
 
 import org.example.platform.cache.CacheKeyGenerator;
-import org.example.platform.cache.ReactiveCacheService;
 import org.example.platform.logging.StructuredLogger;
 import org.example.platform.resilience.ReactiveResilience;
+import org.example.product.cache.CachePolicy;
+import org.example.product.cache.CachePolicyFactory;
 import org.example.product.config.CacheProperties;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -14,33 +15,43 @@ public class InventoryRepository {
   private static final String RESILIENCE_NAME = "inventory";
   private static final String LOGGER_NAME = "inventoryrepository";
 
-  // -1 indicates backordered status (cache miss after error)
-  private static final InventoryResponse BACKORDERED_FALLBACK = new InventoryResponse(-1);
+  /**
+   * Returned when availability cannot be loaded; -1 indicates backordered status. Callers compare
+   * by identity.
+   */
+  public static final InventoryResponse BACKORDERED_FALLBACK = new InventoryResponse(-1);
 
   private final WebClient inventoryWebClient;
   private final ReactiveResilience resilience;
   private final StructuredLogger structuredLogger;
-  private final ReactiveCacheService cacheService;
-  private final CacheProperties cacheProperties;
+  private final CachePolicy<InventoryResponse> cachePolicy;
 
   public InventoryRepository(
       WebClient inventoryWebClient,
       ReactiveResilience resilience,
       StructuredLogger structuredLogger,
-      ReactiveCacheService cacheService,
+      CachePolicyFactory cachePolicyFactory,
       CacheProperties cacheProperties) {
     this.inventoryWebClient = inventoryWebClient;
     this.resilience = resilience;
     this.structuredLogger = structuredLogger;
-    this.cacheService = cacheService;
-    this.cacheProperties = cacheProperties;
+    this.cachePolicy =
+        cachePolicyFactory.create(
+            RESILIENCE_NAME,
+            InventoryResponse.class,
+            cacheProperties.getInventory(),
+            BACKORDERED_FALLBACK);
   }
 
   public Mono<InventoryResponse> getAvailability(long sku) {
-    String cacheKey = CacheKeyGenerator.inventoryKey(sku);
+    // Stale-while-revalidate with a short soft TTL: stale entries are served while the refresh
+    // runs and stay in place if it fails, so the cache still covers inventory-service outages
+    return cachePolicy
+        .get(CacheKeyGenerator.inventoryKey(sku), () -> fetch(sku))
+        .onErrorResume(t -> handleError(t, sku));
+  }
 
-    // Fallback-Only Pattern: Always call HTTP first (resilience includes retry)
-    // Use cache only on errors after retry exhaustion
+  private Mono<InventoryResponse> fetch(long sku) {
     Mono<InventoryResponse> call =
         inventoryWebClient
             .get()
@@ -48,45 +59,23 @@ public class InventoryRepository {
             .retrieve()
             .bodyToMono(InventoryResponse.class);
 
-    return resilience
-        .decorate(RESILIENCE_NAME, call)
-        .flatMap(response -> cacheAndReturn(cacheKey, response))
-        .onErrorResume(t -> handleErrorWithCacheFallback(t, sku, cacheKey));
-  }
-
-  private Mono<InventoryResponse> cacheAndReturn(String cacheKey, InventoryResponse response) {
-    // Update cache with fresh data on successful response
-    return cacheService
-        .put(cacheKey, response, cacheProperties.getInventory().getTtl())
-        .thenReturn(response);
+    return resilience.decorate(RESILIENCE_NAME, call);
   }
 
-  private Mono<InventoryResponse> handleErrorWithCacheFallback(
-      Throwable t, long sku, String cacheKey) {
+  private Mono<InventoryResponse> handleError(Throwable t, long sku) {
     return Mono.deferContextual(
         ctx -> {
           String cbState = resilience.getCircuitBreakerState(RESILIENCE_NAME).name();
           structuredLogger.logError(ctx, LOGGER_NAME, RESILIENCE_NAME, t, cbState);
 
-          // After retry exhaustion, try cache for ALL error types
-          return cacheService
-              .get(cacheKey, InventoryResponse.class)
-              .doOnNext(
-                  cached ->
-                      structuredLogger.logMessage(
-                          ctx, LOGGER_NAME, "Using cached inventory fallback for sku: " + sku))
-              .switchIfEmpty(
-                  Mono.defer(
-                      () -> {
-                        // Cache miss after error = backordered (-1)
-                        structuredLogger.logMessage(
-                            ctx,
-                            LOGGER_NAME,
-                            "No cached inventory available, marking as"
-                                + " backordered for sku: "
-                                + sku);
-                        return Mono.just(BACKORDERED_FALLBACK);
-                      }));
+          // Load failed on a cache miss, so there is nothing to fall back to: backordered (-1).
+          // The policy keeps a short negative entry, so the next lookups skip the HTTP call.
+          structuredLogger.logMessage(
+              ctx,
+              LOGGER_NAME,
+              "No cached inventory available, marking as backordered for sku: {}",
+              sku);
+          return Mono.just(BACKORDERED_FALLBACK);
         });
   }
 }
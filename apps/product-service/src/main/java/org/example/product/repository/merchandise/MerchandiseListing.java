@@ -0,0 +1,6 @@
+package org.example.product.repository.merchandise;
+
+import java.time.Instant;
+
+/** One product from the merchandise catalog export, reduced to what the typeahead index uses. */
+public record MerchandiseListing(long sku, String name, String category, Instant updatedAt) {}
@@ -1,19 +1,28 @@
 package org.example.product.repository.merchandise;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
 import org.example.platform.cache.CacheKeyGenerator;
-import org.example.platform.cache.ReactiveCacheService;
 import org.example.platform.logging.StructuredLogger;
 import org.example.platform.resilience.ReactiveResilience;
+import org.example.product.cache.CachePolicy;
+import org.example.product.cache.CachePolicyFactory;
 import org.example.product.config.CacheProperties;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
 @Repository
 public class MerchandiseRepository {
   private static final String RESILIENCE_NAME = "merchandise";
   private static final String LOGGER_NAME = "merchandiserepository";
-  private static final MerchandiseResponse FALLBACK =
+  private static final int LIST_RETRIES = 3;
+  /** Returned when merchandise cannot be loaded; callers compare by identity. */
+  public static final MerchandiseResponse FALLBACK =
       new MerchandiseResponse(
           "Unknown Product",
           "Description unavailable",
@@ -23,32 +32,63 @@ public class MerchandiseRepository {
   private final WebClient merchandiseWebClient;
   private final ReactiveResilience resilience;
   private final StructuredLogger structuredLogger;
-  private final ReactiveCacheService cacheService;
-  private final CacheProperties cacheProperties;
+  private final CachePolicy<MerchandiseResponse> cachePolicy;
 
   public MerchandiseRepository(
       WebClient merchandiseWebClient,
       ReactiveResilience resilience,
       StructuredLogger structuredLogger,
-      ReactiveCacheService cacheService,
+      CachePolicyFactory cachePolicyFactory,
       CacheProperties cacheProperties) {
     this.merchandiseWebClient = merchandiseWebClient;
     this.resilience = resilience;
     this.structuredLogger = structuredLogger;
-    this.cacheService = cacheService;
-    this.cacheProperties = cacheProperties;
+    this.cachePolicy =
+        cachePolicyFactory.create(
+            RESILIENCE_NAME, MerchandiseResponse.class, cacheProperties.getMerchandise(), FALLBACK);
   }
 
   public Mono<MerchandiseResponse> getMerchandise(long sku) {
-    String cacheKey = CacheKeyGenerator.merchandiseKey(sku);
+    // Stale-while-revalidate: the policy serves cached entries and loads misses once per key
+    return cachePolicy
+        .get(CacheKeyGenerator.merchandiseKey(sku), () -> fetch(sku))
+        .onErrorResume(this::handleError);
+  }
+
+  /**
+   * Stream the merchandise catalog export in SKU order.
+   *
+   * <p>Not decorated with the "merchandise" resilience instance: a bulk stream should neither trip
+   * the circuit breaker that protects product requests nor be cut short by its time limiter. A
+   * broken stream is retried with backoff instead, resuming after the last SKU received.
+   *
+   * @param updatedSince if non-null, list only products updated after this instant
+   * @return the products in ascending SKU order
+   */
+  public Flux<MerchandiseListing> listProducts(Instant updatedSince) {
+    AtomicLong lastSku = new AtomicLong();
+    return Flux.defer(() -> export(lastSku.get(), updatedSince))
+        .doOnNext(product -> lastSku.set(product.sku()))
+        .retryWhen(Retry.backoff(LIST_RETRIES, Duration.ofMillis(200)));
+  }
 
-    // Cache-Aside Pattern: Check cache first
-    return cacheService
-        .get(cacheKey, MerchandiseResponse.class)
-        .switchIfEmpty(Mono.defer(() -> fetchAndCache(sku, cacheKey)));
+  private Flux<MerchandiseListing> export(long afterSku, Instant updatedSince) {
+    return merchandiseWebClient
+        .get()
+        .uri(
+            builder -> {
+              builder.path("/merchandise/export").queryParam("afterSku", afterSku);
+              if (updatedSince != null) {
+                builder.queryParam("updatedSince", updatedSince);
+              }
+              return builder.build();
+            })
+        .accept(MediaType.APPLICATION_NDJSON)
+        .retrieve()
+        .bodyToFlux(MerchandiseListing.class);
   }
 
-  private Mono<MerchandiseResponse> fetchAndCache(long sku, String cacheKey) {
+  private Mono<MerchandiseResponse> fetch(long sku) {
     Mono<MerchandiseResponse> call =
         merchandiseWebClient
             .get()
@@ -56,16 +96,7 @@ public class MerchandiseRepository {
             .retrieve()
             .bodyToMono(MerchandiseResponse.class);
 
-    return resilience
-        .decorate(RESILIENCE_NAME, call)
-        .flatMap(response -> cacheAndReturn(cacheKey, response))
-        .onErrorResume(this::handleError);
-  }
-
-  private Mono<MerchandiseResponse> cacheAndReturn(String cacheKey, MerchandiseResponse response) {
-    return cacheService
-        .put(cacheKey, response, cacheProperties.getMerchandise().getTtl())
-        .thenReturn(response);
+    return resilience.decorate(RESILIENCE_NAME, call);
   }
 
   private Mono<MerchandiseResponse> handleError(Throwable t) {
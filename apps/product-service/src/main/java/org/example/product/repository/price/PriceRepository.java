@@ -2,9 +2,10 @@ package org.example.product.repository.price;
 
 import java.math.BigDecimal;
 import org.example.platform.cache.CacheKeyGenerator;
-import org.example.platform.cache.ReactiveCacheService;
 import org.example.platform.logging.StructuredLogger;
 import org.example.platform.resilience.ReactiveResilience;
+import org.example.product.cache.CachePolicy;
+import org.example.product.cache.CachePolicyFactory;
 import org.example.product.config.CacheProperties;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -14,51 +15,41 @@ import reactor.core.publisher.Mono;
 public class PriceRepository {
   private static final String RESILIENCE_NAME = "price";
   private static final String LOGGER_NAME = "pricerepository";
-  private static final PriceResponse FALLBACK =
+  /** Returned when the price cannot be loaded; callers compare by identity. */
+  public static final PriceResponse FALLBACK =
       new PriceResponse(new BigDecimal("0.00"), null, "USD");
 
   private final WebClient priceWebClient;
   private final ReactiveResilience resilience;
   private final StructuredLogger structuredLogger;
-  private final ReactiveCacheService cacheService;
-  private final CacheProperties cacheProperties;
+  private final CachePolicy<PriceResponse> cachePolicy;
 
   public PriceRepository(
       WebClient priceWebClient,
       ReactiveResilience resilience,
       StructuredLogger structuredLogger,
-      ReactiveCacheService cacheService,
+      CachePolicyFactory cachePolicyFactory,
       CacheProperties cacheProperties) {
     this.priceWebClient = priceWebClient;
     this.resilience = resilience;
     this.structuredLogger = structuredLogger;
-    this.cacheService = cacheService;
-    this.cacheProperties = cacheProperties;
+    this.cachePolicy =
+        cachePolicyFactory.create(
+            RESILIENCE_NAME, PriceResponse.class, cacheProperties.getPrice(), FALLBACK);
   }
 
   public Mono<PriceResponse> getPrice(long sku) {
-    String cacheKey = CacheKeyGenerator.priceKey(sku);
-
-    // Cache-Aside Pattern: Check cache first
-    return cacheService
-        .get(cacheKey, PriceResponse.class)
-        .switchIfEmpty(Mono.defer(() -> fetchAndCache(sku, cacheKey)));
+    // Stale-while-revalidate: the policy serves cached entries and loads misses once per key
+    return cachePolicy
+        .get(CacheKeyGenerator.priceKey(sku), () -> fetch(sku))
+        .onErrorResume(this::handleError);
   }
 
-  private Mono<PriceResponse> fetchAndCache(long sku, String cacheKey) {
+  private Mono<PriceResponse> fetch(long sku) {
     Mono<PriceResponse> call =
         priceWebClient.get().uri("/price/{sku}", sku).retrieve().bodyToMono(PriceResponse.class);
 
-    return resilience
-        .decorate(RESILIENCE_NAME, call)
-        .flatMap(response -> cacheAndReturn(cacheKey, response))
-        .onErrorResume(this::handleError);
-  }
-
-  private Mono<PriceResponse> cacheAndReturn(String cacheKey, PriceResponse response) {
-    return cacheService
-        .put(cacheKey, response, cacheProperties.getPrice().getTtl())
-        .thenReturn(response);
+    return resilience.decorate(RESILIENCE_NAME, call);
   }
 
   private Mono<PriceResponse> handleError(Throwable t) {
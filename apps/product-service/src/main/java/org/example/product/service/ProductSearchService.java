@@ -1,15 +1,21 @@
 package org.example.product.service;
 
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.example.platform.cache.ReactiveCacheService;
 import org.example.platform.logging.StructuredLogger;
+import org.example.product.cache.SearchCacheKey;
+import org.example.product.cache.SearchResultCache;
 import org.example.product.config.SearchCacheProperties;
 import org.example.product.domain.SearchCriteria;
 import org.example.product.domain.SearchProduct;
 import org.example.product.domain.SearchResponse;
 import org.example.product.repository.catalog.CatalogSearchRepository;
+import org.example.product.typeahead.TypeaheadIndex;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
 
 @Service
 public class ProductSearchService {
@@ -18,31 +24,52 @@ public class ProductSearchService {
 
   private final CatalogSearchRepository catalogSearchRepository;
   private final ReactiveCacheService cacheService;
+  private final SearchResultCache searchResultCache;
   private final SearchCacheProperties cacheProperties;
+  private final TypeaheadIndex typeaheadIndex;
   private final StructuredLogger structuredLogger;
+  private final Set<String> prefetching = ConcurrentHashMap.newKeySet();
 
   public ProductSearchService(
       CatalogSearchRepository catalogSearchRepository,
       ReactiveCacheService cacheService,
+      SearchResultCache searchResultCache,
       SearchCacheProperties cacheProperties,
+      TypeaheadIndex typeaheadIndex,
       StructuredLogger structuredLogger) {
     this.catalogSearchRepository = catalogSearchRepository;
     this.cacheService = cacheService;
+    this.searchResultCache = searchResultCache;
     this.cacheProperties = cacheProperties;
+    this.typeaheadIndex = typeaheadIndex;
     this.structuredLogger = structuredLogger;
   }
 
-  @SuppressWarnings("unchecked")
   public Mono<SearchResponse<SearchProduct>> search(SearchCriteria criteria) {
-    String cacheKey = buildSearchCacheKey(criteria);
-    return cacheService
-        .get(cacheKey, SearchResponse.class)
-        .map(response -> (SearchResponse<SearchProduct>) response)
-        .switchIfEmpty(Mono.defer(() -> fetchAndCacheSearch(criteria, cacheKey)));
+    return Mono.deferContextual(
+        ctx ->
+            searchResultCache
+                .get(criteria)
+                .doOnNext(response -> prefetchAdjacent(criteria, response, ctx))
+                .switchIfEmpty(Mono.defer(() -> fetchAndCacheSearch(criteria))));
   }
 
-  @SuppressWarnings("unchecked")
+  /**
+   * Suggestions for a prefix from the local typeahead index. Until the index is built, or if it
+   * has nothing for the prefix, the catalog service answers, cached in Redis.
+   */
   public Mono<List<String>> getSuggestions(String prefix, int limit) {
+    if (typeaheadIndex.isReady()) {
+      List<String> suggestions = typeaheadIndex.suggest(prefix, limit);
+      if (!suggestions.isEmpty()) {
+        return Mono.just(suggestions);
+      }
+    }
+    return getCatalogSuggestions(prefix, limit);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Mono<List<String>> getCatalogSuggestions(String prefix, int limit) {
     String cacheKey = "suggestions:" + prefix.toLowerCase().trim() + ":limit:" + limit;
     return cacheService
         .get(cacheKey, List.class)
@@ -50,28 +77,52 @@ public class ProductSearchService {
         .switchIfEmpty(Mono.defer(() -> fetchAndCacheSuggestions(prefix, limit, cacheKey)));
   }
 
-  private Mono<SearchResponse<SearchProduct>> fetchAndCacheSearch(
-      SearchCriteria criteria, String cacheKey) {
+  private Mono<SearchResponse<SearchProduct>> fetchAndCacheSearch(SearchCriteria criteria) {
     return Mono.deferContextual(
         ctx -> {
           structuredLogger.logMessage(
-              ctx, LOGGER_NAME, "Starting product search for query: " + criteria.query());
+              ctx, LOGGER_NAME, "Starting product search for query: {}", criteria.query());
           return catalogSearchRepository
               .search(criteria)
               .flatMap(
-                  response ->
-                      cacheService
-                          .put(cacheKey, response, cacheProperties.getSearchTtl())
-                          .thenReturn(response))
+                  response -> searchResultCache.put(criteria, response).thenReturn(response))
               .doOnSuccess(
                   response ->
                       structuredLogger.logMessage(
-                          ctx,
-                          LOGGER_NAME,
-                          "Search completed with " + response.total() + " results"));
+                          ctx, LOGGER_NAME, "Search completed with {} results", response.total()));
         });
   }
 
+  /** Warm the neighbouring pages of a cached search, so paging through results stays cached. */
+  private void prefetchAdjacent(
+      SearchCriteria criteria, SearchResponse<SearchProduct> response, ContextView ctx) {
+    if (!cacheProperties.isPrefetchAdjacent()) {
+      return;
+    }
+    if (response.hasPrevious()) {
+      prefetch(criteria.withPage(criteria.page() - 1), ctx);
+    }
+    if (response.hasNext()) {
+      prefetch(criteria.withPage(criteria.page() + 1), ctx);
+    }
+  }
+
+  private void prefetch(SearchCriteria criteria, ContextView ctx) {
+    String key = SearchCacheKey.page(criteria);
+    if (!prefetching.add(key)) {
+      return;
+    }
+    searchResultCache
+        .contains(criteria)
+        .filter(cached -> !cached)
+        .flatMap(missing -> catalogSearchRepository.search(criteria))
+        .flatMap(response -> searchResultCache.put(criteria, response))
+        .doFinally(signal -> prefetching.remove(key))
+        .contextWrite(ctx)
+        // The repository logs failures; a failed prefetch leaves the page to be loaded on demand
+        .subscribe(done -> {}, error -> {});
+  }
+
   private Mono<List<String>> fetchAndCacheSuggestions(String prefix, int limit, String cacheKey) {
     return catalogSearchRepository
         .getSuggestions(prefix, limit)
@@ -81,18 +132,4 @@ public class ProductSearchService {
                     .put(cacheKey, suggestions, cacheProperties.getSuggestionsTtl())
                     .thenReturn(suggestions));
   }
-
-  private String buildSearchCacheKey(SearchCriteria c) {
-    StringBuilder key = new StringBuilder("search:").append(c.query().toLowerCase().trim());
-    c.minPrice().ifPresent(p -> key.append(":minP:").append(p));
-    c.maxPrice().ifPresent(p -> key.append(":maxP:").append(p));
-    c.minAvailability().ifPresent(a -> key.append(":minA:").append(a));
-    c.inStockOnly().ifPresent(s -> key.append(":stock:").append(s));
-    c.category().ifPresent(cat -> key.append(":cat:").append(cat.toLowerCase()));
-    c.customerZipCode().ifPresent(z -> key.append(":zip:").append(z));
-    c.sellingLocation().ifPresent(l -> key.append(":loc:").append(l.toUpperCase()));
-    key.append(":sort:").append(c.sortBy()).append(":").append(c.sortDirection());
-    key.append(":page:").append(c.page()).append(":size:").append(c.size());
-    return key.toString();
-  }
 }
@@ -1,47 +1,107 @@
 package org.example.product.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
 import org.example.model.product.Product;
 import org.example.platform.logging.StructuredLogger;
+import org.example.platform.resilience.Deadline;
+import org.example.platform.webflux.metrics.StageTimer;
+import org.example.product.config.AssemblyProperties;
 import org.example.product.repository.inventory.InventoryRepository;
 import org.example.product.repository.merchandise.MerchandiseRepository;
 import org.example.product.repository.price.PriceRepository;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
+/**
+ * Assembles a Product from merchandise, price and inventory within a request deadline.
+ *
+ * <p>The deadline is taken from the Reactor context, or started here from {@code
+ * product.assembly.budget}, and written back to the context for the repositories. The three legs
+ * run in parallel and each is bounded by the remaining budget minus headroom, so one slow
+ * dependency cannot hold the response past the deadline. A leg that runs out of budget or returns
+ * its repository fallback is listed in {@link Product#degraded()} instead of failing the request.
+ *
+ * <p>Assembly latency is published as the {@code total} stage of {@code product.getProduct} and
+ * each leg as {@code product.assembly.leg.duration}, both as histograms with trace exemplars.
+ */
 @Service
 public class ProductService {
   private static final String LOGGER_NAME = "productservice";
+  private static final String MERCHANDISE = "merchandise";
+  private static final String PRICE = "price";
+  private static final String INVENTORY = "inventory";
 
   private final MerchandiseRepository merchandiseRepository;
   private final PriceRepository priceRepository;
   private final InventoryRepository inventoryRepository;
   private final StructuredLogger structuredLogger;
+  private final AssemblyProperties assemblyProperties;
+  private final LegTimers merchandiseTimers;
+  private final LegTimers priceTimers;
+  private final LegTimers inventoryTimers;
+  private final StageTimer stageTimer;
 
   public ProductService(
       MerchandiseRepository merchandiseRepository,
       PriceRepository priceRepository,
       InventoryRepository inventoryRepository,
-      StructuredLogger structuredLogger) {
+      StructuredLogger structuredLogger,
+      AssemblyProperties assemblyProperties,
+      MeterRegistry meterRegistry) {
     this.merchandiseRepository = merchandiseRepository;
     this.priceRepository = priceRepository;
     this.inventoryRepository = inventoryRepository;
     this.structuredLogger = structuredLogger;
+    this.assemblyProperties = assemblyProperties;
+    this.merchandiseTimers = LegTimers.register(meterRegistry, MERCHANDISE);
+    this.priceTimers = LegTimers.register(meterRegistry, PRICE);
+    this.inventoryTimers = LegTimers.register(meterRegistry, INVENTORY);
+    this.stageTimer = new StageTimer(meterRegistry, "product.getProduct");
   }
 
   public Mono<Product> getProduct(long sku) {
+    return stageTimer.time(StageTimer.TOTAL, assemble(sku));
+  }
+
+  private Mono<Product> assemble(long sku) {
     return Mono.deferContextual(
         ctx -> {
-          structuredLogger.logMessage(ctx, LOGGER_NAME, "Starting product fetch for sku: " + sku);
+          Deadline deadline =
+              Deadline.from(ctx).orElseGet(() -> Deadline.after(assemblyProperties.getBudget()));
+          structuredLogger.logMessage(ctx, LOGGER_NAME, "Starting product fetch for sku: {}", sku);
 
           return Mono.zip(
-                  merchandiseRepository.getMerchandise(sku),
-                  priceRepository.getPrice(sku),
-                  inventoryRepository.getAvailability(sku))
+                  leg(
+                      merchandiseTimers,
+                      merchandiseRepository.getMerchandise(sku),
+                      MerchandiseRepository.FALLBACK,
+                      deadline),
+                  leg(
+                      priceTimers,
+                      priceRepository.getPrice(sku),
+                      PriceRepository.FALLBACK,
+                      deadline),
+                  leg(
+                      inventoryTimers,
+                      inventoryRepository.getAvailability(sku),
+                      InventoryRepository.BACKORDERED_FALLBACK,
+                      deadline))
               .map(
                   tuple -> {
-                    var merch = tuple.getT1();
-                    var pricing = tuple.getT2();
-                    var inv = tuple.getT3();
+                    var merch = tuple.getT1().value();
+                    var pricing = tuple.getT2().value();
+                    var inv = tuple.getT3().value();
+                    List<String> degraded =
+                        Stream.<Leg<?>>of(tuple.getT1(), tuple.getT2(), tuple.getT3())
+                            .filter(Leg::degraded)
+                            .map(Leg::name)
+                            .toList();
 
                     return Product.create(
                         sku,
@@ -51,12 +111,77 @@ public class ProductService {
                         pricing.originalPrice(),
                         inv.availableQuantity(),
                         merch.imageUrl(),
-                        merch.category());
+                        merch.category(),
+                        degraded);
                   })
               .doOnSuccess(
                   product ->
                       structuredLogger.logMessage(
-                          ctx, LOGGER_NAME, "Product fetch complete for sku: " + sku));
+                          ctx,
+                          LOGGER_NAME,
+                          product.degraded().isEmpty()
+                              ? "Product fetch complete for sku: {}"
+                              : "Product fetch degraded for sku: {}, degraded: {}",
+                          sku,
+                          product.degraded()))
+              .contextWrite(deadline.asContext());
+        });
+  }
+
+  /**
+   * Bound one leg by the deadline. A leg never fails the product: running out of budget, an error
+   * or an empty result all yield the repository fallback, marked degraded.
+   */
+  private <T> Mono<Leg<T>> leg(LegTimers timers, Mono<T> call, T fallback, Deadline deadline) {
+    return Mono.defer(
+        () -> {
+          long startNanos = System.nanoTime();
+          return deadline
+              .bound(call, assemblyProperties.getHeadroom())
+              .defaultIfEmpty(fallback)
+              .map(
+                  value -> {
+                    // Repositories return their fallback instance when a load fails
+                    boolean degraded = value == fallback;
+                    timers.record(degraded ? timers.fallback() : timers.ok(), startNanos);
+                    return new Leg<>(timers.leg(), value, degraded);
+                  })
+              .onErrorResume(
+                  error -> {
+                    timers.record(
+                        error instanceof TimeoutException ? timers.timeout() : timers.fallback(),
+                        startNanos);
+                    return Mono.just(new Leg<>(timers.leg(), fallback, true));
+                  });
         });
   }
+
+  private record Leg<T>(String name, T value, boolean degraded) {}
+
+  /** Per-leg latency, tagged by how the leg ended. */
+  private record LegTimers(String leg, Timer ok, Timer fallback, Timer timeout) {
+
+    static LegTimers register(MeterRegistry meterRegistry, String leg) {
+      return new LegTimers(
+          leg,
+          timer(meterRegistry, leg, "ok"),
+          timer(meterRegistry, leg, "fallback"),
+          timer(meterRegistry, leg, "timeout"));
+    }
+
+    void record(Timer timer, long startNanos) {
+      timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String leg, String outcome) {
+      return Timer.builder("product.assembly.leg.duration")
+          .description("Time for one product assembly leg, bounded by the request deadline")
+          .tag("leg", leg)
+          .tag("outcome", outcome)
+          .publishPercentileHistogram()
+          .minimumExpectedValue(Duration.ofMillis(1))
+          .maximumExpectedValue(Duration.ofSeconds(10))
+          .register(meterRegistry);
+    }
+  }
 }
@@ -0,0 +1,275 @@
+package org.example.product.typeahead;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Immutable prefix index over weighted suggestion terms.
+ *
+ * <p>Terms are sorted by their normalized key and packed into two byte arrays (keys and display
+ * text, UTF-8) with offset tables, so a million product names cost a few tens of megabytes and no
+ * per-term objects. The terms starting with a prefix form a contiguous range found by two binary
+ * searches. A segment tree over the weights then yields the best terms of that range in weight
+ * order without scanning it, so a one-letter prefix costs about as much as a full name.
+ *
+ * <p>Ranking is by weight, highest first, then by key. Keys must already be normalized with {@link
+ * TypeaheadIndex#normalize(String)}.
+ */
+public final class PrefixIndex {
+
+  /** An index without terms. */
+  public static final PrefixIndex EMPTY = build(List.of());
+
+  private final int size;
+  private final byte[] keys;
+  private final int[] keyOffsets;
+  private final byte[] displays;
+  private final int[] displayOffsets;
+  private final int[] weights;
+
+  /** Segment tree of positions: leaves start at {@code leaves}, each node is its best child. */
+  private final int[] tree;
+
+  private final int leaves;
+
+  private PrefixIndex(List<Encoded> sorted) {
+    size = sorted.size();
+    keyOffsets = new int[size + 1];
+    displayOffsets = new int[size + 1];
+    weights = new int[size];
+    for (int i = 0; i < size; i++) {
+      Encoded term = sorted.get(i);
+      keyOffsets[i + 1] = keyOffsets[i] + term.key().length;
+      displayOffsets[i + 1] = displayOffsets[i] + term.display().length;
+      weights[i] = term.weight();
+    }
+    keys = new byte[keyOffsets[size]];
+    displays = new byte[displayOffsets[size]];
+    for (int i = 0; i < size; i++) {
+      Encoded term = sorted.get(i);
+      System.arraycopy(term.key(), 0, keys, keyOffsets[i], term.key().length);
+      System.arraycopy(term.display(), 0, displays, displayOffsets[i], term.display().length);
+    }
+
+    int capacity = 1;
+    while (capacity < size) {
+      capacity <<= 1;
+    }
+    leaves = capacity;
+    tree = new int[2 * capacity];
+    Arrays.fill(tree, -1);
+    for (int i = 0; i < size; i++) {
+      tree[capacity + i] = i;
+    }
+    for (int node = capacity - 1; node > 0; node--) {
+      tree[node] = better(tree[2 * node], tree[2 * node + 1]);
+    }
+  }
+
+  /**
+   * Builds an index. Terms with the same key are merged: their weights are added and the display
+   * text of the first one is kept.
+   *
+   * @param terms the terms, in any order
+   * @return the index
+   */
+  public static PrefixIndex build(Collection<Term> terms) {
+    List<Encoded> sorted = new ArrayList<>(terms.size());
+    for (Term term : terms) {
+      sorted.add(
+          new Encoded(
+              term.key().getBytes(StandardCharsets.UTF_8),
+              term.display().getBytes(StandardCharsets.UTF_8),
+              term.weight()));
+    }
+    sorted.sort((a, b) -> Arrays.compareUnsigned(a.key(), b.key()));
+    List<Encoded> merged = new ArrayList<>(sorted.size());
+    for (Encoded term : sorted) {
+      int last = merged.size() - 1;
+      if (last >= 0 && Arrays.equals(merged.get(last).key(), term.key())) {
+        Encoded previous = merged.get(last);
+        merged.set(
+            last,
+            new Encoded(
+                previous.key(),
+                previous.display(),
+                saturatedAdd(previous.weight(), term.weight())));
+      } else {
+        merged.add(term);
+      }
+    }
+    return new PrefixIndex(merged);
+  }
+
+  /** Number of distinct terms. */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Whether the index holds a term with exactly this key.
+   *
+   * @param key the normalized key
+   * @return true if present
+   */
+  public boolean contains(String key) {
+    byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+    int position = lowerBound(bytes);
+    return position < size && compareKey(position, bytes, false) == 0;
+  }
+
+  /**
+   * The best terms starting with a prefix.
+   *
+   * @param prefix the normalized prefix
+   * @param limit maximum number of terms
+   * @return the terms, best first
+   */
+  public List<Term> top(String prefix, int limit) {
+    byte[] bytes = prefix.getBytes(StandardCharsets.UTF_8);
+    int from = lowerBound(bytes);
+    int to = upperBound(bytes, from);
+    if (from >= to || limit <= 0) {
+      return List.of();
+    }
+    // Best-first search: take the best position of a range, then split the range around it
+    PriorityQueue<int[]> ranges =
+        new PriorityQueue<>((a, b) -> a[0] == better(a[0], b[0]) ? -1 : 1);
+    ranges.add(new int[] {argBest(from, to), from, to});
+    List<Term> result = new ArrayList<>(Math.min(limit, to - from));
+    while (result.size() < limit && !ranges.isEmpty()) {
+      int[] range = ranges.poll();
+      int best = range[0];
+      result.add(term(best));
+      if (range[1] < best) {
+        ranges.add(new int[] {argBest(range[1], best), range[1], best});
+      }
+      if (best + 1 < range[2]) {
+        ranges.add(new int[] {argBest(best + 1, range[2]), best + 1, range[2]});
+      }
+    }
+    return result;
+  }
+
+  /** All terms in key order; used to merge incremental additions into a new index. */
+  List<Term> terms() {
+    List<Term> terms = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      terms.add(term(i));
+    }
+    return terms;
+  }
+
+  /** Approximate heap footprint of the index arrays, in bytes. */
+  public long estimatedBytes() {
+    return (long) keys.length
+        + displays.length
+        + 4L * (keyOffsets.length + displayOffsets.length + weights.length + tree.length);
+  }
+
+  private Term term(int position) {
+    return new Term(
+        new String(keys, keyOffsets[position], keyLength(position), StandardCharsets.UTF_8),
+        new String(
+            displays,
+            displayOffsets[position],
+            displayOffsets[position + 1] - displayOffsets[position],
+            StandardCharsets.UTF_8),
+        weights[position]);
+  }
+
+  private int keyLength(int position) {
+    return keyOffsets[position + 1] - keyOffsets[position];
+  }
+
+  /** First position whose key is not less than the prefix. */
+  private int lowerBound(byte[] prefix) {
+    int low = 0;
+    int high = size;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (compareKey(mid, prefix, false) < 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /** First position at or after {@code from} whose key neither starts with nor precedes prefix. */
+  private int upperBound(byte[] prefix, int from) {
+    int low = from;
+    int high = size;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (compareKey(mid, prefix, true) <= 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Compares the key at a position with a prefix, byte-wise unsigned. With {@code truncate} the
+   * key is cut to the prefix length first, so every key starting with the prefix compares equal.
+   */
+  private int compareKey(int position, byte[] prefix, boolean truncate) {
+    int start = keyOffsets[position];
+    int length = keyLength(position);
+    if (truncate) {
+      length = Math.min(length, prefix.length);
+    }
+    return Arrays.compareUnsigned(keys, start, start + length, prefix, 0, prefix.length);
+  }
+
+  /** Best position in {@code [from, to)}. */
+  private int argBest(int from, int to) {
+    int best = -1;
+    for (int low = from + leaves, high = to + leaves; low < high; low >>= 1, high >>= 1) {
+      if ((low & 1) == 1) {
+        best = better(best, tree[low++]);
+      }
+      if ((high & 1) == 1) {
+        best = better(best, tree[--high]);
+      }
+    }
+    return best;
+  }
+
+  /** The better of two positions: higher weight, then lower position (earlier key). */
+  private int better(int a, int b) {
+    if (a < 0) {
+      return b;
+    }
+    if (b < 0) {
+      return a;
+    }
+    if (weights[a] != weights[b]) {
+      return weights[a] > weights[b] ? a : b;
+    }
+    return Math.min(a, b);
+  }
+
+  private static int saturatedAdd(int a, int b) {
+    long sum = (long) a + b;
+    return sum > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) sum;
+  }
+
+  /**
+   * A suggestion term.
+   *
+   * @param key the normalized text prefixes are matched against
+   * @param display the text returned as the suggestion
+   * @param weight rank among terms sharing a prefix; higher ranks first
+   */
+  public record Term(String key, String display, int weight) {}
+
+  private record Encoded(byte[] key, byte[] display, int weight) {}
+}
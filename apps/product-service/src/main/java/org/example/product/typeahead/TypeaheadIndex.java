@@ -0,0 +1,145 @@
+package org.example.product.typeahead;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-process typeahead index over product names and categories.
+ *
+ * <p>Holds an immutable {@link PrefixIndex} built from the full merchandise export, plus a small
+ * sorted map of terms added since that build. Suggestions merge both, so new products show up
+ * without rebuilding the packed index; once the additions grow past a threshold the loader merges
+ * them into a new index. Additions never remove terms: a renamed or deleted product keeps its old
+ * name until the next full rebuild.
+ *
+ * <p>Product names weigh 1 and categories weigh the number of products in them, so a prefix
+ * suggests its broad categories before individual products. Until the first build completes the
+ * index is not {@link #isReady() ready} and callers should fall back to the catalog service.
+ */
+@Component
+public class TypeaheadIndex {
+
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+  private static final Comparator<PrefixIndex.Term> RANKING =
+      Comparator.comparingInt(PrefixIndex.Term::weight)
+          .reversed()
+          .thenComparing(PrefixIndex.Term::key);
+
+  private final ConcurrentSkipListMap<String, PrefixIndex.Term> additions =
+      new ConcurrentSkipListMap<>();
+  private volatile PrefixIndex index = PrefixIndex.EMPTY;
+  private volatile boolean ready;
+
+  public TypeaheadIndex(MeterRegistry meterRegistry) {
+    Gauge.builder("product.typeahead.terms", this, TypeaheadIndex::size)
+        .description("Terms in the local typeahead index")
+        .register(meterRegistry);
+    Gauge.builder("product.typeahead.memory", this, i -> i.index.estimatedBytes())
+        .description("Approximate heap used by the packed typeahead index")
+        .baseUnit("bytes")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Normalize text for matching: Unicode NFKC, lower case, whitespace collapsed and trimmed.
+   *
+   * @param text the text
+   * @return the normalized text
+   */
+  public static String normalize(String text) {
+    String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC);
+    return WHITESPACE.matcher(normalized.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+  }
+
+  /** Whether a full build has completed and suggestions can be served from the index. */
+  public boolean isReady() {
+    return ready;
+  }
+
+  /** Number of distinct terms, including pending additions. */
+  public int size() {
+    return index.size() + additions.size();
+  }
+
+  /** Number of terms added since the last build. */
+  public int pendingAdditions() {
+    return additions.size();
+  }
+
+  /**
+   * Suggestions starting with a prefix, best first.
+   *
+   * @param prefix the text typed so far, in any case
+   * @param limit maximum number of suggestions
+   * @return the display text of matching names and categories
+   */
+  public List<String> suggest(String prefix, int limit) {
+    String key = normalize(prefix);
+    if (key.isEmpty() || limit <= 0) {
+      return List.of();
+    }
+    List<PrefixIndex.Term> candidates = new ArrayList<>(index.top(key, limit));
+    // Additions all weigh 1 and are sorted by key, so the first few are their best
+    for (PrefixIndex.Term term :
+        additions.subMap(key, true, key + Character.MAX_VALUE, true).values()) {
+      if (candidates.size() >= 2 * limit) {
+        break;
+      }
+      candidates.add(term);
+    }
+    candidates.sort(RANKING);
+    Set<String> suggestions = new LinkedHashSet<>();
+    for (PrefixIndex.Term term : candidates) {
+      if (suggestions.size() == limit) {
+        break;
+      }
+      suggestions.add(term.display());
+    }
+    return List.copyOf(suggestions);
+  }
+
+  /**
+   * Add a product's name and category if the index does not know them yet.
+   *
+   * @param name the product name, may be null
+   * @param category the product category, may be null
+   */
+  public void add(String name, String category) {
+    addTerm(name);
+    addTerm(category);
+  }
+
+  /** Replace the index with a fresh build; additions the build already covers are dropped. */
+  void replace(PrefixIndex built) {
+    index = built;
+    additions.keySet().removeIf(built::contains);
+    ready = true;
+  }
+
+  /** A new index holding the current index and all pending additions. */
+  PrefixIndex merged() {
+    List<PrefixIndex.Term> terms = index.terms();
+    terms.addAll(additions.values());
+    return PrefixIndex.build(terms);
+  }
+
+  private void addTerm(String text) {
+    if (text == null || text.isBlank()) {
+      return;
+    }
+    String key = normalize(text);
+    if (!additions.containsKey(key) && !index.contains(key)) {
+      additions.putIfAbsent(key, new PrefixIndex.Term(key, text.strip(), 1));
+    }
+  }
+}
@@ -0,0 +1,174 @@
+package org.example.product.typeahead;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.example.product.config.TypeaheadProperties;
+import org.example.product.repository.merchandise.MerchandiseListing;
+import org.example.product.repository.merchandise.MerchandiseRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Builds the {@link TypeaheadIndex} from the merchandise catalog export and keeps it current.
+ *
+ * <p>On start a full build streams the merchandise export in the background; the service starts
+ * immediately and serves suggestions from the catalog until the build completes. Afterwards the
+ * loader polls the export for products updated since the previous poll and adds their names and
+ * categories, merges the additions into a new packed index once they exceed {@code
+ * max-pending-additions}, and runs a full rebuild periodically to drop deleted and renamed
+ * products. Only one of these runs at a time.
+ *
+ * <p>Implements SmartLifecycle so the running build is cancelled with the context.
+ */
+@Component
+public class TypeaheadIndexLoader implements SmartLifecycle {
+
+  private static final Logger log = LoggerFactory.getLogger(TypeaheadIndexLoader.class);
+
+  /** Polls overlap by this much to absorb clock skew and late commits; additions are idempotent. */
+  private static final Duration POLL_OVERLAP = Duration.ofMinutes(1);
+
+  private final MerchandiseRepository merchandiseRepository;
+  private final TypeaheadIndex index;
+  private final TypeaheadProperties properties;
+  private final AtomicBoolean running = new AtomicBoolean(false);
+  private final AtomicBoolean busy = new AtomicBoolean(false);
+  private volatile Instant updatedSince;
+  private volatile Disposable current;
+
+  public TypeaheadIndexLoader(
+      MerchandiseRepository merchandiseRepository,
+      TypeaheadIndex index,
+      TypeaheadProperties properties) {
+    this.merchandiseRepository = merchandiseRepository;
+    this.index = index;
+    this.properties = properties;
+  }
+
+  @Override
+  public void start() {
+    if (properties.isEnabled() && running.compareAndSet(false, true)) {
+      run("startup build", rebuild());
+    }
+  }
+
+  @Override
+  public void stop() {
+    if (running.compareAndSet(true, false)) {
+      Disposable work = current;
+      if (work != null) {
+        work.dispose();
+      }
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running.get();
+  }
+
+  /** Add products updated since the last poll; retries the build if it has not succeeded yet. */
+  @Scheduled(
+      initialDelayString = "${product.typeahead.refresh-interval:PT1M}",
+      fixedDelayString = "${product.typeahead.refresh-interval:PT1M}")
+  public void scheduledRefresh() {
+    if (running.get()) {
+      run(
+          index.isReady() ? "refresh" : "retried build",
+          index.isReady() ? refresh() : rebuild());
+    }
+  }
+
+  /** Full rebuild, which also drops products that were deleted or renamed. */
+  @Scheduled(
+      initialDelayString = "${product.typeahead.rebuild-interval:PT6H}",
+      fixedDelayString = "${product.typeahead.rebuild-interval:PT6H}")
+  public void scheduledRebuild() {
+    if (running.get()) {
+      run("scheduled rebuild", rebuild());
+    }
+  }
+
+  private void run(String reason, Mono<Void> work) {
+    if (!busy.compareAndSet(false, true)) {
+      log.debug("Typeahead index {} skipped: another update is running", reason);
+      return;
+    }
+    current =
+        work.doFinally(signal -> busy.set(false))
+            .subscribe(
+                done -> {},
+                error -> log.warn("Typeahead index {} failed: {}", reason, error.getMessage()));
+  }
+
+  private Mono<Void> rebuild() {
+    return Mono.defer(
+        () -> {
+          Instant started = Instant.now();
+          List<PrefixIndex.Term> terms = new ArrayList<>();
+          return merchandiseRepository
+              .listProducts(null)
+              .doOnNext(product -> collect(product, terms))
+              .then(Mono.fromCallable(() -> PrefixIndex.build(terms)))
+              .subscribeOn(Schedulers.boundedElastic())
+              .doOnNext(
+                  built -> {
+                    index.replace(built);
+                    updatedSince = started.minus(POLL_OVERLAP);
+                    log.info(
+                        "Typeahead index built: terms={}, bytes={}, tookMs={}",
+                        built.size(),
+                        built.estimatedBytes(),
+                        Duration.between(started, Instant.now()).toMillis());
+                  })
+              .then();
+        });
+  }
+
+  private Mono<Void> refresh() {
+    return Mono.defer(
+        () -> {
+          Instant started = Instant.now();
+          return merchandiseRepository
+              .listProducts(updatedSince)
+              .doOnNext(product -> index.add(product.name(), product.category()))
+              .count()
+              .doOnNext(
+                  updated -> {
+                    updatedSince = started.minus(POLL_OVERLAP);
+                    log.debug("Typeahead index refreshed: updatedProducts={}", updated);
+                  })
+              .then(Mono.defer(this::mergeIfNeeded));
+        });
+  }
+
+  private Mono<Void> mergeIfNeeded() {
+    if (index.pendingAdditions() <= properties.getMaxPendingAdditions()) {
+      return Mono.empty();
+    }
+    return Mono.fromRunnable(() -> index.replace(index.merged()))
+        .subscribeOn(Schedulers.boundedElastic())
+        .then();
+  }
+
+  private static void collect(MerchandiseListing product, List<PrefixIndex.Term> terms) {
+    addTerm(product.name(), terms);
+    // One term per product; the build merges them so a category weighs its product count
+    addTerm(product.category(), terms);
+  }
+
+  private static void addTerm(String text, List<PrefixIndex.Term> terms) {
+    if (text != null && !text.isBlank()) {
+      terms.add(new PrefixIndex.Term(TypeaheadIndex.normalize(text), text.strip(), 1));
+    }
+  }
+}
@@ -0,0 +1,169 @@
+package org.example.product.warmup;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.example.product.config.WarmupProperties;
+import org.example.product.service.ProductService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Warms a new pod before it takes traffic.
+ *
+ * <p>Once the application is up, assembles the configured SKUs and the most requested SKUs of the
+ * last two hours (from {@link SkuAccessTracker}) through {@link ProductService}, with bounded
+ * concurrency. The first pass opens the downstream connection pools and fills any cold Redis
+ * entries; later passes run the cache-hit path so the JIT has compiled it before real requests
+ * arrive. {@link WarmupHealthIndicator} keeps the readiness group out of service until the warm-up
+ * completes or {@code product.warmup.deadline} passes.
+ *
+ * <p>Publishes {@code product.warmup.time.to.ready} (JVM start to ready) and {@code
+ * product.warmup.duration}.
+ */
+@Component
+public class ProductWarmup {
+
+  private static final Logger log = LoggerFactory.getLogger(ProductWarmup.class);
+
+  private final ProductService productService;
+  private final SkuAccessTracker accessTracker;
+  private final WarmupProperties properties;
+  private volatile Result result;
+
+  public ProductWarmup(
+      ProductService productService,
+      SkuAccessTracker accessTracker,
+      WarmupProperties properties,
+      MeterRegistry meterRegistry) {
+    this.productService = productService;
+    this.accessTracker = accessTracker;
+    this.properties = properties;
+    TimeGauge.builder(
+            "product.warmup.time.to.ready",
+            this,
+            TimeUnit.MILLISECONDS,
+            w -> w.result != null ? w.result.timeToReady().toMillis() : Double.NaN)
+        .description("Time from JVM start until the pod reported ready")
+        .register(meterRegistry);
+    TimeGauge.builder(
+            "product.warmup.duration",
+            this,
+            TimeUnit.MILLISECONDS,
+            w -> w.result != null ? w.result.duration().toMillis() : Double.NaN)
+        .description("Time spent warming up")
+        .register(meterRegistry);
+  }
+
+  /** The warm-up outcome, or null while it is still running. */
+  public Result result() {
+    return result;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+    if (!properties.isEnabled()) {
+      complete("disabled", 0, 0, 0, System.nanoTime());
+      return;
+    }
+    run().subscribe();
+  }
+
+  /** Runs the warm-up once; completes when it has finished or the deadline has passed. */
+  Mono<Void> run() {
+    long startNanos = System.nanoTime();
+    AtomicInteger skus = new AtomicInteger();
+    AtomicInteger assembled = new AtomicInteger();
+    AtomicInteger degraded = new AtomicInteger();
+    return skusToWarm()
+        .doOnNext(list -> skus.set(list.size()))
+        .flatMapMany(
+            list ->
+                Flux.range(0, properties.getPasses())
+                    .concatMap(
+                        pass ->
+                            Flux.fromIterable(list)
+                                .flatMap(productService::getProduct, properties.getConcurrency())))
+        .doOnNext(
+            product -> {
+              assembled.incrementAndGet();
+              if (!product.degraded().isEmpty()) {
+                degraded.incrementAndGet();
+              }
+            })
+        .then(Mono.just("complete"))
+        .timeout(properties.getDeadline())
+        .onErrorResume(
+            error -> {
+              if (!(error instanceof TimeoutException)) {
+                log.warn("Warm-up failed: {}", error.getMessage());
+                return Mono.just("failed");
+              }
+              return Mono.just("deadline");
+            })
+        .doOnNext(
+            outcome -> complete(outcome, skus.get(), assembled.get(), degraded.get(), startNanos))
+        .then();
+  }
+
+  /** Configured SKUs first, then the most requested ones; the access stats are optional. */
+  private Mono<List<Long>> skusToWarm() {
+    return accessTracker
+        .topSkus(properties.getTopSkus())
+        .onErrorResume(
+            error -> {
+              log.warn("Warm-up access stats unavailable: {}", error.getMessage());
+              return Mono.just(List.of());
+            })
+        .map(
+            top -> {
+              Set<Long> skus = new LinkedHashSet<>(properties.getSkus());
+              skus.addAll(top);
+              return List.copyOf(skus);
+            });
+  }
+
+  private void complete(String outcome, int skus, int assembled, int degraded, long startNanos) {
+    Duration duration = Duration.ofNanos(System.nanoTime() - startNanos);
+    Duration timeToReady = Duration.ofMillis(ManagementFactory.getRuntimeMXBean().getUptime());
+    result = new Result(outcome, skus, assembled, degraded, duration, timeToReady);
+    log.info(
+        "Warm-up {}: skus={}, assembled={}, degraded={}, tookMs={}, timeToReadyMs={}",
+        outcome,
+        skus,
+        assembled,
+        degraded,
+        duration.toMillis(),
+        timeToReady.toMillis());
+  }
+
+  /**
+   * How the warm-up ended.
+   *
+   * @param outcome complete, deadline, failed or disabled
+   * @param skus distinct SKUs selected for warming
+   * @param assembled products assembled across all passes
+   * @param degraded assembled products with at least one degraded source
+   * @param duration time spent warming up
+   * @param timeToReady time from JVM start until warm-up ended
+   */
+  public record Result(
+      String outcome,
+      int skus,
+      int assembled,
+      int degraded,
+      Duration duration,
+      Duration timeToReady) {}
+}
@@ -0,0 +1,127 @@
+package org.example.product.warmup;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import org.example.product.config.WarmupProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Shared per-SKU request counts, used to pick the SKUs a new pod warms up.
+ *
+ * <p>Requests are counted in memory and flushed periodically with ZINCRBY into an hourly sorted
+ * set in Redis, so the request path never waits on Redis. Each hourly set expires after three
+ * hours; {@link #topSkus(int)} sums the current and previous hour, which every pod shares.
+ */
+@Component
+public class SkuAccessTracker {
+
+  private static final Logger log = LoggerFactory.getLogger(SkuAccessTracker.class);
+
+  static final String KEY_PREFIX = "product:access:";
+  private static final Duration BUCKET_TTL = Duration.ofHours(3);
+  private static final int FLUSH_CONCURRENCY = 16;
+
+  private final ReactiveRedisTemplate<String, String> redisTemplate;
+  private final WarmupProperties properties;
+  private final AtomicReference<ConcurrentHashMap<Long, LongAdder>> counts =
+      new AtomicReference<>(new ConcurrentHashMap<>());
+
+  public SkuAccessTracker(
+      ReactiveRedisTemplate<String, String> redisTemplate, WarmupProperties properties) {
+    this.redisTemplate = redisTemplate;
+    this.properties = properties;
+  }
+
+  /**
+   * Count one request for a SKU.
+   *
+   * @param sku the requested SKU
+   */
+  public void record(long sku) {
+    if (properties.isTrackAccess()) {
+      counts.get().computeIfAbsent(sku, key -> new LongAdder()).increment();
+    }
+  }
+
+  /**
+   * The most requested SKUs over the current and previous hour, across all pods.
+   *
+   * @param limit maximum number of SKUs
+   * @return SKUs, most requested first
+   */
+  public Mono<List<Long>> topSkus(int limit) {
+    if (limit <= 0) {
+      return Mono.just(List.of());
+    }
+    long hour = currentHour();
+    Range<Long> top = Range.closed(0L, limit - 1L);
+    return Flux.just(hour, hour - 1)
+        .flatMap(bucket -> redisTemplate.opsForZSet().reverseRangeWithScores(key(bucket), top))
+        .collectList()
+        .map(scores -> rank(scores, limit));
+  }
+
+  /** Push local counts to the current hour's sorted set. */
+  @Scheduled(
+      initialDelayString = "${product.warmup.access-flush-interval:PT1M}",
+      fixedDelayString = "${product.warmup.access-flush-interval:PT1M}")
+  public void scheduledFlush() {
+    flush().subscribe(null, error -> log.warn("SKU access flush failed: {}", error.getMessage()));
+  }
+
+  Mono<Void> flush() {
+    // Increments racing with the swap land in the old map and are lost; the stats are a sample
+    Map<Long, LongAdder> pending = counts.getAndSet(new ConcurrentHashMap<>());
+    if (pending.isEmpty()) {
+      return Mono.empty();
+    }
+    String key = key(currentHour());
+    return Flux.fromIterable(pending.entrySet())
+        .flatMap(
+            entry ->
+                redisTemplate
+                    .opsForZSet()
+                    .incrementScore(key, entry.getKey().toString(), entry.getValue().sum()),
+            FLUSH_CONCURRENCY)
+        .then(redisTemplate.expire(key, BUCKET_TTL))
+        .then();
+  }
+
+  /** Sums scores per SKU across buckets and keeps the highest. */
+  private static List<Long> rank(List<ZSetOperations.TypedTuple<String>> scores, int limit) {
+    Map<Long, Double> merged = new HashMap<>();
+    for (ZSetOperations.TypedTuple<String> score : scores) {
+      try {
+        merged.merge(Long.parseLong(score.getValue()), score.getScore(), Double::sum);
+      } catch (NumberFormatException e) {
+        // Not written by this tracker; ignore
+      }
+    }
+    List<Map.Entry<Long, Double>> entries = new ArrayList<>(merged.entrySet());
+    entries.sort(Map.Entry.<Long, Double>comparingByValue().reversed());
+    return entries.stream().limit(limit).map(Map.Entry::getKey).toList();
+  }
+
+  private static long currentHour() {
+    return Instant.now().getEpochSecond() / 3600;
+  }
+
+  private static String key(long hour) {
+    return KEY_PREFIX + hour;
+  }
+}
@@ -0,0 +1,35 @@
+package org.example.product.warmup;
+
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports OUT_OF_SERVICE until {@link ProductWarmup} has finished or hit its deadline. Included in
+ * the readiness group, so a new pod receives traffic only once it is warm; liveness is unaffected.
+ */
+@Component
+public class WarmupHealthIndicator implements HealthIndicator {
+
+  private final ProductWarmup warmup;
+
+  public WarmupHealthIndicator(ProductWarmup warmup) {
+    this.warmup = warmup;
+  }
+
+  @Override
+  public Health health() {
+    ProductWarmup.Result result = warmup.result();
+    if (result == null) {
+      return Health.outOfService().withDetail("outcome", "running").build();
+    }
+    return Health.up()
+        .withDetail("outcome", result.outcome())
+        .withDetail("skus", result.skus())
+        .withDetail("assembled", result.assembled())
+        .withDetail("degraded", result.degraded())
+        .withDetail("durationMs", result.duration().toMillis())
+        .withDetail("timeToReadyMs", result.timeToReady().toMillis())
+        .build();
+  }
+}
@@ -0,0 +1,398 @@
+package org.example.product.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.example.platform.cache.CachedValue;
+import org.example.platform.cache.ReactiveCacheService;
+import org.example.platform.resilience.Deadline;
+import org.example.product.config.CacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+/** Unit tests for CachePolicy freshness, refresh, negative caching and single-flight behavior. */
+@ExtendWith(MockitoExtension.class)
+class CachePolicyTest {
+
+  private static final String KEY = "price:sku:1";
+  private static final Duration TTL = Duration.ofMinutes(2);
+  private static final Duration SOFT_TTL = Duration.ofMinutes(1);
+  private static final String NEGATIVE_KEY = NegativeCache.NAMESPACE + KEY;
+
+  @Mock private ReactiveCacheService cacheService;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AtomicInteger loads = new AtomicInteger();
+  private CachePolicy<String> policy;
+
+  @BeforeEach
+  void setUp() {
+    lenient().when(cacheService.put(anyString(), any(), any())).thenReturn(Mono.just(true));
+    lenient()
+        .when(cacheService.get(startsWith(NegativeCache.NAMESPACE), eq(String.class)))
+        .thenReturn(Mono.empty());
+    policy = policy(0.0);
+  }
+
+  @Nested
+  class Freshness {
+
+    @Test
+    void miss_loadsAndStoresWithHardTtl() {
+      cached(null);
+
+      StepVerifier.create(policy.get(KEY, loader("loaded"))).expectNext("loaded").verifyComplete();
+
+      verify(cacheService).put(KEY, "loaded", TTL);
+      assertThat(requests("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void freshHit_isServedWithoutLoading() {
+      cached(new CachedValue<>("cached", Duration.ofSeconds(90)));
+
+      StepVerifier.create(policy.get(KEY, loader("loaded"))).expectNext("cached").verifyComplete();
+
+      assertThat(loads).hasValue(0);
+      assertThat(requests("hit")).isEqualTo(1);
+    }
+
+    @Test
+    void entryWithoutExpiry_isFresh() {
+      cached(new CachedValue<>("cached", null));
+
+      StepVerifier.create(policy.get(KEY, loader("loaded"))).expectNext("cached").verifyComplete();
+
+      assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    void staleHit_isServedAndRefreshedInBackground() {
+      cached(new CachedValue<>("stale", Duration.ofSeconds(30)));
+
+      StepVerifier.create(policy.get(KEY, loader("fresh"))).expectNext("stale").verifyComplete();
+
+      verify(cacheService).put(KEY, "fresh", TTL);
+      assertThat(requests("stale")).isEqualTo(1);
+      assertThat(refreshes("stale", "success")).isEqualTo(1);
+    }
+
+    @Test
+    void failedRefresh_keepsStaleEntry() {
+      cached(new CachedValue<>("stale", Duration.ofSeconds(30)));
+
+      StepVerifier.create(policy.get(KEY, () -> Mono.error(new IllegalStateException("down"))))
+          .expectNext("stale")
+          .verifyComplete();
+
+      verify(cacheService, never()).put(eq(KEY), any(), any());
+      assertThat(refreshes("stale", "failure")).isEqualTo(1);
+    }
+
+    @Test
+    void foregroundLoadError_isPropagated() {
+      cached(null);
+
+      StepVerifier.create(policy.get(KEY, () -> Mono.error(new IllegalStateException("down"))))
+          .expectError(IllegalStateException.class)
+          .verify();
+
+      verify(cacheService, never()).put(eq(KEY), any(), any());
+    }
+  }
+
+  @Nested
+  class NegativeCaching {
+
+    @Test
+    void failedLoad_writesFallbackEntry() {
+      cached(null);
+
+      StepVerifier.create(policy.get(KEY, () -> Mono.error(new IllegalStateException("down"))))
+          .expectError(IllegalStateException.class)
+          .verify();
+
+      verify(cacheService).put(NEGATIVE_KEY, "FALLBACK", Duration.ofSeconds(10));
+    }
+
+    @Test
+    void notFound_writesNotFoundEntryWithLongerTtl() {
+      cached(null);
+      WebClientResponseException notFound =
+          WebClientResponseException.create(
+              HttpStatus.NOT_FOUND, "Not Found", new HttpHeaders(), new byte[0], null);
+
+      StepVerifier.create(policy.get(KEY, () -> Mono.error(notFound)))
+          .expectErrorMatches(error -> error == notFound)
+          .verify();
+
+      verify(cacheService).put(NEGATIVE_KEY, "NOT_FOUND", Duration.ofMinutes(1));
+    }
+
+    @Test
+    void negativeHit_returnsFallbackWithoutLoading() {
+      cached(null);
+      when(cacheService.get(NEGATIVE_KEY, String.class)).thenReturn(Mono.just("NOT_FOUND"));
+
+      StepVerifier.create(policy.get(KEY, loader("loaded")))
+          .expectNext("fallback")
+          .verifyComplete();
+
+      assertThat(loads).hasValue(0);
+      assertThat(requests("negative")).isEqualTo(1);
+      assertThat(requests("miss")).isZero();
+    }
+
+    @Test
+    void zeroTtl_disablesNegativeEntries() {
+      CacheProperties.ServiceCache settings = new CacheProperties.ServiceCache(TTL, SOFT_TTL);
+      settings.setFallbackTtl(Duration.ZERO);
+      CachePolicy<String> noNegatives = policy(settings);
+      cached(null);
+
+      StepVerifier.create(noNegatives.get(KEY, () -> Mono.error(new IllegalStateException("down"))))
+          .expectError(IllegalStateException.class)
+          .verify();
+
+      verify(cacheService, never()).put(eq(NEGATIVE_KEY), any(), any());
+    }
+  }
+
+  @Nested
+  class EarlyRefresh {
+
+    @Test
+    void freshHit_isRefreshedEarly_whenLoadTimeDwarfsTimeToStale() {
+      CachePolicy<String> eager = policy(1e12);
+      cached(null);
+      StepVerifier.create(eager.get(KEY, slowLoader("first")))
+          .expectNext("first")
+          .verifyComplete();
+
+      cached(new CachedValue<>("cached", Duration.ofSeconds(90)));
+      StepVerifier.create(eager.get(KEY, loader("second"))).expectNext("cached").verifyComplete();
+
+      verify(cacheService).put(KEY, "second", TTL);
+      assertThat(requests("hit")).isEqualTo(1);
+      assertThat(refreshes("early", "success")).isEqualTo(1);
+    }
+
+    @Test
+    void freshHit_isNotRefreshedEarly_whenDisabled() {
+      cached(null);
+      StepVerifier.create(policy.get(KEY, slowLoader("first")))
+          .expectNext("first")
+          .verifyComplete();
+
+      cached(new CachedValue<>("cached", Duration.ofSeconds(61)));
+      StepVerifier.create(policy.get(KEY, loader("second"))).expectNext("cached").verifyComplete();
+
+      assertThat(loads).hasValue(0);
+      assertThat(refreshes("early", "success")).isZero();
+    }
+  }
+
+  @Nested
+  class SingleFlight {
+
+    @Test
+    void concurrentMisses_shareOneLoad() {
+      cached(null);
+      Sinks.One<String> response = Sinks.one();
+      Supplier<Mono<String>> loader =
+          () -> {
+            loads.incrementAndGet();
+            return response.asMono();
+          };
+
+      StepVerifier first =
+          StepVerifier.create(policy.get(KEY, loader))
+              .expectNext("v")
+              .expectComplete()
+              .verifyLater();
+      StepVerifier second =
+          StepVerifier.create(policy.get(KEY, loader))
+              .expectNext("v")
+              .expectComplete()
+              .verifyLater();
+      response.tryEmitValue("v");
+
+      first.verify();
+      second.verify();
+      assertThat(loads).hasValue(1);
+      assertThat(meterRegistry.get("product.cache.loads.coalesced").counter().count())
+          .isEqualTo(1);
+    }
+
+    @Test
+    void staleHitDuringLoad_doesNotStartAnotherLoad() {
+      cached(null);
+      Sinks.One<String> response = Sinks.one();
+      Supplier<Mono<String>> loader =
+          () -> {
+            loads.incrementAndGet();
+            return response.asMono();
+          };
+      StepVerifier pending =
+          StepVerifier.create(policy.get(KEY, loader))
+              .expectNext("v")
+              .expectComplete()
+              .verifyLater();
+
+      cached(new CachedValue<>("stale", Duration.ofSeconds(30)));
+      StepVerifier.create(policy.get(KEY, loader)).expectNext("stale").verifyComplete();
+      response.tryEmitValue("v");
+
+      pending.verify();
+      assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void sharedLoad_runsWithoutCallerContext() {
+      cached(null);
+      Supplier<Mono<String>> loader =
+          () -> Mono.deferContextual(ctx -> Mono.just(ctx.hasKey("caller") ? "leaked" : "clean"));
+
+      StepVerifier.create(policy.get(KEY, loader).contextWrite(Context.of("caller", "a")))
+          .expectNext("clean")
+          .verifyComplete();
+    }
+
+    @Test
+    void cancelledCaller_doesNotCancelSharedLoad() {
+      cached(null);
+      Sinks.One<String> response = Sinks.one();
+      Supplier<Mono<String>> loader =
+          () -> {
+            loads.incrementAndGet();
+            return response.asMono();
+          };
+
+      StepVerifier.create(policy.get(KEY, loader)).thenCancel().verify();
+      StepVerifier second =
+          StepVerifier.create(policy.get(KEY, loader))
+              .expectNext("v")
+              .expectComplete()
+              .verifyLater();
+      response.tryEmitValue("v");
+
+      second.verify();
+      assertThat(loads).hasValue(1);
+      verify(cacheService).put(KEY, "v", TTL);
+    }
+
+    @Test
+    void callerDeadline_onlyBoundsThatCaller() {
+      cached(null);
+      Sinks.One<String> response = Sinks.one();
+      Supplier<Mono<String>> loader =
+          () -> {
+            loads.incrementAndGet();
+            return response.asMono();
+          };
+
+      StepVerifier.create(
+              policy
+                  .get(KEY, loader)
+                  .contextWrite(Deadline.after(Duration.ofMillis(20)).asContext()))
+          .expectError(TimeoutException.class)
+          .verify();
+      StepVerifier second =
+          StepVerifier.create(policy.get(KEY, loader))
+              .expectNext("v")
+              .expectComplete()
+              .verifyLater();
+      response.tryEmitValue("v");
+
+      second.verify();
+      assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void sharedLoad_isBoundedByLoadTimeout() {
+      cached(null);
+      CacheProperties.ServiceCache settings = new CacheProperties.ServiceCache(TTL, SOFT_TTL);
+      settings.setLoadTimeout(Duration.ofMillis(20));
+
+      StepVerifier.create(policy(settings).get(KEY, Mono::never))
+          .expectError(TimeoutException.class)
+          .verify(Duration.ofSeconds(5));
+    }
+  }
+
+  private CachePolicy<String> policy(double refreshAheadBeta) {
+    CacheProperties.ServiceCache settings = new CacheProperties.ServiceCache(TTL, SOFT_TTL);
+    settings.setRefreshAheadBeta(refreshAheadBeta);
+    return policy(settings);
+  }
+
+  private CachePolicy<String> policy(CacheProperties.ServiceCache settings) {
+    return new CachePolicy<>(
+        "price",
+        String.class,
+        "fallback",
+        cacheService,
+        new NegativeCache(cacheService),
+        settings,
+        meterRegistry);
+  }
+
+  private void cached(CachedValue<String> value) {
+    when(cacheService.getWithTtl(eq(KEY), eq(String.class))).thenReturn(Mono.justOrEmpty(value));
+  }
+
+  private Supplier<Mono<String>> loader(String value) {
+    return () ->
+        Mono.fromCallable(
+            () -> {
+              loads.incrementAndGet();
+              return value;
+            });
+  }
+
+  private Supplier<Mono<String>> slowLoader(String value) {
+    return () -> Mono.just(value).delayElement(Duration.ofMillis(5));
+  }
+
+  private double requests(String outcome) {
+    return meterRegistry
+        .get("product.cache.requests")
+        .tag("policy", "price")
+        .tag("outcome", outcome)
+        .counter()
+        .count();
+  }
+
+  private double refreshes(String trigger, String result) {
+    return meterRegistry
+        .get("product.cache.refreshes")
+        .tag("policy", "price")
+        .tag("trigger", trigger)
+        .tag("result", result)
+        .counter()
+        .count();
+  }
+}
@@ -0,0 +1,91 @@
+package org.example.product.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import org.example.product.domain.SearchCriteria;
+import org.example.product.domain.SortDirection;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for canonical, hashed search cache keys. */
+class SearchCacheKeyTest {
+
+  @Test
+  void equivalentCriteria_shareKey() {
+    SearchCriteria a =
+        criteria("  laptop   bag ", Optional.of(new BigDecimal("10.00")), Optional.of(false), 0);
+    SearchCriteria b =
+        criteria("laptop bag", Optional.of(new BigDecimal("10")), Optional.empty(), 0);
+
+    assertThat(SearchCacheKey.page(a)).isEqualTo(SearchCacheKey.page(b));
+  }
+
+  @Test
+  void differentFiltersOrPages_getDifferentKeys() {
+    SearchCriteria base = criteria("laptop", Optional.empty(), Optional.empty(), 0);
+    SearchCriteria inStock = criteria("laptop", Optional.empty(), Optional.of(true), 0);
+
+    assertThat(SearchCacheKey.page(base))
+        .isNotEqualTo(SearchCacheKey.page(inStock))
+        .isNotEqualTo(SearchCacheKey.page(base.withPage(1)));
+  }
+
+  @Test
+  void queryCategoryAndLocation_keepTheirCase() {
+    SearchCriteria lower = criteria("laptop", Optional.empty(), Optional.empty(), 0);
+    SearchCriteria upper = criteria("Laptop", Optional.empty(), Optional.empty(), 0);
+    SearchCriteria filtered = withFilters(lower, "Electronics", "STORE-100");
+
+    assertThat(SearchCacheKey.page(lower)).isNotEqualTo(SearchCacheKey.page(upper));
+    assertThat(SearchCacheKey.page(filtered))
+        .isNotEqualTo(SearchCacheKey.page(withFilters(lower, "electronics", "STORE-100")))
+        .isNotEqualTo(SearchCacheKey.page(withFilters(lower, "Electronics", "store-100")));
+  }
+
+  @Test
+  void key_hasFixedLengthAndPagesShareAPrefix() {
+    SearchCriteria longQuery = criteria("x".repeat(500), Optional.empty(), Optional.empty(), 3);
+
+    String page3 = SearchCacheKey.page(longQuery);
+    String page4 = SearchCacheKey.page(longQuery.withPage(4));
+
+    assertThat(page3).startsWith(SearchCacheKey.PAGE_PREFIX).hasSizeLessThan(40).endsWith(":3");
+    assertThat(page3.substring(0, page3.lastIndexOf(':')))
+        .isEqualTo(page4.substring(0, page4.lastIndexOf(':')));
+  }
+
+  private static SearchCriteria criteria(
+      String query, Optional<BigDecimal> minPrice, Optional<Boolean> inStockOnly, int page) {
+    return new SearchCriteria(
+        query,
+        minPrice,
+        Optional.empty(),
+        Optional.empty(),
+        inStockOnly,
+        Optional.empty(),
+        Optional.empty(),
+        Optional.empty(),
+        "relevance",
+        SortDirection.DESC,
+        page,
+        20);
+  }
+
+  private static SearchCriteria withFilters(
+      SearchCriteria c, String category, String sellingLocation) {
+    return new SearchCriteria(
+        c.query(),
+        c.minPrice(),
+        c.maxPrice(),
+        c.minAvailability(),
+        c.inStockOnly(),
+        Optional.of(category),
+        c.customerZipCode(),
+        Optional.of(sellingLocation),
+        c.sortBy(),
+        c.sortDirection(),
+        c.page(),
+        c.size());
+  }
+}
@@ -0,0 +1,66 @@
+package org.example.product.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the binary search page encoding. */
+class SearchPageCodecTest {
+
+  @Test
+  void roundTrip_preservesRankOrderAndScores() {
+    SearchPage page =
+        new SearchPage(
+            1234,
+            62,
+            20,
+            37,
+            List.of(
+                new SearchPage.Hit(900_001L, 0.97),
+                new SearchPage.Hit(100_002L, 0.91),
+                new SearchPage.Hit(100_003L, 0.5)));
+
+    byte[] encoded = SearchPageCodec.encode(page);
+
+    assertThat(SearchPageCodec.decode(encoded)).isEqualTo(page);
+    assertThat(encoded.length).isLessThan(SearchPageCodec.COMPRESS_THRESHOLD);
+  }
+
+  @Test
+  void largePage_isCompressedAndRoundTrips() {
+    List<SearchPage.Hit> hits = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      hits.add(new SearchPage.Hit(500_000L + i * 7L, 1.0 - i / 200.0));
+    }
+    SearchPage page = new SearchPage(10_000, 100, 100, 12, hits);
+
+    byte[] encoded = SearchPageCodec.encode(page);
+
+    assertThat(SearchPageCodec.decode(encoded)).isEqualTo(page);
+    // About 900 bytes before compression
+    assertThat(encoded.length).isLessThan(500);
+  }
+
+  @Test
+  void emptyPage_roundTrips() {
+    SearchPage page = new SearchPage(0, 0, 20, 3, List.of());
+
+    assertThat(SearchPageCodec.decode(SearchPageCodec.encode(page))).isEqualTo(page);
+  }
+
+  @Test
+  void corruptBytes_areRejected() {
+    byte[] encoded = SearchPageCodec.encode(new SearchPage(1, 1, 20, 3, List.of()));
+    byte[] truncated = new byte[] {encoded[0], (byte) 0x80};
+
+    assertThatThrownBy(() -> SearchPageCodec.decode(truncated))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> SearchPageCodec.decode(new byte[] {9, 1, 2}))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> SearchPageCodec.decode(new byte[0]))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
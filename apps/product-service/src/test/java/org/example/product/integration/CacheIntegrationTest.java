@@ -14,6 +14,7 @@ import org.example.platform.cache.ReactiveCacheService;
 import org.example.platform.test.RedisTestSupport;
 import org.example.platform.test.TestSecurityConfig;
 import org.example.platform.test.WireMockSupport;
+import org.example.product.cache.NegativeCache;
 import org.example.product.repository.inventory.InventoryRepository;
 import org.example.product.repository.inventory.InventoryResponse;
 import org.example.product.repository.merchandise.MerchandiseRepository;
@@ -36,13 +37,15 @@ import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 /**
  * Integration tests for Redis caching behavior.
  *
- * <p>Tests the two caching patterns: 1. Cache-Aside (Merchandise & Price): Check cache first, call
- * HTTP on miss 2. Fallback-Only (Inventory): Always call HTTP first, use cache only on errors
+ * <p>All three repositories read through a cache policy: fresh entries are served from Redis,
+ * entries past the soft TTL are served stale while being revalidated in the background, and misses
+ * call HTTP and cache the result with the hard TTL. Failed loads leave a short negative entry.
  */
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
 @Testcontainers
@@ -62,6 +65,8 @@ class CacheIntegrationTest {
 
   @Autowired private ReactiveCacheService cacheService;
 
+  @Autowired private NegativeCache negativeCache;
+
   @Autowired private ReactiveRedisTemplate<String, Object> redisTemplate;
 
   @DynamicPropertySource
@@ -73,6 +78,9 @@ class CacheIntegrationTest {
     registry.add("cache.merchandise.ttl", () -> "10s");
     registry.add("cache.price.ttl", () -> "10s");
     registry.add("cache.inventory.ttl", () -> "10s");
+    registry.add("cache.merchandise.soft-ttl", () -> "5s");
+    registry.add("cache.price.soft-ttl", () -> "5s");
+    registry.add("cache.inventory.soft-ttl", () -> "5s");
 
     // Configure services to use WireMock (port set in @BeforeAll)
     registry.add(
@@ -110,7 +118,7 @@ class CacheIntegrationTest {
   }
 
   @Nested
-  @DisplayName("Merchandise Repository - Cache-Aside Pattern")
+  @DisplayName("Merchandise Repository - Stale-While-Revalidate")
   class MerchandiseCacheTests {
 
     private static final long SKU = 12345L;
@@ -207,7 +215,7 @@ class CacheIntegrationTest {
   }
 
   @Nested
-  @DisplayName("Price Repository - Cache-Aside Pattern")
+  @DisplayName("Price Repository - Stale-While-Revalidate")
   class PriceCacheTests {
 
     private static final long SKU = 67890L;
@@ -273,6 +281,34 @@ class CacheIntegrationTest {
           .verifyComplete();
     }
 
+    @Test
+    @DisplayName("should skip HTTP for a SKU that recently returned 404 until purged")
+    void shouldNegativelyCacheNotFound() {
+      // Given: Price service does not know the SKU
+      stubPriceError(404);
+
+      // When: The SKU is looked up twice
+      for (int i = 0; i < 2; i++) {
+        StepVerifier.create(priceRepository.getPrice(SKU))
+            .assertNext(
+                response -> {
+                  assertThat(response.price()).isEqualTo("0.00");
+                })
+            .verifyComplete();
+      }
+
+      // Then: Only the first lookup reached the price service
+      wireMockServer.verify(1, WireMock.getRequestedFor(urlPathEqualTo("/price/" + SKU)));
+      StepVerifier.create(cacheService.get(NegativeCache.NAMESPACE + CACHE_KEY, String.class))
+          .expectNext("NOT_FOUND")
+          .verifyComplete();
+
+      // And: After a purge the next lookup calls HTTP again
+      StepVerifier.create(negativeCache.purge("price:")).expectNext(1L).verifyComplete();
+      StepVerifier.create(priceRepository.getPrice(SKU)).expectNextCount(1).verifyComplete();
+      wireMockServer.verify(2, WireMock.getRequestedFor(urlPathEqualTo("/price/" + SKU)));
+    }
+
     private void stubPriceSuccess(long sku, String price) {
       wireMockServer.stubFor(
           get(urlPathEqualTo("/price/" + sku))
@@ -290,16 +326,16 @@ class CacheIntegrationTest {
   }
 
   @Nested
-  @DisplayName("Inventory Repository - Fallback-Only Pattern")
+  @DisplayName("Inventory Repository - Stale-While-Revalidate")
   class InventoryCacheTests {
 
     private static final long SKU = 11111L;
     private static final String CACHE_KEY = "inventory:sku:" + SKU;
 
     @Test
-    @DisplayName("should always call HTTP first even when cache has data")
-    void shouldAlwaysCallHttpFirst() {
-      // Given: Value is pre-cached AND HTTP is configured
+    @DisplayName("should return fresh cached value without calling HTTP")
+    void shouldReturnFreshCachedValueWithoutHttpCall() {
+      // Given: Value is pre-cached well within the soft TTL
       InventoryResponse cachedResponse = new InventoryResponse(10);
       cacheService.put(CACHE_KEY, cachedResponse, Duration.ofMinutes(5)).block();
       stubInventorySuccess(SKU, 50);
@@ -308,13 +344,38 @@ class CacheIntegrationTest {
       StepVerifier.create(inventoryRepository.getAvailability(SKU))
           .assertNext(
               response -> {
-                // Should return HTTP response, not cached value
-                assertThat(response.availableQuantity()).isEqualTo(50);
+                assertThat(response.availableQuantity()).isEqualTo(10);
               })
           .verifyComplete();
 
-      // Then: HTTP WAS called (fallback-only pattern)
-      wireMockServer.verify(1, WireMock.getRequestedFor(urlPathEqualTo("/inventory/" + SKU)));
+      // Then: HTTP was NOT called
+      wireMockServer.verify(0, WireMock.getRequestedFor(urlPathEqualTo("/inventory/" + SKU)));
+    }
+
+    @Test
+    @DisplayName("should return stale value and revalidate it in the background")
+    void shouldReturnStaleValueAndRevalidate() {
+      // Given: Value is pre-cached past the soft TTL (3s left of a 10s hard TTL, 5s soft TTL)
+      InventoryResponse staleResponse = new InventoryResponse(10);
+      cacheService.put(CACHE_KEY, staleResponse, Duration.ofSeconds(3)).block();
+      stubInventorySuccess(SKU, 50);
+
+      // When: Call repository
+      StepVerifier.create(inventoryRepository.getAvailability(SKU))
+          .assertNext(
+              response -> {
+                // Should return the stale value without waiting for HTTP
+                assertThat(response.availableQuantity()).isEqualTo(10);
+              })
+          .verifyComplete();
+
+      // Then: The background refresh replaces the cached value
+      StepVerifier.create(
+              Mono.defer(() -> cacheService.get(CACHE_KEY, InventoryResponse.class))
+                  .filter(cached -> cached.availableQuantity() == 50)
+                  .repeatWhenEmpty(20, attempts -> attempts.delayElements(Duration.ofMillis(100))))
+          .expectNextCount(1)
+          .verifyComplete();
     }
 
     @Test
@@ -341,11 +402,11 @@ class CacheIntegrationTest {
     }
 
     @Test
-    @DisplayName("should return cached value on HTTP error when cache has data")
-    void shouldReturnCachedValueOnHttpError() {
-      // Given: Value is pre-cached
+    @DisplayName("should keep returning stale value when revalidation fails")
+    void shouldReturnStaleValueOnHttpError() {
+      // Given: Value is pre-cached past the soft TTL
       InventoryResponse cachedResponse = new InventoryResponse(25);
-      cacheService.put(CACHE_KEY, cachedResponse, Duration.ofMinutes(5)).block();
+      cacheService.put(CACHE_KEY, cachedResponse, Duration.ofSeconds(3)).block();
 
       // And: HTTP returns error
       stubInventoryError(500);
@@ -354,7 +415,7 @@ class CacheIntegrationTest {
       StepVerifier.create(inventoryRepository.getAvailability(SKU))
           .assertNext(
               response -> {
-                // Should return cached value as fallback
+                // Should return the stale value; the failed refresh leaves it cached
                 assertThat(response.availableQuantity()).isEqualTo(25);
               })
           .verifyComplete();
@@ -392,11 +453,11 @@ class CacheIntegrationTest {
     }
 
     @Test
-    @DisplayName("should return cached value on 503 error")
-    void shouldReturnCachedValueOn503Error() {
-      // Given: Value is pre-cached
+    @DisplayName("should return stale value on 503 error")
+    void shouldReturnStaleValueOn503Error() {
+      // Given: Value is pre-cached past the soft TTL
       InventoryResponse cachedResponse = new InventoryResponse(75);
-      cacheService.put(CACHE_KEY, cachedResponse, Duration.ofMinutes(5)).block();
+      cacheService.put(CACHE_KEY, cachedResponse, Duration.ofSeconds(3)).block();
 
       // And: HTTP returns 503
       stubInventoryError(503);
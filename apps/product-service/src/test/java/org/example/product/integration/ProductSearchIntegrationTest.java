@@ -1,5 +1,6 @@
 package org.example.product.integration;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.containing;
 import static com.github.tomakehurst.wiremock.client.WireMock.matchingJsonPath;
@@ -14,6 +15,8 @@ import org.example.platform.test.RedisTestSupport;
 import org.example.platform.test.SecurityTestUtils;
 import org.example.platform.test.TestSecurityConfig;
 import org.example.platform.test.WireMockSupport;
+import org.example.product.cache.SearchCacheKey;
+import org.example.product.cache.SearchPageCodec;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -23,7 +26,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.webtestclient.autoconfigure.AutoConfigureWebTestClient;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -46,6 +53,8 @@ class ProductSearchIntegrationTest {
 
   @Autowired private ReactiveRedisTemplate<String, Object> redisTemplate;
 
+  @Autowired private ReactiveRedisConnectionFactory redisConnectionFactory;
+
   private static final String VALID_ORDER_NUMBER = "550e8400-e29b-41d4-a716-446655440000";
   private static final String VALID_SESSION_ID = "660e8400-e29b-41d4-a716-446655440000";
   private static final String VALID_USER_ID = "abc123";
@@ -241,6 +250,38 @@ class ProductSearchIntegrationTest {
     wireMockServer.verify(1, postRequestedFor(urlPathEqualTo("/catalog/search")));
   }
 
+  @Test
+  void shouldStoreSearchPagesAsRawBytes() {
+    webTestClient
+        .get()
+        .uri("/products/search?q=laptop")
+        .header("Authorization", SecurityTestUtils.bearerAuth(VALID_TOKEN))
+        .header("x-store-number", "100")
+        .header("x-order-number", VALID_ORDER_NUMBER)
+        .header("x-userid", VALID_USER_ID)
+        .header("x-sessionid", VALID_SESSION_ID)
+        .accept(MediaType.APPLICATION_JSON)
+        .exchange()
+        .expectStatus()
+        .isOk();
+
+    ReactiveRedisTemplate<String, byte[]> rawTemplate =
+        new ReactiveRedisTemplate<>(
+            redisConnectionFactory,
+            RedisSerializationContext.<String, byte[]>newSerializationContext(
+                    RedisSerializer.string())
+                .value(RedisSerializer.byteArray())
+                .build());
+    String pageKey =
+        rawTemplate
+            .scan(ScanOptions.scanOptions().match(SearchCacheKey.PAGE_PREFIX + "*").build())
+            .blockFirst();
+    byte[] stored = rawTemplate.opsForValue().get(pageKey).block();
+
+    // The stored value is the codec output itself, not a JSON string holding it as base64
+    assertThat(SearchPageCodec.decode(stored).hits()).isNotEmpty();
+  }
+
   @Test
   void shouldHandlePaginationParameters() {
     webTestClient
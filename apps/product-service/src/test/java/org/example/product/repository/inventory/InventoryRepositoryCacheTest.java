@@ -4,16 +4,21 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
+import org.example.platform.cache.CachedValue;
 import org.example.platform.cache.ReactiveCacheService;
 import org.example.platform.logging.StructuredLogger;
 import org.example.platform.resilience.ReactiveResilience;
+import org.example.product.cache.CachePolicyFactory;
+import org.example.product.cache.NegativeCache;
 import org.example.product.config.CacheProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -51,21 +56,55 @@ class InventoryRepositoryCacheTest {
   void setUp() {
     lenient().when(cacheProperties.getInventory()).thenReturn(serviceCache);
     lenient().when(serviceCache.getTtl()).thenReturn(Duration.ofSeconds(30));
+    lenient().when(serviceCache.getSoftTtl()).thenReturn(Duration.ofSeconds(5));
 
+    // No negative entries unless a test stubs one
+    lenient()
+        .when(cacheService.get(startsWith(NegativeCache.NAMESPACE), eq(String.class)))
+        .thenReturn(Mono.empty());
+
+    CachePolicyFactory cachePolicyFactory =
+        new CachePolicyFactory(
+            cacheService, new NegativeCache(cacheService), new SimpleMeterRegistry());
     repository =
         new InventoryRepository(
-            webClient, resilience, structuredLogger, cacheService, cacheProperties);
+            webClient, resilience, structuredLogger, cachePolicyFactory, cacheProperties);
+  }
+
+  @Test
+  void getAvailability_shouldReturnCachedValueWithoutHttpCall_whileFresh() {
+    // Given
+    long sku = 12345L;
+    String cacheKey = "inventory:sku:" + sku;
+    InventoryResponse cachedResponse = new InventoryResponse(40);
+
+    // 28s of 30s left: written 2s ago, inside the 5s soft TTL
+    when(cacheService.getWithTtl(eq(cacheKey), eq(InventoryResponse.class)))
+        .thenReturn(Mono.just(new CachedValue<>(cachedResponse, Duration.ofSeconds(28))));
+
+    // When & Then
+    StepVerifier.create(repository.getAvailability(sku))
+        .expectNext(cachedResponse)
+        .verifyComplete();
+
+    // Verify no HTTP call was made
+    verify(webClient, never()).get();
   }
 
   @Test
   @SuppressWarnings("unchecked")
-  void getAvailability_shouldAlwaysCallHttpFirst_evenWithCachedData() {
+  void getAvailability_shouldReturnStaleValueAndRefreshInBackground_afterSoftTtl() {
     // Given
     long sku = 12345L;
     String cacheKey = "inventory:sku:" + sku;
-    InventoryResponse httpResponse = new InventoryResponse(50);
+    InventoryResponse staleResponse = new InventoryResponse(40);
+    InventoryResponse httpResponse = new InventoryResponse(35);
 
-    // HTTP call setup - this should ALWAYS be called (fallback-only pattern)
+    // 10s of 30s left: past the 5s soft TTL
+    when(cacheService.getWithTtl(eq(cacheKey), eq(InventoryResponse.class)))
+        .thenReturn(Mono.just(new CachedValue<>(staleResponse, Duration.ofSeconds(10))));
+
+    // HTTP call setup
     when(webClient.get()).thenReturn(requestHeadersUriSpec);
     when(requestHeadersUriSpec.uri(anyString(), anyLong())).thenReturn(requestHeadersSpec);
     when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
@@ -79,26 +118,26 @@ class InventoryRepositoryCacheTest {
     when(cacheService.put(eq(cacheKey), eq(httpResponse), any(Duration.class)))
         .thenReturn(Mono.just(true));
 
-    // When & Then
-    StepVerifier.create(repository.getAvailability(sku)).expectNext(httpResponse).verifyComplete();
-
-    // Verify HTTP call was made
-    verify(webClient).get();
-
-    // Verify cache was updated with fresh data
-    verify(cacheService).put(eq(cacheKey), eq(httpResponse), any(Duration.class));
+    // When & Then - the stale value is served immediately
+    StepVerifier.create(repository.getAvailability(sku))
+        .expectNext(staleResponse)
+        .verifyComplete();
 
-    // Verify cache GET was NOT called (fallback-only pattern)
-    verify(cacheService, never()).get(anyString(), any());
+    // Verify the background refresh replaced the entry with the hard TTL
+    verify(cacheService).put(eq(cacheKey), eq(httpResponse), eq(Duration.ofSeconds(30)));
   }
 
   @Test
   @SuppressWarnings("unchecked")
-  void getAvailability_shouldReturnCachedValue_onHttpError() {
+  void getAvailability_shouldKeepServingStaleValue_whenRefreshFails() {
     // Given
     long sku = 12345L;
     String cacheKey = "inventory:sku:" + sku;
-    InventoryResponse cachedResponse = new InventoryResponse(25);
+    InventoryResponse staleResponse = new InventoryResponse(25);
+
+    // Cache has stale data
+    when(cacheService.getWithTtl(eq(cacheKey), eq(InventoryResponse.class)))
+        .thenReturn(Mono.just(new CachedValue<>(staleResponse, Duration.ofSeconds(10))));
 
     // HTTP call setup
     when(webClient.get()).thenReturn(requestHeadersUriSpec);
@@ -111,20 +150,13 @@ class InventoryRepositoryCacheTest {
     when(resilience.decorate(eq("inventory"), any(Mono.class)))
         .thenReturn(Mono.error(new RuntimeException("Service unavailable")));
 
-    // Circuit breaker state
-    when(resilience.getCircuitBreakerState("inventory")).thenReturn(CircuitBreaker.State.OPEN);
-
-    // Cache has stale data
-    when(cacheService.get(eq(cacheKey), eq(InventoryResponse.class)))
-        .thenReturn(Mono.just(cachedResponse));
-
-    // When & Then - should return cached value
+    // When & Then - should return the stale cached value
     StepVerifier.create(repository.getAvailability(sku))
-        .expectNext(cachedResponse)
+        .expectNext(staleResponse)
         .verifyComplete();
 
-    // Verify cache was queried as fallback
-    verify(cacheService).get(eq(cacheKey), eq(InventoryResponse.class));
+    // Verify the stale entry was not overwritten
+    verify(cacheService, never()).put(anyString(), any(), any(Duration.class));
   }
 
   @Test
@@ -134,6 +166,10 @@ class InventoryRepositoryCacheTest {
     long sku = 12345L;
     String cacheKey = "inventory:sku:" + sku;
 
+    // Cache miss - no stale data available
+    when(cacheService.getWithTtl(eq(cacheKey), eq(InventoryResponse.class)))
+        .thenReturn(Mono.empty());
+
     // HTTP call setup
     when(webClient.get()).thenReturn(requestHeadersUriSpec);
     when(requestHeadersUriSpec.uri(anyString(), anyLong())).thenReturn(requestHeadersSpec);
@@ -148,23 +184,27 @@ class InventoryRepositoryCacheTest {
     // Circuit breaker state
     when(resilience.getCircuitBreakerState("inventory")).thenReturn(CircuitBreaker.State.OPEN);
 
-    // Cache miss - no stale data available
-    when(cacheService.get(eq(cacheKey), eq(InventoryResponse.class))).thenReturn(Mono.empty());
-
     // When & Then - should return backordered (-1)
     StepVerifier.create(repository.getAvailability(sku))
         .expectNextMatches(response -> response.availableQuantity() == -1)
         .verifyComplete();
+
+    // Verify the fallback was not cached
+    verify(cacheService, never()).put(anyString(), any(), any(Duration.class));
   }
 
   @Test
   @SuppressWarnings("unchecked")
-  void getAvailability_shouldUpdateCache_onSuccessfulResponse() {
+  void getAvailability_shouldCallHttpAndCache_onCacheMiss() {
     // Given
     long sku = 12345L;
     String cacheKey = "inventory:sku:" + sku;
     InventoryResponse httpResponse = new InventoryResponse(100);
 
+    // Cache miss
+    when(cacheService.getWithTtl(eq(cacheKey), eq(InventoryResponse.class)))
+        .thenReturn(Mono.empty());
+
     // HTTP call setup
     when(webClient.get()).thenReturn(requestHeadersUriSpec);
     when(requestHeadersUriSpec.uri(anyString(), anyLong())).thenReturn(requestHeadersSpec);
@@ -182,7 +222,7 @@ class InventoryRepositoryCacheTest {
     // When & Then
     StepVerifier.create(repository.getAvailability(sku)).expectNext(httpResponse).verifyComplete();
 
-    // Verify cache was updated with fresh inventory data
+    // Verify cache was populated with the hard TTL
     verify(cacheService).put(eq(cacheKey), eq(httpResponse), eq(Duration.ofSeconds(30)));
   }
 
@@ -194,6 +234,10 @@ class InventoryRepositoryCacheTest {
     String cacheKey = "inventory:sku:" + sku;
     InventoryResponse httpResponse = new InventoryResponse(75);
 
+    // Redis is down - cache get returns empty (graceful degradation)
+    when(cacheService.getWithTtl(eq(cacheKey), eq(InventoryResponse.class)))
+        .thenReturn(Mono.empty());
+
     // HTTP call setup
     when(webClient.get()).thenReturn(requestHeadersUriSpec);
     when(requestHeadersUriSpec.uri(anyString(), anyLong())).thenReturn(requestHeadersSpec);
@@ -211,34 +255,4 @@ class InventoryRepositoryCacheTest {
     // When & Then - should still return HTTP response
     StepVerifier.create(repository.getAvailability(sku)).expectNext(httpResponse).verifyComplete();
   }
-
-  @Test
-  @SuppressWarnings("unchecked")
-  void getAvailability_shouldReturnBackordered_whenBothHttpAndRedisFail() {
-    // Given
-    long sku = 12345L;
-    String cacheKey = "inventory:sku:" + sku;
-
-    // HTTP call setup
-    when(webClient.get()).thenReturn(requestHeadersUriSpec);
-    when(requestHeadersUriSpec.uri(anyString(), anyLong())).thenReturn(requestHeadersSpec);
-    when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-    when(responseSpec.bodyToMono(InventoryResponse.class))
-        .thenReturn(Mono.just(new InventoryResponse(0)));
-
-    // Resilience decoration throws error
-    when(resilience.decorate(eq("inventory"), any(Mono.class)))
-        .thenReturn(Mono.error(new RuntimeException("Service unavailable")));
-
-    // Circuit breaker state
-    when(resilience.getCircuitBreakerState("inventory")).thenReturn(CircuitBreaker.State.OPEN);
-
-    // Redis is also down - returns empty
-    when(cacheService.get(eq(cacheKey), eq(InventoryResponse.class))).thenReturn(Mono.empty());
-
-    // When & Then - should return backordered (-1) as last resort
-    StepVerifier.create(repository.getAvailability(sku))
-        .expectNextMatches(response -> response.availableQuantity() == -1)
-        .verifyComplete();
-  }
 }
@@ -3,16 +3,21 @@ package org.example.product.repository.merchandise;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
+import org.example.platform.cache.CachedValue;
 import org.example.platform.cache.ReactiveCacheService;
 import org.example.platform.logging.StructuredLogger;
 import org.example.platform.resilience.ReactiveResilience;
+import org.example.product.cache.CachePolicyFactory;
+import org.example.product.cache.NegativeCache;
 import org.example.product.config.CacheProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -51,9 +56,17 @@ class MerchandiseRepositoryCacheTest {
     lenient().when(cacheProperties.getMerchandise()).thenReturn(serviceCache);
     lenient().when(serviceCache.getTtl()).thenReturn(Duration.ofMinutes(15));
 
+    // No negative entries unless a test stubs one
+    lenient()
+        .when(cacheService.get(startsWith(NegativeCache.NAMESPACE), eq(String.class)))
+        .thenReturn(Mono.empty());
+
+    CachePolicyFactory cachePolicyFactory =
+        new CachePolicyFactory(
+            cacheService, new NegativeCache(cacheService), new SimpleMeterRegistry());
     repository =
         new MerchandiseRepository(
-            webClient, resilience, structuredLogger, cacheService, cacheProperties);
+            webClient, resilience, structuredLogger, cachePolicyFactory, cacheProperties);
   }
 
   @Test
@@ -65,8 +78,8 @@ class MerchandiseRepositoryCacheTest {
         new MerchandiseResponse(
             "Product Name", "Cached Description", "http://image.url", "Category");
 
-    when(cacheService.get(eq(cacheKey), eq(MerchandiseResponse.class)))
-        .thenReturn(Mono.just(cachedResponse));
+    when(cacheService.getWithTtl(eq(cacheKey), eq(MerchandiseResponse.class)))
+        .thenReturn(Mono.just(new CachedValue<>(cachedResponse, Duration.ofMinutes(15))));
 
     // When & Then
     StepVerifier.create(repository.getMerchandise(sku)).expectNext(cachedResponse).verifyComplete();
@@ -85,7 +98,8 @@ class MerchandiseRepositoryCacheTest {
         new MerchandiseResponse("Product Name", "HTTP Description", "http://image.url", "Category");
 
     // Cache miss
-    when(cacheService.get(eq(cacheKey), eq(MerchandiseResponse.class))).thenReturn(Mono.empty());
+    when(cacheService.getWithTtl(eq(cacheKey), eq(MerchandiseResponse.class)))
+        .thenReturn(Mono.empty());
 
     // HTTP call setup
     when(webClient.get()).thenReturn(requestHeadersUriSpec);
@@ -117,7 +131,8 @@ class MerchandiseRepositoryCacheTest {
     String cacheKey = "merchandise:sku:" + sku;
 
     // Cache miss
-    when(cacheService.get(eq(cacheKey), eq(MerchandiseResponse.class))).thenReturn(Mono.empty());
+    when(cacheService.getWithTtl(eq(cacheKey), eq(MerchandiseResponse.class)))
+        .thenReturn(Mono.empty());
 
     // HTTP call setup
     when(webClient.get()).thenReturn(requestHeadersUriSpec);
@@ -150,7 +165,8 @@ class MerchandiseRepositoryCacheTest {
         new MerchandiseResponse("Product Name", "HTTP Response", "http://image.url", "Category");
 
     // Redis is down - cache get returns empty (graceful degradation)
-    when(cacheService.get(eq(cacheKey), eq(MerchandiseResponse.class))).thenReturn(Mono.empty());
+    when(cacheService.getWithTtl(eq(cacheKey), eq(MerchandiseResponse.class)))
+        .thenReturn(Mono.empty());
 
     // HTTP call setup
     when(webClient.get()).thenReturn(requestHeadersUriSpec);
@@ -4,24 +4,32 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.math.BigDecimal;
 import java.time.Duration;
+import org.example.platform.cache.CachedValue;
 import org.example.platform.cache.ReactiveCacheService;
 import org.example.platform.logging.StructuredLogger;
 import org.example.platform.resilience.ReactiveResilience;
+import org.example.product.cache.CachePolicyFactory;
+import org.example.product.cache.NegativeCache;
 import org.example.product.config.CacheProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -52,9 +60,23 @@ class PriceRepositoryCacheTest {
   void setUp() {
     lenient().when(cacheProperties.getPrice()).thenReturn(serviceCache);
     lenient().when(serviceCache.getTtl()).thenReturn(Duration.ofMinutes(2));
+    lenient().when(serviceCache.getNotFoundTtl()).thenReturn(Duration.ofMinutes(1));
+    lenient().when(serviceCache.getFallbackTtl()).thenReturn(Duration.ofSeconds(10));
+
+    // No negative entries unless a test stubs one
+    lenient()
+        .when(cacheService.get(startsWith(NegativeCache.NAMESPACE), eq(String.class)))
+        .thenReturn(Mono.empty());
+    lenient()
+        .when(cacheService.put(startsWith(NegativeCache.NAMESPACE), any(), any(Duration.class)))
+        .thenReturn(Mono.just(true));
 
+    CachePolicyFactory cachePolicyFactory =
+        new CachePolicyFactory(
+            cacheService, new NegativeCache(cacheService), new SimpleMeterRegistry());
     repository =
-        new PriceRepository(webClient, resilience, structuredLogger, cacheService, cacheProperties);
+        new PriceRepository(
+            webClient, resilience, structuredLogger, cachePolicyFactory, cacheProperties);
   }
 
   @Test
@@ -64,8 +86,8 @@ class PriceRepositoryCacheTest {
     String cacheKey = "price:sku:" + sku;
     PriceResponse cachedResponse = new PriceResponse(new BigDecimal("99.99"), null, "USD");
 
-    when(cacheService.get(eq(cacheKey), eq(PriceResponse.class)))
-        .thenReturn(Mono.just(cachedResponse));
+    when(cacheService.getWithTtl(eq(cacheKey), eq(PriceResponse.class)))
+        .thenReturn(Mono.just(new CachedValue<>(cachedResponse, Duration.ofMinutes(2))));
 
     // When & Then
     StepVerifier.create(repository.getPrice(sku)).expectNext(cachedResponse).verifyComplete();
@@ -83,7 +105,7 @@ class PriceRepositoryCacheTest {
     PriceResponse httpResponse = new PriceResponse(new BigDecimal("149.99"), null, "USD");
 
     // Cache miss
-    when(cacheService.get(eq(cacheKey), eq(PriceResponse.class))).thenReturn(Mono.empty());
+    when(cacheService.getWithTtl(eq(cacheKey), eq(PriceResponse.class))).thenReturn(Mono.empty());
 
     // HTTP call setup
     when(webClient.get()).thenReturn(requestHeadersUriSpec);
@@ -114,7 +136,7 @@ class PriceRepositoryCacheTest {
     String cacheKey = "price:sku:" + sku;
 
     // Cache miss
-    when(cacheService.get(eq(cacheKey), eq(PriceResponse.class))).thenReturn(Mono.empty());
+    when(cacheService.getWithTtl(eq(cacheKey), eq(PriceResponse.class))).thenReturn(Mono.empty());
 
     // HTTP call setup
     when(webClient.get()).thenReturn(requestHeadersUriSpec);
@@ -134,6 +156,65 @@ class PriceRepositoryCacheTest {
     StepVerifier.create(repository.getPrice(sku))
         .expectNextMatches(response -> response.price().compareTo(new BigDecimal("0.00")) == 0)
         .verifyComplete();
+
+    // Verify a short negative entry was written instead of caching the fallback
+    verify(cacheService).put("negative:" + cacheKey, "FALLBACK", Duration.ofSeconds(10));
+    verify(cacheService, never()).put(eq(cacheKey), any(), any(Duration.class));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void getPrice_shouldWriteNotFoundEntry_onHttp404() {
+    // Given
+    long sku = 99999L;
+    String cacheKey = "price:sku:" + sku;
+
+    // Cache miss
+    when(cacheService.getWithTtl(eq(cacheKey), eq(PriceResponse.class))).thenReturn(Mono.empty());
+
+    // HTTP call setup
+    when(webClient.get()).thenReturn(requestHeadersUriSpec);
+    when(requestHeadersUriSpec.uri(anyString(), anyLong())).thenReturn(requestHeadersSpec);
+    when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+    when(responseSpec.bodyToMono(PriceResponse.class)).thenReturn(Mono.empty());
+
+    // Resilience decoration returns 404 (not retried)
+    when(resilience.decorate(eq("price"), any(Mono.class)))
+        .thenReturn(
+            Mono.error(
+                WebClientResponseException.create(
+                    HttpStatus.NOT_FOUND, "Not Found", new HttpHeaders(), new byte[0], null)));
+
+    // Circuit breaker state
+    when(resilience.getCircuitBreakerState("price")).thenReturn(CircuitBreaker.State.CLOSED);
+
+    // When & Then - should return fallback "0.00"
+    StepVerifier.create(repository.getPrice(sku))
+        .expectNextMatches(response -> response.price().compareTo(new BigDecimal("0.00")) == 0)
+        .verifyComplete();
+
+    // Verify the longer not-found TTL was used
+    verify(cacheService).put("negative:" + cacheKey, "NOT_FOUND", Duration.ofMinutes(1));
+  }
+
+  @Test
+  void getPrice_shouldReturnFallbackWithoutHttpCall_whenNegativelyCached() {
+    // Given
+    long sku = 99999L;
+    String cacheKey = "price:sku:" + sku;
+
+    // Cache miss, but a recent lookup returned 404
+    when(cacheService.getWithTtl(eq(cacheKey), eq(PriceResponse.class))).thenReturn(Mono.empty());
+    when(cacheService.get("negative:" + cacheKey, String.class))
+        .thenReturn(Mono.just("NOT_FOUND"));
+
+    // When & Then - should return fallback "0.00"
+    StepVerifier.create(repository.getPrice(sku))
+        .expectNextMatches(response -> response.price().compareTo(new BigDecimal("0.00")) == 0)
+        .verifyComplete();
+
+    // Verify no HTTP call was made
+    verify(webClient, never()).get();
   }
 
   @Test
@@ -145,7 +226,7 @@ class PriceRepositoryCacheTest {
     PriceResponse httpResponse = new PriceResponse(new BigDecimal("199.99"), null, "USD");
 
     // Redis is down - cache get returns empty (graceful degradation)
-    when(cacheService.get(eq(cacheKey), eq(PriceResponse.class))).thenReturn(Mono.empty());
+    when(cacheService.getWithTtl(eq(cacheKey), eq(PriceResponse.class))).thenReturn(Mono.empty());
 
     // HTTP call setup
     when(webClient.get()).thenReturn(requestHeadersUriSpec);
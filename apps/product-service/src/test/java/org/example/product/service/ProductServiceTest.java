@@ -0,0 +1,164 @@
+package org.example.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import org.example.platform.logging.StructuredLogger;
+import org.example.platform.resilience.Deadline;
+import org.example.product.config.AssemblyProperties;
+import org.example.product.repository.inventory.InventoryRepository;
+import org.example.product.repository.inventory.InventoryResponse;
+import org.example.product.repository.merchandise.MerchandiseRepository;
+import org.example.product.repository.merchandise.MerchandiseResponse;
+import org.example.product.repository.price.PriceRepository;
+import org.example.product.repository.price.PriceResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/** Unit tests for deadline-bounded product assembly. */
+@ExtendWith(MockitoExtension.class)
+class ProductServiceTest {
+
+  private static final long SKU = 123456L;
+  private static final MerchandiseResponse MERCHANDISE =
+      new MerchandiseResponse("Widget", "A widget", "http://img/widget.png", "Tools");
+  private static final PriceResponse PRICE =
+      new PriceResponse(new BigDecimal("9.99"), new BigDecimal("12.99"), "USD");
+  private static final InventoryResponse INVENTORY = new InventoryResponse(7);
+
+  @Mock private MerchandiseRepository merchandiseRepository;
+
+  @Mock private PriceRepository priceRepository;
+
+  @Mock private InventoryRepository inventoryRepository;
+
+  @Mock private StructuredLogger structuredLogger;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private ProductService service;
+
+  @BeforeEach
+  void setUp() {
+    AssemblyProperties properties = new AssemblyProperties();
+    properties.setBudget(Duration.ofMillis(300));
+    properties.setHeadroom(Duration.ofMillis(50));
+    service =
+        new ProductService(
+            merchandiseRepository,
+            priceRepository,
+            inventoryRepository,
+            structuredLogger,
+            properties,
+            meterRegistry);
+  }
+
+  @Test
+  void allLegsInTime_productIsComplete() {
+    stubLegs(Mono.just(MERCHANDISE), Mono.just(PRICE), Mono.just(INVENTORY));
+
+    StepVerifier.create(service.getProduct(SKU))
+        .assertNext(
+            product -> {
+              assertThat(product.name()).isEqualTo("Widget");
+              assertThat(product.price()).isEqualByComparingTo("9.99");
+              assertThat(product.availableQuantity()).isEqualTo(7);
+              assertThat(product.onSale()).isTrue();
+              assertThat(product.degraded()).isEmpty();
+            })
+        .verifyComplete();
+
+    assertThat(legCount("merchandise", "ok")).isEqualTo(1);
+    assertThat(legCount("price", "ok")).isEqualTo(1);
+    assertThat(legCount("inventory", "ok")).isEqualTo(1);
+  }
+
+  @Test
+  void repositoryFallback_isMarkedDegraded() {
+    stubLegs(Mono.just(MERCHANDISE), Mono.just(PriceRepository.FALLBACK), Mono.just(INVENTORY));
+
+    StepVerifier.create(service.getProduct(SKU))
+        .assertNext(
+            product -> {
+              assertThat(product.price()).isEqualByComparingTo("0.00");
+              assertThat(product.degraded()).containsExactly("price");
+            })
+        .verifyComplete();
+
+    assertThat(legCount("price", "fallback")).isEqualTo(1);
+  }
+
+  @Test
+  void slowLeg_isCutAtDeadlineAndOtherLegsAreKept() {
+    stubLegs(Mono.just(MERCHANDISE), Mono.just(PRICE), Mono.never());
+
+    StepVerifier.create(service.getProduct(SKU))
+        .assertNext(
+            product -> {
+              assertThat(product.name()).isEqualTo("Widget");
+              assertThat(product.price()).isEqualByComparingTo("9.99");
+              assertThat(product.availableQuantity()).isEqualTo(-1);
+              assertThat(product.inStock()).isFalse();
+              assertThat(product.degraded()).containsExactly("inventory");
+            })
+        .expectComplete()
+        .verify(Duration.ofSeconds(2));
+
+    assertThat(legCount("inventory", "timeout")).isEqualTo(1);
+    assertThat(legCount("merchandise", "ok")).isEqualTo(1);
+  }
+
+  @Test
+  void deadlineFromContext_overridesConfiguredBudget() {
+    stubLegs(
+        Mono.just(MERCHANDISE).delayElement(Duration.ofMillis(200)),
+        Mono.just(PRICE),
+        Mono.just(INVENTORY));
+
+    // 100ms upstream budget leaves 50ms per leg after headroom
+    StepVerifier.create(
+            service
+                .getProduct(SKU)
+                .contextWrite(Deadline.after(Duration.ofMillis(100)).asContext()))
+        .assertNext(product -> assertThat(product.degraded()).containsExactly("merchandise"))
+        .verifyComplete();
+  }
+
+  @Test
+  void expiredDeadline_returnsFallbacksForEveryLeg() {
+    stubLegs(Mono.just(MERCHANDISE), Mono.just(PRICE), Mono.just(INVENTORY));
+
+    StepVerifier.create(
+            service.getProduct(SKU).contextWrite(Deadline.after(Duration.ZERO).asContext()))
+        .assertNext(
+            product ->
+                assertThat(product.degraded())
+                    .containsExactly("merchandise", "price", "inventory"))
+        .verifyComplete();
+  }
+
+  private void stubLegs(
+      Mono<MerchandiseResponse> merchandise,
+      Mono<PriceResponse> price,
+      Mono<InventoryResponse> inventory) {
+    when(merchandiseRepository.getMerchandise(SKU)).thenReturn(merchandise);
+    when(priceRepository.getPrice(SKU)).thenReturn(price);
+    when(inventoryRepository.getAvailability(SKU)).thenReturn(inventory);
+  }
+
+  private long legCount(String leg, String outcome) {
+    return meterRegistry
+        .get("product.assembly.leg.duration")
+        .tag("leg", leg)
+        .tag("outcome", outcome)
+        .timer()
+        .count();
+  }
+}
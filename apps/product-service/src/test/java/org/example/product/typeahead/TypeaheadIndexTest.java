@@ -0,0 +1,111 @@
+package org.example.product.typeahead;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the packed prefix index and the typeahead index built on it. */
+class TypeaheadIndexTest {
+
+  private final TypeaheadIndex index = new TypeaheadIndex(new SimpleMeterRegistry());
+
+  @Test
+  void top_returnsOnlyTermsWithThePrefix_byWeightThenKey() {
+    PrefixIndex prefixIndex =
+        PrefixIndex.build(
+            List.of(
+                term("Wireless Mouse", 1),
+                term("Wine Glass", 1),
+                term("Electronics", 5),
+                term("Wireless Keyboard", 1),
+                term("Winter Jacket", 3),
+                term("Wi", 1)));
+
+    assertThat(prefixIndex.top("wi", 10))
+        .extracting(PrefixIndex.Term::display)
+        .containsExactly(
+            "Winter Jacket", "Wi", "Wine Glass", "Wireless Keyboard", "Wireless Mouse");
+    assertThat(prefixIndex.top("wire", 1))
+        .extracting(PrefixIndex.Term::display)
+        .containsExactly("Wireless Keyboard");
+    assertThat(prefixIndex.top("x", 10)).isEmpty();
+  }
+
+  @Test
+  void build_mergesDuplicateKeysBySummingWeights() {
+    PrefixIndex prefixIndex =
+        PrefixIndex.build(
+            List.of(
+                term("Electronics", 1),
+                term("Espresso Machine", 1),
+                term("ELECTRONICS", 1),
+                term("Electronics", 1)));
+
+    assertThat(prefixIndex.size()).isEqualTo(2);
+    assertThat(prefixIndex.top("e", 1))
+        .singleElement()
+        .satisfies(
+            t -> {
+              assertThat(t.display()).isEqualTo("Electronics");
+              assertThat(t.weight()).isEqualTo(3);
+            });
+    assertThat(prefixIndex.contains("electronics")).isTrue();
+    assertThat(prefixIndex.contains("electron")).isFalse();
+  }
+
+  @Test
+  void top_matchesSegmentTreeAgainstAFullScan() {
+    List<PrefixIndex.Term> terms = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      terms.add(term("item " + Integer.toString(i * 7919 % 1000, 36), 1 + i * 31 % 17));
+    }
+    PrefixIndex prefixIndex = PrefixIndex.build(terms);
+
+    List<PrefixIndex.Term> expected =
+        prefixIndex.terms().stream()
+            .filter(t -> t.key().startsWith("item 1"))
+            .sorted(
+                (a, b) ->
+                    a.weight() != b.weight()
+                        ? Integer.compare(b.weight(), a.weight())
+                        : a.key().compareTo(b.key()))
+            .limit(15)
+            .toList();
+    assertThat(prefixIndex.top("item 1", 15)).isEqualTo(expected);
+  }
+
+  @Test
+  void suggest_normalizesPrefixAndIsNotReadyBeforeTheFirstBuild() {
+    assertThat(index.isReady()).isFalse();
+
+    index.replace(PrefixIndex.build(List.of(term("Café  Crème Mug", 1))));
+
+    assertThat(index.isReady()).isTrue();
+    assertThat(index.suggest("  CAFÉ   cr", 5)).containsExactly("Café  Crème Mug");
+    assertThat(index.suggest("   ", 5)).isEmpty();
+  }
+
+  @Test
+  void add_makesNewProductsSuggestableUntilARebuildCoversThem() {
+    index.replace(PrefixIndex.build(List.of(term("Laptop Stand", 1), term("Electronics", 4))));
+
+    index.add("Laptop Sleeve", "Electronics");
+    index.add("Laptop Stand", null);
+
+    assertThat(index.pendingAdditions()).isEqualTo(1);
+    assertThat(index.suggest("lap", 5)).containsExactly("Laptop Sleeve", "Laptop Stand");
+
+    index.replace(index.merged());
+
+    assertThat(index.pendingAdditions()).isZero();
+    assertThat(index.size()).isEqualTo(3);
+    assertThat(index.suggest("lap", 5)).containsExactly("Laptop Sleeve", "Laptop Stand");
+  }
+
+  private static PrefixIndex.Term term(String display, int weight) {
+    return new PrefixIndex.Term(TypeaheadIndex.normalize(display), display, weight);
+  }
+}
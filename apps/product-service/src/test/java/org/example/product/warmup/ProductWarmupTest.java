@@ -0,0 +1,107 @@
+package org.example.product.warmup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import org.example.model.product.Product;
+import org.example.product.config.WarmupProperties;
+import org.example.product.service.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.health.contributor.Status;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/** Unit tests for the startup warm-up and its readiness indicator. */
+@ExtendWith(MockitoExtension.class)
+class ProductWarmupTest {
+
+  @Mock private ProductService productService;
+
+  @Mock private SkuAccessTracker accessTracker;
+
+  private final WarmupProperties properties = new WarmupProperties();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private ProductWarmup warmup;
+  private WarmupHealthIndicator healthIndicator;
+
+  @BeforeEach
+  void setUp() {
+    properties.setSkus(List.of(100001L, 100002L));
+    properties.setPasses(2);
+    warmup = new ProductWarmup(productService, accessTracker, properties, meterRegistry);
+    healthIndicator = new WarmupHealthIndicator(warmup);
+  }
+
+  @Test
+  void run_warmsConfiguredThenTopSkusForEveryPass_andReportsReady() {
+    when(accessTracker.topSkus(anyInt())).thenReturn(Mono.just(List.of(100002L, 300001L)));
+    when(productService.getProduct(anyLong()))
+        .thenAnswer(invocation -> Mono.just(product(invocation.getArgument(0), List.of())));
+
+    assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+
+    StepVerifier.create(warmup.run()).verifyComplete();
+
+    verify(productService, times(2)).getProduct(100001L);
+    verify(productService, times(2)).getProduct(100002L);
+    verify(productService, times(2)).getProduct(300001L);
+    assertThat(warmup.result().outcome()).isEqualTo("complete");
+    assertThat(warmup.result().skus()).isEqualTo(3);
+    assertThat(warmup.result().assembled()).isEqualTo(6);
+    assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+    assertThat(meterRegistry.get("product.warmup.time.to.ready").timeGauge().value())
+        .isPositive();
+  }
+
+  @Test
+  void run_countsDegradedProducts_andWarmsConfiguredSkusWhenStatsFail() {
+    properties.setPasses(1);
+    when(accessTracker.topSkus(anyInt()))
+        .thenReturn(Mono.error(new IllegalStateException("redis down")));
+    when(productService.getProduct(anyLong()))
+        .thenAnswer(
+            invocation -> Mono.just(product(invocation.getArgument(0), List.of("price"))));
+
+    StepVerifier.create(warmup.run()).verifyComplete();
+
+    assertThat(warmup.result().skus()).isEqualTo(2);
+    assertThat(warmup.result().degraded()).isEqualTo(2);
+  }
+
+  @Test
+  void run_reportsReadyAtTheDeadline() {
+    properties.setDeadline(Duration.ofMillis(100));
+    when(accessTracker.topSkus(anyInt())).thenReturn(Mono.just(List.of()));
+    when(productService.getProduct(anyLong())).thenReturn(Mono.never());
+
+    StepVerifier.create(warmup.run()).verifyComplete();
+
+    assertThat(warmup.result().outcome()).isEqualTo("deadline");
+    assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+  }
+
+  private static Product product(long sku, List<String> degraded) {
+    return Product.create(
+        sku,
+        "Widget",
+        "A widget",
+        new BigDecimal("9.99"),
+        new BigDecimal("9.99"),
+        5,
+        "http://img/widget.png",
+        "Tools",
+        degraded);
+  }
+}
@@ -0,0 +1,83 @@
+package org.example.user.service;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import java.text.ParseException;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Tokens signed and verified per second on one core for each {@link SigningAlgorithm}, with the
+ * signer built once per key as {@link JwtService} does. ES256 should sign well over ten times
+ * faster than RS256; RS256 verifies faster than it signs.
+ *
+ * <p>Run with {@code ./gradlew :apps:user-service:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+public class JwtSigningBenchmark {
+
+  @Param({"RS256", "ES256"})
+  SigningAlgorithm algorithm;
+
+  private SigningKey key;
+  private JWSVerifier verifier;
+  private JWTClaimsSet claims;
+  private String token;
+
+  @Setup
+  public void setUp() throws JOSEException {
+    key = SigningKey.generate(algorithm);
+    verifier =
+        switch (algorithm) {
+          case RS256 -> new RSASSAVerifier(key.publicJwk().toRSAKey());
+          case ES256 -> new ECDSAVerifier(key.publicJwk().toECKey());
+        };
+    Instant now = Instant.now();
+    claims =
+        new JWTClaimsSet.Builder()
+            .issuer("http://localhost:8089")
+            .subject("11111111-1111-1111-1111-111111111111")
+            .claim("username", "dev-employee")
+            .claim("user_type", "EMPLOYEE")
+            .claim("permissions", List.of("READ", "WRITE", "ADMIN", "CUSTOMER_SEARCH"))
+            .claim("scope", "read write admin customer_search")
+            .claim("store_number", 1234)
+            .audience("reactive-platform")
+            .issueTime(Date.from(now))
+            .expirationTime(Date.from(now.plusSeconds(86_400)))
+            .build();
+    token = sign();
+  }
+
+  /** Sign and serialize one token. */
+  @Benchmark
+  public String sign() throws JOSEException {
+    SignedJWT jwt = new SignedJWT(key.header(), claims);
+    jwt.sign(key.signer());
+    return jwt.serialize();
+  }
+
+  /** Parse and verify one token, the cost each resource server pays on a cache miss. */
+  @Benchmark
+  public boolean verify() throws ParseException, JOSEException {
+    return SignedJWT.parse(token).verify(verifier);
+  }
+}
@@ -2,6 +2,7 @@ package org.example.user;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(
     scanBasePackages = {
@@ -9,6 +10,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
       "org.example.platform.logging",
       "org.example.platform.error"
     })
+@EnableScheduling
 public class UserServiceApplication {
 
   public static void main(String[] args) {
@@ -1,50 +1,24 @@
 package org.example.user.config;
 
-import com.nimbusds.jose.jwk.JWKSet;
-import com.nimbusds.jose.jwk.RSAKey;
-import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
-import com.nimbusds.jose.jwk.source.JWKSource;
-import com.nimbusds.jose.proc.SecurityContext;
-import java.security.KeyPair;
-import java.security.KeyPairGenerator;
-import java.security.interfaces.RSAPrivateKey;
-import java.security.interfaces.RSAPublicKey;
-import java.util.UUID;
+import java.time.Clock;
+import org.example.user.service.SigningKeyRing;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 /**
  * JWT configuration for token signing.
  *
- * <p>Generates RSA key pair for signing JWTs. In production, keys should be loaded from a secure
- * key store rather than generated at startup.
+ * <p>Generates signing keys in memory at startup and rotates them on the schedule in {@link
+ * SigningKeyProperties}. In production, keys should be loaded from a secure key store rather than
+ * generated at startup.
  */
 @Configuration
+@EnableConfigurationProperties(SigningKeyProperties.class)
 public class JwtConfig {
 
   @Bean
-  public JWKSource<SecurityContext> jwkSource() {
-    KeyPair keyPair = generateRsaKey();
-    RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
-    RSAPrivateKey privateKey = (RSAPrivateKey) keyPair.getPrivate();
-
-    RSAKey rsaKey =
-        new RSAKey.Builder(publicKey)
-            .privateKey(privateKey)
-            .keyID(UUID.randomUUID().toString())
-            .build();
-
-    JWKSet jwkSet = new JWKSet(rsaKey);
-    return new ImmutableJWKSet<>(jwkSet);
-  }
-
-  private static KeyPair generateRsaKey() {
-    try {
-      KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
-      keyPairGenerator.initialize(2048);
-      return keyPairGenerator.generateKeyPair();
-    } catch (Exception ex) {
-      throw new IllegalStateException("Failed to generate RSA key pair", ex);
-    }
+  public SigningKeyRing signingKeyRing(SigningKeyProperties properties) {
+    return new SigningKeyRing(properties, Clock.systemUTC());
   }
 }
@@ -0,0 +1,53 @@
+package org.example.user.config;
+
+import java.time.Duration;
+import org.example.user.service.SigningAlgorithm;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Token signing key settings, bound to 'jwt.signing'.
+ *
+ * <p>Each rotation activates the key that has been published as the next key since the previous
+ * rotation, so verifiers have it before the first token it signs. Retired keys stay published for
+ * {@link #getRetain()}, which must cover the longest token lifetime.
+ */
+@ConfigurationProperties(prefix = "jwt.signing")
+public class SigningKeyProperties {
+
+  /** Signature algorithm for new keys. ES256 signs and verifies much faster than RS256. */
+  private SigningAlgorithm algorithm = SigningAlgorithm.RS256;
+
+  /** How long a key signs tokens before the next one takes over; zero disables rotation. */
+  private Duration rotationInterval = Duration.ofHours(24);
+
+  /** How long a retired key stays in the JWK set. */
+  private Duration retain = Duration.ofHours(25);
+
+  public SigningAlgorithm getAlgorithm() {
+    return algorithm;
+  }
+
+  public void setAlgorithm(SigningAlgorithm algorithm) {
+    this.algorithm = algorithm;
+  }
+
+  public Duration getRotationInterval() {
+    return rotationInterval;
+  }
+
+  public void setRotationInterval(Duration rotationInterval) {
+    this.rotationInterval = rotationInterval;
+  }
+
+  public Duration getRetain() {
+    return retain;
+  }
+
+  public void setRetain(Duration retain) {
+    this.retain = retain;
+  }
+
+  public boolean isRotationEnabled() {
+    return !rotationInterval.isZero() && !rotationInterval.isNegative();
+  }
+}
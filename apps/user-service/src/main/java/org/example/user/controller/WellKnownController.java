@@ -1,8 +1,16 @@
 package org.example.user.controller;
 
+import java.time.Duration;
 import java.util.Map;
 import org.example.user.service.JwtService;
+import org.example.user.service.PublishedJwks;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import reactor.core.publisher.Mono;
@@ -12,11 +20,17 @@ import reactor.core.publisher.Mono;
  *
  * <p>Provides /.well-known/openid-configuration and /.well-known/jwks.json endpoints that consuming
  * services use to verify JWT tokens.
+ *
+ * <p>The JWK set is served from the document precomputed at each key change, with a strong ETag so
+ * verifiers can revalidate with If-None-Match and get a 304 until the keys change.
  */
 @RestController
 @RequestMapping("/.well-known")
 public class WellKnownController {
 
+  /** Well inside the rotation interval, during which the next key is already published. */
+  private static final Duration JWKS_MAX_AGE = Duration.ofMinutes(5);
+
   private final JwtService jwtService;
 
   public WellKnownController(JwtService jwtService) {
@@ -40,14 +54,30 @@ public class WellKnownController {
                   "authorization_code", "client_credentials", "refresh_token", "password"
                 },
             "subject_types_supported", new String[] {"public"},
-            "id_token_signing_alg_values_supported", new String[] {"RS256"},
+            "id_token_signing_alg_values_supported",
+                new String[] {jwtService.getSigningAlgorithm()},
             "token_endpoint_auth_methods_supported",
                 new String[] {"client_secret_basic", "client_secret_post"}));
   }
 
   /** JWK Set endpoint for token verification. */
   @GetMapping("/jwks.json")
-  public Mono<Map<String, Object>> jwks() {
-    return Mono.just(jwtService.getJwkSet().toJSONObject());
+  public Mono<ResponseEntity<String>> jwks(
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    PublishedJwks jwks = jwtService.getPublishedJwks();
+    CacheControl cacheControl = CacheControl.maxAge(JWKS_MAX_AGE).cachePublic();
+    if (jwks.etag().equals(ifNoneMatch)) {
+      return Mono.just(
+          ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+              .eTag(jwks.etag())
+              .cacheControl(cacheControl)
+              .build());
+    }
+    return Mono.just(
+        ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .eTag(jwks.etag())
+            .cacheControl(cacheControl)
+            .body(jwks.json()));
   }
 }
@@ -1,49 +1,31 @@
 package org.example.user.service;
 
 import com.nimbusds.jose.JOSEException;
-import com.nimbusds.jose.JWSAlgorithm;
-import com.nimbusds.jose.JWSHeader;
-import com.nimbusds.jose.JWSSigner;
-import com.nimbusds.jose.crypto.RSASSASigner;
-import com.nimbusds.jose.jwk.JWK;
-import com.nimbusds.jose.jwk.JWKMatcher;
-import com.nimbusds.jose.jwk.JWKSelector;
-import com.nimbusds.jose.jwk.JWKSet;
-import com.nimbusds.jose.jwk.KeyType;
-import com.nimbusds.jose.jwk.RSAKey;
-import com.nimbusds.jose.jwk.source.JWKSource;
-import com.nimbusds.jose.proc.SecurityContext;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
-import java.util.List;
 import java.util.UUID;
 import org.example.user.model.User;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-/** Service for generating and signing JWT tokens. */
+/**
+ * Service for generating and signing JWT tokens.
+ *
+ * <p>Tokens are signed with the active key of the {@link SigningKeyRing}, whose signer and header
+ * are built once per key rather than per token.
+ */
 @Service
 public class JwtService {
 
-  private final JWKSource<SecurityContext> jwkSource;
+  private final SigningKeyRing signingKeys;
   private final String issuer;
-  private final RSAKey rsaKey;
 
-  public JwtService(JWKSource<SecurityContext> jwkSource, @Value("${jwt.issuer}") String issuer) {
-    this.jwkSource = jwkSource;
+  public JwtService(SigningKeyRing signingKeys, @Value("${jwt.issuer}") String issuer) {
+    this.signingKeys = signingKeys;
     this.issuer = issuer;
-
-    // Get the RSA key from the JWK source
-    try {
-      JWKSelector selector = new JWKSelector(new JWKMatcher.Builder().keyType(KeyType.RSA).build());
-      List<JWK> keys = jwkSource.get(selector, null);
-      this.rsaKey = keys.get(0).toRSAKey();
-    } catch (Exception e) {
-      throw new IllegalStateException("Failed to get RSA key from JWK source", e);
-    }
   }
 
   /** Generate a JWT token for a user. */
@@ -75,12 +57,9 @@ public class JwtService {
 
       JWTClaimsSet claims = claimsBuilder.build();
 
-      JWSHeader header = new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(rsaKey.getKeyID()).build();
-
-      SignedJWT signedJWT = new SignedJWT(header, claims);
-
-      JWSSigner signer = new RSASSASigner(rsaKey);
-      signedJWT.sign(signer);
+      SigningKey key = signingKeys.active();
+      SignedJWT signedJWT = new SignedJWT(key.header(), claims);
+      signedJWT.sign(key.signer());
 
       return signedJWT.serialize();
     } catch (JOSEException e) {
@@ -88,15 +67,14 @@ public class JwtService {
     }
   }
 
-  /** Get the JWK Set for token verification (exposed via /.well-known/jwks.json). */
-  public JWKSet getJwkSet() {
-    try {
-      JWKSelector selector = new JWKSelector(new JWKMatcher.Builder().keyType(KeyType.RSA).build());
-      List<JWK> keys = jwkSource.get(selector, null);
-      return new JWKSet(keys);
-    } catch (Exception e) {
-      throw new IllegalStateException("Failed to get JWK set", e);
-    }
+  /** Get the serialized JWK Set for token verification (exposed via /.well-known/jwks.json). */
+  public PublishedJwks getPublishedJwks() {
+    return signingKeys.published();
+  }
+
+  /** Get the JWS algorithm name of the signing keys, e.g. RS256. */
+  public String getSigningAlgorithm() {
+    return signingKeys.algorithm().jwsAlgorithm().getName();
   }
 
   public String getIssuer() {
@@ -0,0 +1,39 @@
+package org.example.user.service;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * The serialized JWK set served at /.well-known/jwks.json, built once per key change.
+ *
+ * @param json the public keys as a JWK set document
+ * @param etag strong entity tag derived from the document, quoted
+ */
+public record PublishedJwks(String json, String etag) {
+
+  /**
+   * Serialize the public halves of the given keys.
+   *
+   * @param keys keys to publish, in order
+   * @return the document and its ETag
+   */
+  public static PublishedJwks of(List<JWK> keys) {
+    String json = new JWKSet(keys.stream().map(JWK::toPublicJWK).toList()).toString();
+    return new PublishedJwks(json, '"' + digest(json) + '"');
+  }
+
+  private static String digest(String json) {
+    try {
+      byte[] hash =
+          MessageDigest.getInstance("SHA-256").digest(json.getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(hash, 0, 16);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+}
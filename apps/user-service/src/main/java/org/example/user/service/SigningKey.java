@@ -0,0 +1,44 @@
+package org.example.user.service;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.jwk.JWK;
+import java.util.UUID;
+
+/**
+ * A signing key pair with its signer and token header built once, so signing a token only computes
+ * the signature.
+ *
+ * @param jwk the key pair
+ * @param signer signer for the private key; Nimbus signers are thread-safe
+ * @param header JWS header naming the algorithm and key ID
+ */
+public record SigningKey(JWK jwk, JWSSigner signer, JWSHeader header) {
+
+  /**
+   * Generate a new key pair with a random key ID.
+   *
+   * @param algorithm the signature algorithm
+   * @return the key, ready to sign
+   */
+  public static SigningKey generate(SigningAlgorithm algorithm) {
+    try {
+      JWK jwk = algorithm.generate(UUID.randomUUID().toString());
+      JWSHeader header =
+          new JWSHeader.Builder(algorithm.jwsAlgorithm()).keyID(jwk.getKeyID()).build();
+      return new SigningKey(jwk, algorithm.signer(jwk), header);
+    } catch (JOSEException e) {
+      throw new IllegalStateException("Failed to generate " + algorithm + " signing key", e);
+    }
+  }
+
+  public String keyId() {
+    return jwk.getKeyID();
+  }
+
+  /** The public half, for publication. */
+  public JWK publicJwk() {
+    return jwk.toPublicJWK();
+  }
+}
@@ -0,0 +1,120 @@
+package org.example.user.service;
+
+import com.nimbusds.jose.jwk.JWK;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.example.user.config.SigningKeyProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Holds the token signing keys and rotates them on schedule.
+ *
+ * <p>Three kinds of key are published: the active key that signs new tokens, the next key that
+ * takes over at the following rotation (published a full interval ahead, so verifiers that cache
+ * the JWK set already hold it), and retired keys that stay published until the tokens they signed
+ * have expired. Each change swaps in a new immutable snapshot with the serialized JWK set, so
+ * readers never lock and the set is not rebuilt per request.
+ */
+public class SigningKeyRing {
+
+  private static final Logger log = LoggerFactory.getLogger(SigningKeyRing.class);
+
+  private final SigningKeyProperties properties;
+  private final Clock clock;
+  private volatile Snapshot snapshot;
+
+  public SigningKeyRing(SigningKeyProperties properties, Clock clock) {
+    this.properties = properties;
+    this.clock = clock;
+    SigningKey next = properties.isRotationEnabled() ? generate() : null;
+    this.snapshot = Snapshot.of(generate(), clock.instant(), next, List.of());
+  }
+
+  /** The key that signs new tokens. */
+  public SigningKey active() {
+    return snapshot.active();
+  }
+
+  /** The published JWK set: active, next and retired public keys. */
+  public PublishedJwks published() {
+    return snapshot.published();
+  }
+
+  public SigningAlgorithm algorithm() {
+    return properties.getAlgorithm();
+  }
+
+  /** Rotate when the active key has served its interval, and drop expired retired keys. */
+  @Scheduled(
+      initialDelayString = "${jwt.signing.check-interval:PT1M}",
+      fixedDelayString = "${jwt.signing.check-interval:PT1M}")
+  public void rotateIfDue() {
+    if (!properties.isRotationEnabled()) {
+      return;
+    }
+    Instant now = clock.instant();
+    Snapshot current = snapshot;
+    if (!now.isBefore(current.activatedAt().plus(properties.getRotationInterval()))) {
+      rotate();
+    } else if (current.hasRetiredBefore(now.minus(properties.getRetain()))) {
+      synchronized (this) {
+        Snapshot latest = snapshot;
+        snapshot =
+            Snapshot.of(latest.active(), latest.activatedAt(), latest.next(), retained(latest));
+      }
+    }
+  }
+
+  /** Activate the next key now, retire the active one and publish a new next key. */
+  public synchronized void rotate() {
+    Snapshot current = snapshot;
+    Instant now = clock.instant();
+    List<Retired> retired = new ArrayList<>(retained(current));
+    retired.add(0, new Retired(current.active(), now));
+    SigningKey active = current.next() != null ? current.next() : generate();
+    snapshot = Snapshot.of(active, now, generate(), retired);
+    log.info(
+        "Rotated signing key: active={}, retired={}, published={}",
+        active.keyId(),
+        current.active().keyId(),
+        retired.size() + 2);
+  }
+
+  private List<Retired> retained(Snapshot current) {
+    Instant cutoff = clock.instant().minus(properties.getRetain());
+    return current.retired().stream().filter(r -> r.retiredAt().isAfter(cutoff)).toList();
+  }
+
+  private SigningKey generate() {
+    return SigningKey.generate(properties.getAlgorithm());
+  }
+
+  private record Retired(SigningKey key, Instant retiredAt) {}
+
+  private record Snapshot(
+      SigningKey active,
+      Instant activatedAt,
+      SigningKey next,
+      List<Retired> retired,
+      PublishedJwks published) {
+
+    static Snapshot of(
+        SigningKey active, Instant activatedAt, SigningKey next, List<Retired> retired) {
+      List<JWK> keys = new ArrayList<>(retired.size() + 2);
+      keys.add(active.jwk());
+      if (next != null) {
+        keys.add(next.jwk());
+      }
+      retired.forEach(r -> keys.add(r.key().jwk()));
+      return new Snapshot(active, activatedAt, next, List.copyOf(retired), PublishedJwks.of(keys));
+    }
+
+    boolean hasRetiredBefore(Instant cutoff) {
+      return retired.stream().anyMatch(r -> !r.retiredAt().isAfter(cutoff));
+    }
+  }
+}
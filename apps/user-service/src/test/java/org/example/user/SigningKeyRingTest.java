@@ -0,0 +1,139 @@
+package org.example.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.example.user.config.SigningKeyProperties;
+import org.example.user.service.SigningAlgorithm;
+import org.example.user.service.SigningKey;
+import org.example.user.service.SigningKeyRing;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SigningKeyRingTest {
+
+  private final SigningKeyProperties properties = new SigningKeyProperties();
+  private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+
+  @BeforeEach
+  void setUp() {
+    properties.setAlgorithm(SigningAlgorithm.ES256);
+    properties.setRotationInterval(Duration.ofHours(24));
+    properties.setRetain(Duration.ofHours(25));
+  }
+
+  @Test
+  void shouldPublishActiveAndNextKeys() throws Exception {
+    SigningKeyRing ring = new SigningKeyRing(properties, clock);
+
+    List<String> published = keyIds(ring);
+
+    assertThat(published).hasSize(2).startsWith(ring.active().keyId());
+  }
+
+  @Test
+  void shouldActivatePrePublishedKeyOnRotation() throws Exception {
+    SigningKeyRing ring = new SigningKeyRing(properties, clock);
+    String first = ring.active().keyId();
+    String next = keyIds(ring).get(1);
+
+    clock.advance(Duration.ofHours(24));
+    ring.rotateIfDue();
+
+    assertThat(ring.active().keyId()).isEqualTo(next);
+    assertThat(keyIds(ring)).hasSize(3).contains(first, next);
+  }
+
+  @Test
+  void shouldDropRetiredKeysAfterRetention() throws Exception {
+    SigningKeyRing ring = new SigningKeyRing(properties, clock);
+    String first = ring.active().keyId();
+
+    clock.advance(Duration.ofHours(24));
+    ring.rotateIfDue();
+    clock.advance(Duration.ofHours(25));
+    ring.rotateIfDue();
+
+    assertThat(keyIds(ring)).doesNotContain(first);
+  }
+
+  @Test
+  void shouldKeepEtagUntilKeysChange() {
+    SigningKeyRing ring = new SigningKeyRing(properties, clock);
+    String etag = ring.published().etag();
+
+    clock.advance(Duration.ofHours(1));
+    ring.rotateIfDue();
+    assertThat(ring.published().etag()).isEqualTo(etag);
+
+    ring.rotate();
+    assertThat(ring.published().etag()).isNotEqualTo(etag);
+  }
+
+  @Test
+  void shouldNotRotateWhenDisabled() throws Exception {
+    properties.setRotationInterval(Duration.ZERO);
+    SigningKeyRing ring = new SigningKeyRing(properties, clock);
+    String active = ring.active().keyId();
+
+    clock.advance(Duration.ofDays(30));
+    ring.rotateIfDue();
+
+    assertThat(ring.active().keyId()).isEqualTo(active);
+    assertThat(keyIds(ring)).containsExactly(active);
+  }
+
+  @Test
+  void shouldSignVerifiableTokens() throws Exception {
+    SigningKey key = new SigningKeyRing(properties, clock).active();
+    SignedJWT jwt = new SignedJWT(key.header(), new JWTClaimsSet.Builder().subject("u1").build());
+
+    jwt.sign(key.signer());
+    JWSVerifier verifier = new ECDSAVerifier(key.publicJwk().toECKey());
+
+    assertThat(SignedJWT.parse(jwt.serialize()).verify(verifier)).isTrue();
+    assertThat(jwt.getHeader().getKeyID()).isEqualTo(key.keyId());
+  }
+
+  private static List<String> keyIds(SigningKeyRing ring) throws Exception {
+    return JWKSet.parse(ring.published().json()).getKeys().stream().map(JWK::getKeyID).toList();
+  }
+
+  private static final class MutableClock extends Clock {
+    private Instant now;
+
+    MutableClock(Instant now) {
+      this.now = now;
+    }
+
+    void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
@@ -3,19 +3,18 @@ package org.example.user;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 
-import com.nimbusds.jose.jwk.JWKSet;
-import com.nimbusds.jose.jwk.RSAKey;
-import java.security.KeyPair;
-import java.security.KeyPairGenerator;
-import java.security.interfaces.RSAPublicKey;
-import java.util.UUID;
+import java.util.List;
 import org.example.user.controller.WellKnownController;
 import org.example.user.service.JwtService;
+import org.example.user.service.PublishedJwks;
+import org.example.user.service.SigningAlgorithm;
+import org.example.user.service.SigningKey;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
 import reactor.test.StepVerifier;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +32,7 @@ class WellKnownControllerTest {
   @Test
   void shouldReturnOpenIdConfiguration() {
     when(jwtService.getIssuer()).thenReturn("http://localhost:8089");
+    when(jwtService.getSigningAlgorithm()).thenReturn("ES256");
 
     StepVerifier.create(controller.openidConfiguration())
         .assertNext(
@@ -42,30 +42,44 @@ class WellKnownControllerTest {
                   .isEqualTo("http://localhost:8089/.well-known/jwks.json");
               assertThat(config.get("token_endpoint"))
                   .isEqualTo("http://localhost:8089/oauth2/token");
+              assertThat((String[]) config.get("id_token_signing_alg_values_supported"))
+                  .containsExactly("ES256");
             })
         .verifyComplete();
   }
 
   @Test
-  @SuppressWarnings("unchecked")
-  void shouldReturnJwkSet() throws Exception {
-    // Generate a test RSA key
-    KeyPairGenerator keyGen = KeyPairGenerator.getInstance("RSA");
-    keyGen.initialize(2048);
-    KeyPair keyPair = keyGen.generateKeyPair();
-    RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+  void shouldReturnJwkSetWithEtag() {
+    PublishedJwks jwks = jwks();
+    when(jwtService.getPublishedJwks()).thenReturn(jwks);
 
-    RSAKey rsaKey = new RSAKey.Builder(publicKey).keyID(UUID.randomUUID().toString()).build();
-    JWKSet jwkSet = new JWKSet(rsaKey);
+    StepVerifier.create(controller.jwks(null))
+        .assertNext(
+            response -> {
+              assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+              assertThat(response.getHeaders().getETag()).isEqualTo(jwks.etag());
+              assertThat(response.getHeaders().getCacheControl()).contains("max-age=300");
+              assertThat(response.getBody()).contains("\"keys\"").doesNotContain("\"d\"");
+            })
+        .verifyComplete();
+  }
 
-    when(jwtService.getJwkSet()).thenReturn(jwkSet);
+  @Test
+  void shouldReturnNotModifiedForMatchingEtag() {
+    PublishedJwks jwks = jwks();
+    when(jwtService.getPublishedJwks()).thenReturn(jwks);
 
-    StepVerifier.create(controller.jwks())
+    StepVerifier.create(controller.jwks(jwks.etag()))
         .assertNext(
-            result -> {
-              assertThat(result.get("keys")).isNotNull();
-              assertThat(result.get("keys")).isInstanceOf(java.util.List.class);
+            response -> {
+              assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+              assertThat(response.getHeaders().getETag()).isEqualTo(jwks.etag());
+              assertThat(response.getBody()).isNull();
             })
         .verifyComplete();
   }
+
+  private static PublishedJwks jwks() {
+    return PublishedJwks.of(List.of(SigningKey.generate(SigningAlgorithm.RS256).jwk()));
+  }
 }
@@ -13,4 +13,6 @@ dependencies {
     implementation("io.spring.gradle:dependency-management-plugin:1.1.7")
     // Code formatting
     implementation("com.diffplug.spotless:spotless-plugin-gradle:7.0.0.BETA4")
+    // Microbenchmarks (src/jmh)
+    implementation("me.champeau.jmh:jmh-gradle-plugin:0.7.3")
 }
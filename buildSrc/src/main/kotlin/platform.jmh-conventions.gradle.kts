@@ -0,0 +1,19 @@
+// JMH microbenchmark conventions - benchmarks live in src/jmh/java
+// Run with: ./gradlew :apps:<service>:jmh  (results in build/results/jmh)
+plugins {
+    java
+    id("me.champeau.jmh")
+}
+
+val libs = the<VersionCatalogsExtension>().named("libs")
+
+jmh {
+    jmhVersion.set(libs.findVersion("jmh").get().requiredVersion)
+    // Short defaults keep local runs quick; override with -Pjmh.* or the jmh {} block per module
+    warmupIterations.set(2)
+    iterations.set(3)
+    fork.set(1)
+    // Report allocation rate alongside throughput
+    profilers.add("gc")
+    resultFormat.set("JSON")
+}
@@ -45,6 +45,11 @@ CREATE DATABASE orderdb;
 CREATE USER order_user WITH ENCRYPTED PASSWORD 'order_pass';
 GRANT ALL PRIVILEGES ON DATABASE orderdb TO order_user;
 
+-- Discount Service Database
+CREATE DATABASE discountdb;
+CREATE USER discount_user WITH ENCRYPTED PASSWORD 'discount_pass';
+GRANT ALL PRIVILEGES ON DATABASE discountdb TO discount_user;
+
 -- Grant schema permissions
 \c cartdb
 GRANT ALL ON SCHEMA public TO cart_user;
@@ -72,3 +77,6 @@ GRANT ALL ON SCHEMA public TO inventory_user;
 
 \c orderdb
 GRANT ALL ON SCHEMA public TO order_user;
+
+\c discountdb
+GRANT ALL ON SCHEMA public TO discount_user;
@@ -0,0 +1,12 @@
+package org.example.platform.cache;
+
+import java.time.Duration;
+
+/**
+ * A cached value together with the time it has left before the cache evicts it.
+ *
+ * @param value the cached value
+ * @param remainingTtl time until expiry, or null if the entry has no expiry or it is unknown
+ * @param <T> the type of the cached value
+ */
+public record CachedValue<T>(T value, Duration remainingTtl) {}
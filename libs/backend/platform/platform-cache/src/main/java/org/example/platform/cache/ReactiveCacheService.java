@@ -1,6 +1,8 @@
 package org.example.platform.cache;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
 import reactor.core.publisher.Mono;
 
 /**
@@ -19,6 +21,28 @@ public interface ReactiveCacheService {
    */
   <T> Mono<T> get(String key, Class<T> type);
 
+  /**
+   * Get several values from cache in one round trip. Missing keys, values that cannot be
+   * deserialized and Redis failures are left out of the result.
+   *
+   * @param keys the cache keys
+   * @param type the class type to deserialize to
+   * @param <T> the type of the cached values
+   * @return a Mono containing the values found, keyed by cache key; empty map if none
+   */
+  <T> Mono<Map<String, T>> getAll(Collection<String> keys, Class<T> type);
+
+  /**
+   * Get a value from cache together with its remaining TTL, so callers can apply their own
+   * freshness policy. Returns Mono.empty() on cache miss or Redis failure.
+   *
+   * @param key the cache key
+   * @param type the class type to deserialize to
+   * @param <T> the type of the cached value
+   * @return a Mono containing the cached value and its remaining TTL, or empty if not found
+   */
+  <T> Mono<CachedValue<T>> getWithTtl(String key, Class<T> type);
+
   /**
    * Put a value in cache with TTL. Fails silently on Redis errors (does not propagate errors).
    *
@@ -37,4 +61,13 @@ public interface ReactiveCacheService {
    * @return a Mono indicating if the key was deleted
    */
   Mono<Boolean> delete(String key);
+
+  /**
+   * Delete every key starting with a prefix. Keys are found with SCAN, so Redis is not blocked, but
+   * keys written during the purge may survive it. Returns 0 on Redis failure.
+   *
+   * @param prefix the key prefix; must not contain glob characters
+   * @return a Mono containing the number of keys deleted
+   */
+  Mono<Long> deleteByPrefix(String prefix);
 }
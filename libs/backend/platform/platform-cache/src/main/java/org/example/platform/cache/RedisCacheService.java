@@ -2,9 +2,16 @@ package org.example.platform.cache;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import reactor.core.publisher.Mono;
 
 /**
@@ -18,6 +25,8 @@ public class RedisCacheService implements ReactiveCacheService {
 
   private static final Logger log = LoggerFactory.getLogger(RedisCacheService.class);
 
+  private static final long SCAN_BATCH_SIZE = 500;
+
   private final ReactiveRedisTemplate<String, Object> redisTemplate;
   private final ObjectMapper objectMapper;
 
@@ -56,6 +65,57 @@ public class RedisCacheService implements ReactiveCacheService {
             });
   }
 
+  @Override
+  public <T> Mono<Map<String, T>> getAll(Collection<String> keys, Class<T> type) {
+    if (keys.isEmpty()) {
+      return Mono.just(Map.of());
+    }
+    List<String> keyList = new ArrayList<>(keys);
+    return redisTemplate
+        .opsForValue()
+        .multiGet(keyList)
+        .map(
+            values -> {
+              Map<String, T> found = new HashMap<>();
+              for (int i = 0; i < keyList.size(); i++) {
+                Object value = values.get(i);
+                if (value == null) {
+                  continue;
+                }
+                try {
+                  found.put(keyList.get(i), objectMapper.convertValue(value, type));
+                } catch (Exception e) {
+                  log.warn("Failed to deserialize cached value for key: {}", keyList.get(i), e);
+                }
+              }
+              log.debug("Cache MGET for {} keys, {} found", keyList.size(), found.size());
+              return found;
+            })
+        .onErrorResume(
+            e -> {
+              log.warn("Redis MGET failed for {} keys", keyList.size(), e);
+              return Mono.just(Map.of());
+            });
+  }
+
+  @Override
+  public <T> Mono<CachedValue<T>> getWithTtl(String key, Class<T> type) {
+    // GET and PTTL are issued together and pipelined on the shared connection
+    Mono<Optional<Duration>> remainingTtl =
+        redisTemplate
+            .getExpire(key)
+            // ZERO: key exists without expiry; empty: key expired between the two commands
+            .map(ttl -> ttl.isZero() ? Optional.<Duration>empty() : Optional.of(ttl))
+            .defaultIfEmpty(Optional.of(Duration.ZERO))
+            .onErrorResume(
+                e -> {
+                  log.warn("Redis PTTL failed for key: {}", key, e);
+                  return Mono.just(Optional.empty());
+                });
+    return Mono.zip(get(key, type), remainingTtl)
+        .map(tuple -> new CachedValue<>(tuple.getT1(), tuple.getT2().orElse(null)));
+  }
+
   @Override
   public <T> Mono<Boolean> put(String key, T value, Duration ttl) {
     return redisTemplate
@@ -91,4 +151,18 @@ public class RedisCacheService implements ReactiveCacheService {
               return Mono.just(false);
             });
   }
+
+  @Override
+  public Mono<Long> deleteByPrefix(String prefix) {
+    ScanOptions options =
+        ScanOptions.scanOptions().match(prefix + "*").count(SCAN_BATCH_SIZE).build();
+    return redisTemplate
+        .delete(redisTemplate.scan(options))
+        .doOnSuccess(count -> log.info("Cache DELETE by prefix: {}, keys={}", prefix, count))
+        .onErrorResume(
+            e -> {
+              log.warn("Redis DELETE by prefix failed: {}", prefix, e);
+              return Mono.just(0L);
+            });
+  }
 }
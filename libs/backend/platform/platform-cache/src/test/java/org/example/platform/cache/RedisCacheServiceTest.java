@@ -7,14 +7,20 @@ import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.reactivestreams.Publisher;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -63,6 +69,33 @@ class RedisCacheServiceTest {
     StepVerifier.create(cacheService.get(key, TestData.class)).verifyComplete();
   }
 
+  @Test
+  void getAll_shouldReturnFoundValuesByKey() {
+    // Given
+    LinkedHashMap<String, Object> first = new LinkedHashMap<>();
+    first.put("name", "value1");
+    first.put("count", 1);
+    when(valueOperations.multiGet(List.of("a", "b", "c")))
+        .thenReturn(Mono.just(Arrays.asList(first, null, "not-an-object")));
+
+    // When & Then - missing and undeserializable entries are left out
+    StepVerifier.create(cacheService.getAll(List.of("a", "b", "c"), TestData.class))
+        .expectNext(Map.of("a", new TestData("value1", 1)))
+        .verifyComplete();
+  }
+
+  @Test
+  void getAll_shouldReturnEmptyMap_whenRedisError() {
+    // Given
+    when(valueOperations.multiGet(List.of("a")))
+        .thenReturn(Mono.error(new RuntimeException("Redis connection failed")));
+
+    // When & Then
+    StepVerifier.create(cacheService.getAll(List.of("a"), TestData.class))
+        .expectNext(Map.of())
+        .verifyComplete();
+  }
+
   @Test
   void get_shouldReturnEmpty_whenRedisError() {
     // Given
@@ -74,6 +107,54 @@ class RedisCacheServiceTest {
     StepVerifier.create(cacheService.get(key, TestData.class)).verifyComplete();
   }
 
+  @Test
+  void getWithTtl_shouldReturnValueAndRemainingTtl_whenCacheHit() {
+    // Given
+    String key = "test:ttl";
+    LinkedHashMap<String, Object> cachedValue = new LinkedHashMap<>();
+    cachedValue.put("name", "value1");
+    cachedValue.put("count", 42);
+
+    when(valueOperations.get(key)).thenReturn(Mono.just(cachedValue));
+    when(redisTemplate.getExpire(key)).thenReturn(Mono.just(Duration.ofSeconds(90)));
+
+    // When & Then
+    StepVerifier.create(cacheService.getWithTtl(key, TestData.class))
+        .expectNextMatches(
+            result ->
+                result.value().count() == 42
+                    && result.remainingTtl().equals(Duration.ofSeconds(90)))
+        .verifyComplete();
+  }
+
+  @Test
+  void getWithTtl_shouldReturnNullTtl_whenKeyHasNoExpiry() {
+    // Given
+    String key = "test:persistent";
+    LinkedHashMap<String, Object> cachedValue = new LinkedHashMap<>();
+    cachedValue.put("name", "value1");
+    cachedValue.put("count", 1);
+
+    when(valueOperations.get(key)).thenReturn(Mono.just(cachedValue));
+    when(redisTemplate.getExpire(key)).thenReturn(Mono.just(Duration.ZERO));
+
+    // When & Then
+    StepVerifier.create(cacheService.getWithTtl(key, TestData.class))
+        .expectNextMatches(result -> result.remainingTtl() == null)
+        .verifyComplete();
+  }
+
+  @Test
+  void getWithTtl_shouldReturnEmpty_whenCacheMiss() {
+    // Given
+    String key = "test:missing";
+    when(valueOperations.get(key)).thenReturn(Mono.empty());
+    lenient().when(redisTemplate.getExpire(key)).thenReturn(Mono.empty());
+
+    // When & Then
+    StepVerifier.create(cacheService.getWithTtl(key, TestData.class)).verifyComplete();
+  }
+
   @Test
   void put_shouldReturnTrue_whenSuccess() {
     // Given
@@ -132,6 +213,29 @@ class RedisCacheServiceTest {
     StepVerifier.create(cacheService.delete(key)).expectNext(false).verifyComplete();
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  void deleteByPrefix_shouldDeleteScannedKeys() {
+    // Given
+    when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(Flux.just("neg:1", "neg:2"));
+    when(redisTemplate.delete(any(Publisher.class))).thenReturn(Mono.just(2L));
+
+    // When & Then
+    StepVerifier.create(cacheService.deleteByPrefix("neg:")).expectNext(2L).verifyComplete();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void deleteByPrefix_shouldReturnZero_whenRedisError() {
+    // Given
+    when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(Flux.just("neg:1"));
+    when(redisTemplate.delete(any(Publisher.class)))
+        .thenReturn(Mono.error(new RuntimeException("Redis delete failed")));
+
+    // When & Then - should not propagate error, just return 0
+    StepVerifier.create(cacheService.deleteByPrefix("neg:")).expectNext(0L).verifyComplete();
+  }
+
   // Test record for serialization/deserialization
   record TestData(String name, int count) {}
 }
@@ -0,0 +1,127 @@
+package org.example.platform.logging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.example.platform.webflux.context.RequestMetadata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Time a request thread spends logging one response entry, before and after the async pipeline.
+ *
+ * <p>{@code syncWrite} is the previous path: {@code writeValueAsString} and a synchronous,
+ * flushed write to a log file, as the Logback FILE appender does. {@code asyncHandOff} encodes into
+ * the per-thread buffer and publishes to the ring buffer; the same file write then happens on the
+ * writer thread. {@code encodeOnly} isolates serialization. Entries the writer cannot keep up with
+ * are dropped, so {@code asyncHandOff} measures the caller side only.
+ *
+ * <p>Run with {@code ./gradlew :libs:backend:platform:platform-logging:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class StructuredLoggerBenchmark {
+
+  private ObjectMapper objectMapper;
+  private JsonLogEncoder encoder;
+  private LogEntry entry;
+  private Path file;
+  private Writer out;
+  private AsyncLogAppender appender;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    objectMapper = new ObjectMapper();
+    encoder = new JsonLogEncoder(objectMapper);
+    RequestMetadata metadata = new RequestMetadata(1234, "order-123", "user01", "session-456");
+    ResponseLogData response =
+        new ResponseLogData(
+            "/products/{sku}",
+            "/products/123456",
+            "GET",
+            200,
+            new SampleProduct(
+                123456L,
+                "Stainless Steel Water Bottle",
+                "Double-walled, keeps drinks cold for 24 hours",
+                new BigDecimal("24.99"),
+                new BigDecimal("29.99"),
+                42,
+                "https://images.example.com/123456.jpg",
+                "Outdoor",
+                List.of()));
+    entry =
+        new LogEntry(
+            "info",
+            "productscontroller",
+            "0af7651916cd43dd8448eb211c80319c",
+            "b7ad6b7169203331",
+            metadata,
+            response);
+    file = Files.createTempFile("structured-logger-benchmark", ".log");
+    out = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+    appender = new AsyncLogAppender(8192, (error, json) -> write(json));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    appender.close();
+    out.close();
+    Files.deleteIfExists(file);
+  }
+
+  @Benchmark
+  public void syncWrite() throws IOException {
+    write(objectMapper.writeValueAsString(entry));
+  }
+
+  @Benchmark
+  public boolean asyncHandOff() throws IOException {
+    return appender.append(false, encoder.encode(entry));
+  }
+
+  @Benchmark
+  public String encodeOnly() throws IOException {
+    return encoder.encode(entry);
+  }
+
+  /** One appender at a time, flushed per entry, like Logback's OutputStreamAppender. */
+  private synchronized void write(String json) {
+    try {
+      out.write(json);
+      out.write('\n');
+      out.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /** Shaped like the product-service response body. */
+  public record SampleProduct(
+      long sku,
+      String name,
+      String description,
+      BigDecimal price,
+      BigDecimal originalPrice,
+      int availableQuantity,
+      String imageUrl,
+      String category,
+      List<String> degraded) {}
+}
@@ -0,0 +1,103 @@
+package org.example.platform.logging;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes serialized log entries on a background thread.
+ *
+ * <p>Callers only publish to a {@link LogRingBuffer}, so an event-loop thread never waits on a
+ * file or stdout write. The writer thread drains the buffer into the sink in batches and parks for
+ * a millisecond when it is empty. When the buffer is full the entry is dropped rather than
+ * blocking the caller; drops are counted and reported by the writer at most every ten seconds.
+ */
+final class AsyncLogAppender implements AutoCloseable {
+
+  private static final Logger log = LoggerFactory.getLogger(AsyncLogAppender.class);
+
+  private static final int DRAIN_BATCH = 256;
+  private static final long IDLE_PARK_NANOS = Duration.ofMillis(1).toNanos();
+  private static final long DROP_REPORT_NANOS = Duration.ofSeconds(10).toNanos();
+  private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(5);
+
+  private final LogRingBuffer buffer;
+  private final LogSink sink;
+  private final LongAdder dropped = new LongAdder();
+  private final Thread writer;
+  private volatile boolean running = true;
+
+  AsyncLogAppender(int capacity, LogSink sink) {
+    this.buffer = new LogRingBuffer(capacity);
+    this.sink = sink;
+    this.writer = new Thread(this::writeLoop, "structured-log-writer");
+    writer.setDaemon(true);
+    writer.start();
+  }
+
+  /**
+   * Queue an entry for the writer thread.
+   *
+   * @param error whether the entry is an error
+   * @param json the serialized entry
+   * @return false if the buffer was full and the entry was dropped
+   */
+  boolean append(boolean error, String json) {
+    if (buffer.offer(error, json)) {
+      return true;
+    }
+    dropped.increment();
+    return false;
+  }
+
+  /** Entries dropped because the buffer was full or the sink failed. */
+  long dropped() {
+    return dropped.sum();
+  }
+
+  /** Stop the writer after it has written everything queued so far. */
+  @Override
+  public void close() {
+    running = false;
+    LockSupport.unpark(writer);
+    try {
+      writer.join(CLOSE_TIMEOUT.toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void writeLoop() {
+    long reported = 0;
+    long lastReport = System.nanoTime();
+    while (running) {
+      if (buffer.drain(this::write, DRAIN_BATCH) > 0) {
+        continue;
+      }
+      long now = System.nanoTime();
+      if (now - lastReport >= DROP_REPORT_NANOS) {
+        long total = dropped.sum();
+        if (total > reported) {
+          log.warn("Dropped {} structured log entries: buffer full", total - reported);
+          reported = total;
+        }
+        lastReport = now;
+      }
+      LockSupport.parkNanos(IDLE_PARK_NANOS);
+    }
+    while (buffer.drain(this::write, DRAIN_BATCH) > 0) {
+      // Flush what was queued before close
+    }
+  }
+
+  private void write(boolean error, String json) {
+    try {
+      sink.write(error, json);
+    } catch (RuntimeException e) {
+      // Keep the writer alive; a broken appender must not stop all logging
+      dropped.increment();
+    }
+  }
+}
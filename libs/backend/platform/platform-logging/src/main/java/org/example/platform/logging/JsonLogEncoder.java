@@ -0,0 +1,106 @@
+package org.example.platform.logging;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Serializes {@link LogEntry} records through a per-thread {@link JsonGenerator} and byte buffer.
+ *
+ * <p>Each thread keeps one generator writing into its own growable byte array, so encoding an entry
+ * allocates only the resulting string, not a new generator, writer and buffer chain per call, and
+ * the envelope serializer is resolved once. A buffer that grew past 64 KiB for an unusually large
+ * entry is shrunk back afterwards.
+ */
+final class JsonLogEncoder {
+
+  private static final int INITIAL_BYTES = 1024;
+  private static final int MAX_RETAINED_BYTES = 64 * 1024;
+
+  private final ObjectMapper objectMapper;
+  private final ObjectWriter writer;
+  private final ThreadLocal<Encoder> encoders;
+
+  JsonLogEncoder(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+    this.writer = objectMapper.writerFor(LogEntry.class);
+    this.encoders = ThreadLocal.withInitial(this::newEncoder);
+  }
+
+  /**
+   * Serialize an entry.
+   *
+   * @param entry the entry
+   * @return the entry as a single-line JSON object
+   * @throws IOException if the entry cannot be serialized
+   */
+  String encode(LogEntry entry) throws IOException {
+    Encoder encoder = encoders.get();
+    try {
+      writer.writeValue(encoder.generator(), entry);
+      encoder.generator().flush();
+      return encoder.buffer().toUtf8String();
+    } catch (IOException | RuntimeException e) {
+      // The generator may be mid-object; start the next entry with a fresh one
+      encoders.remove();
+      throw e;
+    } finally {
+      encoder.buffer().reset();
+    }
+  }
+
+  private Encoder newEncoder() {
+    Utf8Buffer buffer = new Utf8Buffer();
+    try {
+      JsonGenerator generator = objectMapper.getFactory().createGenerator(buffer);
+      // Entries are separate documents; no separator between consecutive root values
+      generator.setRootValueSeparator(null);
+      return new Encoder(buffer, generator);
+    } catch (IOException e) {
+      throw new IllegalStateException("Cannot create JSON generator", e);
+    }
+  }
+
+  private record Encoder(Utf8Buffer buffer, JsonGenerator generator) {}
+
+  /** Unsynchronized growable byte buffer, reset after every entry. */
+  private static final class Utf8Buffer extends OutputStream {
+
+    private byte[] bytes = new byte[INITIAL_BYTES];
+    private int count;
+
+    @Override
+    public void write(int b) {
+      ensureCapacity(count + 1);
+      bytes[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] source, int offset, int length) {
+      ensureCapacity(count + length);
+      System.arraycopy(source, offset, bytes, count, length);
+      count += length;
+    }
+
+    String toUtf8String() {
+      return new String(bytes, 0, count, StandardCharsets.UTF_8);
+    }
+
+    void reset() {
+      count = 0;
+      if (bytes.length > MAX_RETAINED_BYTES) {
+        bytes = new byte[INITIAL_BYTES];
+      }
+    }
+
+    private void ensureCapacity(int needed) {
+      if (needed > bytes.length) {
+        bytes = Arrays.copyOf(bytes, Math.max(needed, bytes.length * 2));
+      }
+    }
+  }
+}
@@ -0,0 +1,97 @@
+package org.example.platform.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded lock-free queue of serialized log entries for many producers and one consumer.
+ *
+ * <p>Each slot carries a sequence number. A producer claims the next position with a CAS on the
+ * tail, fills the slot, then publishes it by advancing the slot's sequence; the consumer reads a
+ * slot once its sequence says it was published and hands it back by advancing the sequence a full
+ * lap. Producers never wait: when the consumer is a lap behind, {@link #offer} fails.
+ */
+final class LogRingBuffer {
+
+  private final int mask;
+  private final AtomicLongArray sequences;
+  private final String[] entries;
+  private final boolean[] errors;
+  private final AtomicLong tail = new AtomicLong();
+
+  /** Next position to read; only touched by the consumer. */
+  private long head;
+
+  LogRingBuffer(int capacity) {
+    int size = 2;
+    while (size < capacity) {
+      size <<= 1;
+    }
+    mask = size - 1;
+    sequences = new AtomicLongArray(size);
+    entries = new String[size];
+    errors = new boolean[size];
+    for (int i = 0; i < size; i++) {
+      sequences.set(i, i);
+    }
+  }
+
+  /** Number of slots. */
+  int capacity() {
+    return mask + 1;
+  }
+
+  /**
+   * Add an entry; safe to call from any thread.
+   *
+   * @param error whether the entry is an error
+   * @param json the serialized entry
+   * @return false if the buffer is full
+   */
+  boolean offer(boolean error, String json) {
+    long position = tail.get();
+    while (true) {
+      int index = (int) position & mask;
+      long available = sequences.getAcquire(index) - position;
+      if (available == 0) {
+        if (tail.compareAndSet(position, position + 1)) {
+          entries[index] = json;
+          errors[index] = error;
+          sequences.setRelease(index, position + 1);
+          return true;
+        }
+        position = tail.get();
+      } else if (available < 0) {
+        // The slot still holds the entry from the previous lap
+        return false;
+      } else {
+        position = tail.get();
+      }
+    }
+  }
+
+  /**
+   * Pass published entries to a sink, oldest first; only one thread may drain.
+   *
+   * @param sink where entries go
+   * @param max maximum number of entries to drain
+   * @return the number of entries drained
+   */
+  int drain(LogSink sink, int max) {
+    int drained = 0;
+    while (drained < max) {
+      int index = (int) head & mask;
+      if (sequences.getAcquire(index) != head + 1) {
+        break;
+      }
+      String json = entries[index];
+      boolean error = errors[index];
+      entries[index] = null;
+      sequences.setRelease(index, head + mask + 1);
+      head++;
+      sink.write(error, json);
+      drained++;
+    }
+    return drained;
+  }
+}
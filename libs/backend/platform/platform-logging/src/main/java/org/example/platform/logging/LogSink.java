@@ -0,0 +1,14 @@
+package org.example.platform.logging;
+
+/** Destination for serialized log entries. */
+@FunctionalInterface
+interface LogSink {
+
+  /**
+   * Write one entry.
+   *
+   * @param error whether the entry is an error
+   * @param json the serialized entry
+   */
+  void write(boolean error, String json);
+}
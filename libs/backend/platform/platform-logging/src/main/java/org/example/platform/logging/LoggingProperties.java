@@ -0,0 +1,122 @@
+package org.example.platform.logging;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Options for {@link StructuredLogger}.
+ *
+ * <p>Sampling rates are keyed by the logger name passed to the {@code log*} methods, for example
+ * {@code productscontroller}; loggers without a rate log every entry. Error entries are never
+ * sampled. Tail sampling decides per inbound request instead, once the request has finished.
+ */
+@ConfigurationProperties(prefix = "platform.logging")
+public class LoggingProperties {
+
+  private Async async = new Async();
+  private TailSampling tailSampling = new TailSampling();
+
+  /** Fraction of non-error entries to keep per logger name, from 0.0 to 1.0. */
+  private Map<String, Double> sampling = new LinkedHashMap<>();
+
+  public Async getAsync() {
+    return async;
+  }
+
+  public void setAsync(Async async) {
+    this.async = async;
+  }
+
+  public TailSampling getTailSampling() {
+    return tailSampling;
+  }
+
+  public void setTailSampling(TailSampling tailSampling) {
+    this.tailSampling = tailSampling;
+  }
+
+  public Map<String, Double> getSampling() {
+    return sampling;
+  }
+
+  public void setSampling(Map<String, Double> sampling) {
+    this.sampling = sampling;
+  }
+
+  /** Hand-off of serialized entries to a background writer thread. */
+  public static class Async {
+
+    private boolean enabled = true;
+
+    /** Entries buffered for the writer; rounded up to a power of two. Full means dropped. */
+    private int bufferSize = 8192;
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public int getBufferSize() {
+      return bufferSize;
+    }
+
+    public void setBufferSize(int bufferSize) {
+      this.bufferSize = bufferSize;
+    }
+  }
+
+  /**
+   * Per-request retention: a request's entries are held until it completes, then written only if it
+   * failed, was slow, or falls in the sampled fraction.
+   */
+  public static class TailSampling {
+
+    private boolean enabled;
+
+    /** Fraction of fast, successful requests whose entries are kept, from 0.0 to 1.0. */
+    private double sampleRate = 0.01;
+
+    /** Requests taking at least this long are always kept. */
+    private Duration slowThreshold = Duration.ofSeconds(1);
+
+    /** Entries held per request; later entries of a kept request are dropped. */
+    private int maxEntriesPerRequest = 200;
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public double getSampleRate() {
+      return sampleRate;
+    }
+
+    public void setSampleRate(double sampleRate) {
+      this.sampleRate = sampleRate;
+    }
+
+    public Duration getSlowThreshold() {
+      return slowThreshold;
+    }
+
+    public void setSlowThreshold(Duration slowThreshold) {
+      this.slowThreshold = slowThreshold;
+    }
+
+    public int getMaxEntriesPerRequest() {
+      return maxEntriesPerRequest;
+    }
+
+    public void setMaxEntriesPerRequest(int maxEntriesPerRequest) {
+      this.maxEntriesPerRequest = maxEntriesPerRequest;
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package org.example.platform.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Log entries of one inbound request, held in the Reactor Context until the request completes.
+ *
+ * <p>{@link StructuredLogger} adds entries here instead of writing them while the buffer is open.
+ * An error entry, or an outbound response with a 5xx status, marks the request as worth keeping.
+ * Entries may arrive from several threads when legs run in parallel, so access is synchronized;
+ * contention is limited to one request. Once {@link #close() closed}, late entries are refused
+ * and written directly.
+ */
+final class RequestLogBuffer {
+
+  /** Reactor Context key holding the buffer of the current request. */
+  static final String CONTEXT_KEY = "platform.logging.requestLogBuffer";
+
+  private final int maxEntries;
+  private List<LogEntry> entries = new ArrayList<>();
+  private boolean failed;
+  private boolean closed;
+
+  RequestLogBuffer(int maxEntries) {
+    this.maxEntries = maxEntries;
+  }
+
+  /**
+   * Hold an entry until the request completes.
+   *
+   * @param entry the entry
+   * @return false if the buffer is closed and the entry should be written now
+   */
+  synchronized boolean add(LogEntry entry) {
+    if (closed) {
+      return false;
+    }
+    if ("error".equals(entry.level())
+        || (entry.data() instanceof ResponseLogData response && response.status() >= 500)) {
+      failed = true;
+    }
+    // Beyond the cap the entry is dropped, not written, so one request cannot flood the log
+    if (entries.size() < maxEntries) {
+      entries.add(entry);
+    }
+    return true;
+  }
+
+  /** Mark the request as failed, for errors that were not logged. */
+  synchronized void markFailed() {
+    failed = true;
+  }
+
+  /** Whether an error was logged or signalled for this request. */
+  synchronized boolean failed() {
+    return failed;
+  }
+
+  /**
+   * Stop buffering.
+   *
+   * @return the held entries, in the order they were added
+   */
+  synchronized List<LogEntry> close() {
+    closed = true;
+    List<LogEntry> held = entries;
+    entries = List.of();
+    return held;
+  }
+}
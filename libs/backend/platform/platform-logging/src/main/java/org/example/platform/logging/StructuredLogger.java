@@ -1,27 +1,52 @@
 package org.example.platform.logging;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanContext;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 import org.example.platform.webflux.context.ContextKeys;
 import org.example.platform.webflux.context.RequestMetadata;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.helpers.FormattingTuple;
+import org.slf4j.helpers.MessageFormatter;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.stereotype.Component;
 import reactor.util.context.ContextView;
 
 /**
  * Structured JSON logger that extracts metadata from Reactor Context and correlates logs with
  * OpenTelemetry trace context.
+ *
+ * <p>Entries are skipped before any work when the level is disabled or the logger name is sampled
+ * out ({@code platform.logging.sampling.<logger>}). Otherwise they are serialized on the calling
+ * thread into a reusable per-thread buffer and, with {@code platform.logging.async.enabled},
+ * handed to a lock-free ring buffer that a background thread writes to the Logback appenders. A
+ * full buffer drops the entry instead of blocking the event loop.
+ *
+ * <p>When the Reactor Context carries a {@link RequestLogBuffer} ({@link TailSamplingWebFilter}),
+ * entries are held there and serialized only if the request is kept.
  */
 @Component
-public class StructuredLogger {
+@EnableConfigurationProperties(LoggingProperties.class)
+public class StructuredLogger implements DisposableBean {
   private static final Logger log = LoggerFactory.getLogger(StructuredLogger.class);
-  private final ObjectMapper objectMapper;
+  private final JsonLogEncoder encoder;
+  private final Map<String, Double> samplingRates;
+  private final AsyncLogAppender appender;
 
-  public StructuredLogger(ObjectMapper objectMapper) {
-    this.objectMapper = objectMapper;
+  public StructuredLogger(ObjectMapper objectMapper, LoggingProperties properties) {
+    this.encoder = new JsonLogEncoder(objectMapper);
+    this.samplingRates = Map.copyOf(properties.getSampling());
+    this.appender =
+        properties.getAsync().isEnabled()
+            ? new AsyncLogAppender(
+                properties.getAsync().getBufferSize(), StructuredLogger::writeToLog)
+            : null;
   }
 
   public void logRequest(ContextView ctx, String loggerName, RequestLogData data) {
@@ -36,6 +61,34 @@ public class StructuredLogger {
     log(ctx, loggerName, "info", new MessageLogData(message));
   }
 
+  /**
+   * Log a message built from an SLF4J-style template, e.g. {@code "Adding product {} qty {}"}.
+   *
+   * <p>The message is only formatted when the entry will be written, so callers on hot paths pay
+   * nothing for disabled or sampled-out entries. Arguments should be cheap to evaluate; the
+   * one- and two-argument forms avoid the varargs array.
+   */
+  public void logMessage(ContextView ctx, String loggerName, String template, Object arg) {
+    if (enabled(loggerName, false)) {
+      write(ctx, loggerName, "info", message(MessageFormatter.format(template, arg)));
+    }
+  }
+
+  /** Two-argument form of {@link #logMessage(ContextView, String, String, Object)}. */
+  public void logMessage(
+      ContextView ctx, String loggerName, String template, Object arg1, Object arg2) {
+    if (enabled(loggerName, false)) {
+      write(ctx, loggerName, "info", message(MessageFormatter.format(template, arg1, arg2)));
+    }
+  }
+
+  /** Any-argument form of {@link #logMessage(ContextView, String, String, Object)}. */
+  public void logMessage(ContextView ctx, String loggerName, String template, Object... args) {
+    if (enabled(loggerName, false)) {
+      write(ctx, loggerName, "info", message(MessageFormatter.arrayFormat(template, args)));
+    }
+  }
+
   public void logError(ContextView ctx, String loggerName, ErrorLogData data) {
     log(ctx, loggerName, "error", data);
   }
@@ -63,6 +116,17 @@ public class StructuredLogger {
   }
 
   private void log(ContextView ctx, String loggerName, String level, Object data) {
+    if (enabled(loggerName, "error".equals(level))) {
+      write(ctx, loggerName, level, data);
+    }
+  }
+
+  /** Whether an entry would be written: level enabled and not sampled out. */
+  private boolean enabled(String loggerName, boolean error) {
+    return (error ? log.isErrorEnabled() : log.isInfoEnabled()) && sampled(loggerName, error);
+  }
+
+  private void write(ContextView ctx, String loggerName, String level, Object data) {
     RequestMetadata metadata = ctx.getOrDefault(ContextKeys.METADATA, null);
 
     // Extract trace context from current OTEL span
@@ -76,15 +140,61 @@ public class StructuredLogger {
 
     LogEntry entry = new LogEntry(level, loggerName, traceId, spanId, metadata, data);
 
+    // Within a tail-sampled request the entry waits for the request's outcome
+    RequestLogBuffer buffer = ctx.getOrDefault(RequestLogBuffer.CONTEXT_KEY, null);
+    if (buffer == null || !buffer.add(entry)) {
+      emit(entry);
+    }
+  }
+
+  /** Write entries held for a request that tail sampling decided to keep. */
+  void writeAll(List<LogEntry> entries) {
+    for (LogEntry entry : entries) {
+      emit(entry);
+    }
+  }
+
+  private void emit(LogEntry entry) {
+    String json;
     try {
-      String json = objectMapper.writeValueAsString(entry);
-      if ("error".equals(level)) {
-        log.error(json);
-      } else {
-        log.info(json);
-      }
-    } catch (JsonProcessingException e) {
+      json = encoder.encode(entry);
+    } catch (IOException e) {
       log.error("Failed to serialize log entry", e);
+      return;
+    }
+    boolean error = "error".equals(entry.level());
+    if (appender != null) {
+      appender.append(error, json);
+    } else {
+      writeToLog(error, json);
+    }
+  }
+
+  /** Writes out everything still queued. */
+  @Override
+  public void destroy() {
+    if (appender != null) {
+      appender.close();
+    }
+  }
+
+  private boolean sampled(String loggerName, boolean error) {
+    if (error) {
+      return true;
+    }
+    Double rate = samplingRates.get(loggerName);
+    return rate == null || rate >= 1.0 || ThreadLocalRandom.current().nextDouble() < rate;
+  }
+
+  private static MessageLogData message(FormattingTuple formatted) {
+    return new MessageLogData(formatted.getMessage());
+  }
+
+  private static void writeToLog(boolean error, String json) {
+    if (error) {
+      log.error(json);
+    } else {
+      log.info(json);
     }
   }
 }
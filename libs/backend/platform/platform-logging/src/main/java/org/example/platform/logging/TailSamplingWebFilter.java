@@ -0,0 +1,77 @@
+package org.example.platform.logging;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Tail-based sampling of request logs.
+ *
+ * <p>Puts a {@link RequestLogBuffer} in the Reactor Context of each inbound request, so the
+ * entries {@link StructuredLogger} receives for it (controller, service and WebClient logs alike)
+ * are held rather than written. When the request finishes, they are written if it failed (an
+ * error signal, an error entry, a 5xx response, or a 5xx from a downstream call), was cancelled,
+ * took at least {@code slow-threshold}, or falls in the {@code sample-rate} fraction; otherwise
+ * they are dropped without being serialized.
+ *
+ * <p>Enabled with {@code platform.logging.tail-sampling.enabled=true}. Runs first so that its
+ * timing and buffer cover the whole filter chain.
+ */
+@Component
+@ConditionalOnProperty(name = "platform.logging.tail-sampling.enabled", havingValue = "true")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TailSamplingWebFilter implements WebFilter {
+
+  private final StructuredLogger structuredLogger;
+  private final LoggingProperties.TailSampling settings;
+
+  public TailSamplingWebFilter(StructuredLogger structuredLogger, LoggingProperties properties) {
+    this.structuredLogger = structuredLogger;
+    this.settings = properties.getTailSampling();
+  }
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+    RequestLogBuffer buffer = new RequestLogBuffer(settings.getMaxEntriesPerRequest());
+    long startNanos = System.nanoTime();
+    return chain
+        .filter(exchange)
+        .doOnError(error -> buffer.markFailed())
+        .doFinally(signal -> complete(exchange, buffer, signal, startNanos))
+        .contextWrite(ctx -> ctx.put(RequestLogBuffer.CONTEXT_KEY, buffer));
+  }
+
+  private void complete(
+      ServerWebExchange exchange, RequestLogBuffer buffer, SignalType signal, long startNanos) {
+    List<LogEntry> entries = buffer.close();
+    if (!entries.isEmpty() && keep(exchange, buffer, signal, startNanos)) {
+      structuredLogger.writeAll(entries);
+    }
+  }
+
+  private boolean keep(
+      ServerWebExchange exchange, RequestLogBuffer buffer, SignalType signal, long startNanos) {
+    if (buffer.failed() || signal == SignalType.CANCEL) {
+      return true;
+    }
+    HttpStatusCode status = exchange.getResponse().getStatusCode();
+    if (status != null && status.is5xxServerError()) {
+      return true;
+    }
+    Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+    if (elapsed.compareTo(settings.getSlowThreshold()) >= 0) {
+      return true;
+    }
+    return ThreadLocalRandom.current().nextDouble() < settings.getSampleRate();
+  }
+}
@@ -0,0 +1,96 @@
+package org.example.platform.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class AsyncLogAppenderTest {
+
+  @Test
+  void ringBufferRejectsEntriesWhenFullAndAcceptsThemAfterDrain() {
+    LogRingBuffer buffer = new LogRingBuffer(3);
+    List<String> drained = new CopyOnWriteArrayList<>();
+
+    assertThat(buffer.capacity()).isEqualTo(4);
+    for (int i = 0; i < 4; i++) {
+      assertThat(buffer.offer(false, "entry-" + i)).isTrue();
+    }
+    assertThat(buffer.offer(false, "overflow")).isFalse();
+
+    assertThat(buffer.drain((error, json) -> drained.add(json), 2)).isEqualTo(2);
+    assertThat(buffer.offer(true, "entry-4")).isTrue();
+    assertThat(buffer.drain((error, json) -> drained.add(json), 10)).isEqualTo(3);
+
+    assertThat(drained).containsExactly("entry-0", "entry-1", "entry-2", "entry-3", "entry-4");
+  }
+
+  @Test
+  void writesEveryEntryFromConcurrentProducers() throws Exception {
+    List<String> written = Collections.synchronizedList(new ArrayList<>());
+    AsyncLogAppender appender = new AsyncLogAppender(1 << 16, (error, json) -> written.add(json));
+    ExecutorService producers = Executors.newFixedThreadPool(4);
+    CountDownLatch done = new CountDownLatch(4);
+    for (int p = 0; p < 4; p++) {
+      int producer = p;
+      producers.execute(
+          () -> {
+            for (int i = 0; i < 5000; i++) {
+              appender.append(false, producer + ":" + i);
+            }
+            done.countDown();
+          });
+    }
+    assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+    producers.shutdown();
+    appender.close();
+
+    assertThat(appender.dropped()).isZero();
+    assertThat(written).hasSize(20_000);
+    // Per producer, entries stay in the order they were appended
+    for (int p = 0; p < 4; p++) {
+      String prefix = p + ":";
+      List<Integer> sequence =
+          written.stream()
+              .filter(json -> json.startsWith(prefix))
+              .map(json -> Integer.parseInt(json.substring(prefix.length())))
+              .toList();
+      assertThat(sequence).isSorted().hasSize(5000);
+    }
+  }
+
+  @Test
+  void countsEntriesDroppedWhileTheWriterIsBlocked() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    AsyncLogAppender appender =
+        new AsyncLogAppender(
+            2,
+            (error, json) -> {
+              try {
+                release.await();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+            });
+
+    int accepted = 0;
+    for (int i = 0; i < 10; i++) {
+      if (appender.append(false, "entry-" + i)) {
+        accepted++;
+      }
+    }
+    release.countDown();
+    appender.close();
+
+    // Two slots, plus at most one entry already taken by the blocked writer
+    assertThat(accepted).isBetween(2, 3);
+    assertThat(appender.dropped()).isEqualTo(10 - accepted);
+  }
+}
@@ -0,0 +1,151 @@
+package org.example.platform.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import org.example.platform.webflux.context.ContextKeys;
+import org.example.platform.webflux.context.RequestMetadata;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import reactor.util.context.Context;
+
+class StructuredLoggerTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final Logger logbackLogger = (Logger) LoggerFactory.getLogger(StructuredLogger.class);
+  private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+  private LoggingProperties properties;
+
+  @BeforeEach
+  void setUp() {
+    appender.start();
+    logbackLogger.addAppender(appender);
+    logbackLogger.setLevel(Level.INFO);
+    properties = new LoggingProperties();
+    properties.getAsync().setEnabled(false);
+  }
+
+  @AfterEach
+  void tearDown() {
+    logbackLogger.detachAppender(appender);
+    logbackLogger.setLevel(null);
+  }
+
+  @Test
+  void writesEntryAsOneJsonObjectPerLine() throws Exception {
+    StructuredLogger logger = new StructuredLogger(objectMapper, properties);
+    RequestMetadata metadata = new RequestMetadata(1234, "order-123", "user01", "session-456");
+    Context ctx = Context.of(ContextKeys.METADATA, metadata);
+
+    logger.logMessage(ctx, "testservice", "first");
+    logger.logError(ctx, "testservice", "price", new IllegalStateException("down"));
+
+    assertThat(appender.list).hasSize(2);
+    JsonNode first = objectMapper.readTree(appender.list.get(0).getFormattedMessage());
+    assertThat(first.get("level").asText()).isEqualTo("info");
+    assertThat(first.get("logger").asText()).isEqualTo("testservice");
+    assertThat(first.get("metadata").get("storeNumber").asInt()).isEqualTo(1234);
+    assertThat(first.get("data").get("message").asText()).isEqualTo("first");
+    // The reused generator must not leave a separator before the next entry
+    String second = appender.list.get(1).getFormattedMessage();
+    assertThat(second).startsWith("{");
+    assertThat(appender.list.get(1).getLevel()).isEqualTo(Level.ERROR);
+    assertThat(objectMapper.readTree(second).get("data").get("errorMessage").asText())
+        .isEqualTo("down");
+  }
+
+  @Test
+  void skipsEntriesBelowTheLoggerLevel() {
+    logbackLogger.setLevel(Level.ERROR);
+    StructuredLogger logger = new StructuredLogger(objectMapper, properties);
+
+    logger.logMessage(Context.empty(), "testservice", "skipped");
+    logger.logError(Context.empty(), "testservice", "price", new IllegalStateException("down"));
+
+    assertThat(appender.list).extracting(ILoggingEvent::getLevel).containsExactly(Level.ERROR);
+  }
+
+  @Test
+  void formatsTemplateMessages() {
+    StructuredLogger logger = new StructuredLogger(objectMapper, properties);
+
+    logger.logMessage(Context.empty(), "testservice", "Removing product {}", 42L);
+    logger.logMessage(Context.empty(), "testservice", "Adding product {} qty {}", 42L, 3);
+    logger.logMessage(Context.empty(), "testservice", "Moved {} from {} to {}", 42L, "a", "b");
+
+    assertThat(appender.list)
+        .extracting(this::dataMessage)
+        .containsExactly("Removing product 42", "Adding product 42 qty 3", "Moved 42 from a to b");
+  }
+
+  @Test
+  void doesNotFormatTemplateWhenDisabled() {
+    logbackLogger.setLevel(Level.WARN);
+    properties.setSampling(Map.of("noisy", 0.0));
+    StructuredLogger logger = new StructuredLogger(objectMapper, properties);
+    Object argument =
+        new Object() {
+          @Override
+          public String toString() {
+            throw new AssertionError("formatted a disabled message");
+          }
+        };
+
+    logger.logMessage(Context.empty(), "testservice", "Value {}", argument);
+    logbackLogger.setLevel(Level.INFO);
+    logger.logMessage(Context.empty(), "noisy", "Value {} and {}", argument, argument);
+
+    assertThat(appender.list).isEmpty();
+  }
+
+  @Test
+  void samplesPerLoggerNameButKeepsErrors() {
+    properties.setSampling(Map.of("noisy", 0.0));
+    StructuredLogger logger = new StructuredLogger(objectMapper, properties);
+
+    logger.logMessage(Context.empty(), "noisy", "sampled out");
+    logger.logMessage(Context.empty(), "quiet", "kept");
+    logger.logError(Context.empty(), "noisy", "price", new IllegalStateException("down"));
+
+    List<String> messages =
+        appender.list.stream().map(ILoggingEvent::getFormattedMessage).toList();
+    assertThat(messages).hasSize(2);
+    assertThat(messages.get(0)).contains("\"kept\"");
+    assertThat(messages.get(1)).contains("\"down\"");
+  }
+
+  @Test
+  void asyncWriterFlushesQueuedEntriesOnDestroy() {
+    properties.getAsync().setEnabled(true);
+    StructuredLogger logger = new StructuredLogger(objectMapper, properties);
+
+    for (int i = 0; i < 100; i++) {
+      logger.logMessage(Context.empty(), "testservice", "message-" + i);
+    }
+    logger.destroy();
+
+    assertThat(appender.list).hasSize(100);
+    assertThat(appender.list.get(99).getFormattedMessage()).contains("message-99");
+    assertThat(appender.list)
+        .allMatch(event -> event.getThreadName().equals("structured-log-writer"));
+  }
+
+  private String dataMessage(ILoggingEvent event) {
+    try {
+      return objectMapper.readTree(event.getFormattedMessage()).get("data").get("message").asText();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,133 @@
+package org.example.platform.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+class TailSamplingWebFilterTest {
+
+  private final Logger logbackLogger = (Logger) LoggerFactory.getLogger(StructuredLogger.class);
+  private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+  private LoggingProperties properties;
+  private StructuredLogger structuredLogger;
+  private MockServerWebExchange exchange;
+
+  @BeforeEach
+  void setUp() {
+    appender.start();
+    logbackLogger.addAppender(appender);
+    logbackLogger.setLevel(Level.INFO);
+    properties = new LoggingProperties();
+    properties.getAsync().setEnabled(false);
+    properties.getTailSampling().setEnabled(true);
+    properties.getTailSampling().setSampleRate(0.0);
+    properties.getTailSampling().setSlowThreshold(Duration.ofMinutes(1));
+    structuredLogger = new StructuredLogger(new ObjectMapper(), properties);
+    exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/products/1"));
+  }
+
+  @AfterEach
+  void tearDown() {
+    logbackLogger.detachAppender(appender);
+    logbackLogger.setLevel(null);
+  }
+
+  @Test
+  void dropsEntriesOfFastSuccessfulRequests() {
+    StepVerifier.create(filter().filter(exchange, logTwice(Mono.empty()))).verifyComplete();
+
+    assertThat(appender.list).isEmpty();
+  }
+
+  @Test
+  void keepsAllEntriesOfFailedRequestsInOrder() {
+    Mono<Void> failure = Mono.error(new IllegalStateException("boom"));
+
+    StepVerifier.create(filter().filter(exchange, logTwice(failure))).verifyError();
+
+    assertThat(appender.list)
+        .extracting(ILoggingEvent::getFormattedMessage)
+        .satisfiesExactly(
+            first -> assertThat(first).contains("\"first\""),
+            second -> assertThat(second).contains("\"second\""));
+  }
+
+  @Test
+  void keepsRequestsWithAnErrorEntryOrServerErrorStatus() {
+    WebFilterChain loggedError =
+        exchange ->
+            Mono.deferContextual(
+                ctx -> {
+                  structuredLogger.logMessage(ctx, "testservice", "before");
+                  structuredLogger.logError(
+                      ctx, "testservice", "price", new IllegalStateException("down"));
+                  return Mono.empty();
+                });
+    StepVerifier.create(filter().filter(exchange, loggedError)).verifyComplete();
+    assertThat(appender.list).hasSize(2);
+
+    appender.list.clear();
+    MockServerWebExchange failed =
+        MockServerWebExchange.from(MockServerHttpRequest.get("/products/2"));
+    failed.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+    StepVerifier.create(filter().filter(failed, logTwice(Mono.empty()))).verifyComplete();
+    assertThat(appender.list).hasSize(2);
+  }
+
+  @Test
+  void keepsSlowRequests() {
+    properties.getTailSampling().setSlowThreshold(Duration.ofMillis(20));
+    Mono<Void> slow = Mono.delay(Duration.ofMillis(50)).then();
+
+    StepVerifier.create(filter().filter(exchange, logTwice(slow))).verifyComplete();
+
+    assertThat(appender.list).hasSize(2);
+  }
+
+  @Test
+  void keepsSampledFractionOfRequests() {
+    properties.getTailSampling().setSampleRate(1.0);
+
+    StepVerifier.create(filter().filter(exchange, logTwice(Mono.empty()))).verifyComplete();
+
+    assertThat(appender.list).hasSize(2);
+  }
+
+  @Test
+  void writesImmediatelyOutsideARequest() {
+    structuredLogger.logMessage(Context.empty(), "testservice", "background");
+
+    assertThat(appender.list).hasSize(1);
+  }
+
+  private TailSamplingWebFilter filter() {
+    return new TailSamplingWebFilter(structuredLogger, properties);
+  }
+
+  /** A chain that logs once before and once after {@code work}. */
+  private WebFilterChain logTwice(Mono<Void> work) {
+    return exchange ->
+        Mono.deferContextual(
+            ctx -> {
+              structuredLogger.logMessage(ctx, "testservice", "first");
+              return work.doOnTerminate(
+                  () -> structuredLogger.logMessage(ctx, "testservice", "second"));
+            });
+  }
+}
@@ -25,7 +25,7 @@ class WebClientLoggingFilterTest {
   @BeforeEach
   void setUp() {
     ObjectMapper objectMapper = new ObjectMapper();
-    structuredLogger = new StructuredLogger(objectMapper);
+    structuredLogger = new StructuredLogger(objectMapper, new LoggingProperties());
     filter = new WebClientLoggingFilter(structuredLogger);
     exchangeFunction = mock(ExchangeFunction.class);
   }
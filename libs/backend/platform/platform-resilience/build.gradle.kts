@@ -1,5 +1,6 @@
 plugins {
     id("platform.library-conventions")
+    id("platform.jmh-conventions")
 }
 
 dependencies {
@@ -0,0 +1,218 @@
+package org.example.platform.resilience;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Concurrency limit that adapts to the round-trip time observed for one downstream service.
+ *
+ * <p>Vegas-style: the lowest recent RTT is taken as the no-load RTT, and the queue building up
+ * downstream is estimated as {@code limit * (1 - noLoadRtt / rtt)}. While that estimate stays small
+ * the limit grows additively; as it grows the limit is reduced additively. A timeout or an overload
+ * response (429, 503) multiplies the limit by the backoff ratio. The no-load RTT is re-sampled
+ * periodically so the limiter follows lasting changes in downstream latency.
+ *
+ * <p>Calls over the limit fail immediately with {@link ConcurrencyLimitExceededException}, like a
+ * bulkhead with no wait. The limit does not grow while fewer than half of the permits are in use,
+ * so a quiet period cannot inflate it.
+ */
+public final class AdaptiveConcurrencyLimiter {
+
+  private static final int RTT_PROBE_INTERVAL = 1000;
+
+  private final String name;
+  private final int minLimit;
+  private final int maxLimit;
+  private final double backoffRatio;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final Counter rejected;
+  private volatile int limit;
+
+  // Guarded by this
+  private double estimatedLimit;
+  private long noLoadRttNanos = Long.MAX_VALUE;
+  private int samplesSinceProbe;
+
+  public AdaptiveConcurrencyLimiter(
+      String name, ResilienceProperties.AdaptiveLimit settings, MeterRegistry meterRegistry) {
+    this.name = name;
+    this.minLimit = Math.max(1, settings.getMinLimit());
+    this.maxLimit = Math.max(minLimit, settings.getMaxLimit());
+    this.backoffRatio = settings.getBackoffRatio();
+    this.estimatedLimit = clamp(settings.getInitialLimit());
+    this.limit = (int) estimatedLimit;
+    this.rejected =
+        Counter.builder("resilience.limiter.rejected")
+            .description("Calls rejected by the adaptive concurrency limit")
+            .tag("name", name)
+            .register(meterRegistry);
+    Gauge.builder("resilience.limiter.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+        .description("Current adaptive concurrency limit")
+        .tag("name", name)
+        .register(meterRegistry);
+    Gauge.builder("resilience.limiter.inflight", this, AdaptiveConcurrencyLimiter::getInFlight)
+        .description("Calls holding an adaptive concurrency permit")
+        .tag("name", name)
+        .register(meterRegistry);
+  }
+
+  /**
+   * Limits a Mono: each subscription takes a permit for as long as it runs, and its outcome feeds
+   * the limit.
+   *
+   * @param mono the call to limit
+   * @param <T> the type of the Mono
+   * @return the limited Mono, failing with {@link ConcurrencyLimitExceededException} when no permit
+   *     is available
+   */
+  public <T> Mono<T> apply(Mono<T> mono) {
+    return Mono.defer(
+        () -> {
+          Permit permit = tryAcquire();
+          if (permit == null) {
+            rejected.increment();
+            return Mono.error(new ConcurrencyLimitExceededException(name, limit));
+          }
+          return mono.doOnSuccess(value -> permit.release(Outcome.SAMPLE))
+              .doOnError(error -> permit.release(outcomeOf(error)))
+              .doOnCancel(() -> permit.release(Outcome.IGNORE));
+        });
+  }
+
+  /**
+   * Limits a Flux: each subscription holds a permit until the Flux terminates, and the time to
+   * completion feeds the limit.
+   *
+   * @param flux the call to limit
+   * @param <T> the element type of the Flux
+   * @return the limited Flux, failing with {@link ConcurrencyLimitExceededException} when no permit
+   *     is available
+   */
+  public <T> Flux<T> apply(Flux<T> flux) {
+    return Flux.defer(
+        () -> {
+          Permit permit = tryAcquire();
+          if (permit == null) {
+            rejected.increment();
+            return Flux.error(new ConcurrencyLimitExceededException(name, limit));
+          }
+          return flux.doOnComplete(() -> permit.release(Outcome.SAMPLE))
+              .doOnError(error -> permit.release(outcomeOf(error)))
+              .doOnCancel(() -> permit.release(Outcome.IGNORE));
+        });
+  }
+
+  public int getLimit() {
+    return limit;
+  }
+
+  public int getInFlight() {
+    return inFlight.get();
+  }
+
+  Permit tryAcquire() {
+    while (true) {
+      int current = inFlight.get();
+      if (current >= limit) {
+        return null;
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        return new Permit(System.nanoTime(), current + 1);
+      }
+    }
+  }
+
+  synchronized void onSample(long rttNanos, int inFlightAtStart, Outcome outcome) {
+    if (outcome == Outcome.DROP) {
+      update(estimatedLimit * backoffRatio);
+      return;
+    }
+    if (++samplesSinceProbe >= RTT_PROBE_INTERVAL) {
+      samplesSinceProbe = 0;
+      noLoadRttNanos = rttNanos;
+    } else if (rttNanos < noLoadRttNanos) {
+      noLoadRttNanos = rttNanos;
+    }
+
+    double queue = estimatedLimit * (1 - (double) noLoadRttNanos / Math.max(1, rttNanos));
+    double step = Math.max(1, Math.log10(estimatedLimit));
+    if (queue > 6 * step) {
+      update(estimatedLimit - step);
+      return;
+    }
+    // Only grow a limit that is actually in use
+    if (inFlightAtStart * 2 < estimatedLimit) {
+      return;
+    }
+    if (queue <= step) {
+      update(estimatedLimit + 6 * step);
+    } else if (queue < 3 * step) {
+      update(estimatedLimit + step);
+    }
+  }
+
+  private void update(double next) {
+    estimatedLimit = clamp(next);
+    limit = (int) estimatedLimit;
+  }
+
+  private double clamp(double value) {
+    return Math.min(maxLimit, Math.max(minLimit, value));
+  }
+
+  private static Outcome outcomeOf(Throwable error) {
+    if (error instanceof TimeoutException) {
+      return Outcome.DROP;
+    }
+    if (error instanceof WebClientResponseException response) {
+      int status = response.getStatusCode().value();
+      return status == HttpStatus.TOO_MANY_REQUESTS.value()
+              || status == HttpStatus.SERVICE_UNAVAILABLE.value()
+          ? Outcome.DROP
+          : Outcome.SAMPLE;
+    }
+    // An open circuit says nothing about downstream latency
+    return error instanceof CallNotPermittedException ? Outcome.IGNORE : Outcome.SAMPLE;
+  }
+
+  enum Outcome {
+    /** Use the round-trip time to adjust the limit. */
+    SAMPLE,
+    /** Back off: the call timed out or the service reported overload. */
+    DROP,
+    /** Release the permit without adjusting the limit. */
+    IGNORE
+  }
+
+  /** One acquired permit; released exactly once. */
+  final class Permit {
+
+    private final long startNanos;
+    private final int inFlightAtStart;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private Permit(long startNanos, int inFlightAtStart) {
+      this.startNanos = startNanos;
+      this.inFlightAtStart = inFlightAtStart;
+    }
+
+    void release(Outcome outcome) {
+      if (!released.compareAndSet(false, true)) {
+        return;
+      }
+      inFlight.decrementAndGet();
+      if (outcome != Outcome.IGNORE) {
+        onSample(System.nanoTime() - startNanos, inFlightAtStart, outcome);
+      }
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package org.example.platform.resilience;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Raised when an adaptive concurrency limiter rejects a call because its limit is reached.
+ *
+ * <p>Carries 503 Service Unavailable, like a full bulkhead, so an unhandled rejection is mapped to
+ * the same response by the global error handler.
+ */
+public class ConcurrencyLimitExceededException extends ResponseStatusException {
+
+  private final String name;
+  private final int limit;
+
+  public ConcurrencyLimitExceededException(String name, int limit) {
+    super(
+        HttpStatus.SERVICE_UNAVAILABLE,
+        "Concurrency limit reached for '" + name + "': limit=" + limit);
+    this.name = name;
+    this.limit = limit;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public int getLimit() {
+    return limit;
+  }
+}
@@ -0,0 +1,99 @@
+package org.example.platform.resilience;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * Point in time by which a request must complete, carried through the Reactor context.
+ *
+ * <p>A deadline is created once per request and every downstream call is bounded by what is left
+ * of it, rather than each call carrying its own fixed timeout. Based on the monotonic clock, so it
+ * is unaffected by wall-clock adjustments.
+ *
+ * <pre>{@code
+ * Deadline deadline = Deadline.from(ctx).orElseGet(() -> Deadline.after(budget));
+ * deadline.bound(repository.fetch(id), headroom).contextWrite(deadline.asContext());
+ * }</pre>
+ */
+public final class Deadline {
+
+  /** Reactor context key holding the current request's deadline. */
+  public static final String CONTEXT_KEY = Deadline.class.getName();
+
+  private final long deadlineNanos;
+
+  private Deadline(long deadlineNanos) {
+    this.deadlineNanos = deadlineNanos;
+  }
+
+  /**
+   * Creates a deadline the given budget from now.
+   *
+   * @param budget time allowed for the whole request
+   * @return the deadline
+   */
+  public static Deadline after(Duration budget) {
+    return new Deadline(System.nanoTime() + budget.toNanos());
+  }
+
+  /**
+   * Gets the deadline carried by a Reactor context, if any.
+   *
+   * @param ctx the context to read
+   * @return the deadline, or empty if none was set upstream
+   */
+  public static Optional<Deadline> from(ContextView ctx) {
+    return ctx.getOrEmpty(CONTEXT_KEY);
+  }
+
+  /**
+   * Gets a context holding this deadline, for {@code contextWrite}.
+   *
+   * @return a context with this deadline under {@link #CONTEXT_KEY}
+   */
+  public Context asContext() {
+    return Context.of(CONTEXT_KEY, this);
+  }
+
+  /**
+   * Gets the time left before the deadline.
+   *
+   * @return the remaining time, never negative
+   */
+  public Duration remaining() {
+    return Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime()));
+  }
+
+  /**
+   * Checks whether the deadline has passed.
+   *
+   * @return true if no time is left
+   */
+  public boolean isExpired() {
+    return deadlineNanos - System.nanoTime() <= 0;
+  }
+
+  /**
+   * Bounds a Mono by the time left, less headroom kept back for the caller to assemble and write
+   * its response. The budget is taken at subscription; if none is left the Mono is not subscribed.
+   *
+   * @param mono the call to bound
+   * @param headroom time reserved for work after the call
+   * @param <T> the type of the Mono
+   * @return the Mono, failing with {@link TimeoutException} once its share of the budget is spent
+   */
+  public <T> Mono<T> bound(Mono<T> mono, Duration headroom) {
+    return Mono.defer(
+        () -> {
+          Duration budget = remaining().minus(headroom);
+          if (budget.isNegative() || budget.isZero()) {
+            return Mono.error(new TimeoutException("Deadline exceeded before call started"));
+          }
+          return mono.timeout(budget);
+        });
+  }
+}
@@ -0,0 +1,48 @@
+package org.example.platform.resilience;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size window of the most recent latency samples with a cached percentile.
+ *
+ * <p>The percentile is recomputed every {@link #RECOMPUTE_EVERY} samples rather than per read, so
+ * reads are a volatile load and writes only occasionally sort the window.
+ */
+final class LatencyWindow {
+
+  static final int SIZE = 512;
+  static final int RECOMPUTE_EVERY = 32;
+
+  private final double percentile;
+  private final long[] samples = new long[SIZE];
+  private int next;
+  private volatile long count;
+  private volatile long percentileNanos = -1;
+
+  LatencyWindow(double percentile) {
+    this.percentile = percentile;
+  }
+
+  synchronized void record(long nanos) {
+    samples[next] = nanos;
+    next = (next + 1) % SIZE;
+    count++;
+    if (count % RECOMPUTE_EVERY == 0) {
+      int size = (int) Math.min(count, SIZE);
+      long[] sorted = Arrays.copyOf(samples, size);
+      Arrays.sort(sorted);
+      int rank = (int) Math.ceil(percentile * size) - 1;
+      percentileNanos = sorted[Math.clamp(rank, 0, size - 1)];
+    }
+  }
+
+  /**
+   * Gets the percentile as of the last recompute.
+   *
+   * @param minSamples samples required before a value is reported
+   * @return the percentile in nanoseconds, or -1 until enough samples were recorded
+   */
+  long percentileNanos(int minSamples) {
+    return count < minSamples ? -1 : percentileNanos;
+  }
+}
@@ -4,6 +4,7 @@ import io.github.resilience4j.bulkhead.Bulkhead;
 import io.github.resilience4j.bulkhead.BulkheadRegistry;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.Registry;
 import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
 import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
 import io.github.resilience4j.reactor.retry.RetryOperator;
@@ -12,7 +13,15 @@ import io.github.resilience4j.retry.Retry;
 import io.github.resilience4j.retry.RetryRegistry;
 import io.github.resilience4j.timelimiter.TimeLimiter;
 import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -24,26 +33,66 @@ import reactor.core.publisher.Mono;
  *   <li>TimeLimiter - Timeout for the operation
  *   <li>CircuitBreaker - Fail fast when service is unavailable
  *   <li>Retry - Retry on transient failures
- *   <li>Bulkhead - Limit concurrent calls
+ *   <li>Bulkhead - Limit concurrent calls, or an {@link AdaptiveConcurrencyLimiter} when {@code
+ *       platform.resilience.instances.<name>.adaptive-limit.enabled} is set
  * </ol>
+ *
+ * <p>The operators for a name are looked up and composed once, then cached as {@link Mono} and
+ * {@link Flux} transformers, so a call only pays for one deferred transform. The chain is applied
+ * per subscription, as before. A cached chain is dropped when any of its Resilience4j instances is
+ * replaced or removed in its registry, and rebuilt on next use with the new configuration.
+ *
+ * <p>{@link #decorateIdempotent} additionally hedges the decorated call when {@code
+ * platform.resilience.instances.<name>.hedge.enabled} is set; each attempt goes through the full
+ * chain, so hedges count against the concurrency limit.
  */
 @Component
+@EnableConfigurationProperties(ResilienceProperties.class)
 public class ReactiveResilience {
 
   private final CircuitBreakerRegistry circuitBreakerRegistry;
   private final RetryRegistry retryRegistry;
   private final TimeLimiterRegistry timeLimiterRegistry;
   private final BulkheadRegistry bulkheadRegistry;
+  private final Map<String, AdaptiveConcurrencyLimiter> limiters;
+  private final Map<String, RequestHedger> hedgers;
+  private final ConcurrentHashMap<String, Chain> chains = new ConcurrentHashMap<>();
 
   public ReactiveResilience(
       CircuitBreakerRegistry circuitBreakerRegistry,
       RetryRegistry retryRegistry,
       TimeLimiterRegistry timeLimiterRegistry,
-      BulkheadRegistry bulkheadRegistry) {
+      BulkheadRegistry bulkheadRegistry,
+      ResilienceProperties properties,
+      MeterRegistry meterRegistry) {
     this.circuitBreakerRegistry = circuitBreakerRegistry;
     this.retryRegistry = retryRegistry;
     this.timeLimiterRegistry = timeLimiterRegistry;
     this.bulkheadRegistry = bulkheadRegistry;
+
+    Map<String, AdaptiveConcurrencyLimiter> limiters = new HashMap<>();
+    Map<String, RequestHedger> hedgers = new HashMap<>();
+    properties
+        .getInstances()
+        .forEach(
+            (name, instance) -> {
+              if (instance.getAdaptiveLimit().isEnabled()) {
+                limiters.put(
+                    name,
+                    new AdaptiveConcurrencyLimiter(
+                        name, instance.getAdaptiveLimit(), meterRegistry));
+              }
+              if (instance.getHedge().isEnabled()) {
+                hedgers.put(name, new RequestHedger(name, instance.getHedge(), meterRegistry));
+              }
+            });
+    this.limiters = Map.copyOf(limiters);
+    this.hedgers = Map.copyOf(hedgers);
+
+    evictOnChange(circuitBreakerRegistry, CircuitBreaker::getName);
+    evictOnChange(retryRegistry, Retry::getName);
+    evictOnChange(timeLimiterRegistry, TimeLimiter::getName);
+    evictOnChange(bulkheadRegistry, Bulkhead::getName);
   }
 
   /**
@@ -52,18 +101,65 @@ public class ReactiveResilience {
    * @param name The name of the resilience4j instances (must match config)
    * @param mono The Mono to decorate
    * @param <T> The type of the Mono
-   * @return Decorated Mono with timeout, circuit breaker, retry, and bulkhead
+   * @return Decorated Mono with timeout, circuit breaker, retry, and bulkhead (or adaptive limit)
    */
   public <T> Mono<T> decorate(String name, Mono<T> mono) {
-    CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(name);
-    Retry retry = retryRegistry.retry(name);
-    TimeLimiter timeLimiter = timeLimiterRegistry.timeLimiter(name);
-    Bulkhead bulkhead = bulkheadRegistry.bulkhead(name);
-
-    return mono.transformDeferred(TimeLimiterOperator.of(timeLimiter))
-        .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
-        .transformDeferred(RetryOperator.of(retry))
-        .transformDeferred(BulkheadOperator.of(bulkhead));
+    return mono.transform(monoTransformer(name));
+  }
+
+  /**
+   * Decorates a Flux with all resilience patterns. The concurrency permit is held until the Flux
+   * terminates.
+   *
+   * @param name The name of the resilience4j instances (must match config)
+   * @param flux The Flux to decorate
+   * @param <T> The element type of the Flux
+   * @return Decorated Flux with timeout, circuit breaker, retry, and bulkhead (or adaptive limit)
+   */
+  public <T> Flux<T> decorate(String name, Flux<T> flux) {
+    return flux.transform(fluxTransformer(name));
+  }
+
+  /**
+   * Decorates an idempotent Mono, hedging it if hedging is enabled for the name.
+   *
+   * <p>Only use for calls that are safe to send twice (GETs and other reads): a hedge is a second
+   * subscription to the same Mono.
+   *
+   * @param name The name of the resilience4j instances (must match config)
+   * @param mono The idempotent Mono to decorate
+   * @param <T> The type of the Mono
+   * @return Decorated Mono, hedged when enabled; otherwise the same as {@link #decorate}
+   */
+  public <T> Mono<T> decorateIdempotent(String name, Mono<T> mono) {
+    Mono<T> decorated = decorate(name, mono);
+    RequestHedger hedger = hedgers.get(name);
+    return hedger != null ? hedger.apply(decorated) : decorated;
+  }
+
+  /**
+   * Gets the cached transformer for a name, for use with {@code mono.transform(...)}.
+   *
+   * @param name The name of the resilience4j instances (must match config)
+   * @param <T> The type of the Mono
+   * @return Transformer applying timeout, circuit breaker, retry, and bulkhead per subscription
+   */
+  @SuppressWarnings("unchecked")
+  public <T> Function<Mono<T>, Mono<T>> monoTransformer(String name) {
+    // Resilience4j operators do not depend on the element type
+    return (Function<Mono<T>, Mono<T>>) (Function<?, ?>) chain(name).mono();
+  }
+
+  /**
+   * Gets the cached transformer for a name, for use with {@code flux.transform(...)}.
+   *
+   * @param name The name of the resilience4j instances (must match config)
+   * @param <T> The element type of the Flux
+   * @return Transformer applying timeout, circuit breaker, retry, and bulkhead per subscription
+   */
+  @SuppressWarnings("unchecked")
+  public <T> Function<Flux<T>, Flux<T>> fluxTransformer(String name) {
+    return (Function<Flux<T>, Flux<T>>) (Function<?, ?>) chain(name).flux();
   }
 
   /**
@@ -73,6 +169,67 @@ public class ReactiveResilience {
    * @return The current state of the circuit breaker
    */
   public CircuitBreaker.State getCircuitBreakerState(String name) {
-    return circuitBreakerRegistry.circuitBreaker(name).getState();
+    return chain(name).circuitBreaker().getState();
   }
+
+  private Chain chain(String name) {
+    Chain chain = chains.get(name);
+    return chain != null ? chain : chains.computeIfAbsent(name, this::build);
+  }
+
+  private Chain build(String name) {
+    CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(name);
+    TimeLimiterOperator<Object> timeLimiterOperator =
+        TimeLimiterOperator.of(timeLimiterRegistry.timeLimiter(name));
+    CircuitBreakerOperator<Object> circuitBreakerOperator =
+        CircuitBreakerOperator.of(circuitBreaker);
+    RetryOperator<Object> retryOperator = RetryOperator.of(retryRegistry.retry(name));
+
+    AdaptiveConcurrencyLimiter limiter = limiters.get(name);
+    UnaryOperator<Mono<Object>> limitMono;
+    UnaryOperator<Flux<Object>> limitFlux;
+    if (limiter != null) {
+      limitMono = limiter::apply;
+      limitFlux = limiter::apply;
+    } else {
+      BulkheadOperator<Object> bulkheadOperator =
+          BulkheadOperator.of(bulkheadRegistry.bulkhead(name));
+      limitMono = mono -> mono.transform(bulkheadOperator);
+      limitFlux = flux -> flux.transform(bulkheadOperator);
+    }
+
+    // One deferred transform per call; the operators are applied per subscription, so each
+    // subscription (including retries by callers and hedges) gets fresh retry and timeout state
+    Function<Mono<Object>, Mono<Object>> monoChain =
+        mono ->
+            limitMono.apply(
+                mono.transform(timeLimiterOperator)
+                    .transform(circuitBreakerOperator)
+                    .transform(retryOperator));
+    Function<Flux<Object>, Flux<Object>> fluxChain =
+        flux ->
+            limitFlux.apply(
+                flux.transform(timeLimiterOperator)
+                    .transform(circuitBreakerOperator)
+                    .transform(retryOperator));
+
+    return new Chain(
+        circuitBreaker,
+        mono -> mono.transformDeferred(monoChain),
+        flux -> flux.transformDeferred(fluxChain));
+  }
+
+  /** Drop cached chains using an instance that was replaced or removed, e.g. on config refresh. */
+  private <E> void evictOnChange(Registry<E, ?> registry, Function<E, String> nameOf) {
+    registry
+        .getEventPublisher()
+        .onEntryReplaced(event -> chains.remove(nameOf.apply(event.getNewEntry())))
+        .onEntryRemoved(event -> chains.remove(nameOf.apply(event.getRemovedEntry())));
+  }
+
+  /** The composed operators for one name. */
+  private record Chain(
+      CircuitBreaker circuitBreaker,
+      Function<Mono<Object>, Mono<Object>> mono,
+      Function<Flux<Object>, Flux<Object>> flux) {}
 }
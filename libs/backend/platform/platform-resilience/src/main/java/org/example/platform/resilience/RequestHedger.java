@@ -0,0 +1,173 @@
+package org.example.platform.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+/**
+ * Hedges idempotent calls to one downstream service.
+ *
+ * <p>The call is subscribed once; if it has not answered after the configured percentile of recent
+ * latencies, it is subscribed a second time and whichever attempt answers first wins, cancelling
+ * the other. Only the first attempt's latency feeds the percentile (a cancelled first attempt is
+ * recorded with the time it had run), so hedging does not pull its own delay down.
+ *
+ * <p>Failures are not hedged: a first attempt that fails before the hedge is sent fails the call,
+ * and once both are running the call fails only when both have. Hedges are paid for by a budget of
+ * {@code max-hedge-ratio} hedges per call, so a latency spike across all calls cannot double the
+ * load on a service that is already slow.
+ */
+public final class RequestHedger {
+
+  private static final long CREDIT_PER_HEDGE = 1_000;
+  private static final long MAX_CREDIT = 10 * CREDIT_PER_HEDGE;
+
+  private final ResilienceProperties.Hedge settings;
+  private final LatencyWindow latency;
+  private final long creditPerCall;
+  private final AtomicLong credit = new AtomicLong();
+  private final Counter hedgesSent;
+  private final Counter hedgeWins;
+
+  public RequestHedger(
+      String name, ResilienceProperties.Hedge settings, MeterRegistry meterRegistry) {
+    this.settings = settings;
+    this.latency = new LatencyWindow(settings.getPercentile());
+    this.creditPerCall = Math.round(settings.getMaxHedgeRatio() * CREDIT_PER_HEDGE);
+    this.hedgesSent =
+        Counter.builder("resilience.hedge.sent")
+            .description("Hedged duplicates sent after the first attempt ran past the delay")
+            .tag("name", name)
+            .register(meterRegistry);
+    this.hedgeWins =
+        Counter.builder("resilience.hedge.wins")
+            .description("Calls answered by the hedge rather than the first attempt")
+            .tag("name", name)
+            .register(meterRegistry);
+    TimeGauge.builder(
+            "resilience.hedge.delay",
+            this,
+            TimeUnit.NANOSECONDS,
+            hedger -> Math.max(0, hedger.delayNanos()))
+        .description("Current hedge delay derived from recent latency; 0 while warming up")
+        .tag("name", name)
+        .register(meterRegistry);
+  }
+
+  /**
+   * Hedges a call. The Mono must be idempotent and resubscribable (e.g. a WebClient GET).
+   *
+   * @param attempt the call, subscribed once per attempt
+   * @param <T> the type of the Mono
+   * @return a Mono emitting the first attempt's result to arrive
+   */
+  public <T> Mono<T> apply(Mono<T> attempt) {
+    return Mono.create(sink -> new HedgedCall<>(attempt, sink).start());
+  }
+
+  /**
+   * Gets the current hedge delay.
+   *
+   * @return the delay in nanoseconds, or -1 until enough latency samples were recorded
+   */
+  long delayNanos() {
+    long percentile = latency.percentileNanos(settings.getMinSamples());
+    if (percentile < 0) {
+      return -1;
+    }
+    return Math.clamp(
+        percentile, settings.getMinDelay().toNanos(), settings.getMaxDelay().toNanos());
+  }
+
+  private boolean takeCredit() {
+    return credit.getAndUpdate(c -> c >= CREDIT_PER_HEDGE ? c - CREDIT_PER_HEDGE : c)
+        >= CREDIT_PER_HEDGE;
+  }
+
+  /** One hedged call: the first attempt, the hedge timer and, if sent, the hedge. */
+  private final class HedgedCall<T> {
+
+    private final Mono<T> attempt;
+    private final MonoSink<T> sink;
+    private final Disposable.Composite subscriptions = Disposables.composite();
+    private final AtomicBoolean done = new AtomicBoolean();
+    private final AtomicInteger running = new AtomicInteger(1);
+
+    HedgedCall(Mono<T> attempt, MonoSink<T> sink) {
+      this.attempt = attempt;
+      this.sink = sink;
+    }
+
+    void start() {
+      credit.accumulateAndGet(creditPerCall, (c, earned) -> Math.min(MAX_CREDIT, c + earned));
+      // Cancels whatever is still running once the call completes or is cancelled
+      sink.onDispose(subscriptions);
+
+      long delayNanos = delayNanos();
+      subscriptions.add(subscribe(false));
+      if (delayNanos >= 0) {
+        subscriptions.add(Mono.delay(Duration.ofNanos(delayNanos)).subscribe(tick -> hedge()));
+      }
+    }
+
+    private void hedge() {
+      if (done.get() || !takeCredit()) {
+        return;
+      }
+      running.incrementAndGet();
+      hedgesSent.increment();
+      subscriptions.add(subscribe(true));
+    }
+
+    private Disposable subscribe(boolean hedge) {
+      Mono<T> call = attempt.contextWrite(sink.contextView());
+      if (!hedge) {
+        long startNanos = System.nanoTime();
+        call =
+            call.doOnSuccess(value -> latency.record(System.nanoTime() - startNanos))
+                .doOnCancel(() -> latency.record(System.nanoTime() - startNanos));
+      }
+      AtomicBoolean emitted = new AtomicBoolean();
+      return call.subscribe(
+          value -> {
+            emitted.set(true);
+            succeed(value, hedge);
+          },
+          this::fail,
+          () -> {
+            if (!emitted.get()) {
+              succeed(null, hedge);
+            }
+          });
+    }
+
+    private void succeed(T value, boolean hedge) {
+      if (!done.compareAndSet(false, true)) {
+        return;
+      }
+      if (hedge) {
+        hedgeWins.increment();
+      }
+      if (value == null) {
+        sink.success();
+      } else {
+        sink.success(value);
+      }
+    }
+
+    private void fail(Throwable error) {
+      if (running.decrementAndGet() == 0 && done.compareAndSet(false, true)) {
+        sink.error(error);
+      }
+    }
+  }
+}
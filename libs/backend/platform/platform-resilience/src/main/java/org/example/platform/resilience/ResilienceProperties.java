@@ -0,0 +1,176 @@
+package org.example.platform.resilience;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Per-instance options layered on top of the Resilience4j configuration.
+ *
+ * <p>Instances are keyed by the same name passed to {@link ReactiveResilience#decorate}. Both
+ * options are off unless enabled for a name.
+ */
+@ConfigurationProperties(prefix = "platform.resilience")
+public class ResilienceProperties {
+
+  private Map<String, Instance> instances = new LinkedHashMap<>();
+
+  public Map<String, Instance> getInstances() {
+    return instances;
+  }
+
+  public void setInstances(Map<String, Instance> instances) {
+    this.instances = instances;
+  }
+
+  /** Options for one named instance. */
+  public static class Instance {
+
+    private Hedge hedge = new Hedge();
+    private AdaptiveLimit adaptiveLimit = new AdaptiveLimit();
+
+    public Hedge getHedge() {
+      return hedge;
+    }
+
+    public void setHedge(Hedge hedge) {
+      this.hedge = hedge;
+    }
+
+    public AdaptiveLimit getAdaptiveLimit() {
+      return adaptiveLimit;
+    }
+
+    public void setAdaptiveLimit(AdaptiveLimit adaptiveLimit) {
+      this.adaptiveLimit = adaptiveLimit;
+    }
+  }
+
+  /**
+   * Request hedging for idempotent calls: a duplicate is sent once the first attempt has taken
+   * longer than the observed latency percentile, and the first response wins.
+   */
+  public static class Hedge {
+
+    private boolean enabled;
+
+    /** Latency percentile of recent attempts after which a hedge is sent. */
+    private double percentile = 0.95;
+
+    /** Lower bound on the hedge delay. */
+    private Duration minDelay = Duration.ofMillis(5);
+
+    /** Upper bound on the hedge delay. */
+    private Duration maxDelay = Duration.ofSeconds(1);
+
+    /** Latency samples needed before hedging starts. */
+    private int minSamples = 50;
+
+    /** Hedges allowed per call over time, bounding the extra load hedging can add. */
+    private double maxHedgeRatio = 0.1;
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public double getPercentile() {
+      return percentile;
+    }
+
+    public void setPercentile(double percentile) {
+      this.percentile = percentile;
+    }
+
+    public Duration getMinDelay() {
+      return minDelay;
+    }
+
+    public void setMinDelay(Duration minDelay) {
+      this.minDelay = minDelay;
+    }
+
+    public Duration getMaxDelay() {
+      return maxDelay;
+    }
+
+    public void setMaxDelay(Duration maxDelay) {
+      this.maxDelay = maxDelay;
+    }
+
+    public int getMinSamples() {
+      return minSamples;
+    }
+
+    public void setMinSamples(int minSamples) {
+      this.minSamples = minSamples;
+    }
+
+    public double getMaxHedgeRatio() {
+      return maxHedgeRatio;
+    }
+
+    public void setMaxHedgeRatio(double maxHedgeRatio) {
+      this.maxHedgeRatio = maxHedgeRatio;
+    }
+  }
+
+  /**
+   * Adaptive concurrency limit used in place of the static bulkhead. The limit grows while
+   * round-trip times stay near the no-load RTT and shrinks as queueing or timeouts appear.
+   */
+  public static class AdaptiveLimit {
+
+    private boolean enabled;
+    private int initialLimit = 20;
+    private int minLimit = 5;
+    private int maxLimit = 200;
+
+    /** Factor applied to the limit after a timeout or an overload response. */
+    private double backoffRatio = 0.9;
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public int getInitialLimit() {
+      return initialLimit;
+    }
+
+    public void setInitialLimit(int initialLimit) {
+      this.initialLimit = initialLimit;
+    }
+
+    public int getMinLimit() {
+      return minLimit;
+    }
+
+    public void setMinLimit(int minLimit) {
+      this.minLimit = minLimit;
+    }
+
+    public int getMaxLimit() {
+      return maxLimit;
+    }
+
+    public void setMaxLimit(int maxLimit) {
+      this.maxLimit = maxLimit;
+    }
+
+    public double getBackoffRatio() {
+      return backoffRatio;
+    }
+
+    public void setBackoffRatio(double backoffRatio) {
+      this.backoffRatio = backoffRatio;
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package org.example.platform.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import org.example.platform.resilience.AdaptiveConcurrencyLimiter.Outcome;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/** Unit tests for AdaptiveConcurrencyLimiter permits and limit adjustment. */
+class AdaptiveConcurrencyLimiterTest {
+
+  private static final long MILLIS = Duration.ofMillis(1).toNanos();
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  void callsOverLimit_areRejectedUntilPermitsAreReleased() {
+    AdaptiveConcurrencyLimiter limiter = limiter(2, 0.9);
+
+    Disposable first = limiter.apply(Mono.never()).subscribe();
+    Disposable second = limiter.apply(Mono.never()).subscribe();
+
+    StepVerifier.create(limiter.apply(Mono.just("third")))
+        .expectError(ConcurrencyLimitExceededException.class)
+        .verify();
+    assertThat(limiter.getInFlight()).isEqualTo(2);
+    assertThat(meterRegistry.get("resilience.limiter.rejected").counter().count()).isEqualTo(1);
+
+    first.dispose();
+    second.dispose();
+
+    assertThat(limiter.getInFlight()).isZero();
+    StepVerifier.create(limiter.apply(Mono.just("fourth"))).expectNext("fourth").verifyComplete();
+  }
+
+  @Test
+  void timeout_backsOffMultiplicatively() {
+    AdaptiveConcurrencyLimiter limiter = limiter(20, 0.5);
+
+    StepVerifier.create(limiter.apply(Mono.error(new TimeoutException())))
+        .expectError(TimeoutException.class)
+        .verify();
+
+    assertThat(limiter.getLimit()).isEqualTo(10);
+    assertThat(meterRegistry.get("resilience.limiter.limit").gauge().value()).isEqualTo(10);
+  }
+
+  @Test
+  void rttAtNoLoadLevel_growsLimitInUse() {
+    AdaptiveConcurrencyLimiter limiter = limiter(10, 0.9);
+
+    limiter.onSample(MILLIS, 10, Outcome.SAMPLE);
+    limiter.onSample(MILLIS, 10, Outcome.SAMPLE);
+
+    assertThat(limiter.getLimit()).isGreaterThan(10);
+  }
+
+  @Test
+  void underusedLimit_doesNotGrow() {
+    AdaptiveConcurrencyLimiter limiter = limiter(20, 0.9);
+
+    limiter.onSample(MILLIS, 2, Outcome.SAMPLE);
+    limiter.onSample(MILLIS, 2, Outcome.SAMPLE);
+
+    assertThat(limiter.getLimit()).isEqualTo(20);
+  }
+
+  @Test
+  void risingRtt_shrinksLimit() {
+    AdaptiveConcurrencyLimiter limiter = limiter(50, 0.9);
+    limiter.onSample(MILLIS, 1, Outcome.SAMPLE);
+
+    // 10x the no-load RTT: most of the limit is queueing downstream
+    limiter.onSample(10 * MILLIS, 50, Outcome.SAMPLE);
+
+    assertThat(limiter.getLimit()).isLessThan(50);
+  }
+
+  private AdaptiveConcurrencyLimiter limiter(int initialLimit, double backoffRatio) {
+    ResilienceProperties.AdaptiveLimit settings = new ResilienceProperties.AdaptiveLimit();
+    settings.setEnabled(true);
+    settings.setInitialLimit(initialLimit);
+    settings.setMinLimit(1);
+    settings.setMaxLimit(100);
+    settings.setBackoffRatio(backoffRatio);
+    return new AdaptiveConcurrencyLimiter("test", settings, meterRegistry);
+  }
+}
@@ -0,0 +1,69 @@
+package org.example.platform.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/** Unit tests for cached decorator chains in ReactiveResilience. */
+class ReactiveResilienceTest {
+
+  private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+  private final ReactiveResilience resilience =
+      new ReactiveResilience(
+          circuitBreakerRegistry,
+          RetryRegistry.ofDefaults(),
+          TimeLimiterRegistry.ofDefaults(),
+          BulkheadRegistry.ofDefaults(),
+          new ResilienceProperties(),
+          new SimpleMeterRegistry());
+
+  @Test
+  void transformer_isBuiltOncePerName() {
+    assertThat(resilience.<String>monoTransformer("svc"))
+        .isSameAs(resilience.<Integer>monoTransformer("svc"));
+    assertThat(resilience.<String>fluxTransformer("svc"))
+        .isSameAs(resilience.<String>fluxTransformer("svc"));
+    assertThat(resilience.<String>monoTransformer("svc"))
+        .isNotSameAs(resilience.<String>monoTransformer("other"));
+  }
+
+  @Test
+  void replacedRegistryEntry_rebuildsChain() {
+    var before = resilience.<String>monoTransformer("svc");
+    CircuitBreaker replacement = CircuitBreaker.ofDefaults("svc");
+    replacement.transitionToForcedOpenState();
+
+    circuitBreakerRegistry.replace("svc", replacement);
+
+    assertThat(resilience.<String>monoTransformer("svc")).isNotSameAs(before);
+    assertThat(resilience.getCircuitBreakerState("svc"))
+        .isEqualTo(CircuitBreaker.State.FORCED_OPEN);
+  }
+
+  @Test
+  void decoratedMono_isAppliedPerSubscription() {
+    AtomicInteger subscriptions = new AtomicInteger();
+    Mono<Integer> decorated =
+        resilience.decorate("svc", Mono.fromCallable(subscriptions::incrementAndGet));
+
+    StepVerifier.create(decorated).expectNext(1).verifyComplete();
+    StepVerifier.create(decorated).expectNext(2).verifyComplete();
+  }
+
+  @Test
+  void decoratedFlux_emitsAllElements() {
+    StepVerifier.create(resilience.decorate("svc", Flux.just(1, 2, 3)))
+        .expectNext(1, 2, 3)
+        .verifyComplete();
+  }
+}
@@ -0,0 +1,107 @@
+package org.example.platform.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/** Unit tests for RequestHedger delay, winner selection and hedge budget. */
+class RequestHedgerTest {
+
+  private static final Duration HEDGE_DELAY = Duration.ofMillis(20);
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AtomicInteger subscriptions = new AtomicInteger();
+  private final AtomicBoolean firstCancelled = new AtomicBoolean();
+
+  @Test
+  void beforeWarmUp_callIsNotHedged() {
+    RequestHedger hedger = hedger(1.0);
+
+    StepVerifier.create(hedger.apply(attempt(Duration.ofMillis(100), Duration.ZERO)))
+        .expectNext("first")
+        .verifyComplete();
+
+    assertThat(subscriptions).hasValue(1);
+    assertThat(hedger.delayNanos()).isEqualTo(-1);
+  }
+
+  @Test
+  void slowFirstAttempt_isHedgedAndFirstAnswerWins() {
+    RequestHedger hedger = warmedUp(1.0);
+
+    StepVerifier.create(hedger.apply(attempt(Duration.ofSeconds(5), Duration.ZERO)))
+        .expectNext("hedge")
+        .expectComplete()
+        .verify(Duration.ofSeconds(1));
+
+    assertThat(subscriptions).hasValue(2);
+    assertThat(firstCancelled).isTrue();
+    assertThat(meterRegistry.get("resilience.hedge.sent").counter().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("resilience.hedge.wins").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void firstAttemptFailingBeforeDelay_isNotHedged() {
+    RequestHedger hedger = warmedUp(1.0);
+    Mono<String> failing =
+        Mono.defer(
+            () -> {
+              subscriptions.incrementAndGet();
+              return Mono.error(new IllegalStateException("boom"));
+            });
+
+    StepVerifier.create(hedger.apply(failing)).expectError(IllegalStateException.class).verify();
+
+    assertThat(subscriptions).hasValue(1);
+    assertThat(meterRegistry.get("resilience.hedge.sent").counter().count()).isZero();
+  }
+
+  @Test
+  void exhaustedHedgeBudget_waitsForFirstAttempt() {
+    RequestHedger hedger = warmedUp(0.0);
+
+    StepVerifier.create(hedger.apply(attempt(Duration.ofMillis(100), Duration.ZERO)))
+        .expectNext("first")
+        .verifyComplete();
+
+    assertThat(subscriptions).hasValue(1);
+  }
+
+  /** First subscription answers "first" after firstDelay, later ones "hedge" after hedgeDelay. */
+  private Mono<String> attempt(Duration firstDelay, Duration hedgeDelay) {
+    return Mono.defer(
+        () -> {
+          if (subscriptions.incrementAndGet() == 1) {
+            return Mono.just("first")
+                .delayElement(firstDelay)
+                .doOnCancel(() -> firstCancelled.set(true));
+          }
+          return Mono.just("hedge").delayElement(hedgeDelay);
+        });
+  }
+
+  private RequestHedger warmedUp(double maxHedgeRatio) {
+    RequestHedger hedger = hedger(maxHedgeRatio);
+    for (int i = 0; i < LatencyWindow.RECOMPUTE_EVERY; i++) {
+      hedger.apply(Mono.just("warm")).block();
+    }
+    assertThat(hedger.delayNanos()).isEqualTo(HEDGE_DELAY.toNanos());
+    return hedger;
+  }
+
+  private RequestHedger hedger(double maxHedgeRatio) {
+    ResilienceProperties.Hedge settings = new ResilienceProperties.Hedge();
+    settings.setEnabled(true);
+    settings.setMinSamples(LatencyWindow.RECOMPUTE_EVERY);
+    settings.setMinDelay(HEDGE_DELAY);
+    settings.setMaxDelay(HEDGE_DELAY);
+    settings.setMaxHedgeRatio(maxHedgeRatio);
+    return new RequestHedger("test", settings, meterRegistry);
+  }
+}
@@ -17,8 +17,13 @@ dependencies {
     // Jackson 2 compatibility for Spring Boot 4.0
     api("org.springframework.boot:spring-boot-jackson2")
 
+    // Verified token cache and its metrics
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("io.micrometer:micrometer-core")
+
     // OpenTelemetry for trace context in error handling
     implementation(libs.opentelemetry.api)
 
     testImplementation("org.springframework.boot:spring-boot-starter-test")
+    testImplementation("io.projectreactor:reactor-test")
 }
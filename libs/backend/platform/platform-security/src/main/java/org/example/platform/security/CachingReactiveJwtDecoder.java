@@ -0,0 +1,138 @@
+package org.example.platform.security;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caches successfully decoded tokens, so a token presented again skips signature verification and
+ * claim validation until it expires.
+ *
+ * <p>Entries are keyed by the SHA-256 hash of the token rather than the token itself and live until
+ * the token's {@code exp} claim or the maximum TTL, whichever comes first. Concurrent requests with
+ * the same uncached token share one verification. Rejected tokens are not cached. Because the same
+ * {@link Jwt} instance is returned on every hit, {@link JwtAuthenticationConverter} can reuse the
+ * authorities it derived from it.
+ */
+public class CachingReactiveJwtDecoder implements ReactiveJwtDecoder {
+
+  private static final Base64.Encoder KEY_ENCODER = Base64.getEncoder().withoutPadding();
+
+  private final ReactiveJwtDecoder delegate;
+  private final MeterRegistry meterRegistry;
+  private final AsyncCache<String, Jwt> cache;
+  private final Counter hits;
+  private final Counter misses;
+  private final Timer verified;
+  private final Timer rejected;
+
+  public CachingReactiveJwtDecoder(
+      ReactiveJwtDecoder delegate, long maximumSize, Duration maxTtl, MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.meterRegistry = meterRegistry;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new TokenExpiry(maxTtl))
+            .buildAsync();
+    this.hits = requests(meterRegistry, "hit");
+    this.misses = requests(meterRegistry, "miss");
+    this.verified = verification(meterRegistry, "success");
+    this.rejected = verification(meterRegistry, "failure");
+    Gauge.builder("security.jwt.cache.size", cache, c -> c.synchronous().estimatedSize())
+        .description("Verified tokens held in the cache")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public Mono<Jwt> decode(String token) throws JwtException {
+    String key = hash(token);
+    CompletableFuture<Jwt> cached = cache.getIfPresent(key);
+    if (cached != null) {
+      hits.increment();
+      return Mono.fromFuture(cached, true);
+    }
+    misses.increment();
+    // Cancelling one request must not fail the verification others are waiting on
+    return Mono.fromFuture(cache.get(key, (k, executor) -> verify(token)), true);
+  }
+
+  private CompletableFuture<Jwt> verify(String token) {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    return Mono.defer(() -> delegate.decode(token))
+        .doOnSuccess(jwt -> sample.stop(verified))
+        .doOnError(error -> sample.stop(rejected))
+        .toFuture();
+  }
+
+  static String hash(String token) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return KEY_ENCODER.encodeToString(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  private static Counter requests(MeterRegistry meterRegistry, String outcome) {
+    return Counter.builder("security.jwt.cache.requests")
+        .description("Verified token cache lookups by outcome")
+        .tag("outcome", outcome)
+        .register(meterRegistry);
+  }
+
+  private static Timer verification(MeterRegistry meterRegistry, String outcome) {
+    return Timer.builder("security.jwt.verification")
+        .description("Signature verification and claim validation of uncached tokens")
+        .tag("outcome", outcome)
+        .register(meterRegistry);
+  }
+
+  /** Expires each entry with its token, capped at the maximum TTL. */
+  private static final class TokenExpiry implements Expiry<String, Jwt> {
+    private final Duration maxTtl;
+
+    TokenExpiry(Duration maxTtl) {
+      this.maxTtl = maxTtl;
+    }
+
+    @Override
+    public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+      Instant expiresAt = jwt.getExpiresAt();
+      if (expiresAt == null) {
+        return maxTtl.toNanos();
+      }
+      Duration remaining = Duration.between(Instant.now(), expiresAt);
+      if (remaining.isNegative()) {
+        // Accepted within the clock skew after exp; not worth caching
+        return 0;
+      }
+      return remaining.compareTo(maxTtl) < 0 ? remaining.toNanos() : maxTtl.toNanos();
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, jwt, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
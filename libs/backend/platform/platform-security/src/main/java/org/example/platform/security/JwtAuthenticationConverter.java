@@ -1,5 +1,7 @@
 package org.example.platform.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -17,6 +19,9 @@ import org.springframework.stereotype.Component;
  * Converts JWT claims to Spring Security authorities. Supports multiple scope claim formats used by
  * different OAuth providers: - "scope" (space-delimited string) - OAuth 2.0 standard - "scp"
  * (space-delimited string) - Azure AD - "scopes" (array) - Some custom implementations
+ *
+ * <p>Authorities are kept per {@link Jwt} instance for as long as the instance is reachable, so the
+ * tokens served from {@link CachingReactiveJwtDecoder} have their scopes parsed once.
  */
 @Component
 public class JwtAuthenticationConverter implements Converter<Jwt, AbstractAuthenticationToken> {
@@ -24,10 +29,15 @@ public class JwtAuthenticationConverter implements Converter<Jwt, AbstractAuthen
   private static final String SCOPE_CLAIM = "scope";
   private static final String SCP_CLAIM = "scp";
   private static final String SCOPES_CLAIM = "scopes";
+  private static final long MAXIMUM_CACHED = 10_000;
+
+  // Weak keys compare by identity and drop entries once the decoder cache evicts the Jwt
+  private final Cache<Jwt, Collection<GrantedAuthority>> authoritiesByJwt =
+      Caffeine.newBuilder().weakKeys().maximumSize(MAXIMUM_CACHED).build();
 
   @Override
   public AbstractAuthenticationToken convert(Jwt jwt) {
-    Collection<GrantedAuthority> authorities = extractAuthorities(jwt);
+    Collection<GrantedAuthority> authorities = authoritiesByJwt.get(jwt, this::extractAuthorities);
     return new JwtAuthenticationToken(jwt, authorities, jwt.getSubject());
   }
 
@@ -37,7 +47,7 @@ public class JwtAuthenticationConverter implements Converter<Jwt, AbstractAuthen
             extractScopeAuthorities(jwt, SCP_CLAIM),
             extractScopesArrayAuthorities(jwt))
         .flatMap(Collection::stream)
-        .collect(Collectors.toSet());
+        .collect(Collectors.toUnmodifiableSet());
   }
 
   private Collection<GrantedAuthority> extractScopeAuthorities(Jwt jwt, String claimName) {
@@ -1,7 +1,15 @@
 package org.example.platform.security;
 
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWKSecurityContextJWKSet;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import java.time.Duration;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
@@ -16,12 +24,17 @@ import org.springframework.security.oauth2.jwt.JwtClaimValidator;
 import org.springframework.security.oauth2.jwt.JwtTimestampValidator;
 import org.springframework.security.oauth2.jwt.NimbusReactiveJwtDecoder;
 import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import org.springframework.web.reactive.function.client.WebClient;
 
 /**
  * Configures JWT validation with custom validators for audience, issuer, and expiration. Validates:
  * - Token expiration with configurable clock skew tolerance - Issuer against allowed issuers list -
  * Audience contains required audience
  *
+ * <p>Signing keys come from a {@link RefreshingJwkSource} that prefetches the JWK set and refreshes
+ * it in the background. Verified tokens are cached until they expire ({@link
+ * CachingReactiveJwtDecoder}) unless app.security.token-cache.enabled=false.
+ *
  * <p>This configuration is disabled when app.security.enabled=false (e.g., in tests).
  */
 @Configuration
@@ -36,9 +49,33 @@ public class JwtValidatorConfig {
 
   @Bean
   @ConditionalOnMissingBean(ReactiveJwtDecoder.class)
-  public ReactiveJwtDecoder jwtDecoder() {
+  public RefreshingJwkSource jwkSource(
+      ObjectProvider<WebClient.Builder> webClientBuilder,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    return new RefreshingJwkSource(
+        webClientBuilder.getIfAvailable(WebClient::builder).build(),
+        securityProperties.getJwkSetUri(),
+        securityProperties.getJwks(),
+        meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+  }
+
+  @Bean
+  @ConditionalOnMissingBean(ReactiveJwtDecoder.class)
+  public ReactiveJwtDecoder jwtDecoder(
+      RefreshingJwkSource jwkSource, ObjectProvider<MeterRegistry> meterRegistry) {
+    Set<JWSAlgorithm> algorithms =
+        securityProperties.getJwsAlgorithms().stream()
+            .map(JWSAlgorithm::parse)
+            .collect(Collectors.toUnmodifiableSet());
     NimbusReactiveJwtDecoder decoder =
-        NimbusReactiveJwtDecoder.withJwkSetUri(securityProperties.getJwkSetUri()).build();
+        NimbusReactiveJwtDecoder.withJwkSource(jwkSource)
+            // Accept every configured algorithm, not just the builder's single RS256
+            .jwtProcessorCustomizer(
+                processor ->
+                    processor.setJWSKeySelector(
+                        new JWSVerificationKeySelector<>(
+                            algorithms, new JWKSecurityContextJWKSet())))
+            .build();
 
     OAuth2TokenValidator<Jwt> validator =
         new DelegatingOAuth2TokenValidator<>(
@@ -50,7 +87,16 @@ public class JwtValidatorConfig {
             audienceValidator());
 
     decoder.setJwtValidator(validator);
-    return decoder;
+
+    SecurityProperties.TokenCache tokenCache = securityProperties.getTokenCache();
+    if (!tokenCache.isEnabled()) {
+      return decoder;
+    }
+    return new CachingReactiveJwtDecoder(
+        decoder,
+        tokenCache.getMaximumSize(),
+        tokenCache.getMaxTtl(),
+        meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
   }
 
   private OAuth2TokenValidator<Jwt> issuerValidator() {
@@ -0,0 +1,157 @@
+package org.example.platform.security;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jwt.SignedJWT;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * JWK source for {@code NimbusReactiveJwtDecoder} that keeps the JWK set in memory, fetched at
+ * startup and refreshed in the background, so verification does not wait on the authorization
+ * server in steady state.
+ *
+ * <p>A token signed with a key missing from the current set (a key rotated in since the last
+ * refresh) triggers an immediate fetch, at most once per minimum refresh interval, so tokens with
+ * made-up key IDs cannot drive traffic to the authorization server. Concurrent fetches are
+ * coalesced and a failed refresh keeps the previous set.
+ */
+public class RefreshingJwkSource implements Function<SignedJWT, Flux<JWK>>, SmartLifecycle {
+
+  private static final Logger log = LoggerFactory.getLogger(RefreshingJwkSource.class);
+
+  private final WebClient webClient;
+  private final String jwkSetUri;
+  private final SecurityProperties.Jwks properties;
+  private final Counter refreshed;
+  private final Counter failed;
+  private final AtomicReference<JWKSet> jwkSet = new AtomicReference<>();
+
+  private Mono<JWKSet> inFlight;
+  private long lastFetchNanos;
+  private volatile Disposable refresher;
+
+  public RefreshingJwkSource(
+      WebClient webClient,
+      String jwkSetUri,
+      SecurityProperties.Jwks properties,
+      MeterRegistry meterRegistry) {
+    this.webClient = webClient;
+    this.jwkSetUri = jwkSetUri;
+    this.properties = properties;
+    this.refreshed = refreshes(meterRegistry, "success");
+    this.failed = refreshes(meterRegistry, "failure");
+  }
+
+  @Override
+  public Flux<JWK> apply(SignedJWT jwt) {
+    JWKMatcher matcher = JWKMatcher.forJWSHeader(jwt.getHeader());
+    if (matcher == null) {
+      // Unsupported algorithm; verification fails without keys
+      return Flux.empty();
+    }
+    JWKSelector selector = new JWKSelector(matcher);
+    JWKSet current = jwkSet.get();
+    if (current != null) {
+      List<JWK> keys = selector.select(current);
+      if (!keys.isEmpty() || !refreshAllowed()) {
+        return Flux.fromIterable(keys);
+      }
+    }
+    return fetch().flatMapIterable(selector::select);
+  }
+
+  /**
+   * Fetch the JWK set now, joining a fetch already in progress.
+   *
+   * @return the fetched set; errors with a JwtException if it could not be retrieved
+   */
+  public synchronized Mono<JWKSet> fetch() {
+    if (inFlight == null) {
+      inFlight =
+          Mono.defer(() -> webClient.get().uri(jwkSetUri).retrieve().bodyToMono(String.class))
+              .timeout(properties.getTimeout())
+              .map(RefreshingJwkSource::parse)
+              .doOnNext(
+                  set -> {
+                    jwkSet.set(set);
+                    refreshed.increment();
+                  })
+              .doOnError(
+                  error -> {
+                    failed.increment();
+                    log.warn(
+                        "JWK set refresh failed: uri={}, error={}", jwkSetUri, error.toString());
+                  })
+              .onErrorMap(error -> new JwtException("Couldn't retrieve JWK set", error))
+              .doFinally(signal -> fetchCompleted())
+              .cache();
+    }
+    return inFlight;
+  }
+
+  @Override
+  public void start() {
+    // The first tick prefetches the set
+    refresher =
+        Flux.interval(Duration.ZERO, properties.getRefreshInterval())
+            .onBackpressureDrop()
+            .concatMap(tick -> fetch().onErrorResume(error -> Mono.empty()))
+            .subscribe();
+  }
+
+  @Override
+  public void stop() {
+    Disposable current = refresher;
+    if (current != null) {
+      current.dispose();
+      refresher = null;
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    Disposable current = refresher;
+    return current != null && !current.isDisposed();
+  }
+
+  private synchronized boolean refreshAllowed() {
+    return inFlight != null
+        || System.nanoTime() - lastFetchNanos >= properties.getMinRefreshInterval().toNanos();
+  }
+
+  private synchronized void fetchCompleted() {
+    lastFetchNanos = System.nanoTime();
+    inFlight = null;
+  }
+
+  private static JWKSet parse(String body) {
+    try {
+      return JWKSet.parse(body);
+    } catch (ParseException e) {
+      throw new IllegalStateException("Malformed JWK set: " + e.getMessage(), e);
+    }
+  }
+
+  private static Counter refreshes(MeterRegistry meterRegistry, String outcome) {
+    return Counter.builder("security.jwks.refresh")
+        .description("JWK set fetches by outcome")
+        .tag("outcome", outcome)
+        .register(meterRegistry);
+  }
+}
@@ -1,5 +1,6 @@
 package org.example.platform.security;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -25,9 +26,18 @@ public class SecurityProperties {
   /** Required audience claim value. */
   private String requiredAudience = "reactive-test-api";
 
+  /** JWS algorithms accepted on inbound tokens. */
+  private List<String> jwsAlgorithms = new ArrayList<>(List.of("RS256", "ES256"));
+
   /** Clock skew tolerance in seconds for token expiration validation. */
   private long clockSkewSeconds = 30;
 
+  /** Cache of verified tokens. */
+  private TokenCache tokenCache = new TokenCache();
+
+  /** JWK set prefetch and refresh. */
+  private Jwks jwks = new Jwks();
+
   public boolean isEnabled() {
     return enabled;
   }
@@ -60,6 +70,14 @@ public class SecurityProperties {
     this.requiredAudience = requiredAudience;
   }
 
+  public List<String> getJwsAlgorithms() {
+    return jwsAlgorithms;
+  }
+
+  public void setJwsAlgorithms(List<String> jwsAlgorithms) {
+    this.jwsAlgorithms = jwsAlgorithms;
+  }
+
   public long getClockSkewSeconds() {
     return clockSkewSeconds;
   }
@@ -67,4 +85,94 @@ public class SecurityProperties {
   public void setClockSkewSeconds(long clockSkewSeconds) {
     this.clockSkewSeconds = clockSkewSeconds;
   }
+
+  public TokenCache getTokenCache() {
+    return tokenCache;
+  }
+
+  public void setTokenCache(TokenCache tokenCache) {
+    this.tokenCache = tokenCache;
+  }
+
+  public Jwks getJwks() {
+    return jwks;
+  }
+
+  public void setJwks(Jwks jwks) {
+    this.jwks = jwks;
+  }
+
+  /** Settings for caching verified tokens, bound to 'app.security.token-cache'. */
+  public static class TokenCache {
+
+    /** Whether verified tokens are cached until they expire. */
+    private boolean enabled = true;
+
+    /** Maximum number of cached tokens. */
+    private long maximumSize = 10_000;
+
+    /** Upper bound on how long a token stays cached, whatever its exp claim. */
+    private Duration maxTtl = Duration.ofMinutes(10);
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public long getMaximumSize() {
+      return maximumSize;
+    }
+
+    public void setMaximumSize(long maximumSize) {
+      this.maximumSize = maximumSize;
+    }
+
+    public Duration getMaxTtl() {
+      return maxTtl;
+    }
+
+    public void setMaxTtl(Duration maxTtl) {
+      this.maxTtl = maxTtl;
+    }
+  }
+
+  /** Settings for the in-memory JWK set, bound to 'app.security.jwks'. */
+  public static class Jwks {
+
+    /** How often the JWK set is refetched in the background. */
+    private Duration refreshInterval = Duration.ofMinutes(5);
+
+    /** Minimum time between fetches triggered by tokens with an unknown key ID. */
+    private Duration minRefreshInterval = Duration.ofSeconds(30);
+
+    /** Timeout for one JWK set fetch. */
+    private Duration timeout = Duration.ofSeconds(5);
+
+    public Duration getRefreshInterval() {
+      return refreshInterval;
+    }
+
+    public void setRefreshInterval(Duration refreshInterval) {
+      this.refreshInterval = refreshInterval;
+    }
+
+    public Duration getMinRefreshInterval() {
+      return minRefreshInterval;
+    }
+
+    public void setMinRefreshInterval(Duration minRefreshInterval) {
+      this.minRefreshInterval = minRefreshInterval;
+    }
+
+    public Duration getTimeout() {
+      return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+      this.timeout = timeout;
+    }
+  }
 }
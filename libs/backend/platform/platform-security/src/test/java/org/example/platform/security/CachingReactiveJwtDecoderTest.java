@@ -0,0 +1,94 @@
+package org.example.platform.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class CachingReactiveJwtDecoderTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final AtomicInteger verifications = new AtomicInteger();
+
+  @Test
+  void decode_verifiesEachTokenOnce() {
+    CachingReactiveJwtDecoder decoder = decoder(token -> jwt(token, Duration.ofMinutes(5)));
+
+    Jwt first = decoder.decode("token-a").block();
+    Jwt second = decoder.decode("token-a").block();
+
+    assertThat(second).isSameAs(first);
+    assertThat(verifications).hasValue(1);
+    assertThat(requests("hit")).isEqualTo(1);
+    assertThat(requests("miss")).isEqualTo(1);
+    assertThat(registry.get("security.jwt.verification").tag("outcome", "success").timer().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void decode_keepsTokensApart() {
+    CachingReactiveJwtDecoder decoder = decoder(token -> jwt(token, Duration.ofMinutes(5)));
+
+    assertThat(decoder.decode("token-a").block().getTokenValue()).isEqualTo("token-a");
+    assertThat(decoder.decode("token-b").block().getTokenValue()).isEqualTo("token-b");
+    assertThat(verifications).hasValue(2);
+  }
+
+  @Test
+  void decode_doesNotCacheRejectedTokens() {
+    CachingReactiveJwtDecoder decoder =
+        decoder(token -> Mono.error(new BadJwtException("bad signature")));
+
+    StepVerifier.create(decoder.decode("token-a")).verifyError(BadJwtException.class);
+    StepVerifier.create(decoder.decode("token-a")).verifyError(BadJwtException.class);
+
+    assertThat(verifications).hasValue(2);
+    assertThat(registry.get("security.jwt.verification").tag("outcome", "failure").timer().count())
+        .isEqualTo(2);
+  }
+
+  @Test
+  void decode_doesNotCacheTokensPastExpiry() {
+    // Accepted within the clock skew, but already past exp
+    CachingReactiveJwtDecoder decoder = decoder(token -> jwt(token, Duration.ofSeconds(-5)));
+
+    decoder.decode("token-a").block();
+    decoder.decode("token-a").block();
+
+    assertThat(verifications).hasValue(2);
+  }
+
+  private CachingReactiveJwtDecoder decoder(Function<String, Mono<Jwt>> verification) {
+    return new CachingReactiveJwtDecoder(
+        token -> {
+          verifications.incrementAndGet();
+          return verification.apply(token);
+        },
+        100,
+        Duration.ofMinutes(10),
+        registry);
+  }
+
+  private double requests(String outcome) {
+    return registry.get("security.jwt.cache.requests").tag("outcome", outcome).counter().count();
+  }
+
+  private static Mono<Jwt> jwt(String token, Duration expiresIn) {
+    Instant expiresAt = Instant.now().plus(expiresIn);
+    return Mono.just(
+        Jwt.withTokenValue(token)
+            .header("alg", "RS256")
+            .subject("service-client")
+            .issuedAt(expiresAt.minus(Duration.ofHours(1)))
+            .expiresAt(expiresAt)
+            .build());
+  }
+}
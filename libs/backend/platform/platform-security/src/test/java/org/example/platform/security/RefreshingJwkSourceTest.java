@@ -0,0 +1,152 @@
+package org.example.platform.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class RefreshingJwkSourceTest {
+
+  private static final String JWK_SET_URI = "http://auth.test/oauth2/jwks";
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final SecurityProperties.Jwks properties = new SecurityProperties.Jwks();
+  private final AtomicInteger fetches = new AtomicInteger();
+  // Body the stubbed authorization server answers with; null answers 503
+  private final AtomicReference<String> jwkSetJson = new AtomicReference<>();
+
+  private final RSAKey original = rsaKey("key-1");
+  private final RSAKey rotated = rsaKey("key-2");
+
+  @Test
+  void apply_refetchesWhenKeyIdIsUnknown() {
+    properties.setMinRefreshInterval(Duration.ZERO);
+    RefreshingJwkSource source = source(original);
+    source.fetch().block();
+
+    serve(original, rotated);
+
+    StepVerifier.create(source.apply(jwt("key-2")).map(JWK::getKeyID))
+        .expectNext("key-2")
+        .verifyComplete();
+    assertThat(fetches).hasValue(2);
+    assertThat(refreshes("success")).isEqualTo(2);
+  }
+
+  @Test
+  void apply_usesCurrentSetWhenKeyIdIsKnown() {
+    RefreshingJwkSource source = source(original);
+    source.fetch().block();
+
+    StepVerifier.create(source.apply(jwt("key-1")).map(JWK::getKeyID))
+        .expectNext("key-1")
+        .verifyComplete();
+    assertThat(fetches).hasValue(1);
+  }
+
+  @Test
+  void apply_doesNotRefetchWithinMinRefreshInterval() {
+    properties.setMinRefreshInterval(Duration.ofHours(1));
+    RefreshingJwkSource source = source(original);
+    source.fetch().block();
+
+    serve(original, rotated);
+
+    StepVerifier.create(source.apply(jwt("key-2"))).verifyComplete();
+    StepVerifier.create(source.apply(jwt("made-up"))).verifyComplete();
+    assertThat(fetches).hasValue(1);
+  }
+
+  @Test
+  void failedRefresh_keepsLastGoodSet() {
+    properties.setMinRefreshInterval(Duration.ZERO);
+    RefreshingJwkSource source = source(original);
+    source.fetch().block();
+
+    jwkSetJson.set(null);
+
+    StepVerifier.create(source.fetch()).verifyError(JwtException.class);
+    StepVerifier.create(source.apply(jwt("key-2"))).verifyError(JwtException.class);
+    StepVerifier.create(source.apply(jwt("key-1")).map(JWK::getKeyID))
+        .expectNext("key-1")
+        .verifyComplete();
+    assertThat(refreshes("failure")).isEqualTo(2);
+  }
+
+  @Test
+  void failedRefresh_countsTowardsMinRefreshInterval() {
+    properties.setMinRefreshInterval(Duration.ofHours(1));
+    RefreshingJwkSource source = source(original);
+    source.fetch().block();
+
+    jwkSetJson.set(null);
+    StepVerifier.create(source.fetch()).verifyError(JwtException.class);
+
+    StepVerifier.create(source.apply(jwt("key-2"))).verifyComplete();
+    assertThat(fetches).hasValue(2);
+  }
+
+  private RefreshingJwkSource source(RSAKey... keys) {
+    serve(keys);
+    WebClient webClient =
+        WebClient.builder()
+            .exchangeFunction(
+                request -> {
+                  fetches.incrementAndGet();
+                  String body = jwkSetJson.get();
+                  if (body == null) {
+                    return Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build());
+                  }
+                  return Mono.just(
+                      ClientResponse.create(HttpStatus.OK)
+                          .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                          .body(body)
+                          .build());
+                })
+            .build();
+    return new RefreshingJwkSource(webClient, JWK_SET_URI, properties, registry);
+  }
+
+  private void serve(RSAKey... keys) {
+    jwkSetJson.set(new JWKSet(List.<JWK>of(keys)).toPublicJWKSet().toString());
+  }
+
+  private double refreshes(String outcome) {
+    return registry.get("security.jwks.refresh").tag("outcome", outcome).counter().count();
+  }
+
+  private static SignedJWT jwt(String keyId) {
+    return new SignedJWT(
+        new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(keyId).build(),
+        new JWTClaimsSet.Builder().subject("service-client").build());
+  }
+
+  private static RSAKey rsaKey(String keyId) {
+    try {
+      return new RSAKeyGenerator(2048).keyID(keyId).generate();
+    } catch (JOSEException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -11,6 +11,12 @@ dependencies {
     // must have spring-boot-starter-graphql on their classpath
     compileOnly("org.springframework.graphql:spring-graphql")
 
+    // Stage timers; exemplars are wired only when the Prometheus registry and the
+    // OpenTelemetry API are on the application's classpath
+    api("io.micrometer:micrometer-core")
+    compileOnly("io.prometheus:prometheus-metrics-tracer-common")
+    compileOnly(libs.opentelemetry.api)
+
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation("io.projectreactor:reactor-test")
 }
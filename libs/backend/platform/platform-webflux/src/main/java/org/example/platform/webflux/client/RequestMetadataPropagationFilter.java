@@ -0,0 +1,52 @@
+package org.example.platform.webflux.client;
+
+import org.example.platform.webflux.context.ContextKeys;
+import org.example.platform.webflux.context.RequestMetadata;
+import org.example.platform.webflux.context.RequestMetadataExtractor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * Adds the request metadata headers to outbound calls from the {@link RequestMetadata} in the
+ * Reactor Context, so clients do not copy them by hand.
+ *
+ * <p>Headers the caller set explicitly are kept. Missing values (store number 0, empty strings) are
+ * not sent. Without metadata in the context the request goes out unchanged.
+ */
+public class RequestMetadataPropagationFilter implements ExchangeFilterFunction {
+
+  @Override
+  public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+    return Mono.deferContextual(
+        ctx -> {
+          RequestMetadata metadata = ctx.getOrDefault(ContextKeys.METADATA, null);
+          if (metadata == null) {
+            return next.exchange(request);
+          }
+          return next.exchange(
+              ClientRequest.from(request).headers(headers -> propagate(headers, metadata)).build());
+        });
+  }
+
+  private static void propagate(HttpHeaders headers, RequestMetadata metadata) {
+    if (metadata.storeNumber() > 0) {
+      setIfAbsent(
+          headers,
+          RequestMetadataExtractor.HEADER_STORE_NUMBER,
+          Integer.toString(metadata.storeNumber()));
+    }
+    setIfAbsent(headers, RequestMetadataExtractor.HEADER_ORDER_NUMBER, metadata.orderNumber());
+    setIfAbsent(headers, RequestMetadataExtractor.HEADER_USER_ID, metadata.userId());
+    setIfAbsent(headers, RequestMetadataExtractor.HEADER_SESSION_ID, metadata.sessionId());
+  }
+
+  private static void setIfAbsent(HttpHeaders headers, String name, String value) {
+    if (value != null && !value.isEmpty() && headers.getFirst(name) == null) {
+      headers.set(name, value);
+    }
+  }
+}
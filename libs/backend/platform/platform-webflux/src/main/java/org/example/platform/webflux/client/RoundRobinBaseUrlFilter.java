@@ -0,0 +1,40 @@
+package org.example.platform.webflux.client;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * Spreads requests across several base URLs of one downstream service.
+ *
+ * <p>The WebClient is built with the first base URL; each exchange swaps that prefix for the next
+ * base URL in turn. The choice is made per exchange, so a retried call moves on to the next
+ * instance. URLs that do not start with the first base URL (absolute URIs) are left alone.
+ */
+final class RoundRobinBaseUrlFilter implements ExchangeFilterFunction {
+
+  private final String primary;
+  private final List<String> baseUrls;
+  private final AtomicInteger next = new AtomicInteger();
+
+  RoundRobinBaseUrlFilter(List<String> baseUrls) {
+    this.primary = baseUrls.getFirst();
+    this.baseUrls = List.copyOf(baseUrls);
+  }
+
+  @Override
+  public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+    String url = request.url().toString();
+    if (!url.startsWith(primary)) {
+      return next.exchange(request);
+    }
+    String baseUrl = baseUrls.get(Math.floorMod(this.next.getAndIncrement(), baseUrls.size()));
+    URI target = URI.create(baseUrl + url.substring(primary.length()));
+    return next.exchange(ClientRequest.from(request).url(target).build());
+  }
+}
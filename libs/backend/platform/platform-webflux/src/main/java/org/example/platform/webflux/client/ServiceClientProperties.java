@@ -0,0 +1,209 @@
+package org.example.platform.webflux.client;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Connection settings for inter-service WebClients, keyed by downstream name.
+ *
+ * <p>A name with no entry gets the defaults below and the base URL passed to {@link
+ * ServiceWebClientFactory#builder}.
+ */
+@ConfigurationProperties(prefix = "platform.webclient")
+public class ServiceClientProperties {
+
+  private Map<String, Client> clients = new LinkedHashMap<>();
+
+  public Map<String, Client> getClients() {
+    return clients;
+  }
+
+  public void setClients(Map<String, Client> clients) {
+    this.clients = clients;
+  }
+
+  /** Settings for one downstream service. */
+  public static class Client {
+
+    /**
+     * Base URLs to round-robin across. When empty, the base URL passed by the caller is used alone.
+     */
+    private List<String> baseUrls = new ArrayList<>();
+
+    /** Use HTTP/2 over cleartext (h2c), multiplexing requests over few connections. */
+    private boolean http2;
+
+    /** Add the request metadata headers from the Reactor Context to every request. */
+    private boolean propagateMetadata = true;
+
+    private Pool pool = new Pool();
+    private Tcp tcp = new Tcp();
+
+    /** Time allowed between sending the request and receiving the response headers. */
+    private Duration responseTimeout = Duration.ofSeconds(5);
+
+    public List<String> getBaseUrls() {
+      return baseUrls;
+    }
+
+    public void setBaseUrls(List<String> baseUrls) {
+      this.baseUrls = baseUrls;
+    }
+
+    public boolean isHttp2() {
+      return http2;
+    }
+
+    public void setHttp2(boolean http2) {
+      this.http2 = http2;
+    }
+
+    public boolean isPropagateMetadata() {
+      return propagateMetadata;
+    }
+
+    public void setPropagateMetadata(boolean propagateMetadata) {
+      this.propagateMetadata = propagateMetadata;
+    }
+
+    public Pool getPool() {
+      return pool;
+    }
+
+    public void setPool(Pool pool) {
+      this.pool = pool;
+    }
+
+    public Tcp getTcp() {
+      return tcp;
+    }
+
+    public void setTcp(Tcp tcp) {
+      this.tcp = tcp;
+    }
+
+    public Duration getResponseTimeout() {
+      return responseTimeout;
+    }
+
+    public void setResponseTimeout(Duration responseTimeout) {
+      this.responseTimeout = responseTimeout;
+    }
+  }
+
+  /** Connection pool for one downstream service. */
+  public static class Pool {
+
+    /** Connections per remote address; with HTTP/2, connections before streams are shared. */
+    private int maxConnections = 50;
+
+    /** Concurrent streams per HTTP/2 connection. */
+    private long maxConcurrentStreams = 100;
+
+    /** Requests allowed to wait for a connection; beyond this, acquiring fails immediately. */
+    private int pendingAcquireMaxCount = 500;
+
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(2);
+
+    /** Idle connections are closed after this, before the server or a proxy drops them. */
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+
+    /** Connections are retired after this, so DNS and load balancer changes are picked up. */
+    private Duration maxLifeTime = Duration.ofMinutes(5);
+
+    /** Interval for evicting idle and expired connections in the background. */
+    private Duration evictInterval = Duration.ofSeconds(30);
+
+    public int getMaxConnections() {
+      return maxConnections;
+    }
+
+    public void setMaxConnections(int maxConnections) {
+      this.maxConnections = maxConnections;
+    }
+
+    public long getMaxConcurrentStreams() {
+      return maxConcurrentStreams;
+    }
+
+    public void setMaxConcurrentStreams(long maxConcurrentStreams) {
+      this.maxConcurrentStreams = maxConcurrentStreams;
+    }
+
+    public int getPendingAcquireMaxCount() {
+      return pendingAcquireMaxCount;
+    }
+
+    public void setPendingAcquireMaxCount(int pendingAcquireMaxCount) {
+      this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+    }
+
+    public Duration getPendingAcquireTimeout() {
+      return pendingAcquireTimeout;
+    }
+
+    public void setPendingAcquireTimeout(Duration pendingAcquireTimeout) {
+      this.pendingAcquireTimeout = pendingAcquireTimeout;
+    }
+
+    public Duration getMaxIdleTime() {
+      return maxIdleTime;
+    }
+
+    public void setMaxIdleTime(Duration maxIdleTime) {
+      this.maxIdleTime = maxIdleTime;
+    }
+
+    public Duration getMaxLifeTime() {
+      return maxLifeTime;
+    }
+
+    public void setMaxLifeTime(Duration maxLifeTime) {
+      this.maxLifeTime = maxLifeTime;
+    }
+
+    public Duration getEvictInterval() {
+      return evictInterval;
+    }
+
+    public void setEvictInterval(Duration evictInterval) {
+      this.evictInterval = evictInterval;
+    }
+  }
+
+  /** TCP options for connections to one downstream service. */
+  public static class Tcp {
+
+    private Duration connectTimeout = Duration.ofSeconds(1);
+    private boolean keepAlive = true;
+    private boolean noDelay = true;
+
+    public Duration getConnectTimeout() {
+      return connectTimeout;
+    }
+
+    public void setConnectTimeout(Duration connectTimeout) {
+      this.connectTimeout = connectTimeout;
+    }
+
+    public boolean isKeepAlive() {
+      return keepAlive;
+    }
+
+    public void setKeepAlive(boolean keepAlive) {
+      this.keepAlive = keepAlive;
+    }
+
+    public boolean isNoDelay() {
+      return noDelay;
+    }
+
+    public void setNoDelay(boolean noDelay) {
+      this.noDelay = noDelay;
+    }
+  }
+}
@@ -0,0 +1,28 @@
+package org.example.platform.webflux.client;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+
+/**
+ * Auto-configuration for inter-service WebClients. Provides a ServiceWebClientFactory built on the
+ * application's WebClient.Builder, so codecs and observation customizations still apply.
+ */
+@AutoConfiguration
+@ConditionalOnClass(HttpClient.class)
+@EnableConfigurationProperties(ServiceClientProperties.class)
+public class ServiceWebClientAutoConfiguration {
+
+  @Bean
+  @ConditionalOnMissingBean
+  public ServiceWebClientFactory serviceWebClientFactory(
+      ServiceClientProperties properties, ObjectProvider<WebClient.Builder> webClientBuilder) {
+    return new ServiceWebClientFactory(
+        properties, () -> webClientBuilder.getIfAvailable(WebClient::builder));
+  }
+}
@@ -0,0 +1,126 @@
+package org.example.platform.webflux.client;
+
+import io.netty.channel.ChannelOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.Http2AllocationStrategy;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Builds WebClients for downstream services, each with its own named connection pool.
+ *
+ * <p>Pools are sized, evicted and timed out per {@code platform.webclient.clients.<name>}, and
+ * publish Reactor Netty's {@code reactor.netty.connection.provider.*} metrics tagged with the pool
+ * name {@code service-<name>}. All builders for a name share one pool. With {@code http2} the
+ * client speaks h2c with prior knowledge, so the downstream server must accept cleartext HTTP/2.
+ * Unless {@code propagate-metadata} is off, requests carry the request metadata headers from the
+ * Reactor Context ({@link RequestMetadataPropagationFilter}).
+ *
+ * <p>Pools are disposed with the application context.
+ */
+public class ServiceWebClientFactory implements DisposableBean {
+
+  private final ServiceClientProperties properties;
+  private final Supplier<WebClient.Builder> builders;
+  private final Map<String, HttpClient> httpClients = new ConcurrentHashMap<>();
+  private final Map<String, ConnectionProvider> pools = new ConcurrentHashMap<>();
+  private final RequestMetadataPropagationFilter metadataPropagation =
+      new RequestMetadataPropagationFilter();
+
+  /**
+   * Creates the factory.
+   *
+   * @param properties per-service connection settings
+   * @param builders source of base builders, each call returning a new builder (e.g. the
+   *     application's customized {@code WebClient.Builder}, cloned)
+   */
+  public ServiceWebClientFactory(
+      ServiceClientProperties properties, Supplier<WebClient.Builder> builders) {
+    this.properties = properties;
+    this.builders = builders;
+  }
+
+  /**
+   * Gets a WebClient builder for a downstream service, with its connector and base URL set.
+   *
+   * @param name downstream service name, matching {@code platform.webclient.clients.<name>}
+   * @param defaultBaseUrl base URL used when no {@code base-urls} are configured for the name
+   * @return a new builder; add filters and call {@code build()}
+   */
+  public WebClient.Builder builder(String name, String defaultBaseUrl) {
+    ServiceClientProperties.Client client = settings(name);
+    List<String> configured =
+        client.getBaseUrls().isEmpty() ? List.of(defaultBaseUrl) : client.getBaseUrls();
+    List<String> baseUrls =
+        configured.stream().map(ServiceWebClientFactory::stripTrailingSlash).toList();
+
+    WebClient.Builder builder =
+        builders
+            .get()
+            .clientConnector(
+                new ReactorClientHttpConnector(httpClients.computeIfAbsent(name, this::create)))
+            .baseUrl(baseUrls.getFirst());
+    if (baseUrls.size() > 1) {
+      builder.filter(new RoundRobinBaseUrlFilter(baseUrls));
+    }
+    if (client.isPropagateMetadata()) {
+      builder.filter(metadataPropagation);
+    }
+    return builder;
+  }
+
+  @Override
+  public void destroy() {
+    pools.values().forEach(ConnectionProvider::dispose);
+    pools.clear();
+    httpClients.clear();
+  }
+
+  private ServiceClientProperties.Client settings(String name) {
+    return properties.getClients().getOrDefault(name, new ServiceClientProperties.Client());
+  }
+
+  private HttpClient create(String name) {
+    ServiceClientProperties.Client client = settings(name);
+    ServiceClientProperties.Pool pool = client.getPool();
+    ServiceClientProperties.Tcp tcp = client.getTcp();
+
+    ConnectionProvider.Builder provider =
+        ConnectionProvider.builder("service-" + name)
+            .maxConnections(pool.getMaxConnections())
+            .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+            .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+            .maxIdleTime(pool.getMaxIdleTime())
+            .maxLifeTime(pool.getMaxLifeTime())
+            .evictInBackground(pool.getEvictInterval())
+            .metrics(true);
+    if (client.isHttp2()) {
+      provider.allocationStrategy(
+          Http2AllocationStrategy.builder()
+              .minConnections(1)
+              .maxConnections(pool.getMaxConnections())
+              .maxConcurrentStreams(pool.getMaxConcurrentStreams())
+              .build());
+    }
+    ConnectionProvider connectionProvider = provider.build();
+    pools.put(name, connectionProvider);
+
+    return HttpClient.create(connectionProvider)
+        .protocol(client.isHttp2() ? HttpProtocol.H2C : HttpProtocol.HTTP11)
+        .responseTimeout(client.getResponseTimeout())
+        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) tcp.getConnectTimeout().toMillis())
+        .option(ChannelOption.SO_KEEPALIVE, tcp.isKeepAlive())
+        .option(ChannelOption.TCP_NODELAY, tcp.isNoDelay());
+  }
+
+  private static String stripTrailingSlash(String url) {
+    return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+  }
+}
@@ -0,0 +1,24 @@
+package org.example.platform.webflux.context;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.web.reactive.BindingContext;
+import org.springframework.web.reactive.result.method.SyncHandlerMethodArgumentResolver;
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * Resolves {@link RequestMetadata} controller parameters from the metadata already parsed for the
+ * request, instead of taking {@code @RequestHeader HttpHeaders} and parsing them again.
+ */
+public class RequestMetadataArgumentResolver implements SyncHandlerMethodArgumentResolver {
+
+  @Override
+  public boolean supportsParameter(MethodParameter parameter) {
+    return parameter.getParameterType() == RequestMetadata.class;
+  }
+
+  @Override
+  public Object resolveArgumentValue(
+      MethodParameter parameter, BindingContext bindingContext, ServerWebExchange exchange) {
+    return RequestMetadataExtractor.fromExchange(exchange);
+  }
+}
@@ -0,0 +1,37 @@
+package org.example.platform.webflux.context;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.reactive.config.ArgumentResolverConfigurer;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+/**
+ * Auto-configuration for request metadata in reactive web applications. Registers the WebFilter
+ * that parses the metadata headers once per request and the {@link RequestMetadata} argument
+ * resolver for controllers.
+ *
+ * <p>The filter has no off switch: controllers no longer write the Reactor Context themselves, so
+ * turning it off would leave {@link ContextKeys#METADATA} missing without any error.
+ */
+@AutoConfiguration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class RequestMetadataAutoConfiguration {
+
+  @Bean
+  @ConditionalOnMissingBean
+  public RequestMetadataWebFilter requestMetadataWebFilter() {
+    return new RequestMetadataWebFilter();
+  }
+
+  @Bean
+  public WebFluxConfigurer requestMetadataWebFluxConfigurer() {
+    return new WebFluxConfigurer() {
+      @Override
+      public void configureArgumentResolvers(ArgumentResolverConfigurer configurer) {
+        configurer.addCustomResolver(new RequestMetadataArgumentResolver());
+      }
+    };
+  }
+}
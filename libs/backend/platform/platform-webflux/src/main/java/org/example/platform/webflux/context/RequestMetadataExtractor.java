@@ -1,12 +1,16 @@
 package org.example.platform.webflux.context;
 
 import org.springframework.http.HttpHeaders;
+import org.springframework.web.server.ServerWebExchange;
 
 /**
  * Extracts RequestMetadata from HTTP headers.
  *
  * <p>Centralizes null-handling and parsing logic for the 4 required headers. If headers are missing
  * or malformed, defaults are used so downstream validators can produce aggregated errors.
+ *
+ * <p>{@link #fromExchange} parses a request once and keeps the result on the exchange, where
+ * {@link RequestMetadataWebFilter} and {@link RequestMetadataArgumentResolver} share it.
  */
 public final class RequestMetadataExtractor {
 
@@ -15,6 +19,9 @@ public final class RequestMetadataExtractor {
   public static final String HEADER_USER_ID = "x-userid";
   public static final String HEADER_SESSION_ID = "x-sessionid";
 
+  /** Exchange attribute holding the metadata parsed for the request. */
+  public static final String EXCHANGE_ATTRIBUTE = RequestMetadata.class.getName();
+
   private RequestMetadataExtractor() {}
 
   /**
@@ -36,6 +43,21 @@ public final class RequestMetadataExtractor {
     return new RequestMetadata(storeNumber, orderNumber, userId, sessionId);
   }
 
+  /**
+   * Gets the RequestMetadata for an exchange, parsing its headers only on first use.
+   *
+   * @param exchange the current exchange
+   * @return RequestMetadata with parsed values (defaults for missing/invalid)
+   */
+  public static RequestMetadata fromExchange(ServerWebExchange exchange) {
+    RequestMetadata metadata = exchange.getAttribute(EXCHANGE_ATTRIBUTE);
+    if (metadata == null) {
+      metadata = fromHeaders(exchange.getRequest().getHeaders());
+      exchange.getAttributes().put(EXCHANGE_ATTRIBUTE, metadata);
+    }
+    return metadata;
+  }
+
   private static int parseStoreNumber(String value) {
     if (value == null || value.isBlank()) {
       return 0;
@@ -0,0 +1,32 @@
+package org.example.platform.webflux.context;
+
+import org.springframework.core.Ordered;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Parses the request metadata headers once per request and puts the result in the Reactor Context
+ * under {@link ContextKeys#METADATA}, so handlers, services and outbound WebClient calls read it
+ * without touching the headers again.
+ *
+ * <p>Runs ahead of the security chain; the metadata is only parsed here, validation stays with the
+ * application's request validators.
+ */
+public class RequestMetadataWebFilter implements WebFilter, Ordered {
+
+  /** Just after the highest precedence, leaving room for filters that must wrap everything. */
+  public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 10;
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+    RequestMetadata metadata = RequestMetadataExtractor.fromExchange(exchange);
+    return chain.filter(exchange).contextWrite(ctx -> ctx.put(ContextKeys.METADATA, metadata));
+  }
+
+  @Override
+  public int getOrder() {
+    return ORDER;
+  }
+}
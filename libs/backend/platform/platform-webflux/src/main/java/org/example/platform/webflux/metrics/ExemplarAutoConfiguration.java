@@ -0,0 +1,24 @@
+package org.example.platform.webflux.metrics;
+
+import io.opentelemetry.api.trace.Span;
+import io.prometheus.metrics.tracer.common.SpanContext;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Auto-configuration for trace exemplars on Prometheus histograms. Provides an
+ * OpenTelemetryExemplarContext when the Prometheus registry and the OpenTelemetry API are on the
+ * classpath and no other SpanContext is defined.
+ */
+@AutoConfiguration
+@ConditionalOnClass({SpanContext.class, Span.class})
+public class ExemplarAutoConfiguration {
+
+  @Bean
+  @ConditionalOnMissingBean
+  public SpanContext openTelemetryExemplarContext() {
+    return new OpenTelemetryExemplarContext();
+  }
+}
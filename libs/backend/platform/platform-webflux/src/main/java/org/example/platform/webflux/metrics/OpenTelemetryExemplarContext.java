@@ -0,0 +1,37 @@
+package org.example.platform.webflux.metrics;
+
+import io.opentelemetry.api.trace.Span;
+import io.prometheus.metrics.tracer.common.SpanContext;
+
+/**
+ * Supplies the current OpenTelemetry span to the Prometheus registry, which attaches its trace ID
+ * as an exemplar to the histogram bucket a measurement falls into.
+ *
+ * <p>Spans come from the OpenTelemetry Java agent, so there is no Micrometer Tracing bridge for
+ * Spring Boot to derive this from. Only sampled spans become exemplars, so every exemplar links to
+ * a trace that exists in Tempo.
+ */
+public class OpenTelemetryExemplarContext implements SpanContext {
+
+  @Override
+  public String getCurrentTraceId() {
+    io.opentelemetry.api.trace.SpanContext context = Span.current().getSpanContext();
+    return context.isValid() ? context.getTraceId() : null;
+  }
+
+  @Override
+  public String getCurrentSpanId() {
+    io.opentelemetry.api.trace.SpanContext context = Span.current().getSpanContext();
+    return context.isValid() ? context.getSpanId() : null;
+  }
+
+  @Override
+  public boolean isCurrentSpanSampled() {
+    return Span.current().getSpanContext().isSampled();
+  }
+
+  @Override
+  public void markCurrentSpanAsExemplar() {
+    Span.current().setAttribute(EXEMPLAR_ATTRIBUTE_NAME, EXEMPLAR_ATTRIBUTE_VALUE);
+  }
+}
@@ -0,0 +1,138 @@
+package org.example.platform.webflux.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Records the latency of each stage of a reactive operation, like {@code @Timed} for publishers.
+ *
+ * <p>Create one per operation and wrap each stage's publisher, and the whole operation under
+ * {@link #TOTAL}:
+ *
+ * <pre>{@code
+ * StageTimer timer = new StageTimer(meterRegistry, "cart.addProduct");
+ * timer.time(StageTimer.TOTAL, timer.time("cart.load", loadCart()).flatMap(...));
+ * }</pre>
+ *
+ * <p>Timing starts on subscription and stops at the first terminal signal, before it is passed
+ * downstream, so a stage does not include the work its value triggers. Each stage is published as
+ * {@value #METRIC} tagged with operation, stage and outcome (success, error or cancelled). Timers
+ * publish percentile histogram buckets between 1ms and 10s, so quantiles aggregate across pods and
+ * Prometheus can attach trace exemplars to the buckets ({@link OpenTelemetryExemplarContext}).
+ */
+public final class StageTimer {
+
+  /** Meter name shared by every stage. */
+  public static final String METRIC = "service.stage.duration";
+
+  /** Stage name for the whole operation. */
+  public static final String TOTAL = "total";
+
+  static final String SUCCESS = "success";
+  static final String ERROR = "error";
+  static final String CANCELLED = "cancelled";
+
+  private static final Duration MIN_EXPECTED = Duration.ofMillis(1);
+  private static final Duration MAX_EXPECTED = Duration.ofSeconds(10);
+
+  private final MeterRegistry meterRegistry;
+  private final String operation;
+  private final ConcurrentHashMap<String, Stage> stages = new ConcurrentHashMap<>();
+
+  public StageTimer(MeterRegistry meterRegistry, String operation) {
+    this.meterRegistry = meterRegistry;
+    this.operation = operation;
+  }
+
+  /**
+   * Time a stage that emits at most one value.
+   *
+   * @param stage stage name, e.g. {@code persist}
+   * @param source the stage; subscribed once per subscription to the result
+   * @return the stage, timed per subscription
+   */
+  public <T> Mono<T> time(String stage, Mono<T> source) {
+    Stage timers = stage(stage);
+    return Mono.defer(
+        () -> {
+          Stopwatch stopwatch = new Stopwatch(timers);
+          return source
+              .doOnSuccess(value -> stopwatch.stop(SUCCESS))
+              .doOnError(error -> stopwatch.stop(ERROR))
+              .doOnCancel(() -> stopwatch.stop(CANCELLED));
+        });
+  }
+
+  /**
+   * Time a stage that emits many values, until it completes.
+   *
+   * @param stage stage name
+   * @param source the stage
+   * @return the stage, timed per subscription
+   */
+  public <T> Flux<T> time(String stage, Flux<T> source) {
+    Stage timers = stage(stage);
+    return Flux.defer(
+        () -> {
+          Stopwatch stopwatch = new Stopwatch(timers);
+          return source
+              .doOnComplete(() -> stopwatch.stop(SUCCESS))
+              .doOnError(error -> stopwatch.stop(ERROR))
+              .doOnCancel(() -> stopwatch.stop(CANCELLED));
+        });
+  }
+
+  private Stage stage(String stage) {
+    return stages.computeIfAbsent(stage, name -> new Stage(name, timer(name, SUCCESS)));
+  }
+
+  private Timer timer(String stage, String outcome) {
+    return Timer.builder(METRIC)
+        .description("Latency of one stage of a service operation")
+        .tag("operation", operation)
+        .tag("stage", stage)
+        .tag("outcome", outcome)
+        .publishPercentileHistogram()
+        .minimumExpectedValue(MIN_EXPECTED)
+        .maximumExpectedValue(MAX_EXPECTED)
+        .register(meterRegistry);
+  }
+
+  /** Timers for one stage; error and cancelled series are only registered once they occur. */
+  private final class Stage {
+    private final String name;
+    private final Timer success;
+
+    Stage(String name, Timer success) {
+      this.name = name;
+      this.success = success;
+    }
+
+    Timer timer(String outcome) {
+      // The registry returns the already registered timer for the rare outcomes
+      return SUCCESS.equals(outcome) ? success : StageTimer.this.timer(name, outcome);
+    }
+  }
+
+  /** One subscription's start time; records once, whichever terminal signal comes first. */
+  private static final class Stopwatch extends AtomicBoolean {
+    private final Stage stage;
+    private final long startNanos = System.nanoTime();
+
+    Stopwatch(Stage stage) {
+      this.stage = stage;
+    }
+
+    void stop(String outcome) {
+      if (compareAndSet(false, true)) {
+        stage.timer(outcome).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+      }
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package org.example.platform.webflux.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicReference;
+import org.example.platform.webflux.context.ContextKeys;
+import org.example.platform.webflux.context.RequestMetadata;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Mono;
+
+class RequestMetadataPropagationFilterTest {
+
+  private final RequestMetadataPropagationFilter filter = new RequestMetadataPropagationFilter();
+  private final AtomicReference<ClientRequest> sent = new AtomicReference<>();
+
+  @Test
+  void filter_addsHeadersFromContext() {
+    exchange(request(), new RequestMetadata(100, "order-1", "user01", "sess-1"));
+
+    HttpHeaders headers = sent.get().headers();
+    assertThat(headers.getFirst("x-store-number")).isEqualTo("100");
+    assertThat(headers.getFirst("x-order-number")).isEqualTo("order-1");
+    assertThat(headers.getFirst("x-userid")).isEqualTo("user01");
+    assertThat(headers.getFirst("x-sessionid")).isEqualTo("sess-1");
+  }
+
+  @Test
+  void filter_keepsHeadersSetByCaller() {
+    ClientRequest request =
+        ClientRequest.create(HttpMethod.GET, URI.create("http://cart/carts/1"))
+            .header("x-store-number", "7")
+            .build();
+
+    exchange(request, new RequestMetadata(100, "order-1", "user01", "sess-1"));
+
+    assertThat(sent.get().headers().get("x-store-number")).containsExactly("7");
+    assertThat(sent.get().headers().getFirst("x-userid")).isEqualTo("user01");
+  }
+
+  @Test
+  void filter_skipsMissingValues() {
+    exchange(request(), new RequestMetadata(0, "", "user01", ""));
+
+    HttpHeaders headers = sent.get().headers();
+    assertThat(headers.getFirst("x-store-number")).isNull();
+    assertThat(headers.getFirst("x-order-number")).isNull();
+    assertThat(headers.getFirst("x-userid")).isEqualTo("user01");
+  }
+
+  @Test
+  void filter_passesRequestThroughWithoutMetadata() {
+    ClientRequest request = request();
+
+    filter.filter(request, this::capture).block();
+
+    assertThat(sent.get()).isSameAs(request);
+  }
+
+  private void exchange(ClientRequest request, RequestMetadata metadata) {
+    filter
+        .filter(request, this::capture)
+        .contextWrite(ctx -> ctx.put(ContextKeys.METADATA, metadata))
+        .block();
+  }
+
+  private Mono<ClientResponse> capture(ClientRequest request) {
+    sent.set(request);
+    return Mono.just(ClientResponse.create(HttpStatus.OK).build());
+  }
+
+  private static ClientRequest request() {
+    return ClientRequest.create(HttpMethod.GET, URI.create("http://cart/carts/1")).build();
+  }
+}
@@ -0,0 +1,80 @@
+package org.example.platform.webflux.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+class ServiceWebClientFactoryTest {
+
+  private final ServiceClientProperties properties = new ServiceClientProperties();
+  private final ServiceWebClientFactory factory =
+      new ServiceWebClientFactory(properties, WebClient::builder);
+  private final List<URI> requested = new ArrayList<>();
+
+  @AfterEach
+  void tearDown() {
+    factory.destroy();
+  }
+
+  @Test
+  void builder_usesDefaultBaseUrlWhenNoneConfigured() {
+    WebClient client = capture(factory.builder("price", "http://price:8092/"));
+
+    get(client, "/prices/1");
+
+    assertThat(requested).containsExactly(URI.create("http://price:8092/prices/1"));
+  }
+
+  @Test
+  void builder_roundRobinsAcrossConfiguredBaseUrls() {
+    ServiceClientProperties.Client settings = new ServiceClientProperties.Client();
+    settings.setBaseUrls(List.of("http://price-a:8092", "http://price-b:8092/api"));
+    properties.setClients(Map.of("price", settings));
+    WebClient client = capture(factory.builder("price", "http://ignored"));
+
+    get(client, "/prices/1");
+    get(client, "/prices/2");
+    get(client, "/prices/3");
+
+    assertThat(requested)
+        .containsExactly(
+            URI.create("http://price-a:8092/prices/1"),
+            URI.create("http://price-b:8092/api/prices/2"),
+            URI.create("http://price-a:8092/prices/3"));
+  }
+
+  @Test
+  void builder_leavesAbsoluteUrisAlone() {
+    ServiceClientProperties.Client settings = new ServiceClientProperties.Client();
+    settings.setBaseUrls(List.of("http://price-a:8092", "http://price-b:8092"));
+    properties.setClients(Map.of("price", settings));
+    WebClient client = capture(factory.builder("price", "http://ignored"));
+
+    get(client, "http://elsewhere:9000/health");
+
+    assertThat(requested).containsExactly(URI.create("http://elsewhere:9000/health"));
+  }
+
+  private WebClient capture(WebClient.Builder builder) {
+    return builder
+        .exchangeFunction(
+            request -> {
+              requested.add(request.url());
+              return Mono.just(ClientResponse.create(HttpStatus.OK).build());
+            })
+        .build();
+  }
+
+  private static void get(WebClient client, String uri) {
+    client.get().uri(uri).retrieve().toBodilessEntity().block();
+  }
+}
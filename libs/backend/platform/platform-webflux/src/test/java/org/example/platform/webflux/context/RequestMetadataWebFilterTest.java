@@ -0,0 +1,53 @@
+package org.example.platform.webflux.context;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+class RequestMetadataWebFilterTest {
+
+  private final RequestMetadataWebFilter filter = new RequestMetadataWebFilter();
+
+  @Test
+  void filter_putsParsedMetadataInContextAndOnExchange() {
+    MockServerWebExchange exchange =
+        MockServerWebExchange.from(
+            MockServerHttpRequest.get("/products/1")
+                .header("x-store-number", "100")
+                .header("x-order-number", "order-1")
+                .header("x-userid", "user01")
+                .header("x-sessionid", "sess-1"));
+    AtomicReference<RequestMetadata> seen = new AtomicReference<>();
+
+    filter
+        .filter(
+            exchange,
+            ex ->
+                Mono.deferContextual(
+                    ctx -> {
+                      seen.set(ctx.get(ContextKeys.METADATA));
+                      return Mono.empty();
+                    }))
+        .block();
+
+    RequestMetadata expected = new RequestMetadata(100, "order-1", "user01", "sess-1");
+    assertThat(seen.get()).isEqualTo(expected);
+    assertThat(RequestMetadataExtractor.fromExchange(exchange)).isSameAs(seen.get());
+  }
+
+  @Test
+  void fromExchange_parsesOnce() {
+    MockServerWebExchange exchange =
+        MockServerWebExchange.from(
+            MockServerHttpRequest.get("/products/1").header("x-store-number", "100"));
+
+    RequestMetadata first = RequestMetadataExtractor.fromExchange(exchange);
+
+    assertThat(RequestMetadataExtractor.fromExchange(exchange)).isSameAs(first);
+    assertThat(first.storeNumber()).isEqualTo(100);
+  }
+}
@@ -0,0 +1,85 @@
+package org.example.platform.webflux.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class StageTimerTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final StageTimer stageTimer = new StageTimer(registry, "cart.addProduct");
+
+  @Test
+  void time_recordsSuccessPerSubscription() {
+    Mono<String> stage = stageTimer.time("cart.load", Mono.just("cart"));
+
+    StepVerifier.create(stage).expectNext("cart").verifyComplete();
+    StepVerifier.create(stage).expectNext("cart").verifyComplete();
+
+    Timer timer = timer("cart.load", StageTimer.SUCCESS);
+    assertThat(timer.count()).isEqualTo(2);
+    assertThat(timer.takeSnapshot().histogramCounts()).isNotEmpty();
+  }
+
+  @Test
+  void time_recordsEmptyCompletionAsSuccess() {
+    StepVerifier.create(stageTimer.time("cart.load", Mono.empty())).verifyComplete();
+
+    assertThat(timer("cart.load", StageTimer.SUCCESS).count()).isEqualTo(1);
+  }
+
+  @Test
+  void time_recordsErrorsUnderTheirOwnOutcome() {
+    StepVerifier.create(stageTimer.time("persist", Mono.error(new IllegalStateException("down"))))
+        .verifyError(IllegalStateException.class);
+
+    assertThat(timer("persist", StageTimer.ERROR).count()).isEqualTo(1);
+    assertThat(timer("persist", StageTimer.SUCCESS).count()).isZero();
+  }
+
+  @Test
+  void time_recordsCancellation() {
+    StepVerifier.create(stageTimer.time("product.fetch", Mono.never()))
+        .thenAwait(Duration.ofMillis(10))
+        .thenCancel()
+        .verify();
+
+    assertThat(timer("product.fetch", StageTimer.CANCELLED).count()).isEqualTo(1);
+  }
+
+  @Test
+  void time_recordsOnceWhenCancelledAfterSuccess() {
+    // take(1) cancels upstream once the value has arrived
+    StepVerifier.create(stageTimer.time("publish", Mono.just(1)).flux().take(1))
+        .expectNext(1)
+        .verifyComplete();
+
+    assertThat(timer("publish", StageTimer.SUCCESS).count()).isEqualTo(1);
+    assertThat(registry.find(StageTimer.METRIC).tag("outcome", StageTimer.CANCELLED).timer())
+        .isNull();
+  }
+
+  @Test
+  void time_fluxRecordsOnCompletion() {
+    StepVerifier.create(stageTimer.time(StageTimer.TOTAL, Flux.just(1, 2, 3)))
+        .expectNextCount(3)
+        .verifyComplete();
+
+    assertThat(timer(StageTimer.TOTAL, StageTimer.SUCCESS).count()).isEqualTo(1);
+  }
+
+  private Timer timer(String stage, String outcome) {
+    return registry
+        .get(StageTimer.METRIC)
+        .tag("operation", "cart.addProduct")
+        .tag("stage", stage)
+        .tag("outcome", outcome)
+        .timer();
+  }
+}
@@ -19,6 +19,10 @@ import java.util.List;
  * @param eligibleSkus list of eligible SKUs (empty = all SKUs)
  * @param eligibleStores list of eligible store numbers (empty = all stores)
  * @param autoApply whether to auto-apply without code entry
+ * @param eligibleCategories list of eligible product categories (empty = none, see scope)
+ * @param buyQuantity units that must be bought per BUY_X_GET_Y group
+ * @param getQuantity units discounted per BUY_X_GET_Y group ({@code value} is the percent off them,
+ *     100 = free)
  */
 public record Discount(
     String discountId,
@@ -32,7 +36,46 @@ public record Discount(
     BigDecimal minimumPurchase,
     List<Long> eligibleSkus,
     List<Integer> eligibleStores,
-    boolean autoApply) {
+    boolean autoApply,
+    List<String> eligibleCategories,
+    int buyQuantity,
+    int getQuantity) {
+
+  public Discount {
+    eligibleCategories = eligibleCategories != null ? eligibleCategories : List.of();
+  }
+
+  /** Discount without category eligibility or BUY_X_GET_Y quantities. */
+  public Discount(
+      String discountId,
+      String code,
+      DiscountType type,
+      BigDecimal value,
+      String description,
+      Instant expiresAt,
+      DiscountScope scope,
+      boolean stackable,
+      BigDecimal minimumPurchase,
+      List<Long> eligibleSkus,
+      List<Integer> eligibleStores,
+      boolean autoApply) {
+    this(
+        discountId,
+        code,
+        type,
+        value,
+        description,
+        expiresAt,
+        scope,
+        stackable,
+        minimumPurchase,
+        eligibleSkus,
+        eligibleStores,
+        autoApply,
+        List.of(),
+        0,
+        0);
+  }
 
   public boolean isValid() {
     return expiresAt == null || expiresAt.isAfter(Instant.now());
@@ -47,4 +90,8 @@ public record Discount(
   public boolean appliesToSku(long sku) {
     return eligibleSkus == null || eligibleSkus.isEmpty() || eligibleSkus.contains(sku);
   }
+
+  public boolean appliesToCategory(String category) {
+    return category != null && eligibleCategories.contains(category);
+  }
 }
@@ -6,6 +6,8 @@ public enum DiscountScope {
   CART,
   /** Applies to specific items */
   ITEM,
+  /** Applies to items in the eligible categories */
+  CATEGORY,
   /** Applies to shipping cost */
   SHIPPING
 }
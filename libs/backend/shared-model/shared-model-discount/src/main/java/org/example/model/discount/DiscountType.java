@@ -8,6 +8,6 @@ public enum DiscountType {
   FIXED_AMOUNT,
   /** Free shipping discount */
   FREE_SHIPPING,
-  /** Buy X get Y promotional */
+  /** Buy X get Y promotional (item and category scope) */
   BUY_X_GET_Y
 }
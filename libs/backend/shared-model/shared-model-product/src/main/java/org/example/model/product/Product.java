@@ -1,6 +1,7 @@
 package org.example.model.product;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 /**
  * Core product representation with all display fields.
@@ -15,6 +16,8 @@ import java.math.BigDecimal;
  * @param category product category for filtering/display
  * @param inStock true if product is available for purchase
  * @param onSale true if product has a discounted price
+ * @param degraded sources (merchandise, price, inventory) whose fields hold fallback values because
+ *     they could not be loaded in time; empty for a complete product
  */
 public record Product(
     long sku,
@@ -26,7 +29,12 @@ public record Product(
     String imageUrl,
     String category,
     boolean inStock,
-    boolean onSale) {
+    boolean onSale,
+    List<String> degraded) {
+
+  public Product {
+    degraded = degraded == null ? List.of() : List.copyOf(degraded);
+  }
 
   /**
    * Creates a Product with computed inStock and onSale values based on quantity and pricing.
@@ -50,6 +58,43 @@ public record Product(
       int availableQuantity,
       String imageUrl,
       String category) {
+    return create(
+        sku,
+        name,
+        description,
+        price,
+        originalPrice,
+        availableQuantity,
+        imageUrl,
+        category,
+        List.of());
+  }
+
+  /**
+   * Creates a Product with computed inStock and onSale values, marking the sources that were
+   * replaced by fallbacks.
+   *
+   * @param sku the stock keeping unit identifier
+   * @param name short product name for display
+   * @param description detailed product description
+   * @param price current price
+   * @param originalPrice original price before discount (nullable)
+   * @param availableQuantity quantity available in inventory
+   * @param imageUrl URL to product image
+   * @param category product category for filtering/display
+   * @param degraded sources whose fields hold fallback values
+   * @return a new Product with inStock and onSale computed
+   */
+  public static Product create(
+      long sku,
+      String name,
+      String description,
+      BigDecimal price,
+      BigDecimal originalPrice,
+      int availableQuantity,
+      String imageUrl,
+      String category,
+      List<String> degraded) {
     boolean inStock = availableQuantity > 0;
     boolean onSale = originalPrice != null && originalPrice.compareTo(price) != 0;
     return new Product(
@@ -62,6 +107,7 @@ public record Product(
         imageUrl,
         category,
         inStock,
-        onSale);
+        onSale,
+        degraded);
   }
 }